@@ -6,6 +6,7 @@ package com.sportradar.mts.sdk.api.caching;
 
 import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
+import com.sportradar.mts.sdk.api.rest.URN;
 import com.sportradar.mts.sdk.api.rest.dto.MarketDescriptionDTO;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -21,6 +22,8 @@ public class MarketDescriptionCI {
     private final Map<Locale, String> names;
     private final Map<Locale, String> descriptions;
     private final List<MarketMappingCI> mappings;
+    private final int[] mappingProducerIds;
+    private final long[] mappingSportIds;
     private final List<MarketOutcomeCI> outcomes;
     private final List<MarketSpecifierCI> specifiers;
     private final List<MarketAttributeCI> attributes;
@@ -37,18 +40,33 @@ public class MarketDescriptionCI {
                                List<MarketAttributeCI> attributes,
                                String variant,
                                Locale locale)
+    {
+        this(id, names, descriptions, mappings, outcomes, specifiers, attributes, variant, Collections.singletonList(locale));
+    }
+
+    @SuppressWarnings("java:S107") // Methods should not have too many parameters
+    public MarketDescriptionCI(long id,
+                               Map<Locale, String> names,
+                               Map<Locale, String> descriptions,
+                               List<MarketMappingCI> mappings,
+                               List<MarketOutcomeCI> outcomes,
+                               List<MarketSpecifierCI> specifiers,
+                               List<MarketAttributeCI> attributes,
+                               String variant,
+                               List<Locale> fetchedLocales)
     {
         this.id = id;
         this.names = names;
         this.descriptions = descriptions;
         this.variant = variant;
         this.mappings = mappings;
+        this.mappingProducerIds = producerIdsOf(mappings);
+        this.mappingSportIds = sportIdsOf(mappings);
         this.outcomes = outcomes;
         this.specifiers = specifiers;
         this.attributes = attributes;
 
-        fetchedLocales = new ArrayList<>();
-        fetchedLocales.add(locale);
+        this.fetchedLocales = new ArrayList<>(fetchedLocales);
     }
 
     public MarketDescriptionCI(MarketDescriptionDTO market, Locale locale) {
@@ -71,6 +89,8 @@ public class MarketDescriptionCI {
         mappings = market.getMappings() == null ? null :
                 market.getMappings().stream()
                         .map(MarketMappingCI::new).collect(Collectors.toList());
+        mappingProducerIds = producerIdsOf(mappings);
+        mappingSportIds = sportIdsOf(mappings);
 
         specifiers = market.getSpecifiers() == null ? null :
                 market.getSpecifiers().stream()
@@ -84,6 +104,29 @@ public class MarketDescriptionCI {
         fetchedLocales.add(locale);
     }
 
+    private static int[] producerIdsOf(List<MarketMappingCI> mappings) {
+        if (mappings == null) {
+            return new int[0];
+        }
+        int[] producerIds = new int[mappings.size()];
+        for (int i = 0; i < producerIds.length; i++) {
+            producerIds[i] = mappings.get(i).getProducerId();
+        }
+        return producerIds;
+    }
+
+    private static long[] sportIdsOf(List<MarketMappingCI> mappings) {
+        if (mappings == null) {
+            return new long[0];
+        }
+        long[] sportIds = new long[mappings.size()];
+        for (int i = 0; i < sportIds.length; i++) {
+            URN sportId = mappings.get(i).getSportId();
+            sportIds[i] = sportId == null || !"sport".equals(sportId.getType()) ? 0 : sportId.getId();
+        }
+        return sportIds;
+    }
+
     public static MarketDescriptionCI build(MarketDescriptionDTO dto, Locale locale)
     {
         return new MarketDescriptionCI(dto, locale);
@@ -152,6 +195,25 @@ public class MarketDescriptionCI {
         return mappings == null ? null : Collections.unmodifiableList(mappings);
     }
 
+    /**
+     * Gets the first mapping of the producer for the sport
+     *
+     * @param producerId the id of the producer
+     * @param sportId the id of the sport, as returned by {@link URN#parseSportId(String)}
+     * @return the mapping or null if the market is not mapped for the producer and sport
+     */
+    public MarketMappingCI getMapping(int producerId, long sportId) {
+        if (sportId <= 0) {
+            return null;
+        }
+        for (int i = 0; i < mappingProducerIds.length; i++) {
+            if (mappingProducerIds[i] == producerId && mappingSportIds[i] == sportId) {
+                return mappings.get(i);
+            }
+        }
+        return null;
+    }
+
     public List<MarketOutcomeCI> getOutcomes() {
         return outcomes == null ? null : Collections.unmodifiableList(outcomes);
     }
@@ -15,4 +15,10 @@ public interface MarketDescriptionCache {
      * @return {@link MarketDescriptionCI} for specific marketId
      */
     MarketDescriptionCI getMarketDescription(int marketId);
+
+    /**
+     * Stops refreshing the market descriptions in the background. The default implementation does nothing.
+     */
+    default void close() {
+    }
 }
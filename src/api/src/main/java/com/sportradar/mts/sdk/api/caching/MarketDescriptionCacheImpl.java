@@ -5,7 +5,7 @@
 package com.sportradar.mts.sdk.api.caching;
 
 import com.google.common.base.Preconditions;
-import com.google.common.cache.Cache;
+import com.sportradar.mts.api.rest.sportsapi.datamodel.DescMarket;
 import com.sportradar.mts.api.rest.sportsapi.datamodel.MarketDescriptions;
 import com.sportradar.mts.sdk.api.rest.DataProvider;
 import com.sportradar.mts.sdk.api.rest.dto.MarketDescriptionDTO;
@@ -13,109 +13,274 @@ import com.sportradar.mts.sdk.api.utils.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
-import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Caches the market descriptions of all prefetch locales. The descriptions are fetched once on the first request,
+ * afterwards they are refreshed in the background and the new snapshot replaces the previous one at once, so the
+ * requests are served from the current snapshot without locking or waiting for the API. If a refresh fails, the
+ * previous snapshot is served until a retry succeeds or, if a maximum staleness is set, until it gets older than that.
+ * If a snapshot file is configured, the descriptions are persisted
+ * to it after each fetch and the first request is served from it, while the descriptions are revalidated against the
+ * API in the background once they are older than the refresh interval.
+ */
 public class MarketDescriptionCacheImpl implements MarketDescriptionCache {
     private static final Logger logger = LoggerFactory.getLogger(MarketDescriptionCacheImpl.class);
 
-    private final Cache<String, MarketDescriptionCI> cache;
     private final DataProvider<MarketDescriptions> dataProvider;
     private final List<Locale> prefetchLocales;
     private final Object lock = new Object();
     private final boolean accessTokenProvided;
-    private final Duration duration;
-    private Date timeOfLastFetch;
-    private static final Duration minIntervalTimeout = Duration.ofSeconds(30);
-
-    public MarketDescriptionCacheImpl(Cache<String, MarketDescriptionCI> cache,
-                                       DataProvider<MarketDescriptions> dataProvider,
-                                       List<Locale> prefetchLocales,
-                                       String accessToken) {
-        this.cache = cache;
+    private final Duration refreshInterval;
+    private final Duration retryInterval;
+    private final Path snapshotPath;
+    private final Duration maxStaleness;
+    private volatile MarketDescriptionIndex snapshot;
+    private volatile Date timeOfLastFetch;
+    private long nextInitialFetchNanos;
+    private boolean snapshotFileChecked;
+    private ScheduledThreadPoolExecutor refreshExecutor;
+    private boolean closed;
+
+    public MarketDescriptionCacheImpl(DataProvider<MarketDescriptions> dataProvider,
+                                      List<Locale> prefetchLocales,
+                                      String accessToken,
+                                      Duration refreshInterval,
+                                      Duration retryInterval) {
+        this(dataProvider, prefetchLocales, accessToken, refreshInterval, retryInterval, null);
+    }
+
+    public MarketDescriptionCacheImpl(DataProvider<MarketDescriptions> dataProvider,
+                                      List<Locale> prefetchLocales,
+                                      String accessToken,
+                                      Duration refreshInterval,
+                                      Duration retryInterval,
+                                      Path snapshotPath) {
+        this(dataProvider, prefetchLocales, accessToken, refreshInterval, retryInterval, snapshotPath, Duration.ZERO);
+    }
+
+    public MarketDescriptionCacheImpl(DataProvider<MarketDescriptions> dataProvider,
+                                      List<Locale> prefetchLocales,
+                                      String accessToken,
+                                      Duration refreshInterval,
+                                      Duration retryInterval,
+                                      Path snapshotPath,
+                                      Duration maxStaleness) {
+        Preconditions.checkNotNull(dataProvider);
+        Preconditions.checkNotNull(prefetchLocales);
+        Preconditions.checkArgument(!prefetchLocales.isEmpty());
+        Preconditions.checkArgument(refreshInterval != null && !refreshInterval.isNegative() && !refreshInterval.isZero(), "refreshInterval must be positive");
+        Preconditions.checkArgument(retryInterval != null && !retryInterval.isNegative() && !retryInterval.isZero(), "retryInterval must be positive");
+        Preconditions.checkArgument(maxStaleness != null && !maxStaleness.isNegative(), "maxStaleness must not be negative");
+
         this.dataProvider = dataProvider;
         this.prefetchLocales = prefetchLocales;
-
-        duration = Duration.ofHours(4);
-        timeOfLastFetch = new Date(0);
+        this.refreshInterval = refreshInterval;
+        this.retryInterval = retryInterval;
+        this.snapshotPath = snapshotPath;
+        this.maxStaleness = maxStaleness;
+        this.nextInitialFetchNanos = System.nanoTime();
 
         accessTokenProvided = !StringUtils.isNullOrEmpty(accessToken);
 
         logger.debug("AccessToken for API is provided: {}. It is required only when creating selections for UF markets via method ISelectionBuilder.SetIdUof(). There is no need for it when legacy feeds are used.", accessTokenProvided);
     }
 
-    private void getAllMarketDescriptions(List<Locale> locales) {
-        Preconditions.checkNotNull(locales);
-        Preconditions.checkArgument(!locales.isEmpty());
+    private MarketDescriptionIndex fetchAllMarketDescriptions(List<Locale> locales) {
+        Map<Integer, MarketDescriptionCI> descriptions = new HashMap<>();
+        for (Locale locale : locales) {
+            logger.debug("Fetching market descriptions from API for locale: {}", locale);
+            MarketDescriptions marketDescriptions = dataProvider.getData(locale);
+            if(marketDescriptions == null)
+            {
+                throw new IllegalStateException("No market descriptions fetched from API for locale: " + locale);
+            }
+
+            for (DescMarket market : marketDescriptions.getMarket()) {
+                merge(descriptions, locale, new MarketDescriptionDTO(market));
+            }
+        }
+        return MarketDescriptionIndex.of(descriptions);
+    }
+
+    private static void merge(Map<Integer, MarketDescriptionCI> descriptions, Locale locale, MarketDescriptionDTO dto) {
+        Preconditions.checkNotNull(locale);
+        Preconditions.checkNotNull(dto);
 
+        int marketId = (int) dto.getId();
+        MarketDescriptionCI cachedItem = descriptions.get(marketId);
+        if (cachedItem == null) {
+            descriptions.put(marketId, new MarketDescriptionCI(dto, locale));
+        } else {
+            cachedItem.merge(dto, locale);
+        }
+    }
+
+    /**
+     * Fetches the first snapshot on the calling thread, as there is nothing to serve yet
+     */
+    private MarketDescriptionIndex loadInitialSnapshot() {
         if(!accessTokenProvided)
         {
             throw new IllegalArgumentException("Missing AccessToken.");
         }
 
-        try {
-            synchronized (lock) {
-                for (Locale locale : locales) {
-                    logger.debug("Fetching market descriptions from API for locale: {}", locale);
-                    MarketDescriptions marketDescriptions = dataProvider.getData(locale);
-                    if(marketDescriptions == null)
-                    {
-                        logger.warn("No market descriptions fetched from API for locale: {}", locale);
-                        pauseFetching();
-                        return;
-                    }
-
-                    List<MarketDescriptionDTO> marketDescriptionDTOs = new ArrayList<>();
-                    marketDescriptions.getMarket().forEach(market -> marketDescriptionDTOs.add(new MarketDescriptionDTO(market)));
-
-                    for(MarketDescriptionDTO dto : marketDescriptionDTOs) {
-                        merge(locale, dto);
-                    }
-                }
+        synchronized (lock) {
+            MarketDescriptionIndex current = snapshot;
+            if (current != null) {
+                return current;
+            }
+            current = loadSnapshotFile();
+            if (current != null) {
+                return current;
+            }
+            if (System.nanoTime() - nextInitialFetchNanos < 0) {
+                logger.debug("Fetching paused after a failed fetch.");
+                return MarketDescriptionIndex.empty();
+            }
+            try {
+                current = fetchAllMarketDescriptions(prefetchLocales);
+            } catch (Exception ex) {
+                nextInitialFetchNanos = System.nanoTime() + retryInterval.toNanos();
+                logger.debug("Fetching paused for {}s.", retryInterval.getSeconds());
+                throw new IllegalStateException("An error occurred while fetching market descriptions data", ex);
             }
             timeOfLastFetch = new Date();
-        } catch (Exception ex) {
-            pauseFetching();
-            throw new IllegalStateException("An error occurred while fetching market descriptions data", ex);
+            snapshot = current;
+            MarketDescriptionIndex fetched = current;
+            schedule(() -> saveSnapshotFile(fetched), Duration.ZERO);
+            scheduleRefresh(refreshInterval);
+            return current;
+        }
+    }
+
+    /**
+     * Serves the descriptions persisted by a previous run, the caller must hold the lock
+     */
+    private MarketDescriptionIndex loadSnapshotFile() {
+        if (snapshotPath == null || snapshotFileChecked) {
+            return null;
+        }
+        snapshotFileChecked = true;
+
+        MarketDescriptionIndex restored;
+        Date savedAt;
+        try {
+            restored = MarketDescriptionSnapshot.read(snapshotPath, prefetchLocales);
+            if (restored == null) {
+                logger.debug("No market descriptions snapshot for locales {} found at {}.", prefetchLocales, snapshotPath);
+                return null;
+            }
+            savedAt = new Date(Files.getLastModifiedTime(snapshotPath).toMillis());
+        } catch (IOException ex) {
+            logger.warn("Market descriptions snapshot {} could not be loaded, fetching them from API.", snapshotPath, ex);
+            return null;
+        }
+
+        Duration age = Duration.ofMillis(Math.max(0, System.currentTimeMillis() - savedAt.getTime()));
+        if (isTooStale(age)) {
+            logger.info("Market descriptions snapshot {} saved at {} is too old, fetching them from API.", snapshotPath, savedAt);
+            return null;
         }
+
+        logger.info("Loaded {} market descriptions saved at {} from {}.", restored.size(), savedAt, snapshotPath);
+        timeOfLastFetch = savedAt;
+        snapshot = restored;
+        scheduleRefresh(age.compareTo(refreshInterval) >= 0 ? Duration.ZERO : refreshInterval.minus(age));
+        return restored;
     }
 
-    private void pauseFetching()
-    {
-        Calendar cal = Calendar.getInstance();
-        cal.add(Calendar.SECOND, -(int)duration.getSeconds());
-        cal.add(Calendar.SECOND, (int)minIntervalTimeout.getSeconds());
-        timeOfLastFetch = cal.getTime();
-        logger.debug("Fetching paused for {}s.", minIntervalTimeout.getSeconds());
+    private void saveSnapshotFile(MarketDescriptionIndex descriptions) {
+        if (snapshotPath == null) {
+            return;
+        }
+        try {
+            MarketDescriptionSnapshot.write(snapshotPath, prefetchLocales, descriptions);
+            logger.debug("Market descriptions saved to {}.", snapshotPath);
+        } catch (IOException ex) {
+            logger.warn("Market descriptions could not be saved to {}.", snapshotPath, ex);
+        }
     }
 
-    private void merge(Locale locale, MarketDescriptionDTO dto) {
-        Preconditions.checkNotNull(locale);
-        Preconditions.checkNotNull(dto);
+    private boolean isTooStale(Duration age) {
+        return !maxStaleness.isZero() && age.compareTo(maxStaleness) > 0;
+    }
 
-        String processingCacheItemId = String.valueOf(dto.getId());
-        MarketDescriptionCI cachedItem = cache.getIfPresent(processingCacheItemId);
-        if (cachedItem == null) {
-            try {
-                cachedItem = new MarketDescriptionCI(dto, locale);
+    private void schedule(Runnable task, Duration delay) {
+        synchronized (lock) {
+            if (closed) {
+                return;
             }
-            catch (Exception ex)
-            {
-                logger.error("Error during creating MarketDescriptionCI", ex);
-                cachedItem = new MarketDescriptionCI(dto, locale);
+            if (refreshExecutor == null) {
+                refreshExecutor = new ScheduledThreadPoolExecutor(1, r -> {
+                    Thread thread = new Thread(r, "MarketDescriptionCacheRefresh");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+                refreshExecutor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
             }
-            cache.put(processingCacheItemId, cachedItem);
-        } else {
-            cachedItem.merge(dto, locale);
+            refreshExecutor.schedule(task, delay.toMillis(), TimeUnit.MILLISECONDS);
         }
     }
 
-    private MarketDescriptionCI getMarketDescriptionInternal(int marketId) {
+    private void scheduleRefresh(Duration delay) {
+        schedule(this::refresh, delay);
+    }
+
+    private void refresh() {
+        Duration nextRefresh = refreshInterval;
+        try {
+            MarketDescriptionIndex fetched = fetchAllMarketDescriptions(prefetchLocales);
+            snapshot = fetched;
+            timeOfLastFetch = new Date();
+            logger.debug("Market descriptions refreshed.");
+            saveSnapshotFile(fetched);
+        } catch (Exception ex) {
+            nextRefresh = retryInterval;
+            Date fetchedAt = timeOfLastFetch;
+            if (isTooStale(Duration.ofMillis(Math.max(0, System.currentTimeMillis() - fetchedAt.getTime())))) {
+                snapshot = MarketDescriptionIndex.empty();
+                logger.warn("Refreshing market descriptions failed, dropping the market descriptions fetched at {} as they are too old. Retrying in {}s.",
+                            fetchedAt, retryInterval.getSeconds(), ex);
+            } else {
+                logger.warn("Refreshing market descriptions failed, serving the market descriptions fetched at {}. Retrying in {}s.",
+                            fetchedAt, retryInterval.getSeconds(), ex);
+            }
+        }
+        scheduleRefresh(nextRefresh);
+    }
+
+    /**
+     * Stops refreshing the market descriptions, a refresh or save which is already running is completed
+     */
+    @Override
+    public void close() {
+        ScheduledThreadPoolExecutor executor;
+        synchronized (lock) {
+            closed = true;
+            executor = refreshExecutor;
+            refreshExecutor = null;
+        }
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    public MarketDescriptionCI getMarketDescription(int marketId) {
         Preconditions.checkArgument(marketId > 0);
 
-        MarketDescriptionCI cachedItem = cache.getIfPresent(String.valueOf(marketId));
+        MarketDescriptionIndex current = snapshot;
+        if (current == null) {
+            current = loadInitialSnapshot();
+        }
 
+        MarketDescriptionCI cachedItem = current.get(marketId);
         if (cachedItem == null) {
             logger.error("The requested market id was not found");
             throw new IllegalArgumentException("The requested market id was not found");
@@ -123,12 +288,4 @@ public class MarketDescriptionCacheImpl implements MarketDescriptionCache {
 
         return cachedItem;
     }
-
-    public MarketDescriptionCI getMarketDescription(int marketId) {
-        if (Duration.between(timeOfLastFetch.toInstant(), Instant.now()).toMillis() > duration.toMillis())
-        {
-            getAllMarketDescriptions(prefetchLocales);
-        }
-        return getMarketDescriptionInternal(marketId);
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.api.caching;
+
+import com.google.common.base.Preconditions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable index of market descriptions keyed by the market id. The ids are kept in an open addressing table of
+ * primitive ints, so a lookup neither boxes the id nor allocates.
+ */
+public final class MarketDescriptionIndex {
+
+    private static final MarketDescriptionIndex EMPTY = new MarketDescriptionIndex(new int[1], new MarketDescriptionCI[1], 0);
+
+    private final int[] marketIds;
+    private final MarketDescriptionCI[] descriptions;
+    private final int size;
+
+    private MarketDescriptionIndex(int[] marketIds, MarketDescriptionCI[] descriptions, int size) {
+        this.marketIds = marketIds;
+        this.descriptions = descriptions;
+        this.size = size;
+    }
+
+    /**
+     * Returns an index without any market description
+     *
+     * @return an index without any market description
+     */
+    public static MarketDescriptionIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Builds the index of the provided market descriptions
+     *
+     * @param descriptions the market descriptions keyed by the market id
+     * @return the index of the provided market descriptions
+     */
+    public static MarketDescriptionIndex of(Map<Integer, MarketDescriptionCI> descriptions) {
+        Preconditions.checkNotNull(descriptions);
+
+        int capacity = Integer.highestOneBit(Math.max(2, descriptions.size() * 2 - 1)) << 1;
+        int[] marketIds = new int[capacity];
+        MarketDescriptionCI[] values = new MarketDescriptionCI[capacity];
+        for (Map.Entry<Integer, MarketDescriptionCI> entry : descriptions.entrySet()) {
+            int marketId = entry.getKey();
+            Preconditions.checkArgument(marketId > 0, "marketId must be positive");
+            Preconditions.checkNotNull(entry.getValue());
+
+            int slot = slot(marketId, capacity - 1);
+            while (marketIds[slot] != 0) {
+                slot = (slot + 1) & (capacity - 1);
+            }
+            marketIds[slot] = marketId;
+            values[slot] = entry.getValue();
+        }
+        return new MarketDescriptionIndex(marketIds, values, descriptions.size());
+    }
+
+    private static int slot(int marketId, int mask) {
+        int hash = marketId * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    /**
+     * Gets the market description of the market
+     *
+     * @param marketId the id of the market
+     * @return the market description or null if the index does not contain the market
+     */
+    public MarketDescriptionCI get(int marketId) {
+        int mask = marketIds.length - 1;
+        int slot = slot(marketId, mask);
+        int id;
+        while ((id = marketIds[slot]) != 0) {
+            if (id == marketId) {
+                return descriptions[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * Gets all market descriptions in the index
+     *
+     * @return the market descriptions in the index, in no particular order
+     */
+    public List<MarketDescriptionCI> values() {
+        List<MarketDescriptionCI> values = new ArrayList<>(size);
+        for (MarketDescriptionCI description : descriptions) {
+            if (description != null) {
+                values.add(description);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Gets the number of market descriptions in the index
+     *
+     * @return the number of market descriptions in the index
+     */
+    public int size() {
+        return size;
+    }
+}
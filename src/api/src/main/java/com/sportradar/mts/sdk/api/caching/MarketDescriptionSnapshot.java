@@ -0,0 +1,341 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.api.caching;
+
+import com.google.common.base.Preconditions;
+import com.sportradar.mts.sdk.api.rest.URN;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+/**
+ * Reads and writes the market descriptions in a compact binary file, so they survive a restart.
+ * The file starts with a header (magic, format version, payload length and CRC32 of the payload)
+ * followed by the locales the names were fetched for and the market descriptions. Strings are
+ * written as their UTF-8 length followed by the bytes, -1 stands for null.
+ */
+public final class MarketDescriptionSnapshot {
+
+    private static final int MAGIC = 0x4D445343; // MDSC
+    private static final int VERSION = 1;
+    private static final int HEADER_LENGTH = 20;
+
+    private MarketDescriptionSnapshot() {
+    }
+
+    /**
+     * Writes the market descriptions to the file. The file is written next to the target and then moved over it,
+     * so the readers never see a partially written file.
+     *
+     * @param path the path of the snapshot file
+     * @param locales the locales of the names and descriptions to be written
+     * @param index the market descriptions to be written
+     * @throws IOException if the file could not be written
+     */
+    public static void write(Path path, List<Locale> locales, MarketDescriptionIndex index) throws IOException {
+        Preconditions.checkNotNull(path);
+        Preconditions.checkNotNull(locales);
+        Preconditions.checkNotNull(index);
+
+        ByteArrayOutputStream payload = new ByteArrayOutputStream(64 * 1024);
+        DataOutputStream out = new DataOutputStream(payload);
+        out.writeInt(locales.size());
+        for (Locale locale : locales) {
+            writeString(out, locale.toLanguageTag());
+        }
+        List<MarketDescriptionCI> descriptions = index.values();
+        out.writeInt(descriptions.size());
+        for (MarketDescriptionCI description : descriptions) {
+            writeMarketDescription(out, locales, description);
+        }
+        out.flush();
+
+        byte[] bytes = payload.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+
+        Path absolutePath = path.toAbsolutePath();
+        Path directory = absolutePath.getParent();
+        if (directory != null) {
+            Files.createDirectories(directory);
+        }
+        Path tempFile = Files.createTempFile(directory, absolutePath.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream fileOut = Files.newOutputStream(tempFile);
+                 DataOutputStream header = new DataOutputStream(fileOut)) {
+                header.writeInt(MAGIC);
+                header.writeInt(VERSION);
+                header.writeInt(bytes.length);
+                header.writeLong(crc.getValue());
+                header.write(bytes);
+            }
+            try {
+                Files.move(tempFile, absolutePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException ex) {
+                Files.move(tempFile, absolutePath, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Reads the market descriptions from the file. The file is read into memory and closed before parsing,
+     * so it can be replaced by the next {@link #write} right away.
+     *
+     * @param path the path of the snapshot file
+     * @param locales the locales the snapshot must contain
+     * @return the market descriptions or null if the file does not exist or was written for other locales
+     * @throws IOException if the file could not be read or is corrupted
+     */
+    public static MarketDescriptionIndex read(Path path, List<Locale> locales) throws IOException {
+        Preconditions.checkNotNull(path);
+        Preconditions.checkNotNull(locales);
+
+        if (!Files.isRegularFile(path)) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+        try {
+            int size = buffer.remaining();
+            if (size < HEADER_LENGTH) {
+                throw new IOException("Market descriptions snapshot is truncated");
+            }
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                throw new IOException("Market descriptions snapshot has an unsupported format");
+            }
+            int length = buffer.getInt();
+            long checksum = buffer.getLong();
+            if (length != size - HEADER_LENGTH) {
+                throw new IOException("Market descriptions snapshot is truncated");
+            }
+            CRC32 crc = new CRC32();
+            crc.update(buffer.duplicate());
+            if (crc.getValue() != checksum) {
+                throw new IOException("Market descriptions snapshot is corrupted");
+            }
+
+            return readIndex(buffer, locales);
+        } catch (RuntimeException ex) {
+            throw new IOException("Market descriptions snapshot could not be read", ex);
+        }
+    }
+
+    private static MarketDescriptionIndex readIndex(ByteBuffer in, List<Locale> locales) {
+        int localeCount = in.getInt();
+        List<Locale> snapshotLocales = new ArrayList<>(localeCount);
+        for (int i = 0; i < localeCount; i++) {
+            snapshotLocales.add(Locale.forLanguageTag(readString(in)));
+        }
+        if (!snapshotLocales.equals(locales)) {
+            return null;
+        }
+
+        int count = in.getInt();
+        Map<Integer, MarketDescriptionCI> descriptions = new HashMap<>(count * 2);
+        for (int i = 0; i < count; i++) {
+            MarketDescriptionCI description = readMarketDescription(in, locales);
+            descriptions.put((int) description.getId(), description);
+        }
+        return MarketDescriptionIndex.of(descriptions);
+    }
+
+    private static void writeMarketDescription(DataOutputStream out, List<Locale> locales, MarketDescriptionCI description) throws IOException {
+        out.writeLong(description.getId());
+        writeString(out, description.getVariant());
+        for (Locale locale : locales) {
+            writeString(out, description.getName(locale));
+            writeString(out, description.getDescription(locale));
+        }
+
+        List<Locale> fetchedLocales = description.getCachedLocales();
+        out.writeInt(fetchedLocales.size());
+        for (Locale locale : fetchedLocales) {
+            writeString(out, locale.toLanguageTag());
+        }
+
+        List<MarketMappingCI> mappings = description.getMappings();
+        writeCount(out, mappings);
+        if (mappings != null) {
+            for (MarketMappingCI mapping : mappings) {
+                out.writeInt(mapping.getMarketTypeId());
+                out.writeBoolean(mapping.getMarketSubTypeId() != null);
+                out.writeInt(mapping.getMarketSubTypeId() == null ? 0 : mapping.getMarketSubTypeId());
+                out.writeInt(mapping.getProducerId());
+                writeString(out, mapping.getSportId() == null ? null : mapping.getSportId().toString());
+                writeString(out, mapping.getSovTemplate());
+                writeString(out, mapping.getValidFor());
+                List<OutcomeMappingCI> outcomeMappings = mapping.getOutcomeMappings();
+                writeCount(out, outcomeMappings);
+                if (outcomeMappings != null) {
+                    for (OutcomeMappingCI outcomeMapping : outcomeMappings) {
+                        writeString(out, outcomeMapping.getOutcomeId());
+                        writeString(out, outcomeMapping.getProducerOutcomeId());
+                        writeString(out, outcomeMapping.getProducerOutcomeName());
+                    }
+                }
+            }
+        }
+
+        List<MarketOutcomeCI> outcomes = description.getOutcomes();
+        writeCount(out, outcomes);
+        if (outcomes != null) {
+            for (MarketOutcomeCI outcome : outcomes) {
+                writeString(out, outcome.getId());
+                for (Locale locale : locales) {
+                    writeString(out, outcome.getName(locale));
+                    writeString(out, outcome.getDescription(locale));
+                }
+            }
+        }
+
+        List<MarketSpecifierCI> specifiers = description.getSpecifiers();
+        writeCount(out, specifiers);
+        if (specifiers != null) {
+            for (MarketSpecifierCI specifier : specifiers) {
+                writeString(out, specifier.getName());
+                writeString(out, specifier.getType());
+            }
+        }
+
+        List<MarketAttributeCI> attributes = description.getAttributes();
+        writeCount(out, attributes);
+        if (attributes != null) {
+            for (MarketAttributeCI attribute : attributes) {
+                writeString(out, attribute.getName());
+                writeString(out, attribute.getDescription());
+            }
+        }
+    }
+
+    private static MarketDescriptionCI readMarketDescription(ByteBuffer in, List<Locale> locales) {
+        long id = in.getLong();
+        String variant = readString(in);
+        Map<Locale, String> names = new ConcurrentHashMap<>();
+        Map<Locale, String> descriptions = new ConcurrentHashMap<>();
+        readTranslations(in, locales, names, descriptions);
+
+        int fetchedLocaleCount = in.getInt();
+        List<Locale> fetchedLocales = new ArrayList<>(fetchedLocaleCount);
+        for (int i = 0; i < fetchedLocaleCount; i++) {
+            fetchedLocales.add(Locale.forLanguageTag(readString(in)));
+        }
+
+        List<MarketMappingCI> mappings = null;
+        int mappingCount = in.getInt();
+        if (mappingCount >= 0) {
+            mappings = new ArrayList<>(mappingCount);
+            for (int i = 0; i < mappingCount; i++) {
+                int marketTypeId = in.getInt();
+                boolean hasMarketSubTypeId = in.get() != 0;
+                int marketSubTypeId = in.getInt();
+                int producerId = in.getInt();
+                String sportId = readString(in);
+                String sovTemplate = readString(in);
+                String validFor = readString(in);
+                List<OutcomeMappingCI> outcomeMappings = null;
+                int outcomeMappingCount = in.getInt();
+                if (outcomeMappingCount >= 0) {
+                    outcomeMappings = new ArrayList<>(outcomeMappingCount);
+                    for (int j = 0; j < outcomeMappingCount; j++) {
+                        outcomeMappings.add(new OutcomeMappingCI(readString(in), readString(in), readString(in)));
+                    }
+                }
+                mappings.add(new MarketMappingCI(marketTypeId,
+                                                 hasMarketSubTypeId ? marketSubTypeId : null,
+                                                 producerId,
+                                                 sportId == null ? null : URN.parse(sportId),
+                                                 sovTemplate,
+                                                 validFor,
+                                                 outcomeMappings));
+            }
+        }
+
+        List<MarketOutcomeCI> outcomes = null;
+        int outcomeCount = in.getInt();
+        if (outcomeCount >= 0) {
+            outcomes = new ArrayList<>(outcomeCount);
+            for (int i = 0; i < outcomeCount; i++) {
+                String outcomeId = readString(in);
+                Map<Locale, String> outcomeNames = new HashMap<>();
+                Map<Locale, String> outcomeDescriptions = new HashMap<>();
+                readTranslations(in, locales, outcomeNames, outcomeDescriptions);
+                outcomes.add(new MarketOutcomeCI(outcomeId, outcomeNames, outcomeDescriptions));
+            }
+        }
+
+        List<MarketSpecifierCI> specifiers = null;
+        int specifierCount = in.getInt();
+        if (specifierCount >= 0) {
+            specifiers = new ArrayList<>(specifierCount);
+            for (int i = 0; i < specifierCount; i++) {
+                specifiers.add(new MarketSpecifierCI(readString(in), readString(in)));
+            }
+        }
+
+        List<MarketAttributeCI> attributes = null;
+        int attributeCount = in.getInt();
+        if (attributeCount >= 0) {
+            attributes = new ArrayList<>(attributeCount);
+            for (int i = 0; i < attributeCount; i++) {
+                attributes.add(new MarketAttributeCI(readString(in), readString(in)));
+            }
+        }
+
+        return new MarketDescriptionCI(id, names, descriptions, mappings, outcomes, specifiers, attributes, variant, fetchedLocales);
+    }
+
+    private static void readTranslations(ByteBuffer in, List<Locale> locales, Map<Locale, String> names, Map<Locale, String> descriptions) {
+        for (Locale locale : locales) {
+            String name = readString(in);
+            String description = readString(in);
+            if (name != null) {
+                names.put(locale, name);
+            }
+            if (description != null) {
+                descriptions.put(locale, description);
+            }
+        }
+    }
+
+    private static void writeCount(DataOutputStream out, List<?> list) throws IOException {
+        out.writeInt(list == null ? -1 : list.size());
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -9,9 +9,16 @@ import com.sportradar.mts.sdk.api.rest.URN;
 import com.sportradar.mts.sdk.api.rest.dto.MarketMappingDTO;
 
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Collectors;
 
 public class MarketMappingCI {
+    /**
+     * The sport ids shared by the mappings, there is one instance per sport regardless of the number of mappings
+     */
+    private static final ConcurrentMap<URN, URN> SPORT_IDS = new ConcurrentHashMap<>();
+
     private final int marketTypeId;
     private final Integer marketSubTypeId;
     private final int producerId;
@@ -20,13 +27,33 @@ public class MarketMappingCI {
     private final String validFor;
     private final List<OutcomeMappingCI> outcomeMappings;
 
+    @SuppressWarnings("java:S107") // Methods should not have too many parameters
+    public MarketMappingCI(int marketTypeId,
+                           Integer marketSubTypeId,
+                           int producerId,
+                           URN sportId,
+                           String sovTemplate,
+                           String validFor,
+                           List<OutcomeMappingCI> outcomeMappings) {
+        Preconditions.checkArgument(producerId > 0);
+        Preconditions.checkArgument(marketTypeId > 0);
+
+        this.producerId = producerId;
+        this.sportId = sportId == null ? null : SPORT_IDS.computeIfAbsent(sportId, id -> id);
+        this.marketTypeId = marketTypeId;
+        this.marketSubTypeId = marketSubTypeId;
+        this.sovTemplate = sovTemplate;
+        this.validFor = validFor;
+        this.outcomeMappings = outcomeMappings;
+    }
+
     public MarketMappingCI(MarketMappingDTO mm) {
         Preconditions.checkNotNull(mm);
         Preconditions.checkArgument(mm.getProducerId() > 0);
         Preconditions.checkArgument(mm.getMarketTypeId() > 0);
 
         producerId = mm.getProducerId();
-        sportId = mm.getSportId();
+        sportId = mm.getSportId() == null ? null : SPORT_IDS.computeIfAbsent(mm.getSportId(), id -> id);
         marketTypeId = mm.getMarketTypeId();
         marketSubTypeId = mm.getMarketSubTypeId();
         sovTemplate = mm.getSovTemplate();
@@ -17,6 +17,15 @@ public class MarketOutcomeCI {
     private final Map<Locale, String> names;
     private final Map<Locale, String> descriptions;
 
+    public MarketOutcomeCI(String id, Map<Locale, String> names, Map<Locale, String> descriptions) {
+        Preconditions.checkNotNull(names);
+        Preconditions.checkNotNull(descriptions);
+
+        this.id = id;
+        this.names = new ConcurrentHashMap<>(names);
+        this.descriptions = new ConcurrentHashMap<>(descriptions);
+    }
+
     public MarketOutcomeCI(OutcomeDescriptionDTO o, Locale locale) {
         Preconditions.checkNotNull(o);
         Preconditions.checkNotNull(locale);
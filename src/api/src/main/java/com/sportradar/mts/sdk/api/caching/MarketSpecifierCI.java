@@ -11,6 +11,14 @@ public class MarketSpecifierCI {
     private final String name;
     private final String type;
 
+    public MarketSpecifierCI(String name, String type) {
+        Preconditions.checkArgument(type != null && !type.isEmpty());
+        Preconditions.checkArgument(name != null && !name.isEmpty());
+
+        this.type = type;
+        this.name = name;
+    }
+
     public MarketSpecifierCI(MarketSpecifierDTO s) {
         Preconditions.checkNotNull(s);
         Preconditions.checkArgument(!s.getType().isEmpty());
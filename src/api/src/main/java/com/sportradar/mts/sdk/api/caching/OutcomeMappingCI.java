@@ -12,6 +12,12 @@ public class OutcomeMappingCI {
     private final String producerOutcomeId;
     private final String producerOutcomeName;
 
+    public OutcomeMappingCI(String outcomeId, String producerOutcomeId, String producerOutcomeName) {
+        this.outcomeId = outcomeId;
+        this.producerOutcomeId = producerOutcomeId;
+        this.producerOutcomeName = producerOutcomeName;
+    }
+
     public OutcomeMappingCI(OutcomeMappingDTO o) {
         Preconditions.checkNotNull(o);
 
@@ -0,0 +1,26 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.api.enums;
+
+/**
+ * Possible behaviours of the ticket producer when its send buffer is full
+ */
+public enum SendBufferOverflowPolicy {
+    /**
+     * The message is rejected immediately and reported as a publish failure
+     */
+    REJECT,
+
+    /**
+     * The sending thread waits for free capacity up to the configured timeout before the message is rejected
+     */
+    BLOCK,
+
+    /**
+     * The sending thread waits for free capacity until the message is accepted or the producer is closed, so it is
+     * slowed down to the publishing pace without losing the message
+     */
+    CALLER_RUNS
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.api.impl;
+
+import com.sportradar.mts.sdk.api.interfaces.ConnectionMetrics;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+public class ConnectionMetricsImpl implements ConnectionMetrics {
+
+    private final Date timestamp;
+    private final boolean connected;
+    private final long sentTicketCount;
+    private final long receivedTicketCount;
+    private final long retriedTicketCount;
+    private final long timedOutTicketCount;
+    private final double sendRate;
+    private final double receiveRate;
+    private final Date lastSendTime;
+    private final Date lastReceivedTime;
+    private final List<String> lastSentTicketIds;
+    private final List<String> lastReceivedTicketIds;
+
+    public ConnectionMetricsImpl(Date timestamp,
+                                 boolean connected,
+                                 long sentTicketCount,
+                                 long receivedTicketCount,
+                                 long retriedTicketCount,
+                                 long timedOutTicketCount,
+                                 double sendRate,
+                                 double receiveRate,
+                                 Date lastSendTime,
+                                 Date lastReceivedTime,
+                                 List<String> lastSentTicketIds,
+                                 List<String> lastReceivedTicketIds) {
+        this.timestamp = timestamp;
+        this.connected = connected;
+        this.sentTicketCount = sentTicketCount;
+        this.receivedTicketCount = receivedTicketCount;
+        this.retriedTicketCount = retriedTicketCount;
+        this.timedOutTicketCount = timedOutTicketCount;
+        this.sendRate = sendRate;
+        this.receiveRate = receiveRate;
+        this.lastSendTime = lastSendTime;
+        this.lastReceivedTime = lastReceivedTime;
+        this.lastSentTicketIds = Collections.unmodifiableList(lastSentTicketIds);
+        this.lastReceivedTicketIds = Collections.unmodifiableList(lastReceivedTicketIds);
+    }
+
+    @Override
+    public Date getTimestamp() { return timestamp; }
+
+    @Override
+    public boolean isConnected() { return connected; }
+
+    @Override
+    public long getSentTicketCount() { return sentTicketCount; }
+
+    @Override
+    public long getReceivedTicketCount() { return receivedTicketCount; }
+
+    @Override
+    public long getInFlightTicketCount() { return Math.max(0, sentTicketCount - receivedTicketCount); }
+
+    @Override
+    public long getRetriedTicketCount() { return retriedTicketCount; }
+
+    @Override
+    public long getTimedOutTicketCount() { return timedOutTicketCount; }
+
+    @Override
+    public double getSendRate() { return sendRate; }
+
+    @Override
+    public double getReceiveRate() { return receiveRate; }
+
+    @Override
+    public Date getLastSendTime() { return lastSendTime; }
+
+    @Override
+    public Date getLastReceivedTime() { return lastReceivedTime; }
+
+    @Override
+    public List<String> getLastSentTicketIds() { return lastSentTicketIds; }
+
+    @Override
+    public List<String> getLastReceivedTicketIds() { return lastReceivedTicketIds; }
+
+    @Override
+    public String toString() {
+        return "ConnectionMetricsImpl{ " +
+                "timestamp=" + timestamp +
+                ", isConnected=" + connected +
+                ", sentTicketCount=" + sentTicketCount +
+                ", receivedTicketCount=" + receivedTicketCount +
+                ", retriedTicketCount=" + retriedTicketCount +
+                ", timedOutTicketCount=" + timedOutTicketCount +
+                ", sendRate=" + sendRate +
+                ", receiveRate=" + receiveRate +
+                ", lastSendTime=" + lastSendTime +
+                ", lastReceivedTime=" + lastReceivedTime +
+                " }";
+    }
+}
@@ -1,13 +1,16 @@
 package com.sportradar.mts.sdk.api.impl;
 
 import com.sportradar.mts.sdk.api.interfaces.ConnectionChangeListener;
+import com.sportradar.mts.sdk.api.interfaces.ConnectionMetrics;
 import com.sportradar.mts.sdk.api.interfaces.ConnectionStatus;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Date;
-import java.util.Queue;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.concurrent.locks.ReentrantLock;
 
 public class ConnectionStatusImpl implements ConnectionStatus {
@@ -15,22 +18,22 @@ public class ConnectionStatusImpl implements ConnectionStatus {
     private static final Logger logger = LoggerFactory.getLogger(ConnectionStatusImpl.class);
 
     private static final int QUEUE_LIMIT = 10;
-    private Date connectionTime;
-    private Date disconnectionTime;
-    private String lastSendTicketId;
-    private String lastReceivedTicketId;
-    private final Queue<String> sendTicketIds;
-    private final Queue<String> receivedTicketIds;
+    private volatile Date connectionTime;
+    private volatile Date disconnectionTime;
+    private volatile long sentCountOnConnect;
+    private volatile long receivedCountOnConnect;
+    private final TicketActivity sendActivity;
+    private final TicketActivity receiveActivity;
+    private final AtomicLong retriedCount = new AtomicLong();
+    private final AtomicLong timedOutCount = new AtomicLong();
     private ConnectionChangeListener connectionChangeListener;
     private final ReentrantLock lock = new ReentrantLock();
 
     public ConnectionStatusImpl(){
         connectionTime = null;
         disconnectionTime = null;
-        lastSendTicketId = null;
-        lastReceivedTicketId = null;
-        sendTicketIds = new LinkedBlockingQueue<>();
-        receivedTicketIds = new LinkedBlockingQueue<>();
+        sendActivity = new TicketActivity();
+        receiveActivity = new TicketActivity();
         connectionChangeListener = null;
     }
 
@@ -44,10 +47,38 @@ public class ConnectionStatusImpl implements ConnectionStatus {
     public Date getDisconnectionTime() { return disconnectionTime; }
 
     @Override
-    public String getLastSendTicketId() { return lastSendTicketId; }
+    public String getLastSendTicketId() { return sendActivity.lastTicketId; }
 
     @Override
-    public String getLastReceivedTicketId() { return lastReceivedTicketId; }
+    public String getLastReceivedTicketId() { return receiveActivity.lastTicketId; }
+
+    @Override
+    public ConnectionMetrics getMetrics() {
+        long now = System.currentTimeMillis();
+        Date connectedAt = connectionTime;
+        boolean connected = connectedAt != null && disconnectionTime == null;
+        long sentCount = sendActivity.getCount();
+        long receivedCount = receiveActivity.getCount();
+        double sendRate = 0;
+        double receiveRate = 0;
+        if (connected) {
+            double seconds = Math.max(1, now - connectedAt.getTime()) / 1000.0;
+            sendRate = Math.max(0, sentCount - sentCountOnConnect) / seconds;
+            receiveRate = Math.max(0, receivedCount - receivedCountOnConnect) / seconds;
+        }
+        return new ConnectionMetricsImpl(new Date(now),
+                                         connected,
+                                         sentCount,
+                                         receivedCount,
+                                         retriedCount.get(),
+                                         timedOutCount.get(),
+                                         sendRate,
+                                         receiveRate,
+                                         sendActivity.getLastTime(),
+                                         receiveActivity.getLastTime(),
+                                         sendActivity.getLastTicketIds(),
+                                         receiveActivity.getLastTicketIds());
+    }
 
     public ConnectionChangeListener getConnectionChangeListener(){ return connectionChangeListener; }
 
@@ -63,6 +94,8 @@ public class ConnectionStatusImpl implements ConnectionStatus {
         if (!isConnected())
         {
             log("Connecting. " + message);
+            sentCountOnConnect = sendActivity.getCount();
+            receivedCountOnConnect = receiveActivity.getCount();
             connectionTime = new Date();
             disconnectionTime = null;
             try{
@@ -99,28 +132,22 @@ public class ConnectionStatusImpl implements ConnectionStatus {
 
     public void ticketSend(String ticketId)
     {
-        log("TicketSend [" + sendTicketIds.size() + "]: " + ticketId);
-        lock.lock();
-        lastSendTicketId = ticketId;
-        sendTicketIds.add(ticketId);
-        if (sendTicketIds.size() > QUEUE_LIMIT)
-        {
-            sendTicketIds.remove();
-        }
-        lock.unlock();
+        sendActivity.record(ticketId);
     }
 
     public void ticketReceived(String ticketId)
     {
-        log("TicketReceived [" + receivedTicketIds.size() + "]: " + ticketId);
-        lock.lock();
-        lastReceivedTicketId = ticketId;
-        receivedTicketIds.add(ticketId);
-        if (receivedTicketIds.size() > QUEUE_LIMIT)
-        {
-            receivedTicketIds.remove();
-        }
-        lock.unlock();
+        receiveActivity.record(ticketId);
+    }
+
+    public void ticketRetried()
+    {
+        retriedCount.incrementAndGet();
+    }
+
+    public void ticketTimedOut()
+    {
+        timedOutCount.incrementAndGet();
     }
 
     private void log(String message){
@@ -136,12 +163,55 @@ public class ConnectionStatusImpl implements ConnectionStatus {
                 "isConnected=" + isConnected() +
                 ", connectionTime=" + connectionTime +
                 ", disconnectionTime=" + disconnectionTime +
-                ", lastSendTicketId=" + lastSendTicketId +
-                ", lastReceivedTicketId=" + lastReceivedTicketId +
+                ", lastSendTicketId=" + getLastSendTicketId() +
+                ", lastReceivedTicketId=" + getLastReceivedTicketId() +
                 ", connectionChangeListener=" + listenerSet +
 //                ", sendTicketIds=" + sendTicketIds +
 //                ", receivedTicketIds=" + receivedTicketIds +
 //                ", queueLimit=" + queueLimit +
                 " }";
     }
+
+    /**
+     * The tickets passing in one direction, recorded without locking: the sequence counts the tickets and selects
+     * the slot of the ring holding the last {@link #QUEUE_LIMIT} ticket ids
+     */
+    private static final class TicketActivity {
+        private final AtomicLong sequence = new AtomicLong();
+        private final AtomicReferenceArray<String> lastTicketIds = new AtomicReferenceArray<>(QUEUE_LIMIT);
+        private volatile String lastTicketId;
+        private volatile long lastTime;
+
+        void record(String ticketId) {
+            long seq = sequence.getAndIncrement();
+            lastTicketIds.lazySet((int) (seq % QUEUE_LIMIT), ticketId);
+            lastTicketId = ticketId;
+            lastTime = System.currentTimeMillis();
+        }
+
+        long getCount() {
+            return sequence.get();
+        }
+
+        Date getLastTime() {
+            long time = lastTime;
+            return time == 0 ? null : new Date(time);
+        }
+
+        /**
+         * Returns the last ticket ids, the most recent first. The ids recorded meanwhile may already be included.
+         */
+        List<String> getLastTicketIds() {
+            long seq = sequence.get();
+            int size = (int) Math.min(seq, QUEUE_LIMIT);
+            List<String> ids = new ArrayList<>(size);
+            for (long i = seq - 1; i >= seq - size; i--) {
+                String id = lastTicketIds.get((int) (i % QUEUE_LIMIT));
+                if (id != null) {
+                    ids.add(id);
+                }
+            }
+            return ids;
+        }
+    }
 }
@@ -0,0 +1,56 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.api.impl;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Base for the immutable outgoing tickets which serializes the ticket to the MTS JSON format only once
+ * and keeps the result. The cached values are transient and are recomputed after java deserialization.
+ */
+public abstract class SdkTicketBase {
+
+    private transient volatile byte[] jsonBytes;
+    private transient volatile String jsonValue;
+
+    /**
+     * Returns the associated ticket in the required MTS JSON format
+     *
+     * @return the associated ticket in the required MTS JSON format
+     */
+    @JsonIgnore
+    public String getJsonValue() {
+        String value = jsonValue;
+        if (value == null) {
+            value = new String(getJsonBytes(), StandardCharsets.UTF_8);
+            jsonValue = value;
+        }
+        return value;
+    }
+
+    /**
+     * Returns the associated ticket in the required MTS JSON format as UTF-8 encoded bytes
+     *
+     * @return the associated ticket in the required MTS JSON format as UTF-8 encoded bytes
+     */
+    @JsonIgnore
+    public byte[] getJsonBytes() {
+        byte[] bytes = jsonBytes;
+        if (bytes == null) {
+            bytes = serializeJson();
+            jsonBytes = bytes;
+        }
+        return bytes;
+    }
+
+    /**
+     * Maps the ticket to the MTS dto and serializes it to UTF-8 encoded JSON
+     *
+     * @return the ticket in the required MTS JSON format as UTF-8 encoded bytes
+     */
+    protected abstract byte[] serializeJson();
+}
@@ -10,6 +10,8 @@ import com.google.common.base.Preconditions;
 import com.sportradar.mts.sdk.api.Selection;
 import com.sportradar.mts.sdk.api.utils.StringUtils;
 
+import java.util.Objects;
+
 /**
  * Implementation of Selection interface
  */
@@ -90,7 +92,12 @@ public class SelectionImpl implements Selection {
             return true;
         }
         Selection sel = (Selection)obj;
-        return sel.hashCode() == this.hashCode();
+        Integer myOdds = odds == null ? 0 : odds;
+        Integer otherOdds = sel.getOdds() == null ? 0 : sel.getOdds();
+        return isBanker == sel.getIsBanker()
+                && myOdds.equals(otherOdds)
+                && Objects.equals(eventId, sel.getEventId())
+                && Objects.equals(id, sel.getId());
     }
 
     @Override
@@ -98,6 +105,6 @@ public class SelectionImpl implements Selection {
     {
         Integer myOdds = odds == null ? 0 : odds;
 
-        return (eventId + "+" + id + "+" + myOdds + "+" + isBanker).hashCode();
+        return Objects.hash(eventId, id, myOdds, isBanker);
     }
 }
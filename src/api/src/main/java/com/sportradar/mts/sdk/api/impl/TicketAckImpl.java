@@ -6,11 +6,9 @@ package com.sportradar.mts.sdk.api.impl;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.google.common.base.Preconditions;
 import com.sportradar.mts.sdk.api.TicketAck;
 import com.sportradar.mts.sdk.api.enums.TicketAckStatus;
-import com.sportradar.mts.sdk.api.exceptions.MtsSdkProcessException;
 import com.sportradar.mts.sdk.api.utils.JsonUtils;
 import com.sportradar.mts.sdk.api.utils.MtsDtoMapper;
 import com.sportradar.mts.sdk.api.utils.MtsTicketHelper;
@@ -20,7 +18,7 @@ import java.util.Date;
 /**
  * Implementation of TicketAck
  */
-public class TicketAckImpl implements TicketAck {
+public class TicketAckImpl extends SdkTicketBase implements TicketAck {
 
     private final String ticketId;
     private final Date timestampUtc;
@@ -95,21 +93,10 @@ public class TicketAckImpl implements TicketAck {
     @Override
     public String getCorrelationId() { return correlationId; }
 
-    /**
-     * Returns the associated ticket in the required MTS JSON format
-     *
-     * @return the associated ticket in the required MTS JSON format
-     */
     @Override
-    public String getJsonValue() {
+    protected byte[] serializeJson() {
         com.sportradar.mts.sdk.api.impl.mtsdto.ticketack.TicketAckSchema dto = MtsDtoMapper.map(this);
-        try {
-            return JsonUtils.OBJECT_MAPPER.writeValueAsString(dto);
-        }
-        catch (JsonProcessingException ex)
-        {
-            throw new MtsSdkProcessException("Exception during dto mapping: " + ex.getMessage(), ex.getCause());
-        }
+        return JsonUtils.serializeDto(dto);
     }
 
     @Override
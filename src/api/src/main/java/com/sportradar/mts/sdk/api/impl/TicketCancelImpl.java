@@ -5,14 +5,11 @@
 package com.sportradar.mts.sdk.api.impl;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
-import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.google.common.base.Preconditions;
 import com.sportradar.mts.sdk.api.BetCancel;
 import com.sportradar.mts.sdk.api.TicketCancel;
 import com.sportradar.mts.sdk.api.enums.TicketCancellationReason;
-import com.sportradar.mts.sdk.api.exceptions.MtsSdkProcessException;
 import com.sportradar.mts.sdk.api.utils.JsonUtils;
 import com.sportradar.mts.sdk.api.utils.MtsDtoMapper;
 import com.sportradar.mts.sdk.api.utils.MtsTicketHelper;
@@ -23,7 +20,7 @@ import java.util.List;
 /**
  * Implementation of TicketCancel
  */
-public class TicketCancelImpl implements TicketCancel {
+public class TicketCancelImpl extends SdkTicketBase implements TicketCancel {
     private final String ticketId;
     private final Date timestampUtc;
     private final String version;
@@ -113,22 +110,10 @@ public class TicketCancelImpl implements TicketCancel {
         return betCancels;
     }
 
-    /**
-     * Returns the associated ticket in the required MTS JSON format
-     *
-     * @return the associated ticket in the required MTS JSON format
-     */
-    @JsonIgnore
     @Override
-    public String getJsonValue() {
+    protected byte[] serializeJson() {
         com.sportradar.mts.sdk.api.impl.mtsdto.ticketcancel.TicketCancelSchema dto = MtsDtoMapper.map(this);
-        try {
-            return JsonUtils.OBJECT_MAPPER.writeValueAsString(dto.getCancel());
-        }
-        catch (JsonProcessingException ex)
-        {
-            throw new MtsSdkProcessException("Exception during dto mapping: " + ex.getMessage(), ex.getCause());
-        }
+        return JsonUtils.serializeDto(dto.getCancel());
     }
 
     @Override
@@ -5,6 +5,7 @@
 package com.sportradar.mts.sdk.api.impl;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.google.common.base.Preconditions;
 import com.sportradar.mts.sdk.api.ResponseReason;
@@ -12,6 +13,7 @@ import com.sportradar.mts.sdk.api.TicketCancelResponse;
 import com.sportradar.mts.sdk.api.enums.TicketCancelAcceptance;
 import com.sportradar.mts.sdk.api.utils.MtsTicketHelper;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import java.util.Map;
 
@@ -28,7 +30,8 @@ public class TicketCancelResponseImpl implements TicketCancelResponse {
     private final String signature;
     private final String correlationId;
     private final Map<String, String> additionalInfo;
-    private final String msgBody;
+    private volatile String msgBody;
+    private final byte[] msgBytes;
 
     @JsonCreator(mode = JsonCreator.Mode.PROPERTIES)
     public TicketCancelResponseImpl(@JsonProperty("ticketId") String ticketId,
@@ -40,6 +43,37 @@ public class TicketCancelResponseImpl implements TicketCancelResponse {
                                     @JsonProperty("correlationId") String correlationId,
                                     @JsonProperty("additionalInfo") Map<String, String> additionalInfo,
                                     @JsonProperty("msgBody") String msgBody)
+    {
+        this(ticketId, reason, status, signature, timestampUtc, version, correlationId, additionalInfo, Preconditions.checkNotNull(msgBody), null);
+    }
+
+    /**
+     * Initializes a new instance of the {@link TicketCancelResponseImpl} keeping the received payload as UTF-8 encoded bytes,
+     * the JSON text is decoded only once it is requested
+     */
+    public TicketCancelResponseImpl(String ticketId,
+                                    ResponseReason reason,
+                                    TicketCancelAcceptance status,
+                                    String signature,
+                                    Date timestampUtc,
+                                    String version,
+                                    String correlationId,
+                                    Map<String, String> additionalInfo,
+                                    byte[] msgBody)
+    {
+        this(ticketId, reason, status, signature, timestampUtc, version, correlationId, additionalInfo, null, Preconditions.checkNotNull(msgBody));
+    }
+
+    private TicketCancelResponseImpl(String ticketId,
+                                     ResponseReason reason,
+                                     TicketCancelAcceptance status,
+                                     String signature,
+                                     Date timestampUtc,
+                                     String version,
+                                     String correlationId,
+                                     Map<String, String> additionalInfo,
+                                     String msgBody,
+                                     byte[] msgBytes)
     {
         Preconditions.checkNotNull(ticketId, "ticketId cannot be null");
         Preconditions.checkArgument(MtsTicketHelper.validateTicketId(ticketId), "ticketId is not valid");
@@ -47,7 +81,6 @@ public class TicketCancelResponseImpl implements TicketCancelResponse {
         Preconditions.checkArgument(MtsTicketHelper.validateTimestamp(timestampUtc), "timestampUtc is not valid");
         Preconditions.checkNotNull(version, "version cannot be null");
         Preconditions.checkArgument(version.length() == 3, "version is not valid");
-        Preconditions.checkNotNull(msgBody);
 
         this.ticketId = ticketId;
         this.reason = reason;
@@ -58,6 +91,7 @@ public class TicketCancelResponseImpl implements TicketCancelResponse {
         this.correlationId = correlationId;
         this.additionalInfo = additionalInfo;
         this.msgBody = msgBody;
+        this.msgBytes = msgBytes;
     }
 
     @Override
@@ -105,7 +139,23 @@ public class TicketCancelResponseImpl implements TicketCancelResponse {
      */
     @Override
     public String getJsonValue() {
-        return msgBody;
+        String value = msgBody;
+        if (value == null) {
+            value = new String(msgBytes, StandardCharsets.UTF_8);
+            msgBody = value;
+        }
+        return value;
+    }
+
+    /**
+     * Returns the received payload as UTF-8 encoded bytes
+     *
+     * @return the received payload as UTF-8 encoded bytes
+     */
+    @JsonIgnore
+    @Override
+    public byte[] getJsonBytes() {
+        return msgBytes != null ? msgBytes : msgBody.getBytes(StandardCharsets.UTF_8);
     }
 
     @Override
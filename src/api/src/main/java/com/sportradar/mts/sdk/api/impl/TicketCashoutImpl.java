@@ -5,13 +5,10 @@
 package com.sportradar.mts.sdk.api.impl;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
-import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.google.common.base.Preconditions;
 import com.sportradar.mts.sdk.api.BetCashout;
 import com.sportradar.mts.sdk.api.TicketCashout;
-import com.sportradar.mts.sdk.api.exceptions.MtsSdkProcessException;
 import com.sportradar.mts.sdk.api.utils.JsonUtils;
 import com.sportradar.mts.sdk.api.utils.MtsDtoMapper;
 import com.sportradar.mts.sdk.api.utils.MtsTicketHelper;
@@ -22,7 +19,7 @@ import java.util.List;
 /**
  * Implementation of the user exposed entity {@link TicketCashout}
  */
-public class TicketCashoutImpl implements TicketCashout {
+public class TicketCashoutImpl extends SdkTicketBase implements TicketCashout {
     /**
      * The assigned ticket id
      */
@@ -182,19 +179,9 @@ public class TicketCashoutImpl implements TicketCashout {
     @Override
     public String getCorrelationId() { return correlationId; }
 
-    /**
-     * Returns the associated ticket in the required MTS JSON format
-     *
-     * @return the associated ticket in the required MTS JSON format
-     */
-    @JsonIgnore
     @Override
-    public String getJsonValue() {
-        try {
-            return JsonUtils.OBJECT_MAPPER.writeValueAsString(MtsDtoMapper.map(this));
-        } catch (JsonProcessingException ex) {
-            throw new MtsSdkProcessException("Exception during dto mapping: " + ex.getMessage(), ex.getCause());
-        }
+    protected byte[] serializeJson() {
+        return JsonUtils.serializeDto(MtsDtoMapper.map(this));
     }
 
     /**
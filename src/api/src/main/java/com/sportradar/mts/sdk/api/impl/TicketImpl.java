@@ -7,15 +7,12 @@ package com.sportradar.mts.sdk.api.impl;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.google.common.base.Preconditions;
-import com.google.common.collect.Lists;
 import com.sportradar.mts.sdk.api.Bet;
 import com.sportradar.mts.sdk.api.Selection;
 import com.sportradar.mts.sdk.api.Sender;
 import com.sportradar.mts.sdk.api.Ticket;
 import com.sportradar.mts.sdk.api.enums.OddsChangeType;
-import com.sportradar.mts.sdk.api.exceptions.MtsSdkProcessException;
 import com.sportradar.mts.sdk.api.utils.JsonUtils;
 import com.sportradar.mts.sdk.api.utils.MtsDtoMapper;
 import com.sportradar.mts.sdk.api.utils.MtsTicketHelper;
@@ -23,12 +20,11 @@ import com.sportradar.mts.sdk.api.utils.StringUtils;
 
 import java.util.Date;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Implementation of Ticket
  */
-public class TicketImpl implements Ticket {
+public class TicketImpl extends SdkTicketBase implements Ticket {
 
     private final String ticketId;
     private final Date timestampUtc;
@@ -39,7 +35,7 @@ public class TicketImpl implements Ticket {
     private final String altStakeRefId;
     private final boolean testSource;
     private final OddsChangeType oddsChangeType;
-    private final List<Selection> selections;
+    private final TicketSelections ticketSelections;
     private final String correlationId;
     private final Integer totalCombinations;
     private final Date lastMatchEndTime;
@@ -88,12 +84,7 @@ public class TicketImpl implements Ticket {
             throw new IllegalArgumentException("Only ReofferId or AltStakeRefId can specified.");
         }
 
-        List<Selection> selectionList = Lists.newArrayList();
-        for (Bet bet : bets)
-        {
-            selectionList.addAll(bet.getSelections());
-        }
-        this.selections = selectionList.stream().distinct().collect(Collectors.toList());
+        this.ticketSelections = TicketSelections.ofBets(bets);
         this.correlationId = MtsTicketHelper.generateTicketCorrelationId();
         this.totalCombinations = totalCombinations;
     }
@@ -143,8 +134,20 @@ public class TicketImpl implements Ticket {
         return oddsChangeType;
     }
 
+    /**
+     * Returns the distinct selections of all bets, they are always derived from the bets
+     */
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
     @Override
-    public List<Selection> getSelections() { return selections; }
+    public List<Selection> getSelections() { return ticketSelections.getSelections(); }
+
+    /**
+     * Returns the selections of the ticket indexed for the mapping to the MTS format
+     *
+     * @return the indexed selections of the ticket
+     */
+    @JsonIgnore
+    public TicketSelections getTicketSelections() { return ticketSelections; }
 
     @Override
     public Integer getTotalCombinations() {
@@ -168,22 +171,10 @@ public class TicketImpl implements Ticket {
     @Override
     public String getCorrelationId() { return correlationId; }
 
-    /**
-     * Returns the associated ticket in the required MTS JSON format
-     *
-     * @return the associated ticket in the required MTS JSON format
-     */
     @Override
-    @JsonIgnore
-    public String getJsonValue() {
+    protected byte[] serializeJson() {
         com.sportradar.mts.sdk.api.impl.mtsdto.ticket.TicketSchema dto = MtsDtoMapper.map(this);
-        try {
-            return JsonUtils.OBJECT_MAPPER.writeValueAsString(dto.getTicket());
-        }
-        catch (JsonProcessingException ex)
-        {
-            throw new MtsSdkProcessException("Exception during dto mapping: " + ex.getMessage(), ex.getCause());
-        }
+        return JsonUtils.serializeDto(dto.getTicket());
     }
 
     @Override
@@ -5,12 +5,9 @@
 package com.sportradar.mts.sdk.api.impl;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
-import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.google.common.base.Preconditions;
 import com.sportradar.mts.sdk.api.TicketNonSrSettle;
-import com.sportradar.mts.sdk.api.exceptions.MtsSdkProcessException;
 import com.sportradar.mts.sdk.api.utils.JsonUtils;
 import com.sportradar.mts.sdk.api.utils.MtsDtoMapper;
 import com.sportradar.mts.sdk.api.utils.MtsTicketHelper;
@@ -20,7 +17,7 @@ import java.util.Date;
 /**
  * Implementation of the user exposed entity {@link TicketNonSrSettle}
  */
-public class TicketNonSrSettleImpl implements TicketNonSrSettle {
+public class TicketNonSrSettleImpl extends SdkTicketBase implements TicketNonSrSettle {
 
     /**
      * The assigned ticket id
@@ -122,20 +119,10 @@ public class TicketNonSrSettleImpl implements TicketNonSrSettle {
         return correlationId;
     }
 
-    /**
-     * Returns the associated ticket in the required MTS JSON format
-     *
-     * @return the associated ticket in the required MTS JSON format
-     */
-    @JsonIgnore
     @Override
-    public String getJsonValue() {
+    protected byte[] serializeJson() {
         com.sportradar.mts.sdk.api.impl.mtsdto.ticketnonsrsettle.TicketNonSrSettleSchema dto = MtsDtoMapper.map(this);
-        try {
-            return JsonUtils.OBJECT_MAPPER.writeValueAsString(dto);
-        } catch (JsonProcessingException ex) {
-            throw new MtsSdkProcessException("Exception during dto mapping: " + ex.getMessage(), ex.getCause());
-        }
+        return JsonUtils.serializeDto(dto);
     }
 
     /**
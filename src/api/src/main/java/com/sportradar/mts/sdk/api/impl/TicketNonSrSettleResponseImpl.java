@@ -5,6 +5,7 @@
 package com.sportradar.mts.sdk.api.impl;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.google.common.base.Preconditions;
 import com.sportradar.mts.sdk.api.ResponseReason;
@@ -12,6 +13,7 @@ import com.sportradar.mts.sdk.api.TicketNonSrSettleResponse;
 import com.sportradar.mts.sdk.api.enums.TicketAcceptance;
 import com.sportradar.mts.sdk.api.utils.MtsTicketHelper;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import java.util.Map;
 
@@ -60,7 +62,8 @@ public class TicketNonSrSettleResponseImpl implements TicketNonSrSettleResponse
     /**
      * the raw JSON payload received from MTS
      */
-    private final String msgBody;
+    private volatile String msgBody;
+    private final byte[] msgBytes;
 
     @JsonCreator(mode = JsonCreator.Mode.PROPERTIES)
     public TicketNonSrSettleResponseImpl(@JsonProperty("ticketId") String ticketId,
@@ -72,6 +75,35 @@ public class TicketNonSrSettleResponseImpl implements TicketNonSrSettleResponse
                                          @JsonProperty("correlationId") String correlationId,
                                          @JsonProperty("additionalInfo") Map<String, String> additionalInfo,
                                          @JsonProperty("msgBody") String msgBody) {
+        this(ticketId, timestampUtc, version, reason, status, signature, correlationId, additionalInfo, Preconditions.checkNotNull(msgBody), null);
+    }
+
+    /**
+     * Initializes a new instance of the {@link TicketNonSrSettleResponseImpl} keeping the received payload as UTF-8 encoded bytes,
+     * the JSON text is decoded only once it is requested
+     */
+    public TicketNonSrSettleResponseImpl(String ticketId,
+                                         Date timestampUtc,
+                                         String version,
+                                         ResponseReason reason,
+                                         TicketAcceptance status,
+                                         String signature,
+                                         String correlationId,
+                                         Map<String, String> additionalInfo,
+                                         byte[] msgBody) {
+        this(ticketId, timestampUtc, version, reason, status, signature, correlationId, additionalInfo, null, Preconditions.checkNotNull(msgBody));
+    }
+
+    private TicketNonSrSettleResponseImpl(String ticketId,
+                                          Date timestampUtc,
+                                          String version,
+                                          ResponseReason reason,
+                                          TicketAcceptance status,
+                                          String signature,
+                                          String correlationId,
+                                          Map<String, String> additionalInfo,
+                                          String msgBody,
+                                          byte[] msgBytes) {
         Preconditions.checkNotNull(ticketId, "ticketId cannot be null");
         Preconditions.checkArgument(MtsTicketHelper.validateTicketId(ticketId), "ticketId is not valid");
         Preconditions.checkNotNull(timestampUtc, "timestamp cannot be null");
@@ -80,7 +112,6 @@ public class TicketNonSrSettleResponseImpl implements TicketNonSrSettleResponse
         Preconditions.checkArgument(version.length() == 3, "version is not valid");
         Preconditions.checkNotNull(status, "status cannot be null");
         Preconditions.checkNotNull(signature, "signature can not be null");
-        Preconditions.checkNotNull(msgBody);
 
         this.ticketId = ticketId;
         this.timestampUtc = timestampUtc;
@@ -91,6 +122,7 @@ public class TicketNonSrSettleResponseImpl implements TicketNonSrSettleResponse
         this.correlationId = correlationId;
         this.additionalInfo = additionalInfo;
         this.msgBody = msgBody;
+        this.msgBytes = msgBytes;
     }
 
     /**
@@ -177,6 +209,22 @@ public class TicketNonSrSettleResponseImpl implements TicketNonSrSettleResponse
      */
     @Override
     public String getJsonValue() {
-        return msgBody;
+        String value = msgBody;
+        if (value == null) {
+            value = new String(msgBytes, StandardCharsets.UTF_8);
+            msgBody = value;
+        }
+        return value;
+    }
+
+    /**
+     * Returns the received payload as UTF-8 encoded bytes
+     *
+     * @return the received payload as UTF-8 encoded bytes
+     */
+    @JsonIgnore
+    @Override
+    public byte[] getJsonBytes() {
+        return msgBytes != null ? msgBytes : msgBody.getBytes(StandardCharsets.UTF_8);
     }
 }
@@ -5,12 +5,9 @@
 package com.sportradar.mts.sdk.api.impl;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
-import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.google.common.base.Preconditions;
 import com.sportradar.mts.sdk.api.TicketReofferCancel;
-import com.sportradar.mts.sdk.api.exceptions.MtsSdkProcessException;
 import com.sportradar.mts.sdk.api.utils.JsonUtils;
 import com.sportradar.mts.sdk.api.utils.MtsDtoMapper;
 import com.sportradar.mts.sdk.api.utils.MtsTicketHelper;
@@ -20,7 +17,7 @@ import java.util.Date;
 /**
  * Implementation of TicketReofferCancel
  */
-public class TicketReofferCancelImpl implements TicketReofferCancel {
+public class TicketReofferCancelImpl extends SdkTicketBase implements TicketReofferCancel {
     private final String ticketId;
     private final Date timestampUtc;
     private final String version;
@@ -70,22 +67,10 @@ public class TicketReofferCancelImpl implements TicketReofferCancel {
     @Override
     public String getCorrelationId() { return correlationId; }
 
-    /**
-     * Returns the associated ticket in the required MTS JSON format
-     *
-     * @return the associated ticket in the required MTS JSON format
-     */
-    @JsonIgnore
     @Override
-    public String getJsonValue() {
+    protected byte[] serializeJson() {
         com.sportradar.mts.sdk.api.impl.mtsdto.reoffercancel.TicketReofferCancelSchema dto = MtsDtoMapper.map(this);
-        try {
-            return JsonUtils.OBJECT_MAPPER.writeValueAsString(dto);
-        }
-        catch (JsonProcessingException ex)
-        {
-            throw new MtsSdkProcessException("Exception during dto mapping: " + ex.getMessage(), ex.getCause());
-        }
+        return JsonUtils.serializeDto(dto);
     }
 
     @Override
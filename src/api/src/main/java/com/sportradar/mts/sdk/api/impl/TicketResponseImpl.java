@@ -5,6 +5,7 @@
 package com.sportradar.mts.sdk.api.impl;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
@@ -18,6 +19,7 @@ import com.sportradar.mts.sdk.api.impl.mtsdto.ticketresponse.BetDetail;
 import com.sportradar.mts.sdk.api.utils.MtsDtoMapper;
 import com.sportradar.mts.sdk.api.utils.MtsTicketHelper;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -38,7 +40,8 @@ public class TicketResponseImpl implements TicketResponse {
     private final String correlationId;
     private final Map<String, String> additionalInfo;
     private final List<AutoAcceptedOdds> autoAcceptedOddsList;
-    private final String msgBody;
+    private volatile String msgBody;
+    private final byte[] msgBytes;
     private final List<BetDetail> sdkBetDetails;
 
     @JsonCreator(mode = JsonCreator.Mode.PROPERTIES)
@@ -54,6 +57,43 @@ public class TicketResponseImpl implements TicketResponse {
                               @JsonProperty("additionalInfo") Map<String, String> additionalInfo,
                               @JsonProperty("autoAcceptedOdds") List<AutoAcceptedOdd> autoAcceptedOdds,
                               @JsonProperty("msgBody") String msgBody)
+    {
+        this(ticketId, reason, status, betDetails, signature, exchangeRate, timestampUtc, version, correlationId, additionalInfo, autoAcceptedOdds, Preconditions.checkNotNull(msgBody), null);
+    }
+
+    /**
+     * Initializes a new instance of the {@link TicketResponseImpl} keeping the received payload as UTF-8 encoded bytes,
+     * the JSON text is decoded only once it is requested
+     */
+    public TicketResponseImpl(String ticketId,
+                              ResponseReason reason,
+                              TicketAcceptance status,
+                              List<BetDetail> betDetails,
+                              String signature,
+                              long exchangeRate,
+                              Date timestampUtc,
+                              String version,
+                              String correlationId,
+                              Map<String, String> additionalInfo,
+                              List<AutoAcceptedOdd> autoAcceptedOdds,
+                              byte[] msgBody)
+    {
+        this(ticketId, reason, status, betDetails, signature, exchangeRate, timestampUtc, version, correlationId, additionalInfo, autoAcceptedOdds, null, Preconditions.checkNotNull(msgBody));
+    }
+
+    private TicketResponseImpl(String ticketId,
+                               ResponseReason reason,
+                               TicketAcceptance status,
+                               List<BetDetail> betDetails,
+                               String signature,
+                               long exchangeRate,
+                               Date timestampUtc,
+                               String version,
+                               String correlationId,
+                               Map<String, String> additionalInfo,
+                               List<AutoAcceptedOdd> autoAcceptedOdds,
+                               String msgBody,
+                               byte[] msgBytes)
     {
         Preconditions.checkNotNull(ticketId, "ticketId cannot be null");
         Preconditions.checkArgument(MtsTicketHelper.validateTicketId(ticketId), "ticketId is not valid");
@@ -61,7 +101,6 @@ public class TicketResponseImpl implements TicketResponse {
         Preconditions.checkArgument(MtsTicketHelper.validateTimestamp(timestampUtc), "timestampUtc is not valid");
         Preconditions.checkNotNull(version, "version cannot be null");
         Preconditions.checkArgument(version.length() == 3, "version is not valid");
-        Preconditions.checkNotNull(msgBody);
 
         this.ticketId = ticketId;
         this.reason = reason;
@@ -107,6 +146,7 @@ public class TicketResponseImpl implements TicketResponse {
             autoAcceptedOddsList = null;
         }
         this.msgBody = msgBody;
+        this.msgBytes = msgBytes;
     }
 
     @Override
@@ -178,7 +218,23 @@ public class TicketResponseImpl implements TicketResponse {
      */
     @Override
     public String getJsonValue() {
-        return msgBody;
+        String value = msgBody;
+        if (value == null) {
+            value = new String(msgBytes, StandardCharsets.UTF_8);
+            msgBody = value;
+        }
+        return value;
+    }
+
+    /**
+     * Returns the received payload as UTF-8 encoded bytes
+     *
+     * @return the received payload as UTF-8 encoded bytes
+     */
+    @JsonIgnore
+    @Override
+    public byte[] getJsonBytes() {
+        return msgBytes != null ? msgBytes : msgBody.getBytes(StandardCharsets.UTF_8);
     }
 
     @Override
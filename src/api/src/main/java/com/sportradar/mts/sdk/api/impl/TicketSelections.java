@@ -0,0 +1,145 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.api.impl;
+
+import com.sportradar.mts.sdk.api.Bet;
+import com.sportradar.mts.sdk.api.Selection;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The selections of a ticket, indexed once when the ticket is built so the ticket and the mapping to the MTS
+ * format do not scan the selections for every bet
+ */
+public final class TicketSelections implements Serializable {
+
+    private static final long serialVersionUID = -6113830290186325528L;
+
+    /**
+     * The distinct selections of all bets, in the order of the first occurrence
+     */
+    private final List<Selection> selections;
+
+    /**
+     * The selections sent to MTS - distinct by event, id and odds, in the order of the first occurrence
+     */
+    private final List<Selection> mtsSelections;
+
+    /**
+     * The indexes of the {@link #mtsSelections} by event, id and odds
+     */
+    private final Map<SelectionKey, Integer> mtsIndexes;
+
+    private TicketSelections(List<Selection> selections) {
+        List<Selection> unique = new ArrayList<>(selections.size());
+        Map<SelectionKey, Integer> indexes = new HashMap<>();
+        for (Selection selection : selections) {
+            if (indexes.putIfAbsent(new SelectionKey(selection), unique.size()) == null) {
+                unique.add(selection);
+            }
+        }
+        this.selections = Collections.unmodifiableList(selections);
+        this.mtsSelections = Collections.unmodifiableList(unique);
+        this.mtsIndexes = indexes;
+    }
+
+    /**
+     * Indexes the selections of the provided bets
+     *
+     * @param bets the bets of the ticket
+     * @return the indexed selections
+     */
+    public static TicketSelections ofBets(List<Bet> bets) {
+        Set<Selection> distinct = new LinkedHashSet<>();
+        for (Bet bet : bets) {
+            distinct.addAll(bet.getSelections());
+        }
+        return new TicketSelections(new ArrayList<>(distinct));
+    }
+
+    /**
+     * Indexes the already distinct selections of a ticket
+     *
+     * @param selections the selections of the ticket
+     * @return the indexed selections
+     */
+    public static TicketSelections of(List<Selection> selections) {
+        return new TicketSelections(selections);
+    }
+
+    /**
+     * Returns the distinct selections of all bets
+     *
+     * @return the distinct selections of all bets
+     */
+    public List<Selection> getSelections() {
+        return selections;
+    }
+
+    /**
+     * Returns the selections sent to MTS, the selections with the same event, id and odds are sent only once
+     *
+     * @return the selections sent to MTS
+     */
+    public List<Selection> getMtsSelections() {
+        return mtsSelections;
+    }
+
+    /**
+     * Returns the index of the selection with the same event, id and odds in the {@link #getMtsSelections()}
+     *
+     * @param selection the selection to look up
+     * @return the index of the selection or -1 if the selection is not part of the ticket
+     */
+    public int indexOf(Selection selection) {
+        Integer index = mtsIndexes.get(new SelectionKey(selection));
+        return index == null ? -1 : index;
+    }
+
+    private static final class SelectionKey implements Serializable {
+
+        private static final long serialVersionUID = 4128571702733516093L;
+
+        private final String eventId;
+        private final String id;
+        private final Integer odds;
+        private final int hash;
+
+        SelectionKey(Selection selection) {
+            this.eventId = selection.getEventId();
+            this.id = selection.getId();
+            this.odds = selection.getOdds();
+            this.hash = Objects.hash(eventId, id, odds);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof SelectionKey)) {
+                return false;
+            }
+            SelectionKey other = (SelectionKey) obj;
+            return hash == other.hash
+                    && Objects.equals(eventId, other.eventId)
+                    && Objects.equals(id, other.id)
+                    && Objects.equals(odds, other.odds);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
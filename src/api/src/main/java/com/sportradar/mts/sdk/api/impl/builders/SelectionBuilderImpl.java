@@ -228,13 +228,7 @@ public class SelectionBuilderImpl implements SelectionBuilder {
             return handleMarket215(specifiers, sportEventStatus);
         }
 
-        MarketMappingCI marketMapping = marketDescriptionCI.getMappings().stream()
-                .filter(f ->
-                        f.getProducerId() == productId &&
-                                f.getSportId() != null &&
-                                f.getSportId().equals(URN.parse(sportId)))
-                .findFirst()
-                .orElse(null);
+        MarketMappingCI marketMapping = marketDescriptionCI.getMapping(productId, URN.parseSportId(sportId));
         if(marketMapping == null || marketMapping.getProducerId() == 0)
         {
             logger.info("Market description {}, has no mapping.", marketDescriptionCI.getId());
@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.api.interfaces;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * A point in time snapshot of the traffic statistics of the connection
+ */
+public interface ConnectionMetrics {
+
+    /**
+     * Gets the time when the snapshot was taken.
+     * @return the time when the snapshot was taken.
+     */
+    Date getTimestamp();
+
+    /**
+     * Returns a value indicating whether the connection was established when the snapshot was taken.
+     * @return a value indicating whether the connection was established.
+     */
+    boolean isConnected();
+
+    /**
+     * Gets the number of tickets sent since the SDK was started. Only the tickets answered by the MTS are counted,
+     * the acknowledgments and the reoffer cancellations are not.
+     * @return the number of tickets sent.
+     */
+    long getSentTicketCount();
+
+    /**
+     * Gets the number of ticket responses received since the SDK was started.
+     * @return the number of ticket responses received.
+     */
+    long getReceivedTicketCount();
+
+    /**
+     * Gets the number of sent tickets not matched by a received response.
+     * @return the number of sent tickets not matched by a received response.
+     */
+    long getInFlightTicketCount();
+
+    /**
+     * Gets the number of times a ticket was sent again because its response did not arrive in time.
+     * @return the number of ticket retries.
+     */
+    long getRetriedTicketCount();
+
+    /**
+     * Gets the number of tickets which failed because no response arrived after all the retries.
+     * @return the number of timed out tickets.
+     */
+    long getTimedOutTicketCount();
+
+    /**
+     * Gets the average number of tickets sent per second since the connection was established.
+     * @return the average number of tickets sent per second, 0 if not connected.
+     */
+    double getSendRate();
+
+    /**
+     * Gets the average number of ticket responses received per second since the connection was established.
+     * @return the average number of ticket responses received per second, 0 if not connected.
+     */
+    double getReceiveRate();
+
+    /**
+     * Gets the time when the last ticket was sent.
+     * @return the time when the last ticket was sent or null if none was sent.
+     */
+    Date getLastSendTime();
+
+    /**
+     * Gets the time when the last ticket response was received.
+     * @return the time when the last ticket response was received or null if none was received.
+     */
+    Date getLastReceivedTime();
+
+    /**
+     * Gets the identifiers of the last sent tickets, the most recent first.
+     * @return the identifiers of the last sent tickets.
+     */
+    List<String> getLastSentTicketIds();
+
+    /**
+     * Gets the identifiers of the tickets of the last received responses, the most recent first.
+     * @return the identifiers of the tickets of the last received responses.
+     */
+    List<String> getLastReceivedTicketIds();
+}
@@ -33,4 +33,13 @@ public interface ConnectionStatus {
      * @return the last received ticket identifier.
      */
     String getLastReceivedTicketId();
+
+    /**
+     * Gets the snapshot of the traffic statistics of the connection. The connection status provided by the SDK
+     * supports it, the default implementation throws an {@link UnsupportedOperationException}.
+     * @return the snapshot of the traffic statistics of the connection.
+     */
+    default ConnectionMetrics getMetrics() {
+        throw new UnsupportedOperationException("connection metrics are not collected");
+    }
 }
@@ -0,0 +1,20 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.api.interfaces;
+
+/**
+ * Generates the unique part of the correlation ids assigned to the tickets, the SDK prefixes it with "j"
+ * as required by the MTS
+ */
+@FunctionalInterface
+public interface CorrelationIdGenerator {
+
+    /**
+     * Returns the next unique id, invoked concurrently by every thread building tickets
+     *
+     * @return the next unique id, consisting only of characters allowed in the correlation id
+     */
+    String nextId();
+}
@@ -4,6 +4,7 @@
 
 package com.sportradar.mts.sdk.api.interfaces;
 
+import com.sportradar.mts.sdk.api.enums.SendBufferOverflowPolicy;
 import com.sportradar.mts.sdk.api.enums.SenderChannel;
 import com.sportradar.mts.sdk.api.enums.UfEnvironment;
 
@@ -310,4 +311,94 @@ public interface SdkConfiguration {
      * @return the number of dispatchers used by the protocol engine
      */
     int getProtocolNumberOfDispatchers();
+
+    /**
+     * Gets the number of AMQP channels used to publish tickets. Tickets with the same ticket id are always published on the same channel
+     * @return the number of ticket producer channels
+     */
+    int getTicketProducerChannels();
+
+    /**
+     * Gets the maximum number of tickets waiting to be published before new tickets are rejected
+     * @return the ticket producer buffer size
+     */
+    int getTicketProducerBufferSize();
+
+    /**
+     * Gets the {@link SendBufferOverflowPolicy} applied when the ticket producer send buffer is full
+     * @return the {@link SendBufferOverflowPolicy} of the ticket producer
+     */
+    SendBufferOverflowPolicy getTicketProducerOverflowPolicy();
+
+    /**
+     * Gets the maximum time a sending thread waits for free capacity in the ticket producer send buffer when the BLOCK policy is used
+     * @return the maximum time to wait for free capacity
+     */
+    Duration getTicketProducerBlockTimeout();
+
+    /**
+     * Gets the number of worker threads consuming the responses received on each response queue
+     * @return the number of response dispatch workers
+     */
+    int getResponseDispatchWorkers();
+
+    /**
+     * Gets the number of threads each ticket handler uses to dispatch callbacks to its listener
+     * @return the number of listener dispatcher threads per handler
+     */
+    int getListenerDispatcherThreads();
+
+    /**
+     * Gets the value indicating whether the listener callbacks of the same ticket are always dispatched in order
+     * @return <code>true</code> if callbacks of the same ticket are dispatched in order, otherwise <code>false</code>
+     */
+    boolean isListenerTicketOrderingEnabled();
+
+    /**
+     * Gets the value indicating whether listener callbacks are dispatched on virtual threads when the running JDK supports them
+     * @return <code>true</code> if virtual threads are used for listener callbacks, otherwise <code>false</code>
+     */
+    boolean isListenerVirtualThreadsEnabled();
+
+    /**
+     * Gets the interval in minutes in which the market descriptions are refreshed in the background
+     * @return the market descriptions refresh interval in minutes
+     */
+    int getMarketDescriptionsRefreshInterval();
+
+    /**
+     * Gets the interval in seconds after which a failed fetch of the market descriptions is retried
+     * @return the market descriptions retry interval in seconds
+     */
+    int getMarketDescriptionsRetryInterval();
+
+    /**
+     * Gets the path of the file in which the market descriptions are persisted between restarts
+     * @return the path of the market descriptions snapshot file or null if the market descriptions are not persisted
+     */
+    String getMarketDescriptionsSnapshotPath();
+
+    /**
+     * Gets the percentage of the access token lifetime after which a new token is fetched in the background
+     * @return the token refresh percentage
+     */
+    int getAuthTokenRefreshPercentage();
+
+    /**
+     * Gets the value indicating whether the WebSocket connections negotiate the permessage-deflate compression
+     * @return <code>true</code> if the permessage-deflate compression is negotiated, otherwise <code>false</code>
+     */
+    boolean isWsCompressionEnabled();
+
+    /**
+     * Gets the minimum size in bytes of the WebSocket messages which are compressed
+     * @return the compression threshold in bytes
+     */
+    int getWsCompressionThreshold();
+
+    /**
+     * Gets the age in minutes up to which the market descriptions are still served while refreshing them fails
+     * @return the maximum age of the served market descriptions in minutes or 0 if they are served regardless of their age
+     */
+    int getMarketDescriptionsMaxStaleness();
 }
\ No newline at end of file
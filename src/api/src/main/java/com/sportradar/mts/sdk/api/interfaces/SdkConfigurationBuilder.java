@@ -4,6 +4,7 @@
 
 package com.sportradar.mts.sdk.api.interfaces;
 
+import com.sportradar.mts.sdk.api.enums.SendBufferOverflowPolicy;
 import com.sportradar.mts.sdk.api.enums.SenderChannel;
 import com.sportradar.mts.sdk.api.enums.UfEnvironment;
 
@@ -392,6 +393,126 @@ public interface SdkConfigurationBuilder {
      */
     SdkConfigurationBuilder setProtocolNumberOfDispatchers(int protocolNumberOfDispatchers);
 
+    /**
+     * Sets the number of AMQP channels used to publish tickets (default: 1)
+     *
+     * @param ticketProducerChannels the number of channels to be set
+     * @return {@link SdkConfigurationBuilder}
+     */
+    SdkConfigurationBuilder setTicketProducerChannels(int ticketProducerChannels);
+
+    /**
+     * Sets the maximum number of tickets waiting to be published before new tickets are rejected (default: 64)
+     *
+     * @param ticketProducerBufferSize the buffer size to be set
+     * @return {@link SdkConfigurationBuilder}
+     */
+    SdkConfigurationBuilder setTicketProducerBufferSize(int ticketProducerBufferSize);
+
+    /**
+     * Sets the {@link SendBufferOverflowPolicy} applied when the ticket producer send buffer is full (default: REJECT)
+     *
+     * @param ticketProducerOverflowPolicy the {@link SendBufferOverflowPolicy} to be applied
+     * @return {@link SdkConfigurationBuilder}
+     */
+    SdkConfigurationBuilder setTicketProducerOverflowPolicy(SendBufferOverflowPolicy ticketProducerOverflowPolicy);
+
+    /**
+     * Sets the maximum time a sending thread waits for free capacity in the ticket producer send buffer when the BLOCK policy is used (default: 5 seconds)
+     *
+     * @param ticketProducerBlockTimeout the maximum time to wait for free capacity
+     * @return {@link SdkConfigurationBuilder}
+     */
+    SdkConfigurationBuilder setTicketProducerBlockTimeout(Duration ticketProducerBlockTimeout);
+
+    /**
+     * Sets the number of worker threads consuming the responses received on each response queue (default: 1). Responses with the same correlation id are always consumed in order
+     *
+     * @param responseDispatchWorkers the number of response dispatch workers
+     * @return {@link SdkConfigurationBuilder}
+     */
+    SdkConfigurationBuilder setResponseDispatchWorkers(int responseDispatchWorkers);
+
+    /**
+     * Sets the number of threads each ticket handler uses to dispatch callbacks to its listener (default: 1). Every handler gets its own threads, so a slow listener does not delay the others
+     *
+     * @param listenerDispatcherThreads the number of listener dispatcher threads per handler
+     * @return {@link SdkConfigurationBuilder}
+     */
+    SdkConfigurationBuilder setListenerDispatcherThreads(int listenerDispatcherThreads);
+
+    /**
+     * Sets the value indicating whether the listener callbacks of the same ticket are always dispatched in order (default: true). Only relevant when more than one listener dispatcher thread is used
+     *
+     * @param listenerTicketOrderingEnabled <code>true</code> to dispatch callbacks of the same ticket in order
+     * @return {@link SdkConfigurationBuilder}
+     */
+    SdkConfigurationBuilder setListenerTicketOrderingEnabled(boolean listenerTicketOrderingEnabled);
+
+    /**
+     * Sets the value indicating whether listener callbacks are dispatched on virtual threads when the running JDK supports them (default: false). Platform threads are used on JDKs without virtual threads
+     *
+     * @param listenerVirtualThreadsEnabled <code>true</code> to dispatch listener callbacks on virtual threads
+     * @return {@link SdkConfigurationBuilder}
+     */
+    SdkConfigurationBuilder setListenerVirtualThreadsEnabled(boolean listenerVirtualThreadsEnabled);
+
+    /**
+     * Sets the interval in minutes in which the market descriptions are refreshed in the background (default: 240). The cached descriptions are served while they are refreshed
+     *
+     * @param marketDescriptionsRefreshInterval the market descriptions refresh interval in minutes
+     * @return {@link SdkConfigurationBuilder}
+     */
+    SdkConfigurationBuilder setMarketDescriptionsRefreshInterval(int marketDescriptionsRefreshInterval);
+
+    /**
+     * Sets the interval in seconds after which a failed fetch of the market descriptions is retried (default: 30). Until the refresh succeeds, the previously fetched descriptions are served
+     *
+     * @param marketDescriptionsRetryInterval the market descriptions retry interval in seconds
+     * @return {@link SdkConfigurationBuilder}
+     */
+    SdkConfigurationBuilder setMarketDescriptionsRetryInterval(int marketDescriptionsRetryInterval);
+
+    /**
+     * Sets the path of the file in which the market descriptions are persisted between restarts (default: not persisted). On startup the market descriptions are loaded from the file and revalidated against the API in the background
+     *
+     * @param marketDescriptionsSnapshotPath the path of the market descriptions snapshot file
+     * @return {@link SdkConfigurationBuilder}
+     */
+    SdkConfigurationBuilder setMarketDescriptionsSnapshotPath(String marketDescriptionsSnapshotPath);
+
+    /**
+     * Sets the percentage of the access token lifetime after which a new token is fetched in the background (default: 75)
+     *
+     * @param authTokenRefreshPercentage the percentage between 1 and 100 to be set
+     * @return {@link SdkConfigurationBuilder}
+     */
+    SdkConfigurationBuilder setAuthTokenRefreshPercentage(int authTokenRefreshPercentage);
+
+    /**
+     * Sets the value indicating whether the WebSocket connections negotiate the permessage-deflate compression (default: false). Messages are sent uncompressed if the server declines it
+     *
+     * @param wsCompressionEnabled <code>true</code> to negotiate the permessage-deflate compression
+     * @return {@link SdkConfigurationBuilder}
+     */
+    SdkConfigurationBuilder setWsCompressionEnabled(boolean wsCompressionEnabled);
+
+    /**
+     * Sets the minimum size in bytes of the WebSocket messages which are compressed when the permessage-deflate compression is negotiated (default: 1024)
+     *
+     * @param wsCompressionThreshold the threshold in bytes to be set
+     * @return {@link SdkConfigurationBuilder}
+     */
+    SdkConfigurationBuilder setWsCompressionThreshold(int wsCompressionThreshold);
+
+    /**
+     * Sets the age in minutes up to which the market descriptions are still served while refreshing them fails, 0 serves them regardless of their age
+     *
+     * @param marketDescriptionsMaxStaleness the maximum age of the served market descriptions in minutes
+     * @return {@link SdkConfigurationBuilder}
+     */
+    SdkConfigurationBuilder setMarketDescriptionsMaxStaleness(int marketDescriptionsMaxStaleness);
+
     /**
      * Build and return the {@link SdkConfiguration}
      * @return {@link SdkConfiguration}
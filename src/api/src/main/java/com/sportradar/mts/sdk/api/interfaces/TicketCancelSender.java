@@ -8,6 +8,9 @@ import com.sportradar.mts.sdk.api.TicketCancel;
 import com.sportradar.mts.sdk.api.TicketCancelResponse;
 import com.sportradar.mts.sdk.api.exceptions.ResponseTimeoutException;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
 /**
  * {@link TicketCancel} sender
  */
@@ -20,6 +23,25 @@ public interface TicketCancelSender extends MessageSender {
      */
     void send(TicketCancel ticketCancel);
 
+    /**
+     * Sends the {@link TicketCancel} to the MTS and returns a future completed with the {@link TicketCancelResponse}, without
+     * blocking the calling thread. The future is completed exceptionally with a {@link ResponseTimeoutException}
+     * if no response is received in time. The default implementation waits for {@link #sendBlocking(TicketCancel)} on a
+     * thread of the common pool.
+     *
+     * @param ticketCancel ticket cancel to send
+     * @return a {@link CompletableFuture} completed with the response
+     */
+    default CompletableFuture<TicketCancelResponse> sendAsync(TicketCancel ticketCancel) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return sendBlocking(ticketCancel);
+            } catch (ResponseTimeoutException exc) {
+                throw new CompletionException(exc);
+            }
+        });
+    }
+
     /**
      * Sends the {@link TicketCancel} to the MTS and returns {@link TicketCancelResponse}
      *
@@ -8,6 +8,9 @@ import com.sportradar.mts.sdk.api.TicketCashout;
 import com.sportradar.mts.sdk.api.TicketCashoutResponse;
 import com.sportradar.mts.sdk.api.exceptions.ResponseTimeoutException;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
 /**
  * {@link TicketCashout} sender
  */
@@ -20,6 +23,25 @@ public interface TicketCashoutSender extends MessageSender {
      */
     void send(TicketCashout ticketData);
 
+    /**
+     * Sends the {@link TicketCashout} to the MTS and returns a future completed with the {@link TicketCashoutResponse}, without
+     * blocking the calling thread. The future is completed exceptionally with a {@link ResponseTimeoutException}
+     * if no response is received in time. The default implementation waits for {@link #sendBlocking(TicketCashout)} on a
+     * thread of the common pool.
+     *
+     * @param ticketCashout ticket cashout to send
+     * @return a {@link CompletableFuture} completed with the response
+     */
+    default CompletableFuture<TicketCashoutResponse> sendAsync(TicketCashout ticketCashout) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return sendBlocking(ticketCashout);
+            } catch (ResponseTimeoutException exc) {
+                throw new CompletionException(exc);
+            }
+        });
+    }
+
     /**
      * Publishes a new {@link TicketCashout} message and waits for a response with the specified timeout
      *
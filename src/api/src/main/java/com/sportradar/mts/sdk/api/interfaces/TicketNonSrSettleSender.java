@@ -8,6 +8,9 @@ import com.sportradar.mts.sdk.api.TicketNonSrSettle;
 import com.sportradar.mts.sdk.api.TicketNonSrSettleResponse;
 import com.sportradar.mts.sdk.api.exceptions.ResponseTimeoutException;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
 /**
  * {@link TicketNonSrSettle} sender
  */
@@ -19,6 +22,25 @@ public interface TicketNonSrSettleSender extends MessageSender {
      */
     void send(TicketNonSrSettle ticketData);
 
+    /**
+     * Sends the {@link TicketNonSrSettle} to the MTS and returns a future completed with the {@link TicketNonSrSettleResponse}, without
+     * blocking the calling thread. The future is completed exceptionally with a {@link ResponseTimeoutException}
+     * if no response is received in time. The default implementation waits for {@link #sendBlocking(TicketNonSrSettle)} on a
+     * thread of the common pool.
+     *
+     * @param ticketNonSrSettle ticket non-sr settle to send
+     * @return a {@link CompletableFuture} completed with the response
+     */
+    default CompletableFuture<TicketNonSrSettleResponse> sendAsync(TicketNonSrSettle ticketNonSrSettle) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return sendBlocking(ticketNonSrSettle);
+            } catch (ResponseTimeoutException exc) {
+                throw new CompletionException(exc);
+            }
+        });
+    }
+
     /**
      * Publishes a new {@link TicketNonSrSettle} message and waits for a response with the specified timeout
      *
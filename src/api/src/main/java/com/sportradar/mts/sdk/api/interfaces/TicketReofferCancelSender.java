@@ -6,6 +6,8 @@ package com.sportradar.mts.sdk.api.interfaces;
 
 import com.sportradar.mts.sdk.api.TicketReofferCancel;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * {@link TicketReofferCancel} sender
  */
@@ -17,4 +19,17 @@ public interface TicketReofferCancelSender extends MessageSender {
      * @param ticketReofferCancel reoffer ticket cancel to send
      */
     void send(TicketReofferCancel ticketReofferCancel);
+
+    /**
+     * Sends the {@link TicketReofferCancel} to the MTS without blocking the calling thread. As there is no response
+     * to a reoffer cancellation, the returned future is completed once the message was sent. The default
+     * implementation sends it with {@link #send(TicketReofferCancel)} on a thread of the common pool.
+     *
+     * @param ticketReofferCancel reoffer ticket cancel to send
+     * @return a {@link CompletableFuture} completed once the message was sent, or completed exceptionally if
+     * the sending failed
+     */
+    default CompletableFuture<Void> sendAsync(TicketReofferCancel ticketReofferCancel) {
+        return CompletableFuture.runAsync(() -> send(ticketReofferCancel));
+    }
 }
@@ -8,6 +8,10 @@ import com.sportradar.mts.sdk.api.Ticket;
 import com.sportradar.mts.sdk.api.TicketResponse;
 import com.sportradar.mts.sdk.api.exceptions.ResponseTimeoutException;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
 /**
  * {@link Ticket} sender
  */
@@ -20,6 +24,50 @@ public interface TicketSender extends MessageSender {
      */
     void send(Ticket ticket);
 
+    /**
+     * Sends the {@link Ticket} to the MTS only if it can be accepted without waiting, regardless of the
+     * configured send buffer overflow policy
+     *
+     * @param ticket ticket to send
+     * @return <code>true</code> if the ticket was accepted for sending, <code>false</code> if the send buffer is full
+     * or the rate limit is reached, in which case the ticket was not sent
+     */
+    default boolean trySend(Ticket ticket) {
+        send(ticket);
+        return true;
+    }
+
+    /**
+     * Sends the {@link Ticket} to the MTS as soon as the send buffer has free capacity, without blocking the
+     * calling thread while waiting for it
+     *
+     * @param ticket ticket to send
+     * @return a {@link CompletionStage} completed once the ticket was accepted for sending
+     */
+    default CompletionStage<Void> sendWhenReady(Ticket ticket) {
+        send(ticket);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * Sends the {@link Ticket} to the MTS and returns a future completed with the {@link TicketResponse}, without
+     * blocking the calling thread. The future is completed exceptionally with a {@link ResponseTimeoutException}
+     * if no response is received in time. The default implementation waits for {@link #sendBlocking(Ticket)} on a
+     * thread of the common pool.
+     *
+     * @param ticket ticket to send
+     * @return a {@link CompletableFuture} completed with the response
+     */
+    default CompletableFuture<TicketResponse> sendAsync(Ticket ticket) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return sendBlocking(ticket);
+            } catch (ResponseTimeoutException exc) {
+                throw new CompletionException(exc);
+            }
+        });
+    }
+
     /**
      * Sends the {@link Ticket} to the MTS and returns {@link TicketResponse}
      *
@@ -8,8 +8,11 @@ package com.sportradar.mts.sdk.api.rest;
 import com.sportradar.mts.sdk.api.AccessToken;
 import org.apache.http.HttpEntity;
 
-import java.io.ByteArrayInputStream;
-import java.io.InputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.PushbackInputStream;
 import java.util.Locale;
 
 /**
@@ -19,6 +22,7 @@ import java.util.Locale;
  */
 @SuppressWarnings("FieldCanBeLocal")
 public class DataProvider <T>{
+    private static final Logger logger = LoggerFactory.getLogger(DataProvider.class);
 
     private final String uriFormat;
     private final HttpDataFetcher logHttpDataFetcher;
@@ -175,20 +179,31 @@ public class DataProvider <T>{
 
         String formattedPath = String.format(uriFormat, (Object[]) forwardArgs);
 
-        String fetchedContent = content == null ?
-                logHttpDataFetcher.get(token, formattedPath) :
-                logHttpDataFetcher.post(token, content, formattedPath);
-
-        if (fetchedContent.equals("")) {
+        try {
+            return content == null ?
+                    logHttpDataFetcher.get(token, formattedPath, this::deserialize) :
+                    logHttpDataFetcher.post(token, content, formattedPath, this::deserialize);
+        } catch (Exception e) {
+            logger.warn("There was a problem deserializing the response from {}, ex: ", formattedPath, e);
             return null;
         }
+    }
 
-        try (InputStream inputStream = new ByteArrayInputStream(fetchedContent.getBytes())) {
-            return deserializer.deserialize(inputStream, clazz);
-        } catch (Exception e) {
-            e.printStackTrace();
+    /**
+     * Deserializes the content while it is being received, so the response is never held in memory as a whole
+     */
+    private T deserialize(HttpEntity entity) throws IOException {
+        if (entity == null) {
             return null;
         }
+        try (PushbackInputStream inputStream = new PushbackInputStream(entity.getContent())) {
+            int first = inputStream.read();
+            if (first == -1) {
+                return null;
+            }
+            inputStream.unread(first);
+            return deserializer.deserialize(inputStream, clazz);
+        }
     }
 
     @Override
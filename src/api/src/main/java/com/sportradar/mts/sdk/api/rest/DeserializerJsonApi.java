@@ -4,7 +4,6 @@
 
 package com.sportradar.mts.sdk.api.rest;
 
-import com.google.common.io.ByteStreams;
 import com.sportradar.mts.sdk.api.utils.JsonUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -19,11 +18,10 @@ import java.io.InputStream;
 public class DeserializerJsonApi implements Deserializer {
     private static final Logger logger = LoggerFactory.getLogger(DeserializerJsonApi.class);
 
-    @SuppressWarnings("UnstableApiUsage")
     @Override
-    public synchronized <T> T deserialize(InputStream inStr, Class<T> clazz){
+    public <T> T deserialize(InputStream inStr, Class<T> clazz){
         try {
-            return JsonUtils.deserialize(ByteStreams.toByteArray(inStr), clazz);
+            return JsonUtils.deserialize(inStr, clazz);
         } catch (IOException e) {
             logger.warn("There was a problem unmarshalling an object, ex: ", e);
         }
@@ -1,12 +1,22 @@
 package com.sportradar.mts.sdk.api.rest;
 
+import com.google.common.io.ByteStreams;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 
 @SuppressWarnings("unchecked")
 public class DeserializerStream implements Deserializer {
     @Override
     public synchronized <T> T deserialize(InputStream inStr, Class<T> clazz) {
-        return (T) inStr;
+        // the source stream is closed together with the response, so its content has to be copied
+        try {
+            return (T) new ByteArrayInputStream(ByteStreams.toByteArray(inStr));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     @Override
@@ -28,7 +28,6 @@ import java.io.IOException;
 class HttpDataFetcher {
     private final SdkConfiguration config;
     private final CloseableHttpClient httpClient;
-    private int statusCode;
     private static final Logger logger = LoggerFactory.getLogger(HttpDataFetcher.class);
 
     HttpDataFetcher(SdkConfiguration config, CloseableHttpClient httpClient) {
@@ -82,7 +81,50 @@ class HttpDataFetcher {
         return send(token, httpPost);
     }
 
+    /**
+     * Reads the content on the given path trough a GET request while it is being received
+     *
+     * @param token - a {@link AccessToken} used to access protected resources
+     * @param path - a valid HTTP GET request path
+     * @param reader - the {@link EntityReader} reading the content of a successful response
+     * @param <T> - the type of the value read from the content
+     * @return - if successful the value read from the content, else null
+     */
+    <T> T get(AccessToken token, String path, EntityReader<T> reader) {
+        return send(token, new HttpGet(path), reader);
+    }
+
+    /**
+     * Reads the content on the given path trough a POST request while it is being received
+     *
+     * @param token - a {@link AccessToken} used to access protected resources
+     * @param content - a content to be sent
+     * @param path - a valid HTTP POST request path
+     * @param reader - the {@link EntityReader} reading the content of a successful response
+     * @param <T> - the type of the value read from the content
+     * @return - if successful the value read from the content, else null
+     */
+    <T> T post(AccessToken token, HttpEntity content, String path, EntityReader<T> reader) {
+        HttpPost httpPost = new HttpPost(path);
+        httpPost.setEntity(content);
+        return send(token, httpPost, reader);
+    }
+
     protected String send(AccessToken token, HttpUriRequest request) {
+        String resp = send(token, request, EntityUtils::toString);
+        return resp == null ? "" : resp;
+    }
+
+    /**
+     * Sends the request and reads the content of a successful response before the connection is released
+     *
+     * @param token - a {@link AccessToken} used to access protected resources
+     * @param request - the request to be sent
+     * @param reader - the {@link EntityReader} reading the content of a successful response
+     * @param <T> - the type of the value read from the content
+     * @return - if successful the value read from the content, else null
+     */
+    protected <T> T send(AccessToken token, HttpUriRequest request, EntityReader<T> reader) {
         String path = request.getURI().toString();
         try {
             if (config != null) {
@@ -94,29 +136,32 @@ class HttpDataFetcher {
             if (token != null && !StringUtils.isNullOrEmpty(token.getAccessToken()))
                 request.addHeader("Authorization", "Bearer " + token.getAccessToken());
 
-            ResponseHandler<String> handler = resp -> {
-                statusCode = resp.getStatusLine().getStatusCode();
+            ResponseHandler<T> handler = resp -> {
+                int statusCode = resp.getStatusLine().getStatusCode();
                 // the whoami endpoint is a special case since we are interested in the response even if the response code is forbidden
                 boolean isWhoAmI = path.endsWith("whoami.xml");
                 if (statusCode == HttpStatus.SC_OK || (isWhoAmI && statusCode == HttpStatus.SC_FORBIDDEN)) {
-                    return EntityUtils.toString(resp.getEntity());
+                    return reader.read(resp.getEntity());
                 } else {
                     logger.warn("Non OK API response: {} {} {}", resp.getStatusLine(), statusCode, path);
-                    return "";
+                    return null;
                 }
             };
 
-            String resp = httpClient.execute(request, handler);
-            if (!resp.equals("")) {
-                return resp;
-            }
+            return httpClient.execute(request, handler);
         } catch (IOException e) {
             logger.warn("Problems reading: " + path + " " + e.getMessage(), e);
         }
-        return "";
+        return null;
     }
 
-    public int getStatusCode() {
-        return statusCode;
+    /**
+     * Reads the content of a successful response, the content is only available until the reader returns
+     *
+     * @param <T> - the type of the value read from the content
+     */
+    @FunctionalInterface
+    interface EntityReader<T> {
+        T read(HttpEntity entity) throws IOException;
     }
 }
\ No newline at end of file
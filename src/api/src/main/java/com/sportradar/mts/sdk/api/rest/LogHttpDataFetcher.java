@@ -4,17 +4,19 @@
 
 package com.sportradar.mts.sdk.api.rest;
 
-import com.google.common.base.Strings;
 import com.google.inject.Inject;
 import com.sportradar.mts.sdk.api.AccessToken;
 import com.sportradar.mts.sdk.api.interfaces.SdkConfiguration;
 import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.entity.BufferedHttpEntity;
 import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.util.EntityUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Wrapper class for the {@link HttpDataFetcher} with the sole purpose of API request logging
+ * Wrapper class for the {@link HttpDataFetcher} with the sole purpose of API request logging. The content of the
+ * responses is logged on debug level only, since it has to be buffered in memory to be logged.
  */
 public class LogHttpDataFetcher extends HttpDataFetcher{
     private static final Logger logger = LoggerFactory.getLogger("com.sportradar.mts.rest");
@@ -25,16 +27,24 @@ public class LogHttpDataFetcher extends HttpDataFetcher{
     }
 
     @Override
-    protected String send(AccessToken token, HttpUriRequest request) {
+    protected <T> T send(AccessToken token, HttpUriRequest request, EntityReader<T> reader) {
         String path = request.getURI().toString();
 
         logger.info("Fetching data from: {}", path);
 
-        String result = super.send(token, request);
+        EntityReader<T> loggingReader = reader;
+        if (logger.isDebugEnabled()) {
+            loggingReader = entity -> {
+                BufferedHttpEntity bufferedEntity = new BufferedHttpEntity(entity);
+                logger.debug("Request: {}, response content: {}", path, EntityUtils.toString(bufferedEntity).replace("\n", ""));
+                return reader.read(bufferedEntity);
+            };
+        }
 
-        String cleanResult = result.replace("\n", "");
-        logger.info("Request: {}, response - {}: {}", path, !Strings.isNullOrEmpty(result) ? "OK" : "FAILED", cleanResult);
+        T result = super.send(token, request, loggingReader);
+
+        logger.info("Request: {}, response - {}", path, result != null ? "OK" : "FAILED");
 
         return result;
     }
-}
\ No newline at end of file
+}
@@ -41,6 +41,8 @@ public class URN {
      */
     private static final Pattern REGEX_PATTERN = Pattern.compile(REGEX_STRING);
 
+    private static final String SPORT_PREFIX = "sr:sport:";
+
     /**
      * Defines supported resource types
      */
@@ -130,6 +132,28 @@ public class URN {
         }
     }
 
+    /**
+     * Returns the id of the sport represented by the provided {@link String} without constructing a {@link URN}
+     *
+     * @param urnString - {@link String} representation of the sport URN, e.g. sr:sport:1
+     * @return the id of the sport or 0 if the provided string does not represent a sport URN
+     */
+    public static long parseSportId(String urnString) {
+        if (urnString == null || !urnString.startsWith(SPORT_PREFIX) || urnString.length() == SPORT_PREFIX.length()
+                || urnString.length() - SPORT_PREFIX.length() > 18) {
+            return 0;
+        }
+        long id = 0;
+        for (int i = SPORT_PREFIX.length(); i < urnString.length(); i++) {
+            char c = urnString.charAt(i);
+            if (c < '0' || c > '9') {
+                return 0;
+            }
+            id = id * 10 + (c - '0');
+        }
+        return id;
+    }
+
     /**
      * Returns the prefix of the current instance
      * @return - prefix of the current instance
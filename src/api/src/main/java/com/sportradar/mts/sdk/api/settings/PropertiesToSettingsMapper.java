@@ -5,6 +5,7 @@
 package com.sportradar.mts.sdk.api.settings;
 
 import com.google.common.base.Preconditions;
+import com.sportradar.mts.sdk.api.enums.SendBufferOverflowPolicy;
 import com.sportradar.mts.sdk.api.enums.SenderChannel;
 import com.sportradar.mts.sdk.api.enums.UfEnvironment;
 import com.sportradar.mts.sdk.api.interfaces.SdkConfiguration;
@@ -79,6 +80,21 @@ public final class PropertiesToSettingsMapper {
         String protocolReceiveResponseTimeoutString = properties.getProperty(SettingsKeys.PROTOCOL_RECEIVE_RESPONSE_TIMEOUT);
         String protocolRetryCountString = properties.getProperty(SettingsKeys.PROTOCOL_RETRY_COUNT);
         String protocolNumberOfDispatchersString = properties.getProperty(SettingsKeys.PROTOCOL_NUMBER_OF_DISPATCHERS);
+        String ticketProducerChannelsString = properties.getProperty(SettingsKeys.TICKET_PRODUCER_CHANNELS);
+        String ticketProducerBufferSizeString = properties.getProperty(SettingsKeys.TICKET_PRODUCER_BUFFER_SIZE);
+        String ticketProducerOverflowPolicyString = properties.getProperty(SettingsKeys.TICKET_PRODUCER_OVERFLOW_POLICY);
+        String ticketProducerBlockTimeoutString = properties.getProperty(SettingsKeys.TICKET_PRODUCER_BLOCK_TIMEOUT);
+        String responseDispatchWorkersString = properties.getProperty(SettingsKeys.RESPONSE_DISPATCH_WORKERS);
+        String listenerDispatcherThreadsString = properties.getProperty(SettingsKeys.LISTENER_DISPATCHER_THREADS);
+        String listenerTicketOrderingEnabledString = properties.getProperty(SettingsKeys.LISTENER_TICKET_ORDERING_ENABLED);
+        String listenerVirtualThreadsEnabledString = properties.getProperty(SettingsKeys.LISTENER_VIRTUAL_THREADS_ENABLED);
+        String marketDescriptionsRefreshIntervalString = properties.getProperty(SettingsKeys.MARKET_DESCRIPTIONS_REFRESH_INTERVAL);
+        String marketDescriptionsRetryIntervalString = properties.getProperty(SettingsKeys.MARKET_DESCRIPTIONS_RETRY_INTERVAL);
+        String marketDescriptionsSnapshotPathString = properties.getProperty(SettingsKeys.MARKET_DESCRIPTIONS_SNAPSHOT_PATH);
+        String authTokenRefreshPercentageString = properties.getProperty(SettingsKeys.AUTH_TOKEN_REFRESH_PERCENTAGE);
+        String wsCompressionEnabledString = properties.getProperty(SettingsKeys.WS_COMPRESSION_ENABLED);
+        String wsCompressionThresholdString = properties.getProperty(SettingsKeys.WS_COMPRESSION_THRESHOLD);
+        String marketDescriptionsMaxStalenessString = properties.getProperty(SettingsKeys.MARKET_DESCRIPTIONS_MAX_STALENESS);
 
         Preconditions.checkNotNull(username, StringUtils.format(MISSING_PROPERTY, SettingsKeys.USERNAME));
         Preconditions.checkArgument(!username.isEmpty());
@@ -385,6 +401,124 @@ public final class PropertiesToSettingsMapper {
             protocolNumberOfDispatchers = 1;
         }
 
+        int ticketProducerChannels;
+        if (ticketProducerChannelsString != null) {
+            ticketProducerChannels = Integer.parseInt(ticketProducerChannelsString);
+            Preconditions.checkArgument(ticketProducerChannels > 0, "ticketProducerChannels must be greater than zero");
+        } else {
+            ticketProducerChannels = 1;
+        }
+
+        int ticketProducerBufferSize;
+        if (ticketProducerBufferSizeString != null) {
+            ticketProducerBufferSize = Integer.parseInt(ticketProducerBufferSizeString);
+            Preconditions.checkArgument(ticketProducerBufferSize > 0, "ticketProducerBufferSize must be greater than zero");
+        } else {
+            ticketProducerBufferSize = 64;
+        }
+
+        SendBufferOverflowPolicy ticketProducerOverflowPolicy;
+        if (ticketProducerOverflowPolicyString != null) {
+            ticketProducerOverflowPolicy = SendBufferOverflowPolicy.valueOf(ticketProducerOverflowPolicyString);
+        } else {
+            ticketProducerOverflowPolicy = SendBufferOverflowPolicy.REJECT;
+        }
+
+        Duration ticketProducerBlockTimeout;
+        if (ticketProducerBlockTimeoutString != null) {
+            ticketProducerBlockTimeout = Duration.parse(ticketProducerBlockTimeoutString);
+            Preconditions.checkArgument(!ticketProducerBlockTimeout.isNegative(), "ticketProducerBlockTimeout must not be negative");
+        } else {
+            ticketProducerBlockTimeout = Duration.ofSeconds(5);
+        }
+
+        int responseDispatchWorkers;
+        if (responseDispatchWorkersString != null) {
+            responseDispatchWorkers = Integer.parseInt(responseDispatchWorkersString);
+            Preconditions.checkArgument(responseDispatchWorkers > 0, "responseDispatchWorkers must be greater than zero");
+        } else {
+            responseDispatchWorkers = 1;
+        }
+
+        int listenerDispatcherThreads;
+        if (listenerDispatcherThreadsString != null) {
+            listenerDispatcherThreads = Integer.parseInt(listenerDispatcherThreadsString);
+            Preconditions.checkArgument(listenerDispatcherThreads > 0, "listenerDispatcherThreads must be greater than zero");
+        } else {
+            listenerDispatcherThreads = 1;
+        }
+
+        boolean listenerTicketOrderingEnabled;
+        if (listenerTicketOrderingEnabledString != null) {
+            Preconditions.checkArgument(isBoolean(listenerTicketOrderingEnabledString), "listenerTicketOrderingEnabled should be boolean");
+            listenerTicketOrderingEnabled = Boolean.parseBoolean(listenerTicketOrderingEnabledString);
+        } else {
+            listenerTicketOrderingEnabled = true;
+        }
+
+        boolean listenerVirtualThreadsEnabled;
+        if (listenerVirtualThreadsEnabledString != null) {
+            Preconditions.checkArgument(isBoolean(listenerVirtualThreadsEnabledString), "listenerVirtualThreadsEnabled should be boolean");
+            listenerVirtualThreadsEnabled = Boolean.parseBoolean(listenerVirtualThreadsEnabledString);
+        } else {
+            listenerVirtualThreadsEnabled = false;
+        }
+
+        int marketDescriptionsRefreshInterval;
+        if (marketDescriptionsRefreshIntervalString != null) {
+            marketDescriptionsRefreshInterval = Integer.parseInt(marketDescriptionsRefreshIntervalString);
+            Preconditions.checkArgument(marketDescriptionsRefreshInterval > 0, "marketDescriptionsRefreshInterval must be greater than zero");
+        } else {
+            marketDescriptionsRefreshInterval = 240;
+        }
+
+        int marketDescriptionsRetryInterval;
+        if (marketDescriptionsRetryIntervalString != null) {
+            marketDescriptionsRetryInterval = Integer.parseInt(marketDescriptionsRetryIntervalString);
+            Preconditions.checkArgument(marketDescriptionsRetryInterval > 0, "marketDescriptionsRetryInterval must be greater than zero");
+        } else {
+            marketDescriptionsRetryInterval = 30;
+        }
+
+        String marketDescriptionsSnapshotPath;
+        if (marketDescriptionsSnapshotPathString != null) {
+            marketDescriptionsSnapshotPath = StringUtils.isNullOrEmpty(marketDescriptionsSnapshotPathString) ? null : marketDescriptionsSnapshotPathString;
+        } else {
+            marketDescriptionsSnapshotPath = null;
+        }
+
+        int authTokenRefreshPercentage;
+        if (authTokenRefreshPercentageString != null) {
+            authTokenRefreshPercentage = Integer.parseInt(authTokenRefreshPercentageString);
+            Preconditions.checkArgument(authTokenRefreshPercentage > 0 && authTokenRefreshPercentage <= 100, "authTokenRefreshPercentage must be between 1 and 100");
+        } else {
+            authTokenRefreshPercentage = 75;
+        }
+
+        boolean wsCompressionEnabled;
+        if (wsCompressionEnabledString != null) {
+            Preconditions.checkArgument(isBoolean(wsCompressionEnabledString), "wsCompressionEnabled should be boolean");
+            wsCompressionEnabled = Boolean.parseBoolean(wsCompressionEnabledString);
+        } else {
+            wsCompressionEnabled = false;
+        }
+
+        int wsCompressionThreshold;
+        if (wsCompressionThresholdString != null) {
+            wsCompressionThreshold = Integer.parseInt(wsCompressionThresholdString);
+            Preconditions.checkArgument(wsCompressionThreshold >= 0, "wsCompressionThreshold must not be negative");
+        } else {
+            wsCompressionThreshold = 1024;
+        }
+
+        int marketDescriptionsMaxStaleness;
+        if (marketDescriptionsMaxStalenessString != null) {
+            marketDescriptionsMaxStaleness = Integer.parseInt(marketDescriptionsMaxStalenessString);
+            Preconditions.checkArgument(marketDescriptionsMaxStaleness >= 0, "marketDescriptionsMaxStaleness must not be negative");
+        } else {
+            marketDescriptionsMaxStaleness = 0;
+        }
+
         return new SdkConfigurationImpl(username,
                 password,
                 host,
@@ -433,7 +567,22 @@ public final class PropertiesToSettingsMapper {
                 protocolDequeueTimeout,
                 protocolReceiveResponseTimeout,
                 protocolRetryCount,
-                protocolNumberOfDispatchers);
+                protocolNumberOfDispatchers,
+                ticketProducerChannels,
+                ticketProducerBufferSize,
+                ticketProducerOverflowPolicy,
+                ticketProducerBlockTimeout,
+                responseDispatchWorkers,
+                listenerDispatcherThreads,
+                listenerTicketOrderingEnabled,
+                listenerVirtualThreadsEnabled,
+                marketDescriptionsRefreshInterval,
+                marketDescriptionsRetryInterval,
+                marketDescriptionsSnapshotPath,
+                authTokenRefreshPercentage,
+                wsCompressionEnabled,
+                wsCompressionThreshold,
+                marketDescriptionsMaxStaleness);
     }
 
     private static <T> T firstNonNullOrNull(List<T> objects) {
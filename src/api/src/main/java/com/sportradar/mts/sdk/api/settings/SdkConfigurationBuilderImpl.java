@@ -5,6 +5,7 @@
 package com.sportradar.mts.sdk.api.settings;
 
 import com.sportradar.mts.sdk.api.Ticket;
+import com.sportradar.mts.sdk.api.enums.SendBufferOverflowPolicy;
 import com.sportradar.mts.sdk.api.enums.SenderChannel;
 import com.sportradar.mts.sdk.api.enums.UfEnvironment;
 import com.sportradar.mts.sdk.api.interfaces.SdkConfiguration;
@@ -613,6 +614,144 @@ public class SdkConfigurationBuilderImpl implements SdkConfigurationBuilder {
         return this;
     }
 
+    @Override
+    public SdkConfigurationBuilder setTicketProducerChannels(int ticketProducerChannels) {
+        if (ticketProducerChannels < 1)
+        {
+            throw new IllegalArgumentException(SdkInfo.Literals.CONFIG_BUILDER_PARAM_ZERO);
+        }
+        properties.setProperty(SettingsKeys.TICKET_PRODUCER_CHANNELS, String.valueOf(ticketProducerChannels));
+        return this;
+    }
+
+    @Override
+    public SdkConfigurationBuilder setTicketProducerBufferSize(int ticketProducerBufferSize) {
+        if (ticketProducerBufferSize < 1)
+        {
+            throw new IllegalArgumentException(SdkInfo.Literals.CONFIG_BUILDER_PARAM_ZERO);
+        }
+        properties.setProperty(SettingsKeys.TICKET_PRODUCER_BUFFER_SIZE, String.valueOf(ticketProducerBufferSize));
+        return this;
+    }
+
+    @Override
+    public SdkConfigurationBuilder setTicketProducerOverflowPolicy(SendBufferOverflowPolicy ticketProducerOverflowPolicy) {
+        if (ticketProducerOverflowPolicy == null)
+        {
+            throw new IllegalArgumentException(SdkInfo.Literals.CONFIG_BUILDER_PARAM_EMPTY);
+        }
+        properties.setProperty(SettingsKeys.TICKET_PRODUCER_OVERFLOW_POLICY, String.valueOf(ticketProducerOverflowPolicy));
+        return this;
+    }
+
+    @Override
+    public SdkConfigurationBuilder setTicketProducerBlockTimeout(Duration ticketProducerBlockTimeout) {
+        if (ticketProducerBlockTimeout == null)
+        {
+            throw new IllegalArgumentException(SdkInfo.Literals.CONFIG_BUILDER_PARAM_EMPTY);
+        }
+        properties.setProperty(SettingsKeys.TICKET_PRODUCER_BLOCK_TIMEOUT, String.valueOf(ticketProducerBlockTimeout));
+        return this;
+    }
+
+    @Override
+    public SdkConfigurationBuilder setResponseDispatchWorkers(int responseDispatchWorkers) {
+        if (responseDispatchWorkers < 1)
+        {
+            throw new IllegalArgumentException(SdkInfo.Literals.CONFIG_BUILDER_PARAM_ZERO);
+        }
+        properties.setProperty(SettingsKeys.RESPONSE_DISPATCH_WORKERS, String.valueOf(responseDispatchWorkers));
+        return this;
+    }
+
+    @Override
+    public SdkConfigurationBuilder setListenerDispatcherThreads(int listenerDispatcherThreads) {
+        if (listenerDispatcherThreads < 1)
+        {
+            throw new IllegalArgumentException(SdkInfo.Literals.CONFIG_BUILDER_PARAM_ZERO);
+        }
+        properties.setProperty(SettingsKeys.LISTENER_DISPATCHER_THREADS, String.valueOf(listenerDispatcherThreads));
+        return this;
+    }
+
+    @Override
+    public SdkConfigurationBuilder setListenerTicketOrderingEnabled(boolean listenerTicketOrderingEnabled) {
+        properties.setProperty(SettingsKeys.LISTENER_TICKET_ORDERING_ENABLED, String.valueOf(listenerTicketOrderingEnabled));
+        return this;
+    }
+
+    @Override
+    public SdkConfigurationBuilder setListenerVirtualThreadsEnabled(boolean listenerVirtualThreadsEnabled) {
+        properties.setProperty(SettingsKeys.LISTENER_VIRTUAL_THREADS_ENABLED, String.valueOf(listenerVirtualThreadsEnabled));
+        return this;
+    }
+
+    @Override
+    public SdkConfigurationBuilder setMarketDescriptionsRefreshInterval(int marketDescriptionsRefreshInterval) {
+        if (marketDescriptionsRefreshInterval < 1)
+        {
+            throw new IllegalArgumentException(SdkInfo.Literals.CONFIG_BUILDER_PARAM_ZERO);
+        }
+        properties.setProperty(SettingsKeys.MARKET_DESCRIPTIONS_REFRESH_INTERVAL, String.valueOf(marketDescriptionsRefreshInterval));
+        return this;
+    }
+
+    @Override
+    public SdkConfigurationBuilder setMarketDescriptionsRetryInterval(int marketDescriptionsRetryInterval) {
+        if (marketDescriptionsRetryInterval < 1)
+        {
+            throw new IllegalArgumentException(SdkInfo.Literals.CONFIG_BUILDER_PARAM_ZERO);
+        }
+        properties.setProperty(SettingsKeys.MARKET_DESCRIPTIONS_RETRY_INTERVAL, String.valueOf(marketDescriptionsRetryInterval));
+        return this;
+    }
+
+    @Override
+    public SdkConfigurationBuilder setMarketDescriptionsSnapshotPath(String marketDescriptionsSnapshotPath) {
+        if (StringUtils.isNullOrEmpty(marketDescriptionsSnapshotPath))
+        {
+            throw new IllegalArgumentException(SdkInfo.Literals.CONFIG_BUILDER_PARAM_EMPTY);
+        }
+        properties.setProperty(SettingsKeys.MARKET_DESCRIPTIONS_SNAPSHOT_PATH, String.valueOf(marketDescriptionsSnapshotPath));
+        return this;
+    }
+
+    @Override
+    public SdkConfigurationBuilder setAuthTokenRefreshPercentage(int authTokenRefreshPercentage) {
+        if (authTokenRefreshPercentage < 1 || authTokenRefreshPercentage > 100)
+        {
+            throw new IllegalArgumentException("Value must be between 1 and 100");
+        }
+        properties.setProperty(SettingsKeys.AUTH_TOKEN_REFRESH_PERCENTAGE, String.valueOf(authTokenRefreshPercentage));
+        return this;
+    }
+
+    @Override
+    public SdkConfigurationBuilder setWsCompressionEnabled(boolean wsCompressionEnabled) {
+        properties.setProperty(SettingsKeys.WS_COMPRESSION_ENABLED, String.valueOf(wsCompressionEnabled));
+        return this;
+    }
+
+    @Override
+    public SdkConfigurationBuilder setWsCompressionThreshold(int wsCompressionThreshold) {
+        if (wsCompressionThreshold < 0)
+        {
+            throw new IllegalArgumentException("Value must not be negative");
+        }
+        properties.setProperty(SettingsKeys.WS_COMPRESSION_THRESHOLD, String.valueOf(wsCompressionThreshold));
+        return this;
+    }
+
+    @Override
+    public SdkConfigurationBuilder setMarketDescriptionsMaxStaleness(int marketDescriptionsMaxStaleness) {
+        if (marketDescriptionsMaxStaleness < 0)
+        {
+            throw new IllegalArgumentException("Value must not be negative");
+        }
+        properties.setProperty(SettingsKeys.MARKET_DESCRIPTIONS_MAX_STALENESS, String.valueOf(marketDescriptionsMaxStaleness));
+        return this;
+    }
+
     /**
      * Build and return the {@link SdkConfiguration}
      *
@@ -4,6 +4,7 @@
 
 package com.sportradar.mts.sdk.api.settings;
 
+import com.sportradar.mts.sdk.api.enums.SendBufferOverflowPolicy;
 import com.sportradar.mts.sdk.api.enums.SenderChannel;
 import com.sportradar.mts.sdk.api.enums.UfEnvironment;
 import com.sportradar.mts.sdk.api.exceptions.MtsPropertiesException;
@@ -70,6 +71,21 @@ public class SdkConfigurationImpl implements SdkConfiguration {
     private final Duration protocolReceiveResponseTimeout;
     private final int protocolRetryCount;
     private final int protocolNumberOfDispatchers;
+    private final int ticketProducerChannels;
+    private final int ticketProducerBufferSize;
+    private final SendBufferOverflowPolicy ticketProducerOverflowPolicy;
+    private final Duration ticketProducerBlockTimeout;
+    private final int responseDispatchWorkers;
+    private final int listenerDispatcherThreads;
+    private final boolean listenerTicketOrderingEnabled;
+    private final boolean listenerVirtualThreadsEnabled;
+    private final int marketDescriptionsRefreshInterval;
+    private final int marketDescriptionsRetryInterval;
+    private final String marketDescriptionsSnapshotPath;
+    private final int authTokenRefreshPercentage;
+    private final boolean wsCompressionEnabled;
+    private final int wsCompressionThreshold;
+    private final int marketDescriptionsMaxStaleness;
 
     @SuppressWarnings("java:S107") // Methods should not have too many parameters
     protected SdkConfigurationImpl(String username,
@@ -120,7 +136,22 @@ public class SdkConfigurationImpl implements SdkConfiguration {
                                    Duration protocolDequeueTimeout,
                                    Duration protocolReceiveResponseTimeout,
                                    int protocolRetryCount,
-                                   int protocolNumberOfDispatchers)
+                                   int protocolNumberOfDispatchers,
+                                   int ticketProducerChannels,
+                                   int ticketProducerBufferSize,
+                                   SendBufferOverflowPolicy ticketProducerOverflowPolicy,
+                                   Duration ticketProducerBlockTimeout,
+                                   int responseDispatchWorkers,
+                                   int listenerDispatcherThreads,
+                                   boolean listenerTicketOrderingEnabled,
+                                   boolean listenerVirtualThreadsEnabled,
+                                   int marketDescriptionsRefreshInterval,
+                                   int marketDescriptionsRetryInterval,
+                                   String marketDescriptionsSnapshotPath,
+                                   int authTokenRefreshPercentage,
+                                   boolean wsCompressionEnabled,
+                                   int wsCompressionThreshold,
+                                   int marketDescriptionsMaxStaleness)
     {
         this.username = username;
         this.password = password;
@@ -181,6 +212,21 @@ public class SdkConfigurationImpl implements SdkConfiguration {
         this.protocolReceiveResponseTimeout = protocolReceiveResponseTimeout;
         this.protocolRetryCount = protocolRetryCount;
         this.protocolNumberOfDispatchers = protocolNumberOfDispatchers;
+        this.ticketProducerChannels = ticketProducerChannels;
+        this.ticketProducerBufferSize = ticketProducerBufferSize;
+        this.ticketProducerOverflowPolicy = ticketProducerOverflowPolicy;
+        this.ticketProducerBlockTimeout = ticketProducerBlockTimeout;
+        this.responseDispatchWorkers = responseDispatchWorkers;
+        this.listenerDispatcherThreads = listenerDispatcherThreads;
+        this.listenerTicketOrderingEnabled = listenerTicketOrderingEnabled;
+        this.listenerVirtualThreadsEnabled = listenerVirtualThreadsEnabled;
+        this.marketDescriptionsRefreshInterval = marketDescriptionsRefreshInterval;
+        this.marketDescriptionsRetryInterval = marketDescriptionsRetryInterval;
+        this.marketDescriptionsSnapshotPath = marketDescriptionsSnapshotPath;
+        this.authTokenRefreshPercentage = authTokenRefreshPercentage;
+        this.wsCompressionEnabled = wsCompressionEnabled;
+        this.wsCompressionThreshold = wsCompressionThreshold;
+        this.marketDescriptionsMaxStaleness = marketDescriptionsMaxStaleness;
     }
 
     protected SdkConfigurationImpl(Properties properties)
@@ -247,6 +293,21 @@ public class SdkConfigurationImpl implements SdkConfiguration {
         this.protocolReceiveResponseTimeout = config.getProtocolReceiveResponseTimeout();
         this.protocolRetryCount = config.getProtocolRetryCount();
         this.protocolNumberOfDispatchers = config.getProtocolNumberOfDispatchers();
+        this.ticketProducerChannels = config.getTicketProducerChannels();
+        this.ticketProducerBufferSize = config.getTicketProducerBufferSize();
+        this.ticketProducerOverflowPolicy = config.getTicketProducerOverflowPolicy();
+        this.ticketProducerBlockTimeout = config.getTicketProducerBlockTimeout();
+        this.responseDispatchWorkers = config.getResponseDispatchWorkers();
+        this.listenerDispatcherThreads = config.getListenerDispatcherThreads();
+        this.listenerTicketOrderingEnabled = config.isListenerTicketOrderingEnabled();
+        this.listenerVirtualThreadsEnabled = config.isListenerVirtualThreadsEnabled();
+        this.marketDescriptionsRefreshInterval = config.getMarketDescriptionsRefreshInterval();
+        this.marketDescriptionsRetryInterval = config.getMarketDescriptionsRetryInterval();
+        this.marketDescriptionsSnapshotPath = config.getMarketDescriptionsSnapshotPath();
+        this.authTokenRefreshPercentage = config.getAuthTokenRefreshPercentage();
+        this.wsCompressionEnabled = config.isWsCompressionEnabled();
+        this.wsCompressionThreshold = config.getWsCompressionThreshold();
+        this.marketDescriptionsMaxStaleness = config.getMarketDescriptionsMaxStaleness();
     }
 
     @Override
@@ -460,6 +521,81 @@ public class SdkConfigurationImpl implements SdkConfiguration {
         return protocolNumberOfDispatchers;
     }
 
+    @Override
+    public int getTicketProducerChannels() {
+        return ticketProducerChannels;
+    }
+
+    @Override
+    public int getTicketProducerBufferSize() {
+        return ticketProducerBufferSize;
+    }
+
+    @Override
+    public SendBufferOverflowPolicy getTicketProducerOverflowPolicy() {
+        return ticketProducerOverflowPolicy;
+    }
+
+    @Override
+    public Duration getTicketProducerBlockTimeout() {
+        return ticketProducerBlockTimeout;
+    }
+
+    @Override
+    public int getResponseDispatchWorkers() {
+        return responseDispatchWorkers;
+    }
+
+    @Override
+    public int getListenerDispatcherThreads() {
+        return listenerDispatcherThreads;
+    }
+
+    @Override
+    public boolean isListenerTicketOrderingEnabled() {
+        return listenerTicketOrderingEnabled;
+    }
+
+    @Override
+    public boolean isListenerVirtualThreadsEnabled() {
+        return listenerVirtualThreadsEnabled;
+    }
+
+    @Override
+    public int getMarketDescriptionsRefreshInterval() {
+        return marketDescriptionsRefreshInterval;
+    }
+
+    @Override
+    public int getMarketDescriptionsRetryInterval() {
+        return marketDescriptionsRetryInterval;
+    }
+
+    @Override
+    public String getMarketDescriptionsSnapshotPath() {
+        return marketDescriptionsSnapshotPath;
+    }
+
+    @Override
+    public int getAuthTokenRefreshPercentage() {
+        return authTokenRefreshPercentage;
+    }
+
+    @Override
+    public boolean isWsCompressionEnabled() {
+        return wsCompressionEnabled;
+    }
+
+    @Override
+    public int getWsCompressionThreshold() {
+        return wsCompressionThreshold;
+    }
+
+    @Override
+    public int getMarketDescriptionsMaxStaleness() {
+        return marketDescriptionsMaxStaleness;
+    }
+
     @Override
     public String toString() {
         return "SdkConfiguration{" +
@@ -511,6 +647,21 @@ public class SdkConfigurationImpl implements SdkConfiguration {
                 ", protocolReceiveResponseTimeout='" + protocolReceiveResponseTimeout + '\'' +
                 ", protocolRetryCount='" + protocolRetryCount + '\'' +
                 ", protocolNumberOfDispatchers='" + protocolNumberOfDispatchers + '\'' +
+                ", ticketProducerChannels='" + ticketProducerChannels + '\'' +
+                ", ticketProducerBufferSize='" + ticketProducerBufferSize + '\'' +
+                ", ticketProducerOverflowPolicy='" + ticketProducerOverflowPolicy + '\'' +
+                ", ticketProducerBlockTimeout='" + ticketProducerBlockTimeout + '\'' +
+                ", responseDispatchWorkers='" + responseDispatchWorkers + '\'' +
+                ", listenerDispatcherThreads='" + listenerDispatcherThreads + '\'' +
+                ", listenerTicketOrderingEnabled='" + listenerTicketOrderingEnabled + '\'' +
+                ", listenerVirtualThreadsEnabled='" + listenerVirtualThreadsEnabled + '\'' +
+                ", marketDescriptionsRefreshInterval='" + marketDescriptionsRefreshInterval + '\'' +
+                ", marketDescriptionsRetryInterval='" + marketDescriptionsRetryInterval + '\'' +
+                ", marketDescriptionsSnapshotPath='" + marketDescriptionsSnapshotPath + '\'' +
+                ", authTokenRefreshPercentage='" + authTokenRefreshPercentage + '\'' +
+                ", wsCompressionEnabled='" + wsCompressionEnabled + '\'' +
+                ", wsCompressionThreshold='" + wsCompressionThreshold + '\'' +
+                ", marketDescriptionsMaxStaleness='" + marketDescriptionsMaxStaleness + '\'' +
         '}';
     }
 
@@ -133,6 +133,21 @@ class SdkYamlConfigurationReader {
         handlePossibleProperty(result, sdkConfiguration, "keycloakPassword", SettingsKeys.KEYCLOAK_PASSWORD);
         handlePossibleProperty(result, sdkConfiguration, "keycloakSecret", SettingsKeys.KEYCLOAK_SECRET);
         handlePossibleProperty(result, sdkConfiguration, "mtsClientApiHost", SettingsKeys.MTS_CLIENT_API_HOST);
+        handlePossibleProperty(result, sdkConfiguration, "ticketProducerChannels", SettingsKeys.TICKET_PRODUCER_CHANNELS);
+        handlePossibleProperty(result, sdkConfiguration, "ticketProducerBufferSize", SettingsKeys.TICKET_PRODUCER_BUFFER_SIZE);
+        handlePossibleProperty(result, sdkConfiguration, "ticketProducerOverflowPolicy", SettingsKeys.TICKET_PRODUCER_OVERFLOW_POLICY);
+        handlePossibleProperty(result, sdkConfiguration, "ticketProducerBlockTimeout", SettingsKeys.TICKET_PRODUCER_BLOCK_TIMEOUT);
+        handlePossibleProperty(result, sdkConfiguration, "responseDispatchWorkers", SettingsKeys.RESPONSE_DISPATCH_WORKERS);
+        handlePossibleProperty(result, sdkConfiguration, "listenerDispatcherThreads", SettingsKeys.LISTENER_DISPATCHER_THREADS);
+        handlePossibleProperty(result, sdkConfiguration, "listenerTicketOrderingEnabled", SettingsKeys.LISTENER_TICKET_ORDERING_ENABLED);
+        handlePossibleProperty(result, sdkConfiguration, "listenerVirtualThreadsEnabled", SettingsKeys.LISTENER_VIRTUAL_THREADS_ENABLED);
+        handlePossibleProperty(result, sdkConfiguration, "marketDescriptionsRefreshInterval", SettingsKeys.MARKET_DESCRIPTIONS_REFRESH_INTERVAL);
+        handlePossibleProperty(result, sdkConfiguration, "marketDescriptionsRetryInterval", SettingsKeys.MARKET_DESCRIPTIONS_RETRY_INTERVAL);
+        handlePossibleProperty(result, sdkConfiguration, "marketDescriptionsSnapshotPath", SettingsKeys.MARKET_DESCRIPTIONS_SNAPSHOT_PATH);
+        handlePossibleProperty(result, sdkConfiguration, "authTokenRefreshPercentage", SettingsKeys.AUTH_TOKEN_REFRESH_PERCENTAGE);
+        handlePossibleProperty(result, sdkConfiguration, "wsCompressionEnabled", SettingsKeys.WS_COMPRESSION_ENABLED);
+        handlePossibleProperty(result, sdkConfiguration, "wsCompressionThreshold", SettingsKeys.WS_COMPRESSION_THRESHOLD);
+        handlePossibleProperty(result, sdkConfiguration, "marketDescriptionsMaxStaleness", SettingsKeys.MARKET_DESCRIPTIONS_MAX_STALENESS);
 
         return result;
     }
@@ -232,4 +232,79 @@ public final class SettingsKeys {
      * Gets the protocol retry delay
      */
     public static final String PROTOCOL_NUMBER_OF_DISPATCHERS = PREFIX + "protocolNumberOfDispatchers";
+
+    /**
+     * Gets the number of AMQP channels used to publish tickets
+     */
+    public static final String TICKET_PRODUCER_CHANNELS = PREFIX + "ticketProducerChannels";
+
+    /**
+     * Gets the maximum number of tickets waiting to be published
+     */
+    public static final String TICKET_PRODUCER_BUFFER_SIZE = PREFIX + "ticketProducerBufferSize";
+
+    /**
+     * Policy applied when the ticket producer send buffer is full (REJECT, BLOCK or CALLER_RUNS)
+     */
+    public static final String TICKET_PRODUCER_OVERFLOW_POLICY = PREFIX + "ticketProducerOverflowPolicy";
+
+    /**
+     * Maximum time to wait for free capacity in the ticket producer send buffer
+     */
+    public static final String TICKET_PRODUCER_BLOCK_TIMEOUT = PREFIX + "ticketProducerBlockTimeout";
+
+    /**
+     * Number of worker threads consuming the responses received on each response queue
+     */
+    public static final String RESPONSE_DISPATCH_WORKERS = PREFIX + "responseDispatchWorkers";
+
+    /**
+     * Number of threads each ticket handler uses to dispatch callbacks to its listener
+     */
+    public static final String LISTENER_DISPATCHER_THREADS = PREFIX + "listenerDispatcherThreads";
+
+    /**
+     * Indicates whether the listener callbacks of the same ticket are dispatched in order
+     */
+    public static final String LISTENER_TICKET_ORDERING_ENABLED = PREFIX + "listenerTicketOrderingEnabled";
+
+    /**
+     * Indicates whether listener callbacks are dispatched on virtual threads
+     */
+    public static final String LISTENER_VIRTUAL_THREADS_ENABLED = PREFIX + "listenerVirtualThreadsEnabled";
+
+    /**
+     * Interval in minutes in which the market descriptions are refreshed in the background
+     */
+    public static final String MARKET_DESCRIPTIONS_REFRESH_INTERVAL = PREFIX + "marketDescriptionsRefreshInterval";
+
+    /**
+     * Interval in seconds after which a failed fetch of the market descriptions is retried
+     */
+    public static final String MARKET_DESCRIPTIONS_RETRY_INTERVAL = PREFIX + "marketDescriptionsRetryInterval";
+
+    /**
+     * Path of the file in which the market descriptions are persisted between restarts
+     */
+    public static final String MARKET_DESCRIPTIONS_SNAPSHOT_PATH = PREFIX + "marketDescriptionsSnapshotPath";
+
+    /**
+     * Gets the percentage of the access token lifetime after which the token is refreshed
+     */
+    public static final String AUTH_TOKEN_REFRESH_PERCENTAGE = PREFIX + "authTokenRefreshPercentage";
+
+    /**
+     * Indicates whether the WebSocket connections negotiate the permessage-deflate compression
+     */
+    public static final String WS_COMPRESSION_ENABLED = PREFIX + "wsCompressionEnabled";
+
+    /**
+     * Gets the minimum size in bytes of the WebSocket messages which are compressed
+     */
+    public static final String WS_COMPRESSION_THRESHOLD = PREFIX + "wsCompressionThreshold";
+
+    /**
+     * Age in minutes up to which the market descriptions are still served while refreshing them fails
+     */
+    public static final String MARKET_DESCRIPTIONS_MAX_STALENESS = PREFIX + "marketDescriptionsMaxStaleness";
 }
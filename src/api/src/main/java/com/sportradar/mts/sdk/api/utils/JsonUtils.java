@@ -24,6 +24,7 @@ import org.slf4j.LoggerFactory;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 
 public final class JsonUtils {
 
@@ -95,6 +96,21 @@ public final class JsonUtils {
         }
     }
 
+    /**
+     * Serializes the MTS DTO straight to UTF-8 encoded bytes with a streaming generator, without building
+     * an intermediate {@link String}
+     *
+     * @param dto the DTO to serialize
+     * @return the UTF-8 encoded JSON of the DTO
+     */
+    public static byte[] serializeDto(Object dto) {
+        try {
+            return OBJECT_MAPPER.writeValueAsBytes(dto);
+        } catch (JsonProcessingException ex) {
+            throw new MtsSdkProcessException("Exception during dto mapping: " + ex.getMessage(), ex.getCause());
+        }
+    }
+
     public static <T> String serializeAsString(T item) {
         if (item == null) {
             return "";
@@ -113,6 +129,13 @@ public final class JsonUtils {
         return OBJECT_MAPPER.readValue(item, clazz);
     }
 
+    public static <T> T deserialize(InputStream item, Class<T> clazz) throws IOException {
+        if (item == null) {
+            return null;
+        }
+        return OBJECT_MAPPER.readValue(item, clazz);
+    }
+
     public static <T> T deserialize(String item, Class<T> clazz) throws IOException {
         if ((item == null) || item.isEmpty()) {
             return null;
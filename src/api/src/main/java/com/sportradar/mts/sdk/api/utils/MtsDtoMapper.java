@@ -68,21 +68,22 @@ public class MtsDtoMapper {
         dtoTicket.setPayCap(ticket.getPayCap());
 
         boolean hasBanker = false;
-        List<Selection> selections = Lists.newArrayList();
         for(com.sportradar.mts.sdk.api.Selection selection : ticket.getSelections())
         {
             hasBanker = selection.getIsBanker();
-            if(selections.stream().noneMatch(s -> s.getEventId().equals(selection.getEventId())
-                                         && s.getId().equals(selection.getId())
-                                         && s.getOdds().equals(selection.getOdds())))
-            {
-                selections.add(map(selection));
-            }
+        }
+        TicketSelections ticketSelections = ticket instanceof TicketImpl
+                ? ((TicketImpl) ticket).getTicketSelections()
+                : TicketSelections.of(ticket.getSelections());
+        List<Selection> selections = Lists.newArrayListWithCapacity(ticketSelections.getMtsSelections().size());
+        for(com.sportradar.mts.sdk.api.Selection selection : ticketSelections.getMtsSelections())
+        {
+            selections.add(map(selection));
         }
         dtoTicket.setSelections(selections);
         for(com.sportradar.mts.sdk.api.Bet ticketBet : ticket.getBets())
         {
-            com.sportradar.mts.sdk.api.impl.mtsdto.ticket.Bet b = map(ticketBet, dtoTicket.getSelections(), hasBanker);
+            com.sportradar.mts.sdk.api.impl.mtsdto.ticket.Bet b = map(ticketBet, ticketSelections, hasBanker);
             dtoTicket.getBets().add(b);
         }
 
@@ -93,7 +94,7 @@ public class MtsDtoMapper {
         return dto;
     }
 
-    private static com.sportradar.mts.sdk.api.impl.mtsdto.ticket.Bet map(com.sportradar.mts.sdk.api.Bet bet, List<Selection> selections, boolean hasBanker)
+    private static com.sportradar.mts.sdk.api.impl.mtsdto.ticket.Bet map(com.sportradar.mts.sdk.api.Bet bet, TicketSelections selections, boolean hasBanker)
     {
         com.sportradar.mts.sdk.api.impl.mtsdto.ticket.Bet dtoBet = new com.sportradar.mts.sdk.api.impl.mtsdto.ticket.Bet();
         dtoBet.setId(bet.getId());
@@ -144,9 +145,9 @@ public class MtsDtoMapper {
         return dtoBet;
     }
 
-    private static List<SelectionRef> getBetSelectionRefs(com.sportradar.mts.sdk.api.Bet bet, List<Selection> allSelections, boolean hasBanker)
+    private static List<SelectionRef> getBetSelectionRefs(com.sportradar.mts.sdk.api.Bet bet, TicketSelections allSelections, boolean hasBanker)
     {
-        if (bet.getSelections().size() != allSelections.size()
+        if (bet.getSelections().size() != allSelections.getMtsSelections().size()
             || bet.getSelections().stream().anyMatch(com.sportradar.mts.sdk.api.Selection::getIsBanker)
             || hasBanker)
         {
@@ -154,7 +155,7 @@ public class MtsDtoMapper {
             for (com.sportradar.mts.sdk.api.Selection betSelection : bet.getSelections())
             {
                 SelectionRef ref = new SelectionRef();
-                ref.setSelectionIndex(findSelectionIndex(allSelections, betSelection));
+                ref.setSelectionIndex(allSelections.indexOf(betSelection));
                 ref.setBanker(betSelection.getIsBanker());
                 refs.add(ref);
             }
@@ -163,19 +164,6 @@ public class MtsDtoMapper {
         return new ArrayList<>();
     }
 
-    private static int findSelectionIndex(List<Selection> allSelections, com.sportradar.mts.sdk.api.Selection specific)
-    {
-        for (int i = 0; i < allSelections.size(); i++)
-        {
-            Selection sel = allSelections.get(i);
-            if (sel.getEventId().equals(specific.getEventId()) && sel.getId().equals(specific.getId()) && sel.getOdds().equals(specific.getOdds()))
-            {
-                return i;
-            }
-        }
-        return -1;
-    }
-
     private static Selection map(com.sportradar.mts.sdk.api.Selection betSelection) {
         Selection dtoSelection = new Selection();
         dtoSelection.setId(betSelection.getId());
@@ -318,6 +306,22 @@ public class MtsDtoMapper {
                                       msgBody);
     }
 
+    public static TicketResponse map(TicketResponseSchema response, String correlationId, Map<String, Object> messageHeaders, byte[] msgBody)
+    {
+        return new TicketResponseImpl(response.getResult().getTicketId(),
+                                      map(response.getResult().getReason()),
+                                      MtsTicketHelper.convert(response.getResult().getStatus()),
+                                      response.getResult().getBetDetails(),
+                                      response.getSignature(),
+                                      response.getExchangeRate(),
+                                      new Date(),
+                                      response.getVersion(),
+                                      correlationId,
+                                      parseAdditionalInfo(messageHeaders),
+                                      response.getAutoAcceptedOdds(),
+                                      msgBody);
+    }
+
     public static ResponseReason map(Reason reason)
     {
         return new ResponseReasonImpl(reason.getCode(), reason.getMessage());
@@ -337,6 +341,20 @@ public class MtsDtoMapper {
                 msgBody);
     }
 
+    public static TicketCancelResponse map(TicketCancelResponseSchema response, String correlationId, Map<String, Object> messageHeaders, byte[] msgBody)
+    {
+        return new TicketCancelResponseImpl(
+                response.getResult().getTicketId(),
+                map(response.getResult().getReason()),
+                MtsTicketHelper.convert(response.getResult().getStatus()),
+                response.getSignature(),
+                new Date(),
+                response.getVersion(),
+                correlationId,
+                parseAdditionalInfo(messageHeaders),
+                msgBody);
+    }
+
     public static ResponseReason map(com.sportradar.mts.sdk.api.impl.mtsdto.ticketcancelresponse.Reason reason)
     {
         return new ResponseReasonImpl(reason.getCode(), reason.getMessage());
@@ -356,6 +374,20 @@ public class MtsDtoMapper {
                 msgBody);
     }
 
+    public static TicketCashoutResponse map(com.sportradar.mts.sdk.api.impl.mtsdto.ticketcashoutresponse.TicketCashoutResponseSchema schema, String correlationId, Map<String, Object> messageHeaders, byte[] msgBody) {
+
+        return new TicketCashoutResponseImpl(
+                schema.getResult().getTicketId(),
+                new Date(),
+                map(schema.getResult().getReason()),
+                MtsTicketHelper.convert(schema.getResult().getStatus()),
+                schema.getSignature(),
+                schema.getVersion(),
+                correlationId,
+                parseAdditionalInfo(messageHeaders),
+                msgBody);
+    }
+
     public static TicketNonSrSettleResponse map(com.sportradar.mts.sdk.api.impl.mtsdto.ticketnonsrsettle.TicketNonSrSettleResponseSchema schema, String correlationId, Map<String, Object> messageHeaders, String msgBody) {
 
         return new TicketNonSrSettleResponseImpl(
@@ -370,6 +402,20 @@ public class MtsDtoMapper {
                 msgBody);
     }
 
+    public static TicketNonSrSettleResponse map(com.sportradar.mts.sdk.api.impl.mtsdto.ticketnonsrsettle.TicketNonSrSettleResponseSchema schema, String correlationId, Map<String, Object> messageHeaders, byte[] msgBody) {
+
+        return new TicketNonSrSettleResponseImpl(
+                schema.getResult().getTicketId(),
+                new Date(),
+                schema.getVersion(),
+                map(schema.getResult().getReason()),
+                MtsTicketHelper.convert(schema.getResult().getStatus()),
+                schema.getSignature(),
+                correlationId,
+                parseAdditionalInfo(messageHeaders),
+                msgBody);
+    }
+
     public static ResponseReason map(com.sportradar.mts.sdk.api.impl.mtsdto.ticketcashoutresponse.Reason reason) {
         return new ResponseReasonImpl(reason.getCode(), reason.getMessage());
     }
@@ -8,24 +8,54 @@ import com.sportradar.mts.sdk.api.enums.*;
 import com.sportradar.mts.sdk.api.impl.mtsdto.ticket.*;
 import com.sportradar.mts.sdk.api.impl.mtsdto.ticketresponse.Reoffer;
 import com.sportradar.mts.sdk.api.impl.mtsdto.ticketresponse.Result;
+import com.sportradar.mts.sdk.api.interfaces.CorrelationIdGenerator;
 
 import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Implements methods for converting between DTOs
  */
 public final class MtsTicketHelper {
-    private static final String BET_ID_PATTERN = "^[0-9A-Za-z:_-]*";
-    private static final String USER_ID_PATTERN = "^[0-9A-Za-z#_-]*";
+    /**
+     * The characters allowed in the bet ids, the equivalent of the [0-9A-Za-z:_-]* pattern
+     */
+    private static final boolean[] BET_ID_ALPHABET = idAlphabet(":_-");
+    /**
+     * The characters allowed in the user ids, the equivalent of the [0-9A-Za-z#_-]* pattern
+     */
+    private static final boolean[] USER_ID_ALPHABET = idAlphabet("#_-");
     private static final String INVALID_STATUS = "Invalid response Status value: %s";
+    /**
+     * Generates random UUIDs from the per-thread random generator, so the threads building tickets do not
+     * contend on the shared {@link java.security.SecureRandom} behind {@link UUID#randomUUID()}
+     */
+    private static final CorrelationIdGenerator THREAD_LOCAL_RANDOM_GENERATOR = () -> {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        // version 4 (random) UUID layout, same as UUID.randomUUID()
+        long mostSigBits = (random.nextLong() & 0xffffffffffff0fffL) | 0x0000000000004000L;
+        long leastSigBits = (random.nextLong() & 0x3fffffffffffffffL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits).toString();
+    };
+    private static volatile CorrelationIdGenerator correlationIdGenerator = THREAD_LOCAL_RANDOM_GENERATOR;
 
     private MtsTicketHelper() { throw new IllegalStateException("MtsTicketHelper class"); }
 
     public static String generateTicketCorrelationId()
     {
-        return "j" + UUID.randomUUID().toString();
+        return "j" + correlationIdGenerator.nextId();
+    }
+
+    /**
+     * Sets the generator of the correlation ids assigned to the tickets built afterwards
+     *
+     * @param generator the generator to use or <code>null</code> to restore the default one
+     */
+    public static void setCorrelationIdGenerator(CorrelationIdGenerator generator)
+    {
+        correlationIdGenerator = generator == null ? THREAD_LOCAL_RANDOM_GENERATOR : generator;
     }
 
     public static Ticket.OddsChange convert(OddsChangeType type)
@@ -307,12 +337,10 @@ public final class MtsTicketHelper {
      */
     public static boolean validateId(String id, boolean useUserIdPattern)
     {
-        String idPattern = useUserIdPattern ? USER_ID_PATTERN : BET_ID_PATTERN;
         return id != null
                 && !id.isEmpty()
-                && id.length() > 0
                 && id.length() <= 128
-                && id.matches(idPattern);
+                && matchesIdAlphabet(id, useUserIdPattern);
     }
 
     public static boolean validateId(String id, boolean checkIdPattern, boolean useUserIdPattern)
@@ -330,8 +358,7 @@ public final class MtsTicketHelper {
         boolean valid = true;
         if(checkIdPattern)
         {
-            String idPattern = useUserIdPattern ? USER_ID_PATTERN : BET_ID_PATTERN;
-            valid = id.matches(idPattern);
+            valid = matchesIdAlphabet(id, useUserIdPattern);
         }
         if(valid && minLength >= 0)
         {
@@ -344,6 +371,42 @@ public final class MtsTicketHelper {
         return valid;
     }
 
+    /**
+     * Checks the id against the allowed characters without compiling or running a regular expression
+     */
+    private static boolean matchesIdAlphabet(String id, boolean useUserIdPattern)
+    {
+        boolean[] alphabet = useUserIdPattern ? USER_ID_ALPHABET : BET_ID_ALPHABET;
+        for (int i = 0; i < id.length(); i++)
+        {
+            char c = id.charAt(i);
+            if (c >= alphabet.length || !alphabet[c])
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean[] idAlphabet(String symbols)
+    {
+        boolean[] alphabet = new boolean[128];
+        for (char c = '0'; c <= '9'; c++)
+        {
+            alphabet[c] = true;
+        }
+        for (char c = 'A'; c <= 'Z'; c++)
+        {
+            alphabet[c] = true;
+            alphabet[Character.toLowerCase(c)] = true;
+        }
+        for (int i = 0; i < symbols.length(); i++)
+        {
+            alphabet[symbols.charAt(i)] = true;
+        }
+        return alphabet;
+    }
+
     public static boolean validateTimestamp(Date date)
     {
         return date.after(new GregorianCalendar(2017, 1, 1).getTime());
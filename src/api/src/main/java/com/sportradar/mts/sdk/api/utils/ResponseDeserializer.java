@@ -1,12 +1,15 @@
 package com.sportradar.mts.sdk.api.utils;
 
+import com.fasterxml.jackson.core.JsonLocation;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.ObjectCodec;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import com.sportradar.mts.sdk.api.*;
 import com.sportradar.mts.sdk.api.impl.mtsdto.ticketcancelresponse.TicketCancelResponseSchema;
 import com.sportradar.mts.sdk.api.impl.mtsdto.ticketcashoutresponse.TicketCashoutResponseSchema;
@@ -17,51 +20,93 @@ import com.sportradar.mts.sdk.api.ws.Response;
 import java.io.IOException;
 import java.util.Map;
 
+/**
+ * Decodes the response envelope in a single pass. When the <code>operation</code> precedes the <code>content</code>,
+ * the content is decoded in place into the schema of the operation, otherwise its tokens are buffered until the
+ * operation is known. The raw content is sliced from the source text instead of rendering the parsed content again.
+ */
 public class ResponseDeserializer<T extends SdkTicket> extends JsonDeserializer<Response<T>> {
+
+    private static final TypeReference<Map<String, Object>> ADDITIONAL_INFO_TYPE = new TypeReference<Map<String, Object>>() {
+    };
+
     @Override
     public Response<T> deserialize(JsonParser p, DeserializationContext ctxt) throws IOException, JsonProcessingException {
-        ObjectMapper mapper = (ObjectMapper) p.getCodec();
-        JsonNode node = mapper.readTree(p);
+        ObjectCodec codec = p.getCodec();
+        // the content can only be sliced from the source text, other sources keep a copy of the content tokens
+        String source = getSourceText(p);
+
+        String operation = null;
+        String correlationId = null;
+        Map<String, Object> additionalInfo = null;
+        Object content = null;
+        TokenBuffer contentTokens = null;
+        String contentString = null;
+
+        JsonToken token = p.currentToken() == JsonToken.START_OBJECT ? p.nextToken() : p.currentToken();
+        for (; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+            String field = p.currentName();
+            token = p.nextToken();
+            if (token == JsonToken.VALUE_NULL) {
+                continue;
+            }
+            switch (field) {
+                case "operation":
+                    operation = p.getValueAsString();
+                    break;
+                case "correlationId":
+                    correlationId = p.getValueAsString();
+                    break;
+                case "additionalInfo":
+                    additionalInfo = codec.readValue(p, ADDITIONAL_INFO_TYPE);
+                    break;
+                case "content":
+                    int start = source == null ? -1 : (int) p.currentTokenLocation().getCharOffset();
+                    if (source == null || operation == null) {
+                        contentTokens = ctxt.bufferAsCopyOfValue(p);
+                    } else {
+                        content = codec.readValue(p, getSchemaClass(operation));
+                    }
+                    int end = source == null ? -1 : (int) p.currentLocation().getCharOffset();
+                    if (start >= 0 && end > start && end <= source.length()) {
+                        contentString = source.substring(start, end);
+                    }
+                    break;
+                default:
+                    p.skipChildren();
+                    break;
+            }
+        }
 
-        String contentString = node.has("content") && !node.get("content").isNull()
-                ? node.get("content").toString()
-                : null;
-        String operation = node.has("operation") && !node.get("operation").isNull()
-                ? node.get("operation").asText()
-                : null;
-        String correlationId = node.has("correlationId") && !node.get("correlationId").isNull()
-                ? node.get("correlationId").asText()
-                : null;
-        Map<String, Object> additionalInfo =
-                node.has("additionalInfo") && !node.get("additionalInfo").isNull()
-                        ? mapper.convertValue(node.get("additionalInfo"), new TypeReference<Map<String, Object>>() {
-                })
-                        : null;
+        if (contentTokens != null) {
+            if (contentString == null) {
+                contentString = ((ObjectMapper) codec).writeValueAsString(contentTokens);
+            }
+            try (JsonParser contentParser = contentTokens.asParserOnFirstToken()) {
+                content = codec.readValue(contentParser, getSchemaClass(operation));
+            }
+        }
 
         Object r;
         Class<T> contentClass;
         switch (operation) {
             case "ticket.confirm": {
-                TicketResponseSchema c = JsonUtils.deserialize(contentString, TicketResponseSchema.class);
-                r = MtsDtoMapper.map(c, correlationId, additionalInfo, contentString);
+                r = MtsDtoMapper.map((TicketResponseSchema) content, correlationId, additionalInfo, contentString);
                 contentClass = (Class<T>) TicketResponse.class;
                 break;
             }
             case "cancel": {
-                TicketCancelResponseSchema c = JsonUtils.deserialize(contentString, TicketCancelResponseSchema.class);
-                r = MtsDtoMapper.map(c, correlationId, additionalInfo, contentString);
+                r = MtsDtoMapper.map((TicketCancelResponseSchema) content, correlationId, additionalInfo, contentString);
                 contentClass = (Class<T>) TicketCancelResponse.class;
                 break;
             }
             case "ticket.cashout": {
-                TicketCashoutResponseSchema c = JsonUtils.deserialize(contentString, TicketCashoutResponseSchema.class);
-                r = MtsDtoMapper.map(c, correlationId, additionalInfo, contentString);
+                r = MtsDtoMapper.map((TicketCashoutResponseSchema) content, correlationId, additionalInfo, contentString);
                 contentClass = (Class<T>) TicketCashoutResponse.class;
                 break;
             }
             case "ticket.nonsrsettle": {
-                TicketNonSrSettleResponseSchema c = JsonUtils.deserialize(contentString, TicketNonSrSettleResponseSchema.class);
-                r = MtsDtoMapper.map(c, correlationId, additionalInfo, contentString);
+                r = MtsDtoMapper.map((TicketNonSrSettleResponseSchema) content, correlationId, additionalInfo, contentString);
                 contentClass = (Class<T>) TicketNonSrSettleResponse.class;
                 break;
             }
@@ -78,4 +123,28 @@ public class ResponseDeserializer<T extends SdkTicket> extends JsonDeserializer<
         return response;
 
     }
+
+    private static Class<?> getSchemaClass(String operation) {
+        if (operation == null) {
+            throw new IllegalArgumentException("Unknown operation: null");
+        }
+        switch (operation) {
+            case "ticket.confirm":
+                return TicketResponseSchema.class;
+            case "cancel":
+                return TicketCancelResponseSchema.class;
+            case "ticket.cashout":
+                return TicketCashoutResponseSchema.class;
+            case "ticket.nonsrsettle":
+                return TicketNonSrSettleResponseSchema.class;
+            default:
+                throw new IllegalArgumentException("Unknown operation: " + operation);
+        }
+    }
+
+    private static String getSourceText(JsonParser p) {
+        JsonLocation location = p.currentTokenLocation();
+        Object rawContent = location.contentReference() == null ? null : location.contentReference().getRawContent();
+        return rawContent instanceof String ? (String) rawContent : null;
+    }
 }
@@ -5,7 +5,6 @@
 package com.sportradar.mts.sdk.impl.di;
 
 import com.google.common.base.Preconditions;
-import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
@@ -19,7 +18,6 @@ import com.sportradar.mts.api.rest.sportsapi.datamodel.MarketDescriptions;
 import com.sportradar.mts.sdk.api.AccessToken;
 import com.sportradar.mts.sdk.api.SdkTicket;
 import com.sportradar.mts.sdk.api.builders.BuilderFactory;
-import com.sportradar.mts.sdk.api.caching.MarketDescriptionCI;
 import com.sportradar.mts.sdk.api.caching.MarketDescriptionCache;
 import com.sportradar.mts.sdk.api.caching.MarketDescriptionCacheImpl;
 import com.sportradar.mts.sdk.api.caching.MarketDescriptionProvider;
@@ -46,7 +44,9 @@ import com.sportradar.mts.sdk.impl.libs.logging.SdkLogger;
 import com.sportradar.mts.sdk.impl.libs.receivers.*;
 import com.sportradar.mts.sdk.impl.libs.root.SdkRoot;
 import com.sportradar.mts.sdk.impl.libs.root.SdkRootImpl;
+import com.sportradar.mts.sdk.impl.libs.threading.ListenerDispatcherFactory;
 import com.sportradar.mts.sdk.ws.internal.protocol.ProtocolEngine;
+import com.sportradar.mts.sdk.ws.internal.utils.WheelTimer;
 import jakarta.inject.Singleton;
 import jakarta.xml.bind.JAXBContext;
 import jakarta.xml.bind.JAXBException;
@@ -60,13 +60,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.InputStream;
+import java.nio.file.Paths;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
 public class SdkInjectionModule extends AbstractModule {
@@ -105,7 +105,8 @@ public class SdkInjectionModule extends AbstractModule {
     @Provides
     @SuppressWarnings("java:S107") // Methods should not have too many parameters
     public SdkRoot provideSdkRoot(SdkLogger sdkLogger,
-                                  ScheduledExecutorService executorService,
+                                  ListenerDispatcherFactory listenerDispatcherFactory,
+                                  WheelTimer responseTimeoutTimer,
                                   ChannelFactoryProvider channelFactoryProvider,
                                   TicketHandler ticketHandler,
                                   @TicketResponseMessageReceiverBinding AmqpMessageReceiver ticketAmqpMessageReceiver,
@@ -117,10 +118,12 @@ public class SdkInjectionModule extends AbstractModule {
                                   TicketCashoutHandler ticketCashoutHandler,
                                   @TicketCashoutResponseMessageReceiverBinding AmqpMessageReceiver ticketCashoutAmqpMessageReceiver,
                                   TicketNonSrSettleHandler ticketNonSrSettleHandler,
-                                  @TicketNonSrSettleResponseMessageReceiverBinding AmqpMessageReceiver ticketNonSrSettleAmpqMessageReceiver
+                                  @TicketNonSrSettleResponseMessageReceiverBinding AmqpMessageReceiver ticketNonSrSettleAmpqMessageReceiver,
+                                  @Named("MarketDescriptionCache") MarketDescriptionCache marketDescriptionCache
     ) {
         return new SdkRootImpl(sdkLogger,
-                executorService,
+                listenerDispatcherFactory,
+                responseTimeoutTimer,
                 channelFactoryProvider,
                 ticketHandler,
                 ticketAmqpMessageReceiver,
@@ -132,7 +135,8 @@ public class SdkInjectionModule extends AbstractModule {
                 ticketCashoutHandler,
                 ticketCashoutAmqpMessageReceiver,
                 ticketNonSrSettleHandler,
-                ticketNonSrSettleAmpqMessageReceiver);
+                ticketNonSrSettleAmpqMessageReceiver,
+                marketDescriptionCache);
     }
 
     @Singleton
@@ -156,21 +160,24 @@ public class SdkInjectionModule extends AbstractModule {
     @Provides
     public TicketHandler provideTicketHandler(@TicketPublisherBinding AmqpPublisher amqpPublisher,
                                               ProtocolEngine engine,
-                                              ScheduledExecutorService executorService,
+                                              WheelTimer responseTimeoutTimer,
+                                              ListenerDispatcherFactory listenerDispatcherFactory,
                                               SdkLogger sdkLogger
     ) {
+        ExecutorService listenerExecutor = listenerDispatcherFactory.create("ticket");
         if (Boolean.TRUE == sdkConfiguration.getUseWebSocket()) {
             return new TicketHandlerWsImpl(
                     "ticket.confirm",
                     sdkLogger,
                     engine,
-                    executorService);
+                    listenerExecutor);
         } else {
             String routingKey = "node" + sdkConfiguration.getNode() + ".ticket.confirm";
             return new TicketHandlerImpl(amqpPublisher,
                     routingKey,
-                    executorService,
-                    getTimeoutHandler(executorService, sdkConfiguration.getTicketResponseTimeoutLive(), sdkConfiguration.getTicketResponseTimeoutPrematch()),
+                    listenerExecutor,
+                    getTimeoutHandler(responseTimeoutTimer, listenerExecutor, sdkConfiguration.getTicketResponseTimeoutLive(), sdkConfiguration.getTicketResponseTimeoutPrematch()),
+                    responseTimeoutTimer,
                     sdkConfiguration.getTicketResponseTimeoutLive(),
                     sdkConfiguration.getTicketResponseTimeoutPrematch(),
                     sdkConfiguration.getMessagesPerSecond(),
@@ -183,13 +190,15 @@ public class SdkInjectionModule extends AbstractModule {
     public TicketCancelHandler provideTicketCancelSender(
             @TicketCancelPublisherBinding AmqpPublisher amqpPublisher,
             ProtocolEngine engine,
-            ScheduledExecutorService executorService,
+            WheelTimer responseTimeoutTimer,
+            ListenerDispatcherFactory listenerDispatcherFactory,
             SdkLogger sdkLogger) {
+        ExecutorService listenerExecutor = listenerDispatcherFactory.create("cancel");
         if (Boolean.TRUE == sdkConfiguration.getUseWebSocket()) {
            return new TicketCancelHandlerWsImpl(
                    "cancel",
                    engine,
-                   executorService,
+                   listenerExecutor,
                    sdkLogger);
         } else {
             String routingKey = "cancel";
@@ -197,8 +206,9 @@ public class SdkInjectionModule extends AbstractModule {
             return new TicketCancelHandlerImpl(amqpPublisher,
                     routingKey,
                     replyRoutingKey,
-                    executorService,
-                    getTimeoutHandler(executorService, sdkConfiguration.getTicketCancellationResponseTimeout(), sdkConfiguration.getTicketCancellationResponseTimeout()),
+                    listenerExecutor,
+                    getTimeoutHandler(responseTimeoutTimer, listenerExecutor, sdkConfiguration.getTicketCancellationResponseTimeout(), sdkConfiguration.getTicketCancellationResponseTimeout()),
+                    responseTimeoutTimer,
                     sdkConfiguration.getTicketCancellationResponseTimeout(),
                     sdkConfiguration.getMessagesPerSecond(),
                     sdkLogger);
@@ -209,7 +219,7 @@ public class SdkInjectionModule extends AbstractModule {
     @Provides
     public TicketReofferCancelHandler provideTicketReofferSender(@TicketReofferCancelPublisherBinding AmqpPublisher amqpPublisher,
                                                                  ProtocolEngine engine,
-                                                                 ScheduledExecutorService executorService,
+                                                                 ListenerDispatcherFactory listenerDispatcherFactory,
                                                                  SdkLogger sdkLogger
     ) {
         String routingKey = "cancel.reoffer";
@@ -219,9 +229,10 @@ public class SdkInjectionModule extends AbstractModule {
                     sdkLogger,
                     engine);
         } else {
+            ExecutorService listenerExecutor = listenerDispatcherFactory.create("reoffer-cancel");
             return new TicketReofferCancelHandlerImpl(amqpPublisher,
                     routingKey,
-                    executorService,
+                    listenerExecutor,
                     sdkConfiguration.getMessagesPerSecond(),
                     sdkLogger);
         }
@@ -231,7 +242,7 @@ public class SdkInjectionModule extends AbstractModule {
     @Provides
     public TicketAckHandler provideTicketAcknowledgmentHandler(@TicketAcknowledgmentPublisherBinding AmqpPublisher amqpPublisher,
                                                                ProtocolEngine engine,
-                                                               ScheduledExecutorService executorService,
+                                                               ListenerDispatcherFactory listenerDispatcherFactory,
                                                                SdkLogger sdkLogger
     ) {
         String routingKey = "ack.ticket";
@@ -241,9 +252,10 @@ public class SdkInjectionModule extends AbstractModule {
                     sdkLogger,
                     engine);
         } else {
+            ExecutorService listenerExecutor = listenerDispatcherFactory.create("ack");
             return new TicketAckHandlerImpl(amqpPublisher,
                     routingKey,
-                    executorService,
+                    listenerExecutor,
                     sdkConfiguration.getMessagesPerSecond(),
                     sdkLogger);
         }
@@ -253,7 +265,7 @@ public class SdkInjectionModule extends AbstractModule {
     @Provides
     public TicketCancelAckHandler provideTicketCancelAcknowledgmentHandler(@TicketCancelAcknowledgmentPublisherBinding AmqpPublisher amqpPublisher,
                                                                            ProtocolEngine engine,
-                                                                           ScheduledExecutorService executorService,
+                                                                           ListenerDispatcherFactory listenerDispatcherFactory,
                                                                            SdkLogger sdkLogger
     ) {
         String routingKey = "ack.cancel";
@@ -263,9 +275,10 @@ public class SdkInjectionModule extends AbstractModule {
                     sdkLogger,
                     engine);
         } else {
+            ExecutorService listenerExecutor = listenerDispatcherFactory.create("cancel-ack");
             return new TicketCancelAckHandlerImpl(amqpPublisher,
                     routingKey,
-                    executorService,
+                    listenerExecutor,
                     sdkConfiguration.getMessagesPerSecond(),
                     sdkLogger);
         }
@@ -275,22 +288,25 @@ public class SdkInjectionModule extends AbstractModule {
     @Provides
     public TicketCashoutHandler provideTicketCashoutHandler(@TicketCashoutPublisherBinding AmqpPublisher amqpPublisher,
                                                             ProtocolEngine engine,
-                                                            ScheduledExecutorService executorService,
+                                                            WheelTimer responseTimeoutTimer,
+                                                            ListenerDispatcherFactory listenerDispatcherFactory,
                                                             SdkLogger sdkLogger) {
+        ExecutorService listenerExecutor = listenerDispatcherFactory.create("cashout");
         String routingKey = "ticket.cashout";
         if (Boolean.TRUE == sdkConfiguration.getUseWebSocket()) {
             return new TicketCashoutHandlerWsImpl(
                     routingKey,
                     sdkLogger,
                     engine,
-                    executorService);
+                    listenerExecutor);
         } else {
             String replyRoutingKey = "node" + sdkConfiguration.getNode() + ".ticket.cashout";
             return new TicketCashoutHandlerImpl(amqpPublisher,
                     routingKey,
                     replyRoutingKey,
-                    executorService,
-                    getTimeoutHandler(executorService, sdkConfiguration.getTicketCashoutResponseTimeout(), sdkConfiguration.getTicketCashoutResponseTimeout()),
+                    listenerExecutor,
+                    getTimeoutHandler(responseTimeoutTimer, listenerExecutor, sdkConfiguration.getTicketCashoutResponseTimeout(), sdkConfiguration.getTicketCashoutResponseTimeout()),
+                    responseTimeoutTimer,
                     sdkConfiguration.getTicketCashoutResponseTimeout(),
                     sdkConfiguration.getMessagesPerSecond(),
                     sdkLogger);
@@ -301,22 +317,25 @@ public class SdkInjectionModule extends AbstractModule {
     @Provides
     public TicketNonSrSettleHandler provideTicketNonSrSettleHandler(@TicketNonSrSettlePublisherBinding AmqpPublisher amqpPublisher,
                                                                     ProtocolEngine engine,
-                                                                    ScheduledExecutorService executorService,
+                                                                    WheelTimer responseTimeoutTimer,
+                                                                    ListenerDispatcherFactory listenerDispatcherFactory,
                                                                     SdkLogger sdkLogger) {
+        ExecutorService listenerExecutor = listenerDispatcherFactory.create("non-sr-settle");
         String routingKey = "ticket.nonsrsettle";
         if (Boolean.TRUE == sdkConfiguration.getUseWebSocket()) {
             return new TicketNonSrSettleHandlerWsImpl(
                     routingKey,
                     sdkLogger,
                     engine,
-                    executorService);
+                    listenerExecutor);
         } else {
             String replyRoutingKey = "node" + sdkConfiguration.getNode() + ".ticket.nonsrsettle";
             return new TicketNonSrSettleHandlerImpl(amqpPublisher,
                     routingKey,
                     replyRoutingKey,
-                    executorService,
-                    getTimeoutHandler(executorService, sdkConfiguration.getTicketNonSrSettleResponseTimeout(), sdkConfiguration.getTicketNonSrSettleResponseTimeout()),
+                    listenerExecutor,
+                    getTimeoutHandler(responseTimeoutTimer, listenerExecutor, sdkConfiguration.getTicketNonSrSettleResponseTimeout(), sdkConfiguration.getTicketNonSrSettleResponseTimeout()),
+                    responseTimeoutTimer,
                     sdkConfiguration.getTicketNonSrSettleResponseTimeout(),
                     sdkConfiguration.getMessagesPerSecond(),
                     sdkLogger);
@@ -336,8 +355,11 @@ public class SdkInjectionModule extends AbstractModule {
                 exchangeName,
                 ExchangeType.FANOUT,
                 1,
-                64,
-                1,
+                sdkConfiguration.getTicketProducerBufferSize(),
+                sdkConfiguration.getTicketProducerChannels(),
+                SdkInfo.RABBIT_PUBLISH_BATCH_SIZE,
+                sdkConfiguration.getTicketProducerOverflowPolicy(),
+                sdkConfiguration.getTicketProducerBlockTimeout(),
                 true,
                 true,
                 true);
@@ -358,6 +380,7 @@ public class SdkInjectionModule extends AbstractModule {
                 1,
                 64,
                 1,
+                SdkInfo.RABBIT_PUBLISH_BATCH_SIZE,
                 true,
                 true,
                 true);
@@ -378,6 +401,7 @@ public class SdkInjectionModule extends AbstractModule {
                 1,
                 64,
                 1,
+                SdkInfo.RABBIT_PUBLISH_BATCH_SIZE,
                 true,
                 true,
                 true);
@@ -398,6 +422,7 @@ public class SdkInjectionModule extends AbstractModule {
                 1,
                 64,
                 1,
+                SdkInfo.RABBIT_PUBLISH_BATCH_SIZE,
                 true,
                 true,
                 true);
@@ -418,6 +443,7 @@ public class SdkInjectionModule extends AbstractModule {
                 1,
                 64,
                 1,
+                SdkInfo.RABBIT_PUBLISH_BATCH_SIZE,
                 true,
                 true,
                 true);
@@ -438,6 +464,7 @@ public class SdkInjectionModule extends AbstractModule {
                 1,
                 64,
                 1,
+                SdkInfo.RABBIT_PUBLISH_BATCH_SIZE,
                 true,
                 true,
                 true);
@@ -460,8 +487,9 @@ public class SdkInjectionModule extends AbstractModule {
                 ExchangeType.TOPIC,
                 queueName,
                 1,
-                SdkInfo.RABBIT_PREFETCH_COUNT,
+                SdkInfo.RABBIT_PREFETCH_COUNT * sdkConfiguration.getResponseDispatchWorkers(),
                 1,
+                sdkConfiguration.getResponseDispatchWorkers(),
                 false,
                 sdkConfiguration.getExclusiveConsumer());
     }
@@ -484,8 +512,9 @@ public class SdkInjectionModule extends AbstractModule {
                 ExchangeType.TOPIC,
                 queueName,
                 1,
-                SdkInfo.RABBIT_PREFETCH_COUNT,
+                SdkInfo.RABBIT_PREFETCH_COUNT * sdkConfiguration.getResponseDispatchWorkers(),
                 1,
+                sdkConfiguration.getResponseDispatchWorkers(),
                 false,
                 sdkConfiguration.getExclusiveConsumer());
     }
@@ -507,8 +536,9 @@ public class SdkInjectionModule extends AbstractModule {
                 ExchangeType.TOPIC,
                 queueName,
                 1,
-                SdkInfo.RABBIT_PREFETCH_COUNT,
+                SdkInfo.RABBIT_PREFETCH_COUNT * sdkConfiguration.getResponseDispatchWorkers(),
                 1,
+                sdkConfiguration.getResponseDispatchWorkers(),
                 false,
                 sdkConfiguration.getExclusiveConsumer());
     }
@@ -530,8 +560,9 @@ public class SdkInjectionModule extends AbstractModule {
                 ExchangeType.TOPIC,
                 queueName,
                 1,
-                SdkInfo.RABBIT_PREFETCH_COUNT,
+                SdkInfo.RABBIT_PREFETCH_COUNT * sdkConfiguration.getResponseDispatchWorkers(),
                 1,
+                sdkConfiguration.getResponseDispatchWorkers(),
                 false,
                 sdkConfiguration.getExclusiveConsumer());
     }
@@ -566,7 +597,7 @@ public class SdkInjectionModule extends AbstractModule {
             @TicketReofferCancelAmqpSendResultHandlerBinding AmqpSendResultHandler amqpSendResultHandler,
             ConnectionStatus connectionStatus
     ) {
-        return new AmqpPublisherImpl(amqpProducer, amqpSendResultHandler, connectionStatus);
+        return new AmqpPublisherImpl(amqpProducer, amqpSendResultHandler, connectionStatus, false);
     }
 
     @Singleton
@@ -577,7 +608,7 @@ public class SdkInjectionModule extends AbstractModule {
             @TicketAckAmqpSendResultHandlerBinding AmqpSendResultHandler amqpSendResultHandler,
             ConnectionStatus connectionStatus
     ) {
-        return new AmqpPublisherImpl(amqpProducer, amqpSendResultHandler, connectionStatus);
+        return new AmqpPublisherImpl(amqpProducer, amqpSendResultHandler, connectionStatus, false);
     }
 
     @Singleton
@@ -588,7 +619,7 @@ public class SdkInjectionModule extends AbstractModule {
             @TicketCancelAckAmqpSendResultHandlerBinding AmqpSendResultHandler amqpSendResultHandler,
             ConnectionStatus connectionStatus
     ) {
-        return new AmqpPublisherImpl(amqpProducer, amqpSendResultHandler, connectionStatus);
+        return new AmqpPublisherImpl(amqpProducer, amqpSendResultHandler, connectionStatus, false);
     }
 
     @Singleton
@@ -615,14 +646,16 @@ public class SdkInjectionModule extends AbstractModule {
 
     @Singleton
     @Provides
-    public ExecutorService provideExecutorService(ScheduledExecutorService service) {
-        return service;
+    public WheelTimer provideResponseTimeoutTimer() {
+        return new WheelTimer("mts-sdk-response-timeout", 10, TimeUnit.MILLISECONDS, 512);
     }
 
     @Singleton
     @Provides
-    public ScheduledExecutorService provideScheduledExecutorService() {
-        return Executors.newScheduledThreadPool(1);
+    public ListenerDispatcherFactory provideListenerDispatcherFactory() {
+        return new ListenerDispatcherFactory(sdkConfiguration.getListenerDispatcherThreads(),
+                                             sdkConfiguration.isListenerTicketOrderingEnabled(),
+                                             sdkConfiguration.isListenerVirtualThreadsEnabled());
     }
 
     @Singleton
@@ -817,8 +850,15 @@ public class SdkInjectionModule extends AbstractModule {
 
         DataProvider<MarketDescriptions> dataProvider = new DataProvider<>(uriFormat, logHttpDataFetcher, deserializer, MarketDescriptions.class);
 
-        Cache<String, MarketDescriptionCI> invariantMarketCache = CacheBuilder.newBuilder().build();
-        return new MarketDescriptionCacheImpl(invariantMarketCache, dataProvider, locales, sdkConfiguration.getAccessToken());
+        return new MarketDescriptionCacheImpl(dataProvider,
+                                              locales,
+                                              sdkConfiguration.getAccessToken(),
+                                              Duration.ofMinutes(sdkConfiguration.getMarketDescriptionsRefreshInterval()),
+                                              Duration.ofSeconds(sdkConfiguration.getMarketDescriptionsRetryInterval()),
+                                              sdkConfiguration.getMarketDescriptionsSnapshotPath() == null
+                                                      ? null
+                                                      : Paths.get(sdkConfiguration.getMarketDescriptionsSnapshotPath()),
+                                              Duration.ofMinutes(sdkConfiguration.getMarketDescriptionsMaxStaleness()));
     }
 
     @Singleton
@@ -890,11 +930,13 @@ public class SdkInjectionModule extends AbstractModule {
                 CAPICalculationResponse.class);
     }
 
-    private <T extends SdkTicket> ResponseTimeoutHandlerImpl<T> getTimeoutHandler(ScheduledExecutorService executorService, int responseTimeout1, int responseTimeout2) {
-        Preconditions.checkNotNull(executorService);
+    private <T extends SdkTicket> ResponseTimeoutHandlerImpl<T> getTimeoutHandler(WheelTimer responseTimeoutTimer, ExecutorService listenerExecutor, int responseTimeout1, int responseTimeout2) {
+        Preconditions.checkNotNull(responseTimeoutTimer);
+        Preconditions.checkNotNull(listenerExecutor);
 
         return new ResponseTimeoutHandlerImpl<>(
-                executorService,
+                responseTimeoutTimer,
+                listenerExecutor,
                 responseTimeout1,
                 responseTimeout2,
                 sdkConfiguration.isTicketTimeOutCallbackEnabled());
@@ -9,6 +9,8 @@ import com.sportradar.mts.sdk.api.interfaces.Openable;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 
 public interface AmqpProducer extends Openable {
@@ -29,6 +31,63 @@ public interface AmqpProducer extends Openable {
 
     AmqpSendResult sendAsync(String correlationId, byte[] msg, String routingKey, Map<String, Object> messageHeaders);
 
+    /**
+     * Sends the message asynchronously, preserving the order of all messages sent with the same ordering key.
+     * Producers publishing through a single channel keep the overall order anyway and may ignore the key.
+     *
+     * @param orderingKey the key (e.g. ticket id) whose messages must be published in order, may be null
+     * @param correlationId the correlation id of the message
+     * @param msg the message content
+     * @param routingKey the routing key
+     * @param messageHeaders the message headers
+     * @return the {@link AmqpSendResult} of the send operation
+     */
+    default AmqpSendResult sendAsyncOrdered(String orderingKey,
+                                            String correlationId,
+                                            byte[] msg,
+                                            String routingKey,
+                                            Map<String, Object> messageHeaders) {
+        return sendAsync(correlationId, msg, routingKey, messageHeaders);
+    }
+
+    /**
+     * Sends the message asynchronously like {@link #sendAsyncOrdered(String, String, byte[], String, Map)}, but
+     * rejects it immediately if the send buffer is full, regardless of the configured overflow policy
+     *
+     * @param orderingKey the key (e.g. ticket id) whose messages must be published in order, may be null
+     * @param correlationId the correlation id of the message
+     * @param msg the message content
+     * @param routingKey the routing key
+     * @param messageHeaders the message headers
+     * @return the {@link AmqpSendResult} of the send operation, rejected if there was no free capacity
+     */
+    default AmqpSendResult trySendAsyncOrdered(String orderingKey,
+                                               String correlationId,
+                                               byte[] msg,
+                                               String routingKey,
+                                               Map<String, Object> messageHeaders) {
+        return sendAsyncOrdered(orderingKey, correlationId, msg, routingKey, messageHeaders);
+    }
+
+    /**
+     * Sends the message asynchronously like {@link #sendAsyncOrdered(String, String, byte[], String, Map)}, but
+     * instead of rejecting it when the send buffer is full, waits for free capacity without blocking the caller
+     *
+     * @param orderingKey the key (e.g. ticket id) whose messages must be published in order, may be null
+     * @param correlationId the correlation id of the message
+     * @param msg the message content
+     * @param routingKey the routing key
+     * @param messageHeaders the message headers
+     * @return a {@link CompletionStage} completed with the {@link AmqpSendResult} once the message is buffered
+     */
+    default CompletionStage<AmqpSendResult> sendAsyncOrderedWhenReady(String orderingKey,
+                                                                      String correlationId,
+                                                                      byte[] msg,
+                                                                      String routingKey,
+                                                                      Map<String, Object> messageHeaders) {
+        return CompletableFuture.completedFuture(sendAsyncOrdered(orderingKey, correlationId, msg, routingKey, messageHeaders));
+    }
+
     default boolean sendAsync(String correlationId, byte[] msg, Consumer<AmqpSendResult> doneCallback) {
         return sendAsync(correlationId, msg, DEFAULT_ROUTING_KEY, new HashMap<>(), doneCallback);
     }
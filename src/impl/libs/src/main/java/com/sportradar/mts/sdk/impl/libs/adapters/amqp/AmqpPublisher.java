@@ -6,6 +6,8 @@ package com.sportradar.mts.sdk.impl.libs.adapters.amqp;
 
 import com.sportradar.mts.sdk.api.interfaces.Openable;
 
+import java.util.concurrent.CompletionStage;
+
 public interface AmqpPublisher extends Openable {
 
     void publishAsync(String ticketId,
@@ -14,5 +16,27 @@ public interface AmqpPublisher extends Openable {
                       String routingKey,
                       String replyRoutingKey);
 
+    /**
+     * Publishes the message if the producer has free capacity
+     *
+     * @return <code>true</code> if the message was accepted, <code>false</code> if the send buffer is full
+     */
+    boolean tryPublishAsync(String ticketId,
+                            byte[] msg,
+                            String correlationId,
+                            String routingKey,
+                            String replyRoutingKey);
+
+    /**
+     * Publishes the message as soon as the producer has free capacity
+     *
+     * @return a {@link CompletionStage} completed once the message was accepted by the producer
+     */
+    CompletionStage<Void> publishWhenReady(String ticketId,
+                                           byte[] msg,
+                                           String correlationId,
+                                           String routingKey,
+                                           String replyRoutingKey);
+
     void setListener(AmqpPublishResultListener listener);
 }
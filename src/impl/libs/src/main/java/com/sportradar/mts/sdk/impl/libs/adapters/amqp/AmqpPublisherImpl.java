@@ -8,6 +8,7 @@ import com.sportradar.mts.sdk.api.impl.ConnectionStatusImpl;
 import com.sportradar.mts.sdk.api.interfaces.ConnectionStatus;
 
 import java.util.HashMap;
+import java.util.concurrent.CompletionStage;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
@@ -19,10 +20,23 @@ public class AmqpPublisherImpl implements AmqpPublisher {
     private final AmqpSendResultHandler messageHandler;
     private boolean opened;
     private final ConnectionStatusImpl connectionStatus;
+    private final boolean responseExpected;
 
     public AmqpPublisherImpl(AmqpProducer messageSender,
                              AmqpSendResultHandler sendResultHandler,
                              ConnectionStatus connectionStatus
+    ) {
+        this(messageSender, sendResultHandler, connectionStatus, true);
+    }
+
+    /**
+     * @param responseExpected <code>true</code> if the MTS answers the published messages, only those are counted
+     *                         as sent tickets by the connection status
+     */
+    public AmqpPublisherImpl(AmqpProducer messageSender,
+                             AmqpSendResultHandler sendResultHandler,
+                             ConnectionStatus connectionStatus,
+                             boolean responseExpected
     ) {
         checkNotNull(messageSender, "messageSender cannot be null");
         checkNotNull(sendResultHandler, "sendResultHandler cannot be null");
@@ -31,6 +45,7 @@ public class AmqpPublisherImpl implements AmqpPublisher {
         this.messageSender = messageSender;
         this.messageHandler = sendResultHandler;
         this.connectionStatus = (ConnectionStatusImpl) connectionStatus;
+        this.responseExpected = responseExpected;
     }
 
     @Override
@@ -42,9 +57,49 @@ public class AmqpPublisherImpl implements AmqpPublisher {
         checkState(isOpen(), "sender is not open");
         HashMap<String, Object> messageHeaders = new HashMap<>();
         messageHeaders.put("replyRoutingKey", replyRoutingKey);
-        AmqpSendResult sendResult = messageSender.sendAsync(correlationId, msg, routingKey, messageHeaders);
-        connectionStatus.ticketSend(ticketId);
+        AmqpSendResult sendResult = messageSender.sendAsyncOrdered(ticketId, correlationId, msg, routingKey, messageHeaders);
+        ticketSent(ticketId);
+        messageHandler.handleSendResult(sendResult);
+    }
+
+    @Override
+    public boolean tryPublishAsync(String ticketId,
+                                   byte[] msg,
+                                   String correlationId,
+                                   String routingKey,
+                                   String replyRoutingKey) {
+        checkState(isOpen(), "sender is not open");
+        HashMap<String, Object> messageHeaders = new HashMap<>();
+        messageHeaders.put("replyRoutingKey", replyRoutingKey);
+        AmqpSendResult sendResult = messageSender.trySendAsyncOrdered(ticketId, correlationId, msg, routingKey, messageHeaders);
+        if (sendResult.isRejected()) {
+            return false;
+        }
+        ticketSent(ticketId);
         messageHandler.handleSendResult(sendResult);
+        return true;
+    }
+
+    @Override
+    public CompletionStage<Void> publishWhenReady(String ticketId,
+                                                  byte[] msg,
+                                                  String correlationId,
+                                                  String routingKey,
+                                                  String replyRoutingKey) {
+        checkState(isOpen(), "sender is not open");
+        HashMap<String, Object> messageHeaders = new HashMap<>();
+        messageHeaders.put("replyRoutingKey", replyRoutingKey);
+        return messageSender.sendAsyncOrderedWhenReady(ticketId, correlationId, msg, routingKey, messageHeaders)
+                .thenAccept(sendResult -> {
+                    ticketSent(ticketId);
+                    messageHandler.handleSendResult(sendResult);
+                });
+    }
+
+    private void ticketSent(String ticketId) {
+        if (responseExpected) {
+            connectionStatus.ticketSend(ticketId);
+        }
     }
 
     @Override
@@ -6,6 +6,7 @@ package com.sportradar.mts.sdk.impl.libs.adapters.amqp;
 
 import java.util.Map;
 import java.util.concurrent.Future;
+import java.util.function.Consumer;
 
 public interface AmqpSendResult extends Future<Boolean> {
 
@@ -20,4 +21,13 @@ public interface AmqpSendResult extends Future<Boolean> {
     Map<String, Object> getMessageHeaders();
 
     AmqpProducer getMqProducer();
+
+    /**
+     * Registers the callback invoked once the result is known. The callback runs on the thread completing the
+     * result, or right away on the calling thread if the result is already done, so it must not block.
+     * Only a single callback can be registered.
+     *
+     * @param callback the callback receiving the completed result
+     */
+    void whenDone(Consumer<AmqpSendResult> callback);
 }
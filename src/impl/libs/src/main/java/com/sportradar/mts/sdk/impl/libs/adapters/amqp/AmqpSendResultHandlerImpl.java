@@ -4,34 +4,39 @@
 
 package com.sportradar.mts.sdk.impl.libs.adapters.amqp;
 
-import com.sportradar.mts.sdk.api.utils.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * Passes the publishing results to the {@link AmqpPublishResultListener} as soon as they are known. The completed
+ * results are pushed to a lock-free queue by the threads completing them, and the thread which finds the queue
+ * idle drains it, so the listener is never invoked concurrently and no thread scans the pending results.
+ */
 public class AmqpSendResultHandlerImpl implements AmqpSendResultHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(AmqpSendResultHandlerImpl.class);
     private final Object stateLock = new Object();
-    private boolean opened;
-    private boolean closed;
-    private final List<AmqpSendResult> sendResults;
-    private AmqpPublishResultListener amqpSendResultListener;
-    private final Thread runThread;
+    private final String name;
+    private final Queue<AmqpSendResult> completedResults = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queuedResults = new AtomicInteger();
+    private volatile AmqpPublishResultListener amqpSendResultListener;
+    private volatile boolean opened;
 
     public AmqpSendResultHandlerImpl(String name) {
-        sendResults = new ArrayList<>();
-        runThread = new Thread(this::run, StringUtils.format("{}-send-result-handler-run-thread", name));
+        this.name = name;
     }
 
     @Override
     public void handleSendResult(AmqpSendResult sendResult) {
-        synchronized (this) {
-            this.sendResults.add(sendResult);
-            this.notifyAll();
+        if (sendResult.isDone()) {
+            onCompleted(sendResult);
+        } else {
+            sendResult.whenDone(this::onCompleted);
         }
     }
 
@@ -43,10 +48,7 @@ public class AmqpSendResultHandlerImpl implements AmqpSendResultHandler {
     @Override
     public void open() {
         synchronized (stateLock) {
-            if (!opened) {
-                runThread.start();
-                opened = true;
-            }
+            opened = true;
         }
     }
 
@@ -54,9 +56,9 @@ public class AmqpSendResultHandlerImpl implements AmqpSendResultHandler {
     public void close() {
         synchronized (stateLock) {
             if (opened) {
-                closed = true;
-                runThread.interrupt();
+                // the results of the messages already published are still passed to the listener once known
                 opened = false;
+                logger.info("{} send result handler closed", name);
             }
         }
     }
@@ -66,88 +68,57 @@ public class AmqpSendResultHandlerImpl implements AmqpSendResultHandler {
         return opened;
     }
 
-    private void run() {
-        while (!closed && !Thread.interrupted()) {
-            synchronized (this) {
-                if (sendResults.isEmpty()) {
-                    try {
-                        this.wait();
-                    } catch (InterruptedException e) {
-                        if (!closed) {
-                            logger.error("interrupted while waiting for messages", e);
-                        }
-                        Thread.currentThread().interrupt();
-                        break;
-                    }
-                }
-            }
-            if (!handleCompletedMessages()) {
-                try {
-                    // wait for message put
-                    synchronized (this) {
-                        if (sendResults.isEmpty()) {
-                            this.wait();
-                        }
-                    }
-                } catch (InterruptedException e) {
-                    if (!closed) {
-                        logger.error("interrupted while sleeping");
-                    }
-                    Thread.currentThread().interrupt();
-                    break;
-                }
-            }
+    private void onCompleted(AmqpSendResult result) {
+        completedResults.add(result);
+        if (queuedResults.getAndIncrement() != 0) {
+            // the thread already draining the queue will pick it up
+            return;
         }
-
-        Thread.currentThread().interrupt();
-        boolean moreMessages;
+        int missed = 1;
         do {
-            handleCompletedMessages();
-            synchronized (this) {
-                moreMessages = !sendResults.isEmpty();
+            AmqpSendResult completed;
+            while ((completed = completedResults.poll()) != null) {
+                notifyListener(completed);
             }
+            missed = queuedResults.addAndGet(-missed);
+        } while (missed != 0);
+    }
 
-            try {
-                Thread.sleep(50);
-            } catch (InterruptedException e) {
-                if (!closed) {
-                    logger.error("interrupted while sleeping");
-                }
-                Thread.currentThread().interrupt();
+    private void notifyListener(AmqpSendResult result) {
+        String correlationId = result.getCorrelationId();
+        try {
+            AmqpPublishResultListener listener = amqpSendResultListener;
+            if (isPublished(result, correlationId)) {
+                listener.publishSuccess(correlationId);
+            } else {
+                listener.publishFailure(correlationId);
             }
-        } while (moreMessages);
-        logger.info("closed");
+        } catch (Exception e) {
+            logger.error("uncaught exception while processing completed sendBlocking result", e);
+        }
     }
 
-    private boolean handleCompletedMessages() {
-        synchronized (this) {
-            List<AmqpSendResult> completed = AmqpSendResultHelper.filterCompleted(sendResults);
-            if (completed == null || completed.isEmpty()) {
-                return sendResults.isEmpty();
+    private static boolean isPublished(AmqpSendResult result, String correlationId) {
+        try {
+            // the result is done, so this does not block
+            boolean confirmed = Boolean.TRUE.equals(result.get());
+            if (result.isRejected()) {
+                logger.warn("publishing of {} was rejected", correlationId);
+                return false;
             }
-            for (AmqpSendResult result : completed) {
-                String correlationId = result.getCorrelationId();
-                try {
-                    result.get();
-                    if (result.isRejected()) {
-                        logger.warn("publishing of {} was rejected", correlationId);
-                        amqpSendResultListener.publishFailure(correlationId);
-                    } else {
-                        logger.info("successfully published: {}", correlationId);
-                        amqpSendResultListener.publishSuccess(correlationId);
-                    }
-                } catch (InterruptedException e) {
-                    logger.error("interrupted while getting sendBlocking result for {}", correlationId, e);
-                    Thread.currentThread().interrupt();
-                    return false;
-                } catch (ExecutionException e) {
-                    logger.error("exception while getting sendBlocking result for {}", correlationId, e);
-                    return false;
-                } catch (Exception e) {
-                    logger.error("uncaught exception while processing completed sendBlocking result", e);
-                }
+            if (!confirmed) {
+                // the broker nacked the message until no retries were left
+                logger.warn("publishing of {} was not confirmed", correlationId);
+                return false;
             }
+            logger.info("successfully published: {}", correlationId);
             return true;
+        } catch (InterruptedException e) {
+            logger.error("interrupted while getting sendBlocking result for {}", correlationId, e);
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.error("exception while getting sendBlocking result for {}", correlationId, e);
         }
+        return false;
     }
 }
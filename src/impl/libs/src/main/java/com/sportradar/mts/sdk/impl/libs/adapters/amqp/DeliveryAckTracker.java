@@ -0,0 +1,162 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.impl.libs.adapters.amqp;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Tracks the state of deliveries received on a single channel so that a cumulative acknowledgement never
+ * covers a delivery which is still being consumed or waits for a retry.
+ * <p>
+ * Delivery tags on a channel are consecutive, so the states are kept in a ring indexed by the tag. The class is
+ * not thread-safe, callers must guard it with their own lock.
+ */
+final class DeliveryAckTracker {
+
+    private static final byte FREE = 0;
+    private static final byte IN_PROGRESS = 1;
+    private static final byte RETRYING = 2;
+    private static final byte ACKABLE = 3;
+    private static final byte SETTLED = 4;
+
+    private byte[] states;
+    private int mask;
+    private long frontier = 0L;
+    private long last = 0L;
+    private int ackableCount = 0;
+
+    /**
+     * Constructs a new tracker
+     *
+     * @param initialCapacity the initial number of unacknowledged deliveries the ring can hold (rounded up to a power of two)
+     */
+    DeliveryAckTracker(int initialCapacity) {
+        checkArgument(initialCapacity > 0, "parameter 'initialCapacity' is zero or less");
+
+        int capacity = Integer.highestOneBit(initialCapacity);
+        if (capacity < initialCapacity) {
+            capacity <<= 1;
+        }
+        this.states = new byte[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Registers a new delivery which is about to be consumed
+     *
+     * @param tag the delivery tag
+     */
+    void delivered(long tag) {
+        checkArgument(tag > this.last, "delivery tag must be increasing");
+
+        if (this.frontier == this.last && tag > this.frontier + 1) {
+            // nothing pending, tags which were never delivered to us are not tracked
+            this.frontier = tag - 1;
+            this.last = tag - 1;
+        }
+        while ((tag - this.frontier) > this.states.length) {
+            grow();
+        }
+        for (long skipped = this.last + 1; skipped < tag; skipped++) {
+            set(skipped, SETTLED);
+        }
+        set(tag, IN_PROGRESS);
+        this.last = tag;
+    }
+
+    /**
+     * Marks the delivery as waiting for a retry
+     */
+    void retrying(long tag) {
+        update(tag, RETRYING);
+    }
+
+    /**
+     * Marks the delivery as consumed and waiting to be covered by a cumulative acknowledgement
+     */
+    void ackable(long tag) {
+        if (update(tag, ACKABLE)) {
+            this.ackableCount++;
+        }
+    }
+
+    /**
+     * Marks the delivery as settled on its own (acknowledged individually or rejected)
+     */
+    void settled(long tag) {
+        update(tag, SETTLED);
+    }
+
+    /**
+     * Checks whether a delivery received before the provided one waits for a retry
+     */
+    boolean hasRetryingBefore(long tag) {
+        for (long current = this.frontier + 1; current < tag && current <= this.last; current++) {
+            if (get(current) == RETRYING) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the number of consumed deliveries not yet covered by a cumulative acknowledgement
+     */
+    int getAckableCount() {
+        return this.ackableCount;
+    }
+
+    /**
+     * Advances over all contiguous settled or consumed deliveries
+     *
+     * @return the highest consumed delivery tag passed, to be used for a cumulative acknowledgement, or -1 if there is none
+     */
+    long advance() {
+        long result = -1L;
+        while (this.frontier < this.last) {
+            final long next = this.frontier + 1;
+            final byte state = get(next);
+            if (state == ACKABLE) {
+                result = next;
+                this.ackableCount--;
+            } else if (state != SETTLED) {
+                break;
+            }
+            set(next, FREE);
+            this.frontier = next;
+        }
+        return result;
+    }
+
+    private boolean update(long tag, byte state) {
+        if (tag <= this.frontier || tag > this.last) {
+            return false;
+        }
+        final byte current = get(tag);
+        if (current == ACKABLE) {
+            this.ackableCount--;
+        }
+        set(tag, state);
+        return true;
+    }
+
+    private byte get(long tag) {
+        return this.states[(int) (tag & this.mask)];
+    }
+
+    private void set(long tag, byte state) {
+        this.states[(int) (tag & this.mask)] = state;
+    }
+
+    private void grow() {
+        final byte[] newStates = new byte[this.states.length << 1];
+        final int newMask = newStates.length - 1;
+        for (long tag = this.frontier + 1; tag <= this.last; tag++) {
+            newStates[(int) (tag & newMask)] = this.states[(int) (tag & this.mask)];
+        }
+        this.states = newStates;
+        this.mask = newMask;
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.impl.libs.adapters.amqp;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Tracks messages waiting for a publisher confirm on a single channel.
+ * <p>
+ * Publish sequence numbers on a channel are strictly increasing, so pending messages are kept in a ring
+ * indexed directly by the sequence number. Registering and confirming a message does not allocate; the ring
+ * only grows when more messages are in flight than it can hold.
+ *
+ * @param <T> the type of the tracked message
+ */
+final class PublishConfirmTracker<T> {
+
+    private Object[] slots;
+    private int mask;
+    private int size;
+    private long first = 1L;
+    private long last = 0L;
+
+    /**
+     * Constructs a new tracker
+     *
+     * @param initialCapacity the initial number of in-flight messages the ring can hold (rounded up to a power of two)
+     */
+    PublishConfirmTracker(int initialCapacity) {
+        checkArgument(initialCapacity > 0, "parameter 'initialCapacity' is zero or less");
+
+        int capacity = Integer.highestOneBit(initialCapacity);
+        if (capacity < initialCapacity) {
+            capacity <<= 1;
+        }
+        this.slots = new Object[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Registers a message published with the provided sequence number
+     *
+     * @param tag the publish sequence number of the message
+     * @param msg the published message
+     */
+    synchronized void put(long tag, T msg) {
+        checkArgument(tag > this.last, "publish sequence number must be increasing");
+
+        if (this.size == 0) {
+            this.first = tag;
+        }
+        while ((tag - this.first) >= this.slots.length) {
+            grow();
+        }
+        this.slots[(int) (tag & this.mask)] = msg;
+        this.last = tag;
+        this.size++;
+    }
+
+    /**
+     * Removes the message with the provided sequence number
+     *
+     * @param tag the publish sequence number
+     * @return the removed message or a null reference if no message is pending under the provided tag
+     */
+    @SuppressWarnings("unchecked")
+    synchronized T remove(long tag) {
+        if (this.size == 0 || tag < this.first || tag > this.last) {
+            return null;
+        }
+        final int index = (int) (tag & this.mask);
+        final T result = (T) this.slots[index];
+        if (result != null) {
+            this.slots[index] = null;
+            this.size--;
+            skipConfirmed();
+        }
+        return result;
+    }
+
+    /**
+     * Removes the pending message with the lowest sequence number if that number is less or equal to the provided one.
+     * Used to walk the messages covered by a confirm with the multiple flag set.
+     *
+     * @param tag the highest sequence number to be removed
+     * @return the removed message or a null reference if no such message is pending
+     */
+    @SuppressWarnings("unchecked")
+    synchronized T pollUpTo(long tag) {
+        if (this.size == 0 || this.first > tag) {
+            return null;
+        }
+        final int index = (int) (this.first & this.mask);
+        final T result = (T) this.slots[index];
+        this.slots[index] = null;
+        this.size--;
+        this.first++;
+        skipConfirmed();
+        return result;
+    }
+
+    /**
+     * Removes the pending message with the lowest sequence number
+     *
+     * @return the removed message or a null reference if the tracker is empty
+     */
+    synchronized T pollFirst() {
+        return pollUpTo(this.last);
+    }
+
+    synchronized int size() {
+        return this.size;
+    }
+
+    private void skipConfirmed() {
+        if (this.size == 0) {
+            this.first = this.last + 1;
+            return;
+        }
+        while (this.slots[(int) (this.first & this.mask)] == null) {
+            this.first++;
+        }
+    }
+
+    private void grow() {
+        final Object[] newSlots = new Object[this.slots.length << 1];
+        final int newMask = newSlots.length - 1;
+        for (long tag = this.first; tag <= this.last; tag++) {
+            newSlots[(int) (tag & newMask)] = this.slots[(int) (tag & this.mask)];
+        }
+        this.slots = newSlots;
+        this.mask = newMask;
+    }
+}
@@ -5,8 +5,11 @@
 package com.sportradar.mts.sdk.impl.libs.adapters.amqp;
 
 import com.google.common.base.Preconditions;
+import com.rabbitmq.client.AMQP;
 import com.rabbitmq.client.Channel;
-import com.rabbitmq.client.QueueingConsumer;
+import com.rabbitmq.client.DefaultConsumer;
+import com.rabbitmq.client.Envelope;
+import com.rabbitmq.client.ShutdownSignalException;
 import com.sportradar.mts.sdk.api.utils.SdkInfo;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -18,6 +21,12 @@ import java.lang.management.ManagementFactory;
 import java.text.Format;
 import java.text.SimpleDateFormat;
 import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -27,12 +36,20 @@ public final class RabbitMqConsumer extends RabbitMqBase implements AmqpConsumer
 
     public static final String AMQP_HEADER_REPLY_ROUTING_KEY = "replyRoutingKey";
     private static final Logger logger = LoggerFactory.getLogger(RabbitMqConsumer.class);
+
+    /**
+     * The number of dispatch workers when none is specified, deliveries are consumed on the channel's dispatch thread
+     */
+    public static final int DEFAULT_DISPATCH_WORKERS = 1;
+
+    private static final long ACK_FLUSH_MILLIS = 100L;
     private AmqpMessageReceiver msgHandler;
     private final String queueName;
     private final String origRoutingKey;
     private final Set<String> routingKeys;
     private final int maxRetryCount;
     private final int prefetchCount;
+    private final int dispatchWorkers;
     private final AmqpCluster amqpCluster;
     // survive broker restart
     private boolean durable = true;
@@ -43,7 +60,7 @@ public final class RabbitMqConsumer extends RabbitMqBase implements AmqpConsumer
     // the exchange will get deleted as soon as there are no more queues bound to it
     private boolean autoDelete = false;
     // indicates if the sdk should manually ack (on rabbit) each received ticket
-    private boolean autoMessageAcknowledgmentEnabled = true;
+    private volatile boolean autoMessageAcknowledgmentEnabled = true;
 
     @SuppressWarnings("java:S107") // Methods should not have too many parameters
     public RabbitMqConsumer(ChannelFactoryProvider channelFactoryProvider,
@@ -58,6 +75,35 @@ public final class RabbitMqConsumer extends RabbitMqBase implements AmqpConsumer
                             int concurrencyLevel,
                             boolean deleteQueueOnClose,
                             boolean exclusiveConsumer) {
+        this(channelFactoryProvider,
+             routingKey,
+             instanceName,
+             mqCluster,
+             exchangeName,
+             exchangeType,
+             queueName,
+             maxRetryCount,
+             prefetchCount,
+             concurrencyLevel,
+             DEFAULT_DISPATCH_WORKERS,
+             deleteQueueOnClose,
+             exclusiveConsumer);
+    }
+
+    @SuppressWarnings("java:S107") // Methods should not have too many parameters
+    public RabbitMqConsumer(ChannelFactoryProvider channelFactoryProvider,
+                            String routingKey,
+                            String instanceName,
+                            AmqpCluster mqCluster,
+                            String exchangeName,
+                            ExchangeType exchangeType,
+                            String queueName,
+                            int maxRetryCount,
+                            int prefetchCount,
+                            int concurrencyLevel,
+                            int dispatchWorkers,
+                            boolean deleteQueueOnClose,
+                            boolean exclusiveConsumer) {
         super(channelFactoryProvider,
               instanceName,
               mqCluster,
@@ -69,12 +115,14 @@ public final class RabbitMqConsumer extends RabbitMqBase implements AmqpConsumer
         checkNotNull(routingKey, "parameter 'routingKey' is null");
         Preconditions.checkArgument(maxRetryCount > 0, "parameter 'maxRetryCount' is zero or less");
         Preconditions.checkArgument(prefetchCount > 0, "parameter 'prefetchCount' is zero or less");
+        Preconditions.checkArgument(dispatchWorkers > 0, "parameter 'dispatchWorkers' is zero or less");
 
         this.queueName = queueName;
         this.origRoutingKey = routingKey;
         this.routingKeys = getRoutingKeys(routingKey);
         this.maxRetryCount = maxRetryCount;
         this.prefetchCount = prefetchCount;
+        this.dispatchWorkers = dispatchWorkers;
         this.amqpCluster = mqCluster;
         this.exclusiveConsumer = exclusiveConsumer;
     }
@@ -104,62 +152,286 @@ public final class RabbitMqConsumer extends RabbitMqBase implements AmqpConsumer
 //        noLocal - flag set to true unless server local buffering is required
 //        exclusive - true if this is an exclusive consumer
 //        callback - an interface to the consumer object
-        QueueingConsumer consumer = new QueueingConsumer(channel);
-        String consumerName = channel.basicConsume(this.queueName, autoMessageAcknowledgmentEnabled, consumerTag, false, exclusiveConsumer, null, consumer);
-
-        final int throwSafetyDisconnectExcLimit = (this.prefetchCount * 2);
-        final int maxCountOfLocalMsgs = Math.max(1, this.prefetchCount >> 1);
-        int throwSafetyDisconnectExcCount = 0;
-        int retryQueueSize = 0;
-        Queue<DeliveryWrapper> retryQueue = new LinkedList<>();
-
-        while (this.isOpen()) {
-            if (Thread.interrupted()) {
-                throw new InterruptedException("thread has been interrupted while actively working");
+        final PushConsumer consumer = new PushConsumer(channel, threadId);
+        consumer.consumerName = channel.basicConsume(this.queueName, autoMessageAcknowledgmentEnabled, consumerTag, false, exclusiveConsumer, null, consumer);
+
+        try {
+            consumer.processRetries();
+        } finally {
+            consumer.close();
+        }
+    }
+
+    @Override
+    public void setMessageReceivedHandler(AmqpMessageReceiver msgHandler) {
+        checkNotNull(msgHandler, "checkNotNull cannot be null");
+        this.msgHandler = msgHandler;
+    }
+
+    /**
+     * Sets whether the broker acknowledges deliveries automatically. When disabled, deliveries are acknowledged
+     * once consumed, cumulatively where possible, and failed ones are retried. Must be set before the consumer is
+     * opened, the broker-side acknowledgement mode is chosen when the consumer subscribes.
+     *
+     * @param autoMessageAcknowledgmentEnabled <code>true</code> to let the broker acknowledge deliveries
+     */
+    void setAutoMessageAcknowledgmentEnabled(boolean autoMessageAcknowledgmentEnabled) {
+        this.autoMessageAcknowledgmentEnabled = autoMessageAcknowledgmentEnabled;
+    }
+
+    private static Set<String> getRoutingKeys(final String input) {
+        final String[] keys = input.split(";");
+        final Set<String> result = new HashSet<>();
+        for (final String key : keys) {
+            result.add(key.trim());
+        }
+        return result;
+    }
+
+    private Map<String, Object> convertHeaders(Map<String, Object> headers) {
+        Map<String, Object> converted = new HashMap<>();
+
+        if (headers == null || headers.isEmpty()) {
+            return converted;
+        }
+
+        // convert LongStringHelper$ByteArrayLongString to String
+        if (headers.containsKey(AMQP_HEADER_REPLY_ROUTING_KEY)) {
+            converted.put(AMQP_HEADER_REPLY_ROUTING_KEY, headers.get(AMQP_HEADER_REPLY_ROUTING_KEY).toString());
+            headers.remove(AMQP_HEADER_REPLY_ROUTING_KEY);
+        }
+        // convert other headers as needed here
+        // ...
+
+        // any remaining headers pass through
+        converted.putAll(headers);
+
+        return converted;
+    }
+
+    private static final class DeliveryWrapper {
+
+        private final Envelope envelope;
+        private final AMQP.BasicProperties properties;
+        private final byte[] body;
+        private int retryCount;
+
+        private DeliveryWrapper(Envelope envelope, AMQP.BasicProperties properties, byte[] body) {
+            this.envelope = envelope;
+            this.properties = properties;
+            this.body = body;
+        }
+    }
+
+    /**
+     * Receives deliveries pushed by the broker and hands them to the {@link AmqpMessageReceiver}, either directly on
+     * the channel's dispatch thread or, with more than one dispatch worker, on a worker selected by the correlation
+     * id so that deliveries sharing it are consumed in order. Deliveries which have to be retried are kept locally
+     * and dispatched again by the consumer thread, which also flushes the cumulative acknowledgements when no new
+     * deliveries arrive. Retry bookkeeping and acknowledging are serialized through a single lock, which is never
+     * held while a delivery is consumed or the consumer thread sleeps; with a single dispatcher a separate lock keeps
+     * deliveries and retries consumed one at a time.
+     */
+    private final class PushConsumer extends DefaultConsumer {
+
+        private final int threadId;
+        private final int throwSafetyDisconnectExcLimit = (prefetchCount * 2);
+        private final int maxCountOfLocalMsgs = Math.max(1, prefetchCount >> 1);
+        private final int ackBatchSize = Math.max(1, prefetchCount >> 1);
+        private final Queue<DeliveryWrapper> retryQueue = new ArrayDeque<>();
+        private final DeliveryAckTracker ackTracker = new DeliveryAckTracker(prefetchCount);
+        private final ReentrantLock lock = new ReentrantLock();
+        private final ReentrantLock dispatchLock = new ReentrantLock();
+        private final Condition workAvailable = lock.newCondition();
+        private final ExecutorService[] workers;
+        private volatile String consumerName;
+        private volatile boolean cancelled = false;
+        private int throwSafetyDisconnectExcCount = 0;
+
+        private PushConsumer(Channel channel, int threadId) {
+            super(channel);
+            this.threadId = threadId;
+            if (dispatchWorkers > 1) {
+                this.workers = new ExecutorService[dispatchWorkers];
+                for (int i = 0; i < dispatchWorkers; i++) {
+                    final String name = "rabbitmq-" + queueName + "-dispatch-" + threadId + "-" + (i + 1);
+                    this.workers[i] = Executors.newSingleThreadExecutor(runnable -> {
+                        final Thread thread = new Thread(runnable, name);
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                }
+            } else {
+                this.workers = null;
             }
+        }
 
-            if (throwSafetyDisconnectExcCount > throwSafetyDisconnectExcLimit) {
-                logger.warn("Safety sleep!!! [exName={}, qName={}, rKey={}]",
-                            this.exchangeName, this.queueName, this.origRoutingKey);
-                Thread.sleep(32000L);
-                throwSafetyDisconnectExcCount = 0;
+        @Override
+        public void handleDelivery(String consumerTag,
+                                   Envelope envelope,
+                                   AMQP.BasicProperties properties,
+                                   byte[] body) throws IOException {
+            final DeliveryWrapper delivery = new DeliveryWrapper(envelope, properties, body);
+            if (!autoMessageAcknowledgmentEnabled) {
+                this.lock.lock();
+                try {
+                    this.ackTracker.delivered(envelope.getDeliveryTag());
+                } finally {
+                    this.lock.unlock();
+                }
             }
+            this.dispatch(delivery);
+        }
+
+        @Override
+        public void handleCancel(String consumerTag) {
+            logger.warn("consumer={} was cancelled by the broker [exName={}, qName={}]",
+                        consumerTag, exchangeName, queueName);
+            this.cancelled = true;
+            this.signal();
+        }
 
-            int retryCount = 0;
-
-            QueueingConsumer.Delivery delivery = consumer.nextDelivery(0L);
-            if (delivery == null) {
-                if (retryQueueSize > 0) {
-                    DeliveryWrapper tmp = retryQueue.poll();
-                    delivery = tmp.delivery;
-                    retryCount = tmp.retryCount;
-                    retryQueueSize--;
-                } else {
-                    delivery = consumer.nextDelivery(WAIT_FOR_TASK_MILLIS);
+        @Override
+        public void handleShutdownSignal(String consumerTag, ShutdownSignalException sig) {
+            this.signal();
+        }
+
+        /**
+         * Runs on the consumer thread until the consumer is closed or the channel goes down
+         */
+        private void processRetries() throws InterruptedException, IOException {
+            final Channel channel = this.getChannel();
+            while (isOpen()) {
+                if (Thread.interrupted()) {
+                    throw new InterruptedException("thread has been interrupted while actively working");
+                }
+                if (!channel.isOpen()) {
+                    throw channel.getCloseReason();
+                }
+                if (this.cancelled) {
+                    throw new IOException("consumer has been cancelled by the broker");
+                }
+
+                final boolean safetySleep;
+                this.lock.lockInterruptibly();
+                try {
+                    safetySleep = this.throwSafetyDisconnectExcCount > this.throwSafetyDisconnectExcLimit;
+                } finally {
+                    this.lock.unlock();
                 }
+                if (safetySleep) {
+                    logger.warn("Safety sleep!!! [exName={}, qName={}, rKey={}]",
+                                exchangeName, queueName, origRoutingKey);
+                    Thread.sleep(32000L);
+                    this.lock.lockInterruptibly();
+                    try {
+                        this.throwSafetyDisconnectExcCount = 0;
+                    } finally {
+                        this.lock.unlock();
+                    }
+                }
+
+                final DeliveryWrapper retry;
+                this.lock.lockInterruptibly();
+                try {
+                    retry = this.retryQueue.poll();
+                    if (retry == null) {
+                        this.flushAcks();
+                        this.workAvailable.await(this.ackTracker.getAckableCount() > 0 ? ACK_FLUSH_MILLIS : WAIT_FOR_TASK_MILLIS,
+                                                 TimeUnit.MILLISECONDS);
+                    }
+                } finally {
+                    this.lock.unlock();
+                }
+                if (retry != null) {
+                    this.dispatch(retry);
+                }
+            }
+        }
+
+        private void close() {
+            if (this.workers != null) {
+                for (ExecutorService worker : this.workers) {
+                    worker.shutdown();
+                }
+                try {
+                    for (ExecutorService worker : this.workers) {
+                        worker.awaitTermination(WAIT_FOR_TASK_MILLIS, TimeUnit.MILLISECONDS);
+                    }
+                } catch (InterruptedException exc) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            this.lock.lock();
+            try {
+                if (this.getChannel().isOpen()) {
+                    this.flushAcks();
+                }
+            } catch (Exception exc) {
+                logger.warn("Failed to acknowledge consumed messages on close [exName={}, qName={}]",
+                            exchangeName, queueName, exc);
+            } finally {
+                this.lock.unlock();
+            }
+        }
+
+        private void signal() {
+            this.lock.lock();
+            try {
+                this.workAvailable.signal();
+            } finally {
+                this.lock.unlock();
+            }
+        }
+
+        private void dispatch(DeliveryWrapper delivery) throws IOException {
+            if (this.workers == null) {
+                // a single dispatcher keeps consuming and settling serialized, including retries
+                this.dispatchLock.lock();
+                try {
+                    this.complete(delivery, this.consume(delivery));
+                } finally {
+                    this.dispatchLock.unlock();
+                }
+                return;
             }
-            if (delivery == null) {
-                continue;
+
+            final String key = delivery.properties.getCorrelationId();
+            final int index = Math.floorMod(key == null ? delivery.body.length : key.hashCode(), this.workers.length);
+            try {
+                this.workers[index].execute(() -> {
+                    try {
+                        this.complete(delivery, this.consume(delivery));
+                    } catch (Exception exc) {
+                        logger.error("Failed to settle msg={} [exName={}, qName={}]",
+                                     delivery.envelope.getDeliveryTag(), exchangeName, queueName, exc);
+                    }
+                });
+            } catch (RejectedExecutionException exc) {
+                logger.warn("consumer is closing, msg={} will be redelivered [exName={}, qName={}]",
+                            delivery.envelope.getDeliveryTag(), exchangeName, queueName);
             }
+        }
 
+        private MessageStatus consume(DeliveryWrapper delivery) {
             if(logger.isTraceEnabled()) {
                 logger.trace("CONSUME START: consumer={} tId={} received msg with routingKey={}, exchange={} and deliveryTag={}",
                              consumerName,
                              threadId,
-                             delivery.getEnvelope().getRoutingKey(),
-                             delivery.getEnvelope().getExchange(),
-                             delivery.getEnvelope().getDeliveryTag());
-                String msg = new String(delivery.getBody());
+                             delivery.envelope.getRoutingKey(),
+                             delivery.envelope.getExchange(),
+                             delivery.envelope.getDeliveryTag());
+                String msg = new String(delivery.body);
                 logger.trace("CONSUME Message: {}", msg);
-                logger.trace("CONSUME Properties: {}", delivery.getProperties());
+                logger.trace("CONSUME Properties: {}", delivery.properties);
             }
             MessageStatus messageStatus;
             try {
-                messageStatus = this.msgHandler.consume(
-                        delivery.getBody(),
-                        delivery.getEnvelope().getRoutingKey(),
-                        delivery.getProperties().getCorrelationId(),
-                        convertHeaders(delivery.getProperties().getHeaders()));
+                messageStatus = msgHandler.consume(
+                        delivery.body,
+                        delivery.envelope.getRoutingKey(),
+                        delivery.properties.getCorrelationId(),
+                        convertHeaders(delivery.properties.getHeaders()));
             } catch (Exception exc) {
                 logger.error("Exception thrown by consumer (setting result to 'RetryLimited'): ", exc);
                 messageStatus = MessageStatus.RETRY_LIMITED;
@@ -176,118 +448,99 @@ public final class RabbitMqConsumer extends RabbitMqBase implements AmqpConsumer
                              threadId,
                              messageStatus);
             }
+            return messageStatus;
+        }
 
+        private void complete(DeliveryWrapper delivery, MessageStatus messageStatus) throws IOException {
             if(autoMessageAcknowledgmentEnabled){
-                continue;
+                return;
             }
+            this.lock.lock();
+            try {
+                this.settle(delivery, messageStatus);
+            } finally {
+                this.lock.unlock();
+            }
+        }
+
+        private void settle(DeliveryWrapper delivery, MessageStatus messageStatus) throws IOException {
+            final Channel channel = this.getChannel();
+            final long deliveryTag = delivery.envelope.getDeliveryTag();
             /*
              * Msg handled
              */
             if (MessageStatus.CONSUMED_SUCCESSFULLY.equals(messageStatus)) {
-                channel.basicAck(delivery.getEnvelope().getDeliveryTag(), false);
-                throwSafetyDisconnectExcCount = 0;
-                logger.trace("consumer={} tId={} acked msg={}",
-                             consumerName,
-                             threadId,
-                             delivery.getEnvelope().getDeliveryTag());
-                continue;
-            }
-
-                /*
-                 * Msg should be retried forever
-                 */
-            if (MessageStatus.RETRY_FOREVER.equals(messageStatus)) {
-                while (maxCountOfLocalMsgs <= retryQueueSize) {
-                    DeliveryWrapper tmp = retryQueue.poll();
-                    retryQueueSize--;
-                    channel.basicNack(tmp.delivery.getEnvelope().getDeliveryTag(), false, true);
-                    throwSafetyDisconnectExcCount++;
-                }
-                DeliveryWrapper dw = new DeliveryWrapper();
-                dw.delivery = delivery;
-                dw.retryCount = retryCount;
-                retryQueue.add(dw);
-                retryQueueSize++;
-                continue;
+                this.ack(deliveryTag);
+                this.throwSafetyDisconnectExcCount = 0;
+                return;
             }
 
             /*
              * Msg should be retried limited times
              */
-            retryCount++;
-            if (retryCount >= this.maxRetryCount) {
-                logger.error(
-                        "msg={}, content={} did not get consumed, retry limit reached={}, dropping msg!!! [exName={}, qName={}, rKey={}]",
-                        delivery.getEnvelope().getDeliveryTag(),
-                        new String(delivery.getBody()),
-                        this.maxRetryCount,
-                        this.exchangeName,
-                        this.queueName,
-                        this.origRoutingKey);
-                channel.basicAck(delivery.getEnvelope().getDeliveryTag(), false);
-                try {
-                    this.msgHandler.afterLimitReached(delivery.getBody(),
-                                                      delivery.getEnvelope().getRoutingKey(),
-                                                      delivery.getProperties().getCorrelationId());
-                } catch (Exception exc) {
-                    logger.error("Exception thrown by consumer after limit reached: ", exc);
-                }
-            } else {
-                while (maxCountOfLocalMsgs <= retryQueueSize) {
-                    DeliveryWrapper tmp = retryQueue.poll();
-                    retryQueueSize--;
-                    channel.basicNack(tmp.delivery.getEnvelope().getDeliveryTag(), false, true);
-                    throwSafetyDisconnectExcCount++;
+            if (!MessageStatus.RETRY_FOREVER.equals(messageStatus)) {
+                delivery.retryCount++;
+                if (delivery.retryCount >= maxRetryCount) {
+                    logger.error(
+                            "msg={}, content={} did not get consumed, retry limit reached={}, dropping msg!!! [exName={}, qName={}, rKey={}]",
+                            deliveryTag,
+                            new String(delivery.body),
+                            maxRetryCount,
+                            exchangeName,
+                            queueName,
+                            origRoutingKey);
+                    this.ack(deliveryTag);
+                    try {
+                        msgHandler.afterLimitReached(delivery.body,
+                                                     delivery.envelope.getRoutingKey(),
+                                                     delivery.properties.getCorrelationId());
+                    } catch (Exception exc) {
+                        logger.error("Exception thrown by consumer after limit reached: ", exc);
+                    }
+                    return;
                 }
-                DeliveryWrapper dw = new DeliveryWrapper();
-                dw.delivery = delivery;
-                dw.retryCount = retryCount;
-                retryQueue.add(dw);
-                retryQueueSize++;
             }
-        }
-    }
 
-    @Override
-    public void setMessageReceivedHandler(AmqpMessageReceiver msgHandler) {
-        checkNotNull(msgHandler, "checkNotNull cannot be null");
-        this.msgHandler = msgHandler;
-    }
-
-    private static Set<String> getRoutingKeys(final String input) {
-        final String[] keys = input.split(";");
-        final Set<String> result = new HashSet<>();
-        for (final String key : keys) {
-            result.add(key.trim());
+            /*
+             * Msg should be retried
+             */
+            while (this.maxCountOfLocalMsgs <= this.retryQueue.size()) {
+                DeliveryWrapper tmp = this.retryQueue.poll();
+                channel.basicNack(tmp.envelope.getDeliveryTag(), false, true);
+                this.ackTracker.settled(tmp.envelope.getDeliveryTag());
+                this.throwSafetyDisconnectExcCount++;
+            }
+            this.ackTracker.retrying(deliveryTag);
+            this.retryQueue.add(delivery);
+            this.workAvailable.signal();
         }
-        return result;
-    }
-
-    private Map<String, Object> convertHeaders(Map<String, Object> headers) {
-        Map<String, Object> converted = new HashMap<>();
 
-        if (headers == null || headers.isEmpty()) {
-            return converted;
+        /**
+         * Acknowledges the delivery. The acknowledgement is deferred and later sent as a single cumulative ack
+         * covering all contiguous consumed deliveries; only while an earlier delivery waits for a retry is the
+         * delivery acknowledged on its own.
+         */
+        private void ack(long deliveryTag) throws IOException {
+            if (this.ackTracker.hasRetryingBefore(deliveryTag)) {
+                this.getChannel().basicAck(deliveryTag, false);
+                this.ackTracker.settled(deliveryTag);
+                logger.trace("consumer={} tId={} acked msg={}", consumerName, threadId, deliveryTag);
+                return;
+            }
+            this.ackTracker.ackable(deliveryTag);
+            if (this.ackTracker.getAckableCount() >= this.ackBatchSize) {
+                this.flushAcks();
+            }
         }
 
-        // convert LongStringHelper$ByteArrayLongString to String
-        if (headers.containsKey(AMQP_HEADER_REPLY_ROUTING_KEY)) {
-            converted.put(AMQP_HEADER_REPLY_ROUTING_KEY, headers.get(AMQP_HEADER_REPLY_ROUTING_KEY).toString());
-            headers.remove(AMQP_HEADER_REPLY_ROUTING_KEY);
+        private void flushAcks() throws IOException {
+            final long deliveryTag = this.ackTracker.advance();
+            if (deliveryTag < 0L) {
+                return;
+            }
+            this.getChannel().basicAck(deliveryTag, true);
+            logger.trace("consumer={} tId={} acked msgs up to {}", consumerName, threadId, deliveryTag);
         }
-        // convert other headers as needed here
-        // ...
-
-        // any remaining headers pass through
-        converted.putAll(headers);
-
-        return converted;
-    }
-
-    private static final class DeliveryWrapper {
-
-        public QueueingConsumer.Delivery delivery;
-        public int retryCount;
     }
 
     public static long getPID()
@@ -5,13 +5,18 @@
 package com.sportradar.mts.sdk.impl.libs.adapters.amqp;
 
 import com.rabbitmq.client.*;
+import com.sportradar.mts.sdk.api.enums.SendBufferOverflowPolicy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
@@ -21,10 +26,23 @@ public final class RabbitMqProducer extends RabbitMqBase implements AmqpProducer
 
     private static final Logger logger = LoggerFactory.getLogger(RabbitMqProducer.class);
 
-    private final BlockingQueue<AcceptedMessage> normalQueue = new LinkedTransferQueue<>();
-    private final BlockingQueue<AcceptedMessage> redeliveryQueue = new LinkedTransferQueue<>();
+    /**
+     * The number of messages published per loop iteration when no batch size is specified
+     */
+    public static final int DEFAULT_PUBLISH_BATCH_SIZE = 1;
+
+    /**
+     * The time a sending thread waits for free buffer capacity when no timeout is specified
+     */
+    public static final Duration DEFAULT_BLOCK_TIMEOUT = Duration.ofSeconds(5);
+
+    private final Stripe[] stripes;
+    private final AtomicInteger nextStripe = new AtomicInteger();
     private final int maxRetryCount;
-    private final int maxBufferSize;
+    private final int stripeBufferSize;
+    private final int publishBatchSize;
+    private final SendBufferOverflowPolicy overflowPolicy;
+    private final long blockTimeoutMillis;
     private final AMQP.BasicProperties msgProperties;
     private final boolean waitForPublishConfirmations;
     private final boolean isPublishMandatory;
@@ -42,6 +60,64 @@ public final class RabbitMqProducer extends RabbitMqBase implements AmqpProducer
                             boolean msgMemOnly,
                             boolean waitForPublishConfirmations,
                             boolean mandatory) {
+        this(channelFactoryProvider,
+                instanceName,
+                mqCluster,
+                exchangeName,
+                exchangeType,
+                maxRetryCount,
+                maxBufferSize,
+                concurrencyLevel,
+                DEFAULT_PUBLISH_BATCH_SIZE,
+                msgMemOnly,
+                waitForPublishConfirmations,
+                mandatory);
+    }
+
+    @SuppressWarnings("java:S107") // Methods should not have too many parameters
+    public RabbitMqProducer(ChannelFactoryProvider channelFactoryProvider,
+                            String instanceName,
+                            AmqpCluster mqCluster,
+                            String exchangeName,
+                            ExchangeType exchangeType,
+                            int maxRetryCount,
+                            int maxBufferSize,
+                            int concurrencyLevel,
+                            int publishBatchSize,
+                            boolean msgMemOnly,
+                            boolean waitForPublishConfirmations,
+                            boolean mandatory) {
+        this(channelFactoryProvider,
+                instanceName,
+                mqCluster,
+                exchangeName,
+                exchangeType,
+                maxRetryCount,
+                maxBufferSize,
+                concurrencyLevel,
+                publishBatchSize,
+                SendBufferOverflowPolicy.REJECT,
+                DEFAULT_BLOCK_TIMEOUT,
+                msgMemOnly,
+                waitForPublishConfirmations,
+                mandatory);
+    }
+
+    @SuppressWarnings("java:S107") // Methods should not have too many parameters
+    public RabbitMqProducer(ChannelFactoryProvider channelFactoryProvider,
+                            String instanceName,
+                            AmqpCluster mqCluster,
+                            String exchangeName,
+                            ExchangeType exchangeType,
+                            int maxRetryCount,
+                            int maxBufferSize,
+                            int concurrencyLevel,
+                            int publishBatchSize,
+                            SendBufferOverflowPolicy overflowPolicy,
+                            Duration blockTimeout,
+                            boolean msgMemOnly,
+                            boolean waitForPublishConfirmations,
+                            boolean mandatory) {
         super(channelFactoryProvider,
                 instanceName,
                 mqCluster,
@@ -51,9 +127,20 @@ public final class RabbitMqProducer extends RabbitMqBase implements AmqpProducer
 
         checkArgument(maxRetryCount > 0, "parameter 'maxRetryCount' is zero or less");
         checkArgument(maxBufferSize > 0, "parameter 'maxBufferSize' is zero or less");
+        checkArgument(publishBatchSize > 0, "parameter 'publishBatchSize' is zero or less");
+        checkNotNull(overflowPolicy, "parameter 'overflowPolicy' is null");
+        checkNotNull(blockTimeout, "parameter 'blockTimeout' is null");
+        checkArgument(!blockTimeout.isNegative(), "parameter 'blockTimeout' is negative");
 
         this.maxRetryCount = maxRetryCount;
-        this.maxBufferSize = maxBufferSize;
+        this.stripeBufferSize = Math.max(1, (maxBufferSize + concurrencyLevel - 1) / concurrencyLevel);
+        this.stripes = new Stripe[concurrencyLevel];
+        for (int i = 0; i < concurrencyLevel; i++) {
+            this.stripes[i] = new Stripe(new SendBuffer<>(this.stripeBufferSize, this::execute));
+        }
+        this.overflowPolicy = overflowPolicy;
+        this.blockTimeoutMillis = blockTimeout.toMillis();
+        this.publishBatchSize = publishBatchSize;
         this.msgProperties = msgMemOnly ? MessageProperties.BASIC : MessageProperties.PERSISTENT_BASIC;
         this.waitForPublishConfirmations = waitForPublishConfirmations;
         this.isPublishMandatory = mandatory;
@@ -65,12 +152,53 @@ public final class RabbitMqProducer extends RabbitMqBase implements AmqpProducer
                                     byte[] msg,
                                     String routingKey,
                                     Map<String, Object> messageHeaders) {
-        return this.sendAsyncInternal(correlationId, msg, routingKey, messageHeaders, null);
+        return this.sendAsyncInternal(null, correlationId, msg, routingKey, messageHeaders, null);
+    }
+
+    @Override
+    public AmqpSendResult sendAsyncOrdered(String orderingKey,
+                                           String correlationId,
+                                           byte[] msg,
+                                           String routingKey,
+                                           Map<String, Object> messageHeaders) {
+        return this.sendAsyncInternal(orderingKey, correlationId, msg, routingKey, messageHeaders, null);
+    }
+
+    @Override
+    public AmqpSendResult trySendAsyncOrdered(String orderingKey,
+                                              String correlationId,
+                                              byte[] msg,
+                                              String routingKey,
+                                              Map<String, Object> messageHeaders) {
+        return this.sendAsyncInternal(orderingKey,
+                correlationId,
+                msg,
+                routingKey,
+                messageHeaders,
+                null,
+                SendBufferOverflowPolicy.REJECT);
+    }
+
+    @Override
+    public CompletionStage<AmqpSendResult> sendAsyncOrderedWhenReady(String orderingKey,
+                                                                     String correlationId,
+                                                                     byte[] msg,
+                                                                     String routingKey,
+                                                                     Map<String, Object> messageHeaders) {
+        checkNotNull(msg, "parameter 'msg' is null");
+        checkNotNull(routingKey, "parameter 'routingKey' is null");
+        checkArgument(msg.length != 0, "parameter 'msg' is empty");
+        checkNotNull(messageHeaders, "parameter 'messageHeaders' is null");
+        checkState(this.isOpen(), "connector is closed");
+
+        final AcceptedMessage task = this.createTask(correlationId, msg, routingKey, messageHeaders, null);
+        return this.selectStripe(orderingKey).buffer.offerWhenReady(task).thenApply(ignored -> task);
     }
 
     @Override
     public boolean sendAsync(String correlationId, byte[] msg, Consumer<AmqpSendResult> doneCallback) {
-        final AmqpSendResult result = this.sendAsyncInternal(correlationId,
+        final AmqpSendResult result = this.sendAsyncInternal(null,
+                correlationId,
                 msg,
                 DEFAULT_ROUTING_KEY,
                 new HashMap<>(),
@@ -83,7 +211,8 @@ public final class RabbitMqProducer extends RabbitMqBase implements AmqpProducer
                              byte[] msg,
                              Map<String, Object> messageHeaders,
                              Consumer<AmqpSendResult> doneCallback) {
-        final AmqpSendResult result = this.sendAsyncInternal(correlationId,
+        final AmqpSendResult result = this.sendAsyncInternal(null,
+                correlationId,
                 msg,
                 DEFAULT_ROUTING_KEY,
                 messageHeaders,
@@ -96,7 +225,8 @@ public final class RabbitMqProducer extends RabbitMqBase implements AmqpProducer
                              byte[] msg,
                              String routingKey,
                              Consumer<AmqpSendResult> doneCallback) {
-        final AmqpSendResult result = this.sendAsyncInternal(correlationId,
+        final AmqpSendResult result = this.sendAsyncInternal(null,
+                correlationId,
                 msg,
                 routingKey,
                 new HashMap<>(),
@@ -110,7 +240,8 @@ public final class RabbitMqProducer extends RabbitMqBase implements AmqpProducer
                              String routingKey,
                              Map<String, Object> messageHeaders,
                              Consumer<AmqpSendResult> doneCallback) {
-        final AmqpSendResult result = this.sendAsyncInternal(correlationId,
+        final AmqpSendResult result = this.sendAsyncInternal(null,
+                correlationId,
                 msg,
                 routingKey,
                 messageHeaders,
@@ -122,7 +253,7 @@ public final class RabbitMqProducer extends RabbitMqBase implements AmqpProducer
     @Override
     public boolean send(String correlationId, byte[] msg, String routingKey, Map<String, Object> messageHeaders) {
         try {
-            return this.sendAsyncInternal(correlationId, msg, routingKey, messageHeaders, null).get();
+            return this.sendAsyncInternal(null, correlationId, msg, routingKey, messageHeaders, null).get();
         } catch (Exception exc) {
             logger.error("error in sending data", exc);
             Thread.currentThread().interrupt();
@@ -139,104 +270,178 @@ public final class RabbitMqProducer extends RabbitMqBase implements AmqpProducer
     protected void doWork(Channel channel, int threadId) throws
             InterruptedException,
             IOException {
+        final Stripe stripe = this.stripes[threadId - 1];
         if (this.waitForPublishConfirmations) {
-            this.sendAndWaitForConfirm(channel);
+            this.sendAndWaitForConfirm(channel, stripe);
         } else {
-            this.sendAndForget(channel);
+            this.sendAndForget(channel, stripe);
+        }
+        if (!this.isOpen()) {
+            stripe.buffer.failPendingOffers(new IllegalStateException("connector is closed"));
         }
     }
 
-    private AmqpSendResult sendAsyncInternal(String correlationId,
+    /**
+     * Selects the stripe (publishing thread and channel) for a new message. Messages sharing the same ordering
+     * key always end up on the same stripe so their relative order is preserved; messages without a key are
+     * spread in a round-robin fashion.
+     *
+     * @param orderingKey the ordering key or a null reference
+     * @return the selected stripe
+     */
+    private Stripe selectStripe(String orderingKey) {
+        if (this.stripes.length == 1) {
+            return this.stripes[0];
+        }
+        final int index = orderingKey == null
+                ? this.nextStripe.getAndIncrement()
+                : orderingKey.hashCode();
+        return this.stripes[Math.floorMod(index, this.stripes.length)];
+    }
+
+    private AmqpSendResult sendAsyncInternal(String orderingKey,
+                                             String correlationId,
                                              byte[] msg,
                                              String routingKey,
                                              Map<String, Object> messageHeaders,
                                              Consumer<AmqpSendResult> doneCallback) {
+        return this.sendAsyncInternal(orderingKey,
+                correlationId,
+                msg,
+                routingKey,
+                messageHeaders,
+                doneCallback,
+                this.overflowPolicy);
+    }
+
+    @SuppressWarnings("java:S107") // Methods should not have too many parameters
+    private AmqpSendResult sendAsyncInternal(String orderingKey,
+                                             String correlationId,
+                                             byte[] msg,
+                                             String routingKey,
+                                             Map<String, Object> messageHeaders,
+                                             Consumer<AmqpSendResult> doneCallback,
+                                             SendBufferOverflowPolicy policy) {
         checkNotNull(msg, "parameter 'msg' is null");
         checkNotNull(routingKey, "parameter 'routingKey' is null");
         checkArgument(msg.length != 0, "parameter 'msg' is empty");
         checkNotNull(messageHeaders, "parameter 'messageHeaders' is null");
+        checkState(this.isOpen(), "connector is closed");
 
-        int currentSize = this.normalQueue.size();
-        if (currentSize > this.maxBufferSize) {
-            logger.warn("buffer size limit reached [size={}, limit={}, exName={}]", currentSize, this.maxBufferSize, this.exchangeName);
+        final Stripe stripe = this.selectStripe(orderingKey);
+        final AcceptedMessage task = this.createTask(correlationId, msg, routingKey, messageHeaders, doneCallback);
+        if (!this.offer(stripe, task, policy)) {
+            logger.warn("buffer size limit reached [limit={}, policy={}, exName={}]",
+                    stripe.buffer.capacity(),
+                    policy,
+                    this.exchangeName);
             return new RejectedMessage(correlationId, msg, routingKey, messageHeaders, this);
         }
+        if ((!this.waitForPublishConfirmations) && (doneCallback != null)) {
+            doneCallback.accept(task);
+        }
+        return task;
+    }
 
-        checkState(this.isOpen(), "connector is closed");
-
-        AcceptedMessage task;
+    private AcceptedMessage createTask(String correlationId,
+                                       byte[] msg,
+                                       String routingKey,
+                                       Map<String, Object> messageHeaders,
+                                       Consumer<AmqpSendResult> doneCallback) {
         if (this.waitForPublishConfirmations) {
-            task = new AcceptedMessage(correlationId, msg, routingKey, messageHeaders, doneCallback, this);
-        } else {
-            task = new AcceptedMessageNoConfirm(correlationId, msg, routingKey, messageHeaders, null, this);
+            return new AcceptedMessage(correlationId, msg, routingKey, messageHeaders, doneCallback, this);
+        }
+        return new AcceptedMessageNoConfirm(correlationId, msg, routingKey, messageHeaders, null, this);
+    }
+
+    private boolean offer(Stripe stripe, AcceptedMessage task, SendBufferOverflowPolicy policy) {
+        if (stripe.buffer.offer(task)) {
+            return true;
+        }
+        switch (policy) {
+            case BLOCK:
+                try {
+                    return stripe.buffer.offer(task, this.blockTimeoutMillis, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException exc) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            case CALLER_RUNS:
+                return this.offerUntilAccepted(stripe, task);
+            default:
+                return false;
         }
-        if (this.normalQueue.offer(task)) {
-            if ((!this.waitForPublishConfirmations) && (doneCallback != null)) {
-                doneCallback.accept(task);
+    }
+
+    /**
+     * Waits until the stripe accepts the message or the producer is closed. Used when the buffer is full and the
+     * {@link SendBufferOverflowPolicy#CALLER_RUNS} policy is configured, so the caller is slowed down to the pace
+     * of the publishing thread instead of losing the message, and the message keeps its place among the messages
+     * with the same ordering key.
+     *
+     * @param stripe the stripe selected for the message
+     * @param task the message to be published
+     * @return <code>true</code> if the message was accepted, <code>false</code> if the producer was closed or the
+     * caller interrupted first
+     */
+    private boolean offerUntilAccepted(Stripe stripe, AcceptedMessage task) {
+        try {
+            while (this.isOpen()) {
+                if (stripe.buffer.offer(task, WAIT_FOR_TASK_MILLIS, TimeUnit.MILLISECONDS)) {
+                    return true;
+                }
             }
-            return task;
-        } else {
-            logger.warn("sendBlocking rejected [exName={}]", this.exchangeName);
-            return new RejectedMessage(correlationId, msg, routingKey, messageHeaders, this);
+        } catch (InterruptedException exc) {
+            Thread.currentThread().interrupt();
         }
+        return false;
     }
 
-    private void sendAndWaitForConfirm(Channel channel) throws
+    private void sendAndWaitForConfirm(Channel channel, Stripe stripe) throws
             InterruptedException,
             IOException {
 
-        final ConcurrentSkipListMap<Long, AcceptedMessage> msgWaitingForConfirm = new ConcurrentSkipListMap<>();
+        final PublishConfirmTracker<AcceptedMessage> msgWaitingForConfirm = new PublishConfirmTracker<>(Math.max(this.stripeBufferSize, this.publishBatchSize));
         final ConfirmListener msgConfirmedListener = new ConfirmListener() {
             @Override
             public void handleAck(final long tag, final boolean multiple) throws IOException {
                 if (multiple) {
-                    Map<Long, AcceptedMessage> confirmed = new HashMap<>(msgWaitingForConfirm.headMap(tag, true));
-                    for (Map.Entry<Long, AcceptedMessage> entry : confirmed.entrySet()) {
-                        entry.getValue().setResult(true);
-                        msgWaitingForConfirm.remove(entry.getKey());
+                    AcceptedMessage m;
+                    while ((m = msgWaitingForConfirm.pollUpTo(tag)) != null) {
+                        m.setResult(true);
                     }
                 } else {
                     AcceptedMessage m = msgWaitingForConfirm.remove(tag);
-                    m.setResult(true);
+                    if (m != null) {
+                        m.setResult(true);
+                    }
                 }
             }
 
             @Override
             public void handleNack(final long tag, final boolean multiple) throws IOException {
                 if (multiple) {
-                    Map<Long, AcceptedMessage> confirmed = new HashMap<>(msgWaitingForConfirm.headMap(tag, true));
-                    for (Map.Entry<Long, AcceptedMessage> entry : confirmed.entrySet()) {
-                        entry.getValue().retryCount++;
-                        if (entry.getValue().retryCount == maxRetryCount) {
-                            entry.getValue().setResult(false);
-                        } else {
-                            if (!redeliveryQueue.offer(entry.getValue())) {
-                                entry.getValue().setResult(false);
-                            }
-                        }
-                        msgWaitingForConfirm.remove(entry.getKey());
+                    AcceptedMessage m;
+                    while ((m = msgWaitingForConfirm.pollUpTo(tag)) != null) {
+                        retryOrFail(stripe, m);
                     }
                 } else {
                     AcceptedMessage m = msgWaitingForConfirm.remove(tag);
-                    m.retryCount++;
-                    if (m.retryCount == maxRetryCount) {
-                        m.setResult(false);
-                    } else {
-                        if (!redeliveryQueue.offer(m)) {
-                            m.setResult(false);
-                        }
+                    if (m != null) {
+                        retryOrFail(stripe, m);
                     }
                 }
             }
         };
 
-        AcceptedMessage currentMsg = null;
+        final List<AcceptedMessage> batch = new ArrayList<>(this.publishBatchSize);
+        int handedOver = 0;
         try {
             channel.confirmSelect();
             channel.addConfirmListener(msgConfirmedListener);
             channel.addReturnListener(returnListener);
 
-            while (this.isOpen() || (!(this.redeliveryQueue.isEmpty() && this.normalQueue.isEmpty()))) {
+            while (this.isOpen() || (!stripe.isEmpty())) {
 
                 if (Thread.interrupted()) {
                     throw new InterruptedException("thread has been interrupted while actively working");
@@ -245,54 +450,49 @@ public final class RabbitMqProducer extends RabbitMqBase implements AmqpProducer
                     throw channel.getCloseReason();
                 }
 
-                currentMsg = this.redeliveryQueue.poll();
-                if (currentMsg == null) {
-                    currentMsg = this.normalQueue.poll(WAIT_FOR_TASK_MILLIS, TimeUnit.MILLISECONDS);
-                }
-
-                if (currentMsg == null) {
-                    continue;
-                }
-                if ((currentMsg.content == null) || (currentMsg.content.length == 0)) {
-                    currentMsg.setResult(false);
-                    currentMsg = null;
+                batch.clear();
+                handedOver = 0;
+                if (!this.fillBatch(stripe, batch)) {
                     continue;
                 }
 
-                long tag = channel.getNextPublishSeqNo();
-                msgWaitingForConfirm.put(tag, currentMsg);
-                channel.basicPublish(this.exchangeName,
-                        currentMsg.routingKey,
-                        this.isPublishMandatory,
-                        createProperties(currentMsg.messageHeaders, currentMsg.getCorrelationId()),
-                        currentMsg.content);
-                currentMsg = null;
+                for (AcceptedMessage currentMsg : batch) {
+                    handedOver++;
+                    if ((currentMsg.content == null) || (currentMsg.content.length == 0)) {
+                        currentMsg.setResult(false);
+                        continue;
+                    }
+
+                    msgWaitingForConfirm.put(channel.getNextPublishSeqNo(), currentMsg);
+                    channel.basicPublish(this.exchangeName,
+                            currentMsg.routingKey,
+                            this.isPublishMandatory,
+                            createProperties(currentMsg.messageHeaders, currentMsg.getCorrelationId()),
+                            currentMsg.content);
+                }
+                batch.clear();
             }
         } finally {
-            boolean cancelCurrentMsg = (currentMsg != null);
-            for (AcceptedMessage unconfirmedMsg : msgWaitingForConfirm.values()) {
-                if (cancelCurrentMsg && (unconfirmedMsg == currentMsg)) {
-                    cancelCurrentMsg = false;
-                }
-                if ((!this.isOpen()) || (!redeliveryQueue.offer(unconfirmedMsg))) {
-                    unconfirmedMsg.setResult(false);
-                }
+            AcceptedMessage unconfirmedMsg;
+            while ((unconfirmedMsg = msgWaitingForConfirm.pollFirst()) != null) {
+                this.requeueOrFail(stripe, unconfirmedMsg);
             }
-            if (cancelCurrentMsg && ((!this.isOpen()) || (!redeliveryQueue.offer(currentMsg)))) {
-                currentMsg.setResult(false);
+            for (int i = handedOver; i < batch.size(); i++) {
+                this.requeueOrFail(stripe, batch.get(i));
             }
         }
     }
 
-    private void sendAndForget(Channel channel) throws
+    private void sendAndForget(Channel channel, Stripe stripe) throws
             InterruptedException,
             IOException {
 
-        AcceptedMessage currentMsg = null;
+        final List<AcceptedMessage> batch = new ArrayList<>(this.publishBatchSize);
+        int published = 0;
         try {
             channel.addReturnListener(returnListener);
 
-            while (this.isOpen() || (!(this.redeliveryQueue.isEmpty() && this.normalQueue.isEmpty()))) {
+            while (this.isOpen() || (!stripe.isEmpty())) {
 
                 if (Thread.interrupted()) {
                     throw new InterruptedException("thread has been interrupted while actively working");
@@ -301,35 +501,80 @@ public final class RabbitMqProducer extends RabbitMqBase implements AmqpProducer
                     throw channel.getCloseReason();
                 }
 
-                currentMsg = this.redeliveryQueue.poll();
-                if (currentMsg == null) {
-                    currentMsg = this.normalQueue.poll(WAIT_FOR_TASK_MILLIS, TimeUnit.MILLISECONDS);
-                }
-
-                if (currentMsg == null) {
-                    continue;
-                }
-                if ((currentMsg.content == null) || (currentMsg.content.length == 0)) {
-                    currentMsg.setResult(false);
-                    currentMsg = null;
+                batch.clear();
+                published = 0;
+                if (!this.fillBatch(stripe, batch)) {
                     continue;
                 }
 
-                channel.basicPublish(this.exchangeName,
-                        currentMsg.routingKey,
-                        this.isPublishMandatory,
-                        createProperties(currentMsg.messageHeaders, currentMsg.getCorrelationId()),
-                        currentMsg.content);
-                currentMsg = null;
+                for (AcceptedMessage currentMsg : batch) {
+                    if ((currentMsg.content == null) || (currentMsg.content.length == 0)) {
+                        currentMsg.setResult(false);
+                        published++;
+                        continue;
+                    }
+
+                    channel.basicPublish(this.exchangeName,
+                            currentMsg.routingKey,
+                            this.isPublishMandatory,
+                            createProperties(currentMsg.messageHeaders, currentMsg.getCorrelationId()),
+                            currentMsg.content);
+                    published++;
+                }
+                batch.clear();
             }
         } finally {
-            if ((currentMsg != null)
-                    && ((!this.isOpen()) || (!redeliveryQueue.offer(currentMsg)))) {
-                currentMsg.setResult(false);
+            for (int i = published; i < batch.size(); i++) {
+                this.requeueOrFail(stripe, batch.get(i));
+            }
+        }
+    }
+
+    /**
+     * Drains up to {@link #publishBatchSize} messages into the provided batch, redeliveries first. Waits for
+     * a new message only if both queues are empty.
+     *
+     * @param stripe the stripe whose queues are drained
+     * @param batch the list to be filled
+     * @return <code>true</code> if at least one message was added, otherwise <code>false</code>
+     */
+    private boolean fillBatch(Stripe stripe, List<AcceptedMessage> batch) throws InterruptedException {
+        stripe.redeliveryQueue.drainTo(batch, this.publishBatchSize);
+        if (batch.size() < this.publishBatchSize) {
+            stripe.buffer.drainTo(batch, this.publishBatchSize - batch.size());
+        }
+        if (!batch.isEmpty()) {
+            return true;
+        }
+
+        final AcceptedMessage msg = stripe.buffer.poll(WAIT_FOR_TASK_MILLIS, TimeUnit.MILLISECONDS);
+        if (msg == null) {
+            return false;
+        }
+        batch.add(msg);
+        if (this.publishBatchSize > 1) {
+            stripe.buffer.drainTo(batch, this.publishBatchSize - 1);
+        }
+        return true;
+    }
+
+    private void retryOrFail(Stripe stripe, AcceptedMessage msg) {
+        msg.retryCount++;
+        if (msg.retryCount == maxRetryCount) {
+            msg.setResult(false);
+        } else {
+            if (!stripe.redeliveryQueue.offer(msg)) {
+                msg.setResult(false);
             }
         }
     }
 
+    private void requeueOrFail(Stripe stripe, AcceptedMessage msg) {
+        if ((!this.isOpen()) || (!stripe.redeliveryQueue.offer(msg))) {
+            msg.setResult(false);
+        }
+    }
+
     private AMQP.BasicProperties createProperties(Map<String, Object> messageHeaders, String correlationId) {
         if (messageHeaders.isEmpty() && correlationId == null) {
             return this.msgProperties;
@@ -353,6 +598,23 @@ public final class RabbitMqProducer extends RabbitMqBase implements AmqpProducer
         return builder.build();
     }
 
+    /**
+     * The queues feeding a single publishing thread and its channel
+     */
+    private static final class Stripe {
+
+        private final SendBuffer<AcceptedMessage> buffer;
+        private final BlockingQueue<AcceptedMessage> redeliveryQueue = new LinkedTransferQueue<>();
+
+        private Stripe(SendBuffer<AcceptedMessage> buffer) {
+            this.buffer = buffer;
+        }
+
+        private boolean isEmpty() {
+            return this.redeliveryQueue.isEmpty() && this.buffer.isEmpty();
+        }
+    }
+
     private static final class RejectedMessage implements AmqpSendResult {
 
         public final byte[] content;
@@ -420,6 +682,12 @@ public final class RabbitMqProducer extends RabbitMqBase implements AmqpProducer
             return true;
         }
 
+        @Override
+        public void whenDone(Consumer<AmqpSendResult> callback) {
+            checkNotNull(callback, "callback cannot be null");
+            callback.accept(this);
+        }
+
         @Override
         public Boolean get() throws InterruptedException, ExecutionException {
             return false;
@@ -461,8 +729,11 @@ public final class RabbitMqProducer extends RabbitMqBase implements AmqpProducer
 
     private static class AcceptedMessage implements AmqpSendResult {
 
+        private static final Consumer<AmqpSendResult> COMPLETED = result -> { };
+
         public volatile int retryCount = 0;
         private final AtomicReference<Boolean> result = new AtomicReference<>(null);
+        private final AtomicReference<Consumer<AmqpSendResult>> completionCallback = new AtomicReference<>();
         private final byte[] content;
         private final String routingKey;
         private final String correlationId;
@@ -489,12 +760,34 @@ public final class RabbitMqProducer extends RabbitMqBase implements AmqpProducer
         public void setResult(boolean res) {
             if (this.result.compareAndSet(null, res)) {
                 this.latch.countDown();
+                Consumer<AmqpSendResult> callback = this.completionCallback.getAndSet(COMPLETED);
+                if (callback != null) {
+                    runCompletionCallback(callback);
+                }
                 if (this.doneCallback != null) {
                     this.mqProducer.execute(new DoneCallbackRunnable(this.doneCallback, this));
                 }
             }
         }
 
+        @Override
+        public void whenDone(Consumer<AmqpSendResult> callback) {
+            checkNotNull(callback, "callback cannot be null");
+            if (this.completionCallback.compareAndSet(null, callback)) {
+                return;
+            }
+            checkState(this.completionCallback.get() == COMPLETED, "completion callback is already registered");
+            runCompletionCallback(callback);
+        }
+
+        private void runCompletionCallback(Consumer<AmqpSendResult> callback) {
+            try {
+                callback.accept(this);
+            } catch (Exception exc) {
+                logger.error("completion callback for {} failed", this.correlationId, exc);
+            }
+        }
+
         @Override
         public AmqpProducer getMqProducer() {
             return this.mqProducer;
@@ -0,0 +1,301 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.impl.libs.adapters.amqp;
+
+import java.util.Collection;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Bounded multi-producer single-consumer ring buffer feeding a publishing thread.
+ * <p>
+ * Producers claim a slot with a single CAS and the consumer releases it with a plain volatile write, so the
+ * occupancy is known in constant time. Locks are only touched on the slow paths: by producers waiting for free
+ * capacity and by the consumer when somebody is waiting for it.
+ *
+ * @param <T> the type of the buffered elements
+ */
+final class SendBuffer<T> {
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<T> elements;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head = 0L;
+    private volatile Thread waitingConsumer;
+
+    private final Queue<PendingOffer<T>> pendingOffers = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger blockedProducers = new AtomicInteger();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notFull = lock.newCondition();
+    private final Executor completionExecutor;
+
+    /**
+     * Constructs a new buffer
+     *
+     * @param requestedCapacity the number of elements the buffer can hold (rounded up to a power of two)
+     * @param completionExecutor the executor used to complete the stages returned by {@link #offerWhenReady(Object)}
+     */
+    SendBuffer(int requestedCapacity, Executor completionExecutor) {
+        checkArgument(requestedCapacity > 0, "parameter 'requestedCapacity' is zero or less");
+        checkNotNull(completionExecutor, "parameter 'completionExecutor' is null");
+
+        int size = Integer.highestOneBit(requestedCapacity);
+        if (size < requestedCapacity) {
+            size <<= 1;
+        }
+        this.capacity = size;
+        this.mask = size - 1;
+        this.elements = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            this.sequences.set(i, i);
+        }
+        this.completionExecutor = completionExecutor;
+    }
+
+    /**
+     * Inserts the element if there is free capacity
+     *
+     * @param element the element to be inserted
+     * @return <code>true</code> if the element was inserted, <code>false</code> if the buffer is full
+     */
+    boolean offer(T element) {
+        checkNotNull(element, "parameter 'element' is null");
+
+        // keep elements already waiting for capacity ahead of new ones
+        return this.pendingOffers.isEmpty() && this.tryInsert(element);
+    }
+
+    /**
+     * Inserts the element, waiting up to the provided time for free capacity
+     *
+     * @param element the element to be inserted
+     * @param timeout how long to wait for free capacity
+     * @param unit the {@link TimeUnit} of the timeout
+     * @return <code>true</code> if the element was inserted, <code>false</code> if the timeout elapsed first
+     * @throws InterruptedException if interrupted while waiting
+     */
+    boolean offer(T element, long timeout, TimeUnit unit) throws InterruptedException {
+        if (this.offer(element)) {
+            return true;
+        }
+
+        long nanos = unit.toNanos(timeout);
+        this.lock.lockInterruptibly();
+        try {
+            this.blockedProducers.incrementAndGet();
+            try {
+                while (!this.tryInsert(element)) {
+                    if (nanos <= 0L) {
+                        return false;
+                    }
+                    nanos = this.notFull.awaitNanos(nanos);
+                }
+                return true;
+            } finally {
+                this.blockedProducers.decrementAndGet();
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Inserts the element as soon as there is free capacity, without blocking the caller
+     *
+     * @param element the element to be inserted
+     * @return a {@link CompletionStage} completed once the element is in the buffer
+     */
+    CompletionStage<Void> offerWhenReady(T element) {
+        if (this.offer(element)) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        final PendingOffer<T> pendingOffer = new PendingOffer<>(element);
+        this.pendingOffers.add(pendingOffer);
+        // the consumer may have emptied the buffer before the offer was queued
+        this.lock.lock();
+        try {
+            this.transferPendingOffers();
+        } finally {
+            this.lock.unlock();
+        }
+        return pendingOffer.future;
+    }
+
+    /**
+     * Retrieves and removes the oldest element. Must only be called from the consumer thread.
+     *
+     * @return the oldest element or a null reference if the buffer is empty
+     */
+    T poll() {
+        final long position = this.head;
+        final int index = (int) (position & this.mask);
+        if (this.sequences.get(index) != position + 1) {
+            return null;
+        }
+        final T element = this.elements.get(index);
+        this.elements.set(index, null);
+        this.sequences.set(index, position + this.capacity);
+        this.head = position + 1;
+
+        if (this.blockedProducers.get() > 0 || !this.pendingOffers.isEmpty()) {
+            this.lock.lock();
+            try {
+                this.transferPendingOffers();
+                this.notFull.signal();
+            } finally {
+                this.lock.unlock();
+            }
+        }
+        return element;
+    }
+
+    /**
+     * Retrieves and removes the oldest element, waiting up to the provided time for one to become available.
+     * Must only be called from the consumer thread.
+     *
+     * @param timeout how long to wait
+     * @param unit the {@link TimeUnit} of the timeout
+     * @return the oldest element or a null reference if the timeout elapsed first
+     * @throws InterruptedException if interrupted while waiting
+     */
+    T poll(long timeout, TimeUnit unit) throws InterruptedException {
+        T element = this.poll();
+        if (element != null) {
+            return element;
+        }
+
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        this.waitingConsumer = Thread.currentThread();
+        try {
+            while ((element = this.poll()) == null) {
+                final long nanos = deadline - System.nanoTime();
+                if (nanos <= 0L) {
+                    return null;
+                }
+                LockSupport.parkNanos(this, nanos);
+                if (Thread.interrupted()) {
+                    throw new InterruptedException("interrupted while waiting for an element");
+                }
+            }
+            return element;
+        } finally {
+            this.waitingConsumer = null;
+        }
+    }
+
+    /**
+     * Removes up to the provided number of elements and adds them to the collection.
+     * Must only be called from the consumer thread.
+     *
+     * @param collection the collection to transfer elements into
+     * @param maxElements the maximum number of elements to transfer
+     * @return the number of elements transferred
+     */
+    int drainTo(Collection<? super T> collection, int maxElements) {
+        int count = 0;
+        T element;
+        while (count < maxElements && (element = this.poll()) != null) {
+            collection.add(element);
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Fails all offers still waiting for capacity
+     *
+     * @param cause the cause reported to the waiting offers
+     */
+    void failPendingOffers(Throwable cause) {
+        this.lock.lock();
+        try {
+            PendingOffer<T> pendingOffer;
+            while ((pendingOffer = this.pendingOffers.poll()) != null) {
+                pendingOffer.future.completeExceptionally(cause);
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    int size() {
+        return (int) Math.min(this.capacity, Math.max(0L, this.tail.get() - this.head));
+    }
+
+    boolean isEmpty() {
+        return this.size() == 0 && this.pendingOffers.isEmpty();
+    }
+
+    int capacity() {
+        return this.capacity;
+    }
+
+    private boolean tryInsert(T element) {
+        long position = this.tail.get();
+        int index;
+        while (true) {
+            index = (int) (position & this.mask);
+            final long difference = this.sequences.get(index) - position;
+            if (difference == 0L) {
+                if (this.tail.compareAndSet(position, position + 1)) {
+                    break;
+                }
+                position = this.tail.get();
+            } else if (difference < 0L) {
+                return false;
+            } else {
+                position = this.tail.get();
+            }
+        }
+        this.elements.set(index, element);
+        this.sequences.set(index, position + 1);
+
+        final Thread consumer = this.waitingConsumer;
+        if (consumer != null) {
+            LockSupport.unpark(consumer);
+        }
+        return true;
+    }
+
+    /**
+     * Moves offers waiting for capacity into the buffer. Must be called while holding the lock.
+     */
+    private void transferPendingOffers() {
+        PendingOffer<T> pendingOffer;
+        while ((pendingOffer = this.pendingOffers.peek()) != null && this.tryInsert(pendingOffer.element)) {
+            this.pendingOffers.poll();
+            final CompletableFuture<Void> future = pendingOffer.future;
+            this.completionExecutor.execute(() -> future.complete(null));
+        }
+    }
+
+    private static final class PendingOffer<T> {
+
+        private final T element;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        private PendingOffer(T element) {
+            this.element = element;
+        }
+    }
+}
@@ -16,8 +16,8 @@ import com.sportradar.mts.sdk.api.interfaces.MtsClientApi;
 import com.sportradar.mts.sdk.api.rest.DataProvider;
 import com.sportradar.mts.sdk.api.utils.MtsDtoMapper;
 import org.apache.http.HttpEntity;
+import org.apache.http.entity.ByteArrayEntity;
 import org.apache.http.entity.ContentType;
-import org.apache.http.entity.StringEntity;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -54,7 +54,7 @@ public class MtsClientApiImpl implements MtsClientApi {
         try {
             logger.info("Called getMaxStake with ticketId={}.", ticket.getTicketId());
             AccessToken token = accessTokenCache.get(getCacheKey(username, password));
-            HttpEntity content = new StringEntity(ticket.getJsonValue(), ContentType.APPLICATION_JSON);
+            HttpEntity content = new ByteArrayEntity(ticket.getJsonBytes(), ContentType.APPLICATION_JSON);
             Long result = MtsDtoMapper.map(maxStakeDataProvider.postData(token, content));
             if (result == null) {
                 throw new MtsApiException("Failed to get max stake result.");
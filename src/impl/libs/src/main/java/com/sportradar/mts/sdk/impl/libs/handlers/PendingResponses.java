@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.impl.libs.handlers;
+
+import com.sportradar.mts.sdk.api.exceptions.MtsSdkProcessException;
+import com.sportradar.mts.sdk.api.exceptions.ResponseTimeoutException;
+import com.sportradar.mts.sdk.ws.internal.utils.WheelTimer;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Responses awaited by the senders, keyed by the ticket id. Each pending response holds a single timer entry.
+ * The futures are completed on the thread receiving the response, or on the timer thread when it times out,
+ * and never wait for the handler dispatcher, so a listener callback can block on a send of its own. Callers which
+ * need the dispatcher can chain their stages with an executor.
+ *
+ * @param <R> the type of the response
+ */
+final class PendingResponses<R> {
+
+    private final WheelTimer timer;
+    private final Map<String, CompletableFuture<R>> responses = new ConcurrentHashMap<>();
+
+    PendingResponses(WheelTimer timer) {
+        checkNotNull(timer, "timer cannot be null");
+
+        this.timer = timer;
+    }
+
+    /**
+     * Registers a new awaited response
+     *
+     * @param ticketId the id of the ticket the response is awaited for
+     * @param timeoutMillis the time after which the future fails with a {@link ResponseTimeoutException}
+     * @param timeoutMessage the message of the {@link ResponseTimeoutException}
+     * @return the future completed with the response
+     */
+    CompletableFuture<R> register(String ticketId, int timeoutMillis, String timeoutMessage) {
+        CompletableFuture<R> future = new CompletableFuture<>();
+        CompletableFuture<R> previous = responses.put(ticketId, future);
+        if (previous != null) {
+            previous.completeExceptionally(new MtsSdkProcessException("ticket " + ticketId + " was sent again"));
+        }
+        WheelTimer.Timeout timeout = timer.schedule(() -> {
+            if (responses.remove(ticketId, future)) {
+                future.completeExceptionally(new ResponseTimeoutException(timeoutMessage));
+            }
+        }, timeoutMillis, TimeUnit.MILLISECONDS);
+        future.whenComplete((response, throwable) -> {
+            timeout.cancel();
+            // a future cancelled by the caller no longer awaits the response
+            responses.remove(ticketId, future);
+        });
+        return future;
+    }
+
+    /**
+     * Completes the future awaiting the response
+     *
+     * @return <code>true</code> if the response was awaited, otherwise <code>false</code>
+     */
+    boolean complete(String ticketId, R response) {
+        CompletableFuture<R> future = responses.remove(ticketId);
+        if (future == null) {
+            return false;
+        }
+        future.complete(response);
+        return true;
+    }
+
+    /**
+     * Fails the provided future if it still awaits the response
+     */
+    void fail(String ticketId, CompletableFuture<R> future, Throwable cause) {
+        if (responses.remove(ticketId, future)) {
+            future.completeExceptionally(cause);
+        }
+    }
+
+    boolean isEmpty() {
+        return responses.isEmpty();
+    }
+
+    /**
+     * Waits for the response on the calling thread
+     *
+     * @param timeoutMillis the maximum time to wait
+     * @throws ResponseTimeoutException if the response was not received in time
+     */
+    static <R> R await(CompletableFuture<R> future, int timeoutMillis, String timeoutMessage) throws ResponseTimeoutException {
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(false);
+            throw new ResponseTimeoutException(timeoutMessage);
+        } catch (TimeoutException e) {
+            future.cancel(false);
+            throw new ResponseTimeoutException(timeoutMessage);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof ResponseTimeoutException) {
+                throw (ResponseTimeoutException) e.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new MtsSdkProcessException(e.getCause().getMessage(), e.getCause());
+        }
+    }
+}
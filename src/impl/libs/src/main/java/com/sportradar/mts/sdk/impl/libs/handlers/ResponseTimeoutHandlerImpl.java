@@ -5,52 +5,52 @@
 package com.sportradar.mts.sdk.impl.libs.handlers;
 
 import com.google.common.base.Preconditions;
-import com.google.common.cache.*;
 import com.sportradar.mts.sdk.api.SdkTicket;
-import com.sportradar.mts.sdk.api.Ticket;
 import com.sportradar.mts.sdk.api.interfaces.TicketResponseTimeoutListener;
+import com.sportradar.mts.sdk.impl.libs.threading.ListenerDispatcher;
+import com.sportradar.mts.sdk.ws.internal.utils.WheelTimer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 
 /**
  * An utility class used to handle ticket response time-outs if they are enabled
  */
-public class ResponseTimeoutHandlerImpl<T extends SdkTicket> implements RemovalListener<String, T>, ResponseTimeoutHandler<T> {
+public class ResponseTimeoutHandlerImpl<T extends SdkTicket> implements ResponseTimeoutHandler<T> {
     private static final Logger logger = LoggerFactory.getLogger(ResponseTimeoutHandlerImpl.class);
 
-    private final ScheduledExecutorService executorService;
-    private final Cache<String, T> responseTimeoutMonitoringCache1;
-    private final Cache<String, T> responseTimeoutMonitoringCache2;
+    private final WheelTimer timer;
+    private final ExecutorService executorService;
+    private final int responseTimeout1;
+    private final int responseTimeout2;
     private final boolean ticketTimeOutCallbackEnabled;
+    private final Map<String, PendingResponse> pendingResponses = new ConcurrentHashMap<>();
 
     private TicketResponseTimeoutListener<T> responseTimeoutListener;
 
-    public ResponseTimeoutHandlerImpl(ScheduledExecutorService executorService,
+    /**
+     * Constructs a new handler
+     *
+     * @param timer the {@link WheelTimer} used to detect the time-outs, usually shared by all handlers
+     * @param executorService the {@link ExecutorService} used to dispatch the time-out callbacks
+     */
+    public ResponseTimeoutHandlerImpl(WheelTimer timer,
+                                      ExecutorService executorService,
                                       int responseTimeout1,
                                       int responseTimeout2,
                                       boolean ticketTimeOutCallbackEnabled) {
+        Preconditions.checkNotNull(timer);
         Preconditions.checkNotNull(executorService);
 
-        this.ticketTimeOutCallbackEnabled = ticketTimeOutCallbackEnabled;
-
+        this.timer = timer;
         this.executorService = executorService;
-
-        responseTimeoutMonitoringCache1 = CacheBuilder.newBuilder()
-                .expireAfterWrite(responseTimeout1, TimeUnit.MILLISECONDS)
-                .removalListener(this)
-                .build();
-        responseTimeoutMonitoringCache2 = CacheBuilder.newBuilder()
-                .expireAfterWrite(responseTimeout2, TimeUnit.MILLISECONDS)
-                .removalListener(this)
-                .build();
-
-        if (this.ticketTimeOutCallbackEnabled) {
-            executorService.scheduleAtFixedRate(responseTimeoutMonitoringCache1::cleanUp, 500, 500, TimeUnit.MILLISECONDS);
-            executorService.scheduleAtFixedRate(responseTimeoutMonitoringCache2::cleanUp, 500, 500, TimeUnit.MILLISECONDS);
-        }
+        this.responseTimeout1 = responseTimeout1;
+        this.responseTimeout2 = responseTimeout2;
+        this.ticketTimeOutCallbackEnabled = ticketTimeOutCallbackEnabled;
     }
 
     @Override
@@ -72,11 +72,16 @@ public class ResponseTimeoutHandlerImpl<T extends SdkTicket> implements RemovalL
             return;
         }
 
-        if(ticket instanceof Ticket && ((Ticket) ticket).getSelections().stream().anyMatch(a->a.getId().contains("lcoo"))){
-            responseTimeoutMonitoringCache2.put(ticket.getCorrelationId(), ticket);
-            return;
-        }
-        responseTimeoutMonitoringCache1.put(ticket.getCorrelationId(), ticket);
+        int responseTimeout = TicketHandlerImpl.isTicketPrematch(ticket) ? responseTimeout2 : responseTimeout1;
+        String correlationId = ticket.getCorrelationId();
+        PendingResponse pendingResponse = new PendingResponse();
+        cancel(pendingResponses.put(correlationId, pendingResponse));
+        // registered before scheduling, so the time-out always finds its own entry
+        pendingResponse.timeout = timer.schedule(() -> {
+            if (pendingResponses.remove(correlationId, pendingResponse)) {
+                handleTicketResponseTimedOut(ticket);
+            }
+        }, responseTimeout, TimeUnit.MILLISECONDS);
     }
 
     @Override
@@ -87,8 +92,7 @@ public class ResponseTimeoutHandlerImpl<T extends SdkTicket> implements RemovalL
             return;
         }
 
-        responseTimeoutMonitoringCache1.invalidate(correlationId);
-        responseTimeoutMonitoringCache2.invalidate(correlationId);
+        cancel(pendingResponses.remove(correlationId));
     }
 
     @Override
@@ -97,14 +101,12 @@ public class ResponseTimeoutHandlerImpl<T extends SdkTicket> implements RemovalL
             return;
         }
 
-        responseTimeoutMonitoringCache1.invalidate(correlationId);
-        responseTimeoutMonitoringCache2.invalidate(correlationId);
+        cancel(pendingResponses.remove(correlationId));
     }
 
-    @Override
-    public void onRemoval(RemovalNotification<String, T> notification) {
-        if (notification.getCause() == RemovalCause.EXPIRED) {
-            handleTicketResponseTimedOut(notification.getValue());
+    private static void cancel(PendingResponse pendingResponse) {
+        if (pendingResponse != null && pendingResponse.timeout != null) {
+            pendingResponse.timeout.cancel();
         }
     }
 
@@ -116,7 +118,7 @@ public class ResponseTimeoutHandlerImpl<T extends SdkTicket> implements RemovalL
         logger.info("Ticket[{}] response timed-out - dispatching onTicketResponseTimedOut. ticketId: {}, correlationId: {}", ticket.getClass().getSimpleName(), ticket.getTicketId(), ticket.getCorrelationId());
 
         if (responseTimeoutListener != null) {
-            executorService.submit(() -> {
+            ListenerDispatcher.dispatch(executorService, ticket.getTicketId(), () -> {
                 try {
                     responseTimeoutListener.onTicketResponseTimedOut(ticket);
                 } catch (Exception e) {
@@ -127,4 +129,9 @@ public class ResponseTimeoutHandlerImpl<T extends SdkTicket> implements RemovalL
             logger.error("Response timeout listener[{}] is null, non-dispatched ticketId: '{}', correlationId: '{}'", ticket.getClass().getSimpleName(), ticket.getTicketId(), ticket.getCorrelationId());
         }
     }
+
+    private static final class PendingResponse {
+
+        private volatile WheelTimer.Timeout timeout;
+    }
 }
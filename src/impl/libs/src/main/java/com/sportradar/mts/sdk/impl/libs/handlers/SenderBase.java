@@ -7,18 +7,22 @@ package com.sportradar.mts.sdk.impl.libs.handlers;
 import com.google.common.util.concurrent.RateLimiter;
 import com.sportradar.mts.sdk.api.SdkTicket;
 import com.sportradar.mts.sdk.api.interfaces.MessageSender;
+import com.sportradar.mts.sdk.api.exceptions.MtsSdkProcessException;
 import com.sportradar.mts.sdk.api.interfaces.PublishResultListener;
 import com.sportradar.mts.sdk.api.utils.StringUtils;
 import com.sportradar.mts.sdk.impl.libs.adapters.amqp.AmqpPublishResultListener;
 import com.sportradar.mts.sdk.impl.libs.adapters.amqp.AmqpPublisher;
 import com.sportradar.mts.sdk.impl.libs.logging.SdkLogger;
+import com.sportradar.mts.sdk.impl.libs.threading.ListenerDispatcher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.nio.charset.StandardCharsets;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
@@ -30,7 +34,9 @@ public abstract class SenderBase<T extends SdkTicket> implements MessageSender {
     private final AmqpPublisher amqpPublisher;
     private final ExecutorService executorService;
     private final Map<String, T> messages;
+    private final Map<String, CompletableFuture<Void>> publishResults = new ConcurrentHashMap<>();
     private final RateLimiter rateLimiter;
+    private volatile PublishResultListener<T> publishResultListener;
     private boolean opened;
 
     protected SenderBase(AmqpPublisher amqpPublisher,
@@ -43,8 +49,9 @@ public abstract class SenderBase<T extends SdkTicket> implements MessageSender {
         this.amqpPublisher = amqpPublisher;
         this.executorService = executorService;
         this.sdkLogger = sdkLogger;
-        this.messages = new HashMap<>();
+        this.messages = new ConcurrentHashMap<>();
         this.rateLimiter = RateLimiter.create(messagesPerSecond);
+        this.amqpPublisher.setListener(new PublishListener());
     }
 
     @Override
@@ -74,64 +81,120 @@ public abstract class SenderBase<T extends SdkTicket> implements MessageSender {
 
     protected void publishAsync(T message, String routingKey, String replyRoutingKey) {
         rateLimiter.acquire();
+        byte[] msg = prepareForPublish(message, routingKey, replyRoutingKey);
+        amqpPublisher.publishAsync(message.getTicketId(),
+                                   msg,
+                                   message.getCorrelationId(),
+                                   routingKey,
+                                   replyRoutingKey);
+    }
+
+    /**
+     * Publishes the message and tracks the result of the publishing
+     *
+     * @return a {@link CompletableFuture} completed once the message was confirmed by the broker, or completed
+     * exceptionally if the publishing failed
+     */
+    protected CompletableFuture<Void> publishAsyncTracked(T message, String routingKey, String replyRoutingKey) {
+        CompletableFuture<Void> publishResult = new CompletableFuture<>();
+        publishResults.put(message.getCorrelationId(), publishResult);
+        try {
+            publishAsync(message, routingKey, replyRoutingKey);
+        } catch (RuntimeException e) {
+            publishResults.remove(message.getCorrelationId(), publishResult);
+            publishResult.completeExceptionally(e);
+        }
+        return publishResult;
+    }
+
+    /**
+     * Publishes the message only if it can be accepted right away, i.e. the rate limit is not exceeded and
+     * the producer has free capacity
+     *
+     * @return <code>true</code> if the message was accepted, otherwise <code>false</code>
+     */
+    protected boolean tryPublishAsync(T message, String routingKey, String replyRoutingKey) {
+        if (!rateLimiter.tryAcquire()) {
+            return false;
+        }
+        byte[] msg = prepareForPublish(message, routingKey, replyRoutingKey);
+        boolean accepted = amqpPublisher.tryPublishAsync(message.getTicketId(),
+                                                         msg,
+                                                         message.getCorrelationId(),
+                                                         routingKey,
+                                                         replyRoutingKey);
+        if (!accepted) {
+            messages.remove(message.getCorrelationId());
+        }
+        return accepted;
+    }
+
+    /**
+     * Publishes the message as soon as the rate limit allows it and the producer has free capacity, without
+     * blocking the caller
+     *
+     * @return a {@link CompletionStage} completed once the message was accepted by the producer
+     */
+    protected CompletionStage<Void> publishWhenReady(T message, String routingKey, String replyRoutingKey) {
+        CompletableFuture<Void> permit = new CompletableFuture<>();
+        acquireWhenReady(permit);
+        return permit.thenCompose(ignored -> {
+            byte[] msg = prepareForPublish(message, routingKey, replyRoutingKey);
+            return amqpPublisher.publishWhenReady(message.getTicketId(),
+                                                  msg,
+                                                  message.getCorrelationId(),
+                                                  routingKey,
+                                                  replyRoutingKey);
+        }).whenComplete((result, throwable) -> {
+            if (throwable != null) {
+                messages.remove(message.getCorrelationId(), message);
+            }
+        });
+    }
+
+    private void acquireWhenReady(CompletableFuture<Void> permit) {
+        if (rateLimiter.tryAcquire()) {
+            permit.complete(null);
+            return;
+        }
+        long retryMillis = Math.max(1L, (long) Math.ceil(1000d / rateLimiter.getRate()));
+        CompletableFuture.delayedExecutor(retryMillis, TimeUnit.MILLISECONDS).execute(() -> acquireWhenReady(permit));
+    }
+
+    private byte[] prepareForPublish(T message, String routingKey, String replyRoutingKey) {
         logger.trace("PUBLISH ticket:{}, correlationId:{}, routingKey:{}, replyRoutingKey:{}",
                 message.getTicketId(),
                 message.getCorrelationId(),
                 routingKey,
                 replyRoutingKey);
+        // the JSON of a ticket is serialized once, so logging it does not walk the ticket again
         logger.trace("PUBLISH {}", message.getJsonValue());
-        String msgString = getSerializedDto(message);
-        getSdkLogger().logSendMessage(msgString);
+        getSdkLogger().logSendMessage(message.getJsonValue());
         if(StringUtils.isNullOrEmpty(message.getCorrelationId()))
         {
             logger.warn("Ticket {} is missing correlationId", message.getTicketId());
         }
         messages.put(message.getCorrelationId(), message);
-        amqpPublisher.publishAsync(message.getTicketId(),
-                                   msgString.getBytes(StandardCharsets.UTF_8),
-                                   message.getCorrelationId(),
-                                   routingKey,
-                                   replyRoutingKey);
+        return getSerializedDto(message);
     }
 
-    protected abstract String getSerializedDto(T message);
+    protected abstract byte[] getSerializedDto(T message);
 
     protected SdkLogger getSdkLogger() {
         return sdkLogger;
     }
 
     protected void setPublishListener(PublishResultListener<T> publishResultListener) {
-        amqpPublisher.setListener(new AmqpPublishResultListener() {
-            @Override
-            public void publishSuccess(String correlationId) {
-                executorService.submit(() -> {
-                    T message = getMessage(correlationId);
-                    if (message == null) {
-                        return;
-                    }
-                    messages.remove(correlationId);
-                    publishResultListener.publishSuccess(message);
-                });
-            }
-
-            @Override
-            public void publishFailure(String correlationId) {
-                onPublishFailure(correlationId);
-
-                executorService.submit(() -> {
-                    T message = getMessage(correlationId);
-                    if (message == null) {
-                        return;
-                    }
-                    messages.remove(correlationId);
-                    publishResultListener.publishFailure(message);
-                });
-            }
-        });
+        this.publishResultListener = publishResultListener;
     }
 
-    private T getMessage(String correlationId) {
+    private String getOrderingKey(String correlationId) {
         T message = messages.get(correlationId);
+        return message == null ? correlationId : message.getTicketId();
+    }
+
+    private T removeMessage(String correlationId) {
+        T message = messages.remove(correlationId);
         if (message == null) {
             logger.error("no message for correlation id:{} was found", correlationId);
         }
@@ -141,4 +204,46 @@ public abstract class SenderBase<T extends SdkTicket> implements MessageSender {
     protected void onPublishFailure(String correlationId) {
         // NO-OP - default
     }
+
+    private final class PublishListener implements AmqpPublishResultListener {
+
+        @Override
+        public void publishSuccess(String correlationId) {
+            // the tracked result is completed right away, a sender blocked on the dispatcher must not wait for it
+            CompletableFuture<Void> publishResult = publishResults.remove(correlationId);
+            if (publishResult != null) {
+                publishResult.complete(null);
+            }
+            ListenerDispatcher.dispatch(executorService, getOrderingKey(correlationId), () -> {
+                T message = removeMessage(correlationId);
+                if (message == null) {
+                    return;
+                }
+                PublishResultListener<T> listener = publishResultListener;
+                if (listener != null) {
+                    listener.publishSuccess(message);
+                }
+            });
+        }
+
+        @Override
+        public void publishFailure(String correlationId) {
+            onPublishFailure(correlationId);
+
+            CompletableFuture<Void> publishResult = publishResults.remove(correlationId);
+            if (publishResult != null) {
+                publishResult.completeExceptionally(new MtsSdkProcessException("failed to publish message with correlationId " + correlationId));
+            }
+            ListenerDispatcher.dispatch(executorService, getOrderingKey(correlationId), () -> {
+                T message = removeMessage(correlationId);
+                if (message == null) {
+                    return;
+                }
+                PublishResultListener<T> listener = publishResultListener;
+                if (listener != null) {
+                    listener.publishFailure(message);
+                }
+            });
+        }
+    }
 }
@@ -41,7 +41,7 @@ public class TicketAckHandlerImpl extends SenderBase<TicketAck> implements Ticke
     }
 
     @Override
-    protected String getSerializedDto(TicketAck message){
-        return message.getJsonValue();
+    protected byte[] getSerializedDto(TicketAck message) {
+        return message.getJsonBytes();
     }
 }
@@ -41,7 +41,7 @@ public class TicketCancelAckHandlerImpl extends SenderBase<TicketCancelAck> impl
     }
 
     @Override
-    protected String getSerializedDto(TicketCancelAck message) {
-        return message.getJsonValue();
+    protected byte[] getSerializedDto(TicketCancelAck message) {
+        return message.getJsonBytes();
     }
 }
\ No newline at end of file
@@ -5,8 +5,6 @@
 package com.sportradar.mts.sdk.impl.libs.handlers;
 
 import com.google.common.base.Preconditions;
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
 import com.sportradar.mts.sdk.api.TicketCancel;
 import com.sportradar.mts.sdk.api.TicketCancelResponse;
 import com.sportradar.mts.sdk.api.exceptions.ResponseTimeoutException;
@@ -15,12 +13,13 @@ import com.sportradar.mts.sdk.api.utils.JsonUtils;
 import com.sportradar.mts.sdk.api.utils.SdkInfo;
 import com.sportradar.mts.sdk.impl.libs.adapters.amqp.AmqpPublisher;
 import com.sportradar.mts.sdk.impl.libs.logging.SdkLogger;
+import com.sportradar.mts.sdk.impl.libs.threading.ListenerDispatcher;
+import com.sportradar.mts.sdk.ws.internal.utils.WheelTimer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Semaphore;
-import java.util.concurrent.TimeUnit;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
@@ -32,8 +31,7 @@ public class TicketCancelHandlerImpl extends SenderBase<TicketCancel> implements
     private final ExecutorService executorService;
     private final ResponseTimeoutHandler<TicketCancel> timeoutHandler;
     private TicketCancelResponseListener ticketCancelResponseListener;
-    private final Cache<String, TicketCancelSendEntry> ticketCancelSendEntries;
-    private final Cache<String, TicketCancelResponse> cancelResponseCache;
+    private final PendingResponses<TicketCancelResponse> pendingResponses;
     private final int responseTimeout;
     private final String replyRoutingKey;
 
@@ -43,6 +41,7 @@ public class TicketCancelHandlerImpl extends SenderBase<TicketCancel> implements
                                    String replyRoutingKey,
                                    ExecutorService executorService,
                                    ResponseTimeoutHandler<TicketCancel> timeoutHandler,
+                                   WheelTimer responseTimeoutTimer,
                                    int responseTimeout,
                                    double messagesPerSecond,
                                    SdkLogger sdkLogger) {
@@ -56,13 +55,7 @@ public class TicketCancelHandlerImpl extends SenderBase<TicketCancel> implements
         this.replyRoutingKey = replyRoutingKey;
         this.responseTimeout = responseTimeout;
         this.timeoutHandler = timeoutHandler;
-
-        ticketCancelSendEntries = CacheBuilder.newBuilder()
-                .expireAfterWrite(responseTimeout, TimeUnit.MILLISECONDS)
-                .build();
-        cancelResponseCache = CacheBuilder.newBuilder()
-                .expireAfterWrite(1, TimeUnit.MINUTES)
-                .build();
+        this.pendingResponses = new PendingResponses<>(responseTimeoutTimer);
     }
 
     @Override
@@ -71,42 +64,29 @@ public class TicketCancelHandlerImpl extends SenderBase<TicketCancel> implements
         checkNotNull(ticketCancel, SdkInfo.Literals.TICKET_HANDLER_TICKET_CANCEL_NULL);
         checkNotNull(ticketCancelResponseListener, "no response listener set");
 
-        internalSend(ticketCancel, null);
+        publishAsync(ticketCancel, routingKey, replyRoutingKey);
 
         timeoutHandler.onAsyncTicketSent(ticketCancel);
     }
 
-    private void internalSend(TicketCancel ticketCancel, TicketCancelResponseListener responseListener) {
+    @Override
+    public CompletableFuture<TicketCancelResponse> sendAsync(TicketCancel ticketCancel) {
         checkState(isOpen(), SdkInfo.Literals.TICKET_HANDLER_SENDER_CLOSED);
         checkNotNull(ticketCancel, SdkInfo.Literals.TICKET_HANDLER_TICKET_CANCEL_NULL);
+
         String ticketId = ticketCancel.getTicketId();
-        if (responseListener != null) {
-            ticketCancelSendEntries.put(ticketId, new TicketCancelSendEntry(ticketCancel, responseListener, null));
-        }
-        publishAsync(ticketCancel, routingKey, replyRoutingKey);
+        CompletableFuture<TicketCancelResponse> response = pendingResponses.register(ticketId, responseTimeout, getTimeoutMessage(ticketCancel));
+        publishAsyncTracked(ticketCancel, routingKey, replyRoutingKey).whenComplete((result, throwable) -> {
+            if (throwable != null) {
+                pendingResponses.fail(ticketId, response, throwable);
+            }
+        });
+        return response;
     }
 
     @Override
     public TicketCancelResponse sendBlocking(TicketCancel ticketCancel) throws ResponseTimeoutException {
-        checkState(isOpen(), SdkInfo.Literals.TICKET_HANDLER_SENDER_CLOSED);
-        checkNotNull(ticketCancel, SdkInfo.Literals.TICKET_HANDLER_TICKET_CANCEL_NULL);
-        String ticketId = ticketCancel.getTicketId();
-        Semaphore semaphore = new Semaphore(0);
-        ticketCancelSendEntries.put(ticketId, new TicketCancelSendEntry(ticketCancel, null, semaphore));
-        publishAsync(ticketCancel, routingKey, replyRoutingKey);
-
-        boolean acquire = false;
-        try {
-            acquire = semaphore.tryAcquire(responseTimeout, TimeUnit.MILLISECONDS);
-        } catch (InterruptedException e) {
-            logger.warn("interrupted waiting for response, throwing timeout");
-            Thread.currentThread().interrupt();
-        }
-        if (!acquire) {
-            String error = String.format("Timeout reached. Missing response for ticketCancel %s with correlationId= %s", ticketCancel.getTicketId(), ticketCancel.getCorrelationId());
-            throw new ResponseTimeoutException(error);
-        }
-        return cancelResponseCache.getIfPresent(ticketId);
+        return PendingResponses.await(sendAsync(ticketCancel), responseTimeout, getTimeoutMessage(ticketCancel));
     }
 
     @Override
@@ -126,22 +106,13 @@ public class TicketCancelHandlerImpl extends SenderBase<TicketCancel> implements
         timeoutHandler.onAsyncTicketResponseReceived(ticketCancelResponse.getCorrelationId());
 
         String ticketId = ticketCancelResponse.getTicketId();
-        cancelResponseCache.put(ticketId, ticketCancelResponse);
-        TicketCancelSendEntry entry = ticketCancelSendEntries.getIfPresent(ticketId);
-        final TicketCancelResponseListener listenerToRespond;
-        if (entry != null) {
-            TicketCancelResponseListener ticketResponseListener = entry.getResponseListener();
-            Semaphore semaphore = entry.getSemaphore();
-            if (semaphore != null) {
-                semaphore.release(1);
-            }
-            ticketCancelSendEntries.invalidate(ticketId);
-            listenerToRespond = ticketResponseListener;
-        } else {
-            listenerToRespond = this.ticketCancelResponseListener;
+        if (pendingResponses.complete(ticketId, ticketCancelResponse)) {
+            // the response of an awaited send is only returned through its future
+            return;
         }
+        final TicketCancelResponseListener listenerToRespond = this.ticketCancelResponseListener;
         if (listenerToRespond != null) {
-            executorService.submit(() -> {
+            ListenerDispatcher.dispatch(executorService, ticketId, () -> {
                 try {
                     listenerToRespond.responseReceived(ticketCancelResponse);
                 } catch (Exception e) {
@@ -154,24 +125,23 @@ public class TicketCancelHandlerImpl extends SenderBase<TicketCancel> implements
     @Override
     public void close() {
         super.close();
-        ticketCancelSendEntries.cleanUp();
-        if (ticketCancelSendEntries.size() > 0) {
+        if (!pendingResponses.isEmpty()) {
             logger.info("there are still ticketCancel responses pending, will wait till completion or timeout");
-            while (ticketCancelSendEntries.size() > 0) {
+            while (!pendingResponses.isEmpty()) {
                 try {
-                    ticketCancelSendEntries.cleanUp();
                     Thread.sleep(100);
                 } catch (InterruptedException e) {
                     logger.error("interrupted waiting to get/timeout all ticket cancel responses");
                     Thread.currentThread().interrupt();
+                    return;
                 }
             }
         }
     }
 
     @Override
-    protected String getSerializedDto(TicketCancel message) {
-        return message.getJsonValue();
+    protected byte[] getSerializedDto(TicketCancel message) {
+        return message.getJsonBytes();
     }
 
     @Override
@@ -181,30 +151,7 @@ public class TicketCancelHandlerImpl extends SenderBase<TicketCancel> implements
         timeoutHandler.onAsyncPublishFailure(correlationId);
     }
 
-    private final class TicketCancelSendEntry {
-
-        private final TicketCancel ticket;
-        private final TicketCancelResponseListener responseListener;
-        private final Semaphore semaphore;
-
-        public TicketCancelSendEntry(TicketCancel ticket,
-                               TicketCancelResponseListener responseListener,
-                               Semaphore semaphore) {
-            this.ticket = ticket;
-            this.responseListener = responseListener;
-            this.semaphore = semaphore;
-        }
-
-        public TicketCancel getTicket() {
-            return ticket;
-        }
-
-        public Semaphore getSemaphore() {
-            return semaphore;
-        }
-
-        public TicketCancelResponseListener getResponseListener() {
-            return responseListener;
-        }
+    private static String getTimeoutMessage(TicketCancel ticketCancel) {
+        return String.format("Timeout reached. Missing response for ticketCancel %s with correlationId= %s", ticketCancel.getTicketId(), ticketCancel.getCorrelationId());
     }
 }
@@ -12,6 +12,7 @@ import com.sportradar.mts.sdk.api.utils.JsonUtils;
 import com.sportradar.mts.sdk.api.utils.SdkInfo;
 import com.sportradar.mts.sdk.api.utils.StringUtils;
 import com.sportradar.mts.sdk.impl.libs.logging.SdkLogger;
+import com.sportradar.mts.sdk.impl.libs.threading.ListenerDispatcher;
 import com.sportradar.mts.sdk.ws.exceptions.ProtocolTimeoutException;
 import com.sportradar.mts.sdk.ws.internal.protocol.ProtocolEngine;
 import org.slf4j.Logger;
@@ -82,7 +83,14 @@ public class TicketCancelHandlerWsImpl implements TicketCancelHandler {
         return sendAsync(ticketCancel).join();
     }
 
-    private CompletableFuture<TicketCancelResponse> sendAsync(
+    /**
+     * Sends the {@link TicketCancel} to the MTS and returns a future completed with the {@link TicketCancelResponse}
+     *
+     * @param ticket the message to send
+     * @return a {@link CompletableFuture} completed once the response is received
+     */
+    @Override
+    public CompletableFuture<TicketCancelResponse> sendAsync(
             TicketCancel ticket) {
         checkState(isOpen(), SdkInfo.Literals.TICKET_HANDLER_SENDER_CLOSED);
         checkNotNull(ticket, SdkInfo.Literals.TICKET_HANDLER_TICKET_CANCEL_NULL);
@@ -122,7 +130,7 @@ public class TicketCancelHandlerWsImpl implements TicketCancelHandler {
         sdkLogger.logReceivedMessage(JsonUtils.serializeAsString(ticketCancelResponse));
         logger.debug("WS RECEIVED ticket cancel correlationId: {}", ticketCancelResponse.getCorrelationId());
 
-        executorService.submit(() -> {
+        ListenerDispatcher.dispatch(executorService, ticketCancelResponse.getTicketId(), () -> {
             try {
                 ticketCancelResponseListener.responseReceived(ticketCancelResponse);
             } catch (Exception e) {
@@ -5,8 +5,6 @@
 package com.sportradar.mts.sdk.impl.libs.handlers;
 
 import com.google.common.base.Preconditions;
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
 import com.sportradar.mts.sdk.api.TicketCashout;
 import com.sportradar.mts.sdk.api.TicketCashoutResponse;
 import com.sportradar.mts.sdk.api.exceptions.ResponseTimeoutException;
@@ -15,12 +13,13 @@ import com.sportradar.mts.sdk.api.utils.JsonUtils;
 import com.sportradar.mts.sdk.api.utils.SdkInfo;
 import com.sportradar.mts.sdk.impl.libs.adapters.amqp.AmqpPublisher;
 import com.sportradar.mts.sdk.impl.libs.logging.SdkLogger;
+import com.sportradar.mts.sdk.impl.libs.threading.ListenerDispatcher;
+import com.sportradar.mts.sdk.ws.internal.utils.WheelTimer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Semaphore;
-import java.util.concurrent.TimeUnit;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
@@ -66,14 +65,9 @@ public class TicketCashoutHandlerImpl extends SenderBase<TicketCashout> implemen
     private final int responseTimeout;
 
     /**
-     * The caching used to store send messages that are used to check if the message is <code>sendBlocking</code>
+     * The responses awaited by <code>sendAsync</code> and <code>sendBlocking</code>
      */
-    private final Cache<String, TicketCashoutSendEntry> ticketCashoutSendEntryCache;
-
-    /**
-     * The caching used to store response messages so they can be utilized as the return for <code>sendBlocking</code>
-     */
-    private final Cache<String, TicketCashoutResponse> ticketCashoutResponseCache;
+    private final PendingResponses<TicketCashoutResponse> pendingResponses;
 
     /**
      * Initializes a new instance of the {@link TicketCashoutHandlerImpl}
@@ -83,6 +77,7 @@ public class TicketCashoutHandlerImpl extends SenderBase<TicketCashout> implemen
      * @param replyRoutingKey - the routing key used to receive {@link TicketCashoutResponse} messages
      * @param executorService - the {@link ExecutorService} used for async publishing
      * @param timeoutHandler - the {@link TicketCashout} used for handling timeouts
+     * @param responseTimeoutTimer - the timer used to time out the awaited responses
      * @param responseTimeout - response timeout in milliseconds
      * @param messagesPerSecond - the max number of messages/second that should be sent
      * @param sdkLogger - the main SDK logging interface
@@ -93,6 +88,7 @@ public class TicketCashoutHandlerImpl extends SenderBase<TicketCashout> implemen
                                     String replyRoutingKey,
                                     ExecutorService executorService,
                                     ResponseTimeoutHandler<TicketCashout> timeoutHandler,
+                                    WheelTimer responseTimeoutTimer,
                                     int responseTimeout,
                                     double messagesPerSecond,
                                     SdkLogger sdkLogger) {
@@ -103,13 +99,7 @@ public class TicketCashoutHandlerImpl extends SenderBase<TicketCashout> implemen
         this.executorService = executorService;
         this.responseTimeout = responseTimeout;
         this.timeoutHandler = timeoutHandler;
-
-        ticketCashoutSendEntryCache = CacheBuilder.newBuilder()
-                .expireAfterWrite(responseTimeout, TimeUnit.MILLISECONDS)
-                .build();
-        ticketCashoutResponseCache = CacheBuilder.newBuilder()
-                .expireAfterWrite(1, TimeUnit.MINUTES)
-                .build();
+        this.pendingResponses = new PendingResponses<>(responseTimeoutTimer);
     }
 
     /**
@@ -128,6 +118,27 @@ public class TicketCashoutHandlerImpl extends SenderBase<TicketCashout> implemen
         timeoutHandler.onAsyncTicketSent(ticketCashoutData);
     }
 
+    /**
+     * Publishes a new {@link TicketCashout} message and returns a future completed with the response
+     *
+     * @param ticketCashout - the data from which the message will be built
+     * @return - a {@link CompletableFuture} completed with the response from the MTS
+     */
+    @Override
+    public CompletableFuture<TicketCashoutResponse> sendAsync(TicketCashout ticketCashout) {
+        checkState(isOpen(), SdkInfo.Literals.TICKET_HANDLER_SENDER_CLOSED);
+        checkNotNull(ticketCashout, SdkInfo.Literals.TICKET_HANDLER_TICKET_CASHOUT_NULL);
+
+        String ticketId = ticketCashout.getTicketId();
+        CompletableFuture<TicketCashoutResponse> response = pendingResponses.register(ticketId, responseTimeout, getTimeoutMessage(ticketCashout));
+        publishAsyncTracked(ticketCashout, routingKey, replyRoutingKey).whenComplete((result, throwable) -> {
+            if (throwable != null) {
+                pendingResponses.fail(ticketId, response, throwable);
+            }
+        });
+        return response;
+    }
+
     /**
      * Publishes a new {@link TicketCashout} message and waits for a response with the specified timeout
      *
@@ -137,26 +148,7 @@ public class TicketCashoutHandlerImpl extends SenderBase<TicketCashout> implemen
      */
     @Override
     public TicketCashoutResponse sendBlocking(TicketCashout ticketCashout) throws ResponseTimeoutException {
-        Preconditions.checkState(isOpen(), SdkInfo.Literals.TICKET_HANDLER_SENDER_CLOSED);
-        Preconditions.checkNotNull(ticketCashout, SdkInfo.Literals.TICKET_HANDLER_TICKET_CASHOUT_NULL);
-
-        String ticketId = ticketCashout.getTicketId();
-        Semaphore semaphore = new Semaphore(0);
-        ticketCashoutSendEntryCache.put(ticketId, new TicketCashoutSendEntry(ticketCashout, semaphore));
-        publishAsync(ticketCashout, routingKey, replyRoutingKey);
-
-        boolean acquire = false;
-        try {
-            acquire = semaphore.tryAcquire(responseTimeout, TimeUnit.MILLISECONDS);
-        } catch (InterruptedException e) {
-            logger.warn("interrupted waiting for response, throwing timeout");
-            Thread.currentThread().interrupt();
-        }
-        if (!acquire) {
-            String error = String.format("Timeout reached. Missing response for ticketCashout %s with correlationId=%s", ticketCashout.getTicketId(), ticketCashout.getCorrelationId());
-            throw new ResponseTimeoutException(error);
-        }
-        return ticketCashoutResponseCache.getIfPresent(ticketId);
+        return PendingResponses.await(sendAsync(ticketCashout), responseTimeout, getTimeoutMessage(ticketCashout));
     }
 
     private void internalSend(TicketCashout ticketCashout) {
@@ -180,14 +172,14 @@ public class TicketCashoutHandlerImpl extends SenderBase<TicketCashout> implemen
     }
 
     /**
-     * Returns a {@link String} object that contains a serialized {@link TicketCashout} instance
+     * Returns the UTF-8 encoded JSON of a serialized {@link TicketCashout} instance
      *
      * @param messageObj - a {@link TicketCashout} instance that will be serialized
-     * @return - a {@link String} object that contains a serialized {@link TicketCashout} instance
+     * @return - the UTF-8 encoded JSON of a serialized {@link TicketCashout} instance
      */
     @Override
-    protected String getSerializedDto(TicketCashout messageObj) {
-        return messageObj.getJsonValue();
+    protected byte[] getSerializedDto(TicketCashout messageObj) {
+        return messageObj.getJsonBytes();
     }
 
     /**
@@ -203,18 +195,11 @@ public class TicketCashoutHandlerImpl extends SenderBase<TicketCashout> implemen
         timeoutHandler.onAsyncTicketResponseReceived(ticketCashoutResponse.getCorrelationId());
 
         String ticketId = ticketCashoutResponse.getTicketId();
-        ticketCashoutResponseCache.put(ticketId, ticketCashoutResponse);
-        TicketCashoutSendEntry entry = ticketCashoutSendEntryCache.getIfPresent(ticketId);
-
-        if (entry != null) {
-            Semaphore semaphore = entry.getSemaphore();
-            if (semaphore != null) {
-                semaphore.release(1);
-            }
-            ticketCashoutSendEntryCache.invalidate(ticketId);
-        } else {
-            executorService.submit(() -> ticketCashoutResponseListener.responseReceived(ticketCashoutResponse));
+        if (pendingResponses.complete(ticketId, ticketCashoutResponse)) {
+            // the response of an awaited send is only returned through its future
+            return;
         }
+        ListenerDispatcher.dispatch(executorService, ticketId, () -> ticketCashoutResponseListener.responseReceived(ticketCashoutResponse));
     }
 
     @Override
@@ -224,22 +209,7 @@ public class TicketCashoutHandlerImpl extends SenderBase<TicketCashout> implemen
         timeoutHandler.onAsyncPublishFailure(correlationId);
     }
 
-    private class TicketCashoutSendEntry {
-        private final TicketCashout ticket;
-        private final Semaphore semaphore;
-
-        TicketCashoutSendEntry(TicketCashout ticket,
-                                      Semaphore semaphore) {
-            this.ticket = ticket;
-            this.semaphore = semaphore;
-        }
-
-        public TicketCashout getTicket() {
-            return ticket;
-        }
-
-        Semaphore getSemaphore() {
-            return semaphore;
-        }
+    private static String getTimeoutMessage(TicketCashout ticketCashout) {
+        return String.format("Timeout reached. Missing response for ticketCashout %s with correlationId=%s", ticketCashout.getTicketId(), ticketCashout.getCorrelationId());
     }
 }
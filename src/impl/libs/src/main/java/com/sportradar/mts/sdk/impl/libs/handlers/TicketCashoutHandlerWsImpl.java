@@ -12,13 +12,14 @@ import com.sportradar.mts.sdk.api.utils.JsonUtils;
 import com.sportradar.mts.sdk.api.utils.SdkInfo;
 import com.sportradar.mts.sdk.api.utils.StringUtils;
 import com.sportradar.mts.sdk.impl.libs.logging.SdkLogger;
+import com.sportradar.mts.sdk.impl.libs.threading.ListenerDispatcher;
 import com.sportradar.mts.sdk.ws.exceptions.ProtocolTimeoutException;
 import com.sportradar.mts.sdk.ws.internal.protocol.ProtocolEngine;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ExecutorService;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
@@ -30,7 +31,7 @@ public class TicketCashoutHandlerWsImpl implements TicketCashoutHandler {
     private final SdkLogger sdkLogger;
 
     private final ProtocolEngine engine;
-    private final ScheduledExecutorService executorService;
+    private final ExecutorService executorService;
     private TicketCashoutResponseListener ticketCashoutResponseListener;
 
     private final Object stateLock = new Object();
@@ -40,7 +41,7 @@ public class TicketCashoutHandlerWsImpl implements TicketCashoutHandler {
             String routingKey,
             SdkLogger sdkLogger,
             ProtocolEngine engine,
-            ScheduledExecutorService executorService) {
+            ExecutorService executorService) {
         this.routingKey = routingKey == null ? "ticket.cashout" : routingKey;
         this.sdkLogger = sdkLogger;
         this.engine = engine;
@@ -90,7 +91,14 @@ public class TicketCashoutHandlerWsImpl implements TicketCashoutHandler {
         return sendAsync(ticketCashout).join();
     }
 
-    private CompletableFuture<TicketCashoutResponse> sendAsync(TicketCashout cashout) {
+    /**
+     * Sends the {@link TicketCashout} to the MTS and returns a future completed with the {@link TicketCashoutResponse}
+     *
+     * @param cashout the message to send
+     * @return a {@link CompletableFuture} completed once the response is received
+     */
+    @Override
+    public CompletableFuture<TicketCashoutResponse> sendAsync(TicketCashout cashout) {
         checkState(isOpen(), SdkInfo.Literals.TICKET_HANDLER_SENDER_CLOSED);
         checkNotNull(cashout, SdkInfo.Literals.TICKET_HANDLER_TICKET_CASHOUT_NULL);
 
@@ -128,7 +136,7 @@ public class TicketCashoutHandlerWsImpl implements TicketCashoutHandler {
     public void ticketCashoutResponseReceived(TicketCashoutResponse ticketCashoutResponse) {
         checkNotNull(ticketCashoutResponse, "TicketCashoutResponse cannot be null");
         sdkLogger.logReceivedMessage(JsonUtils.serializeAsString(ticketCashoutResponse));
-        executorService.submit(() -> {
+        ListenerDispatcher.dispatch(executorService, ticketCashoutResponse.getTicketId(), () -> {
             try {
                 ticketCashoutResponseListener.responseReceived(ticketCashoutResponse);
             } catch (Exception e) {
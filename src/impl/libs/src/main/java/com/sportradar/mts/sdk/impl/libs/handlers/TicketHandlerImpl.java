@@ -6,8 +6,6 @@ package com.sportradar.mts.sdk.impl.libs.handlers;
 
 import com.google.common.base.Preconditions;
 import com.google.common.base.Stopwatch;
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
 import com.sportradar.mts.sdk.api.SdkTicket;
 import com.sportradar.mts.sdk.api.Ticket;
 import com.sportradar.mts.sdk.api.TicketResponse;
@@ -17,11 +15,14 @@ import com.sportradar.mts.sdk.api.utils.JsonUtils;
 import com.sportradar.mts.sdk.api.utils.SdkInfo;
 import com.sportradar.mts.sdk.impl.libs.adapters.amqp.AmqpPublisher;
 import com.sportradar.mts.sdk.impl.libs.logging.SdkLogger;
+import com.sportradar.mts.sdk.impl.libs.threading.ListenerDispatcher;
+import com.sportradar.mts.sdk.ws.internal.utils.WheelTimer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -31,10 +32,7 @@ public class TicketHandlerImpl extends SenderBase<Ticket> implements TicketHandl
 
     private static final Logger logger = LoggerFactory.getLogger(TicketHandlerImpl.class);
     private final String routingKey;
-    private final Cache<String, TicketSendEntry> ticketSendEntries1;
-    private final Cache<String, TicketResponse> responseCache1;
-    private final Cache<String, TicketSendEntry> ticketSendEntries2;
-    private final Cache<String, TicketResponse> responseCache2;
+    private final PendingResponses<TicketResponse> pendingResponses;
     private final ExecutorService executorService;
     private final int responseTimeout1;
     private final int responseTimeout2;
@@ -46,6 +44,7 @@ public class TicketHandlerImpl extends SenderBase<Ticket> implements TicketHandl
                              String routingKey,
                              ExecutorService executorService,
                              ResponseTimeoutHandler<Ticket> responseTimeoutHandler,
+                             WheelTimer responseTimeoutTimer,
                              int responseTimeout1,
                              int responseTimeout2,
                              double messagesPerSecond,
@@ -60,19 +59,7 @@ public class TicketHandlerImpl extends SenderBase<Ticket> implements TicketHandl
         this.responseTimeout1 = responseTimeout1;
         this.responseTimeout2 = responseTimeout2;
         this.responseTimeoutHandler = responseTimeoutHandler;
-
-        ticketSendEntries1 = CacheBuilder.newBuilder()
-                .expireAfterWrite(responseTimeout1, TimeUnit.MILLISECONDS)
-                .build();
-        responseCache1 = CacheBuilder.newBuilder()
-                .expireAfterWrite(1, TimeUnit.MINUTES)
-                .build();
-        ticketSendEntries2 = CacheBuilder.newBuilder()
-                .expireAfterWrite(responseTimeout2, TimeUnit.MILLISECONDS)
-                .build();
-        responseCache2 = CacheBuilder.newBuilder()
-                .expireAfterWrite(1, TimeUnit.MINUTES)
-                .build();
+        this.pendingResponses = new PendingResponses<>(responseTimeoutTimer);
     }
 
     @Override
@@ -82,41 +69,58 @@ public class TicketHandlerImpl extends SenderBase<Ticket> implements TicketHandl
 
         checkNotNull(ticketResponseListener, "no response listener set");
 
-        internalSend(ticket, null);
+        publishAsync(ticket, ticket.getCorrelationId(), routingKey);
 
         responseTimeoutHandler.onAsyncTicketSent(ticket);
     }
 
     @Override
-    public TicketResponse sendBlocking(Ticket ticket) throws ResponseTimeoutException {
+    public boolean trySend(Ticket ticket) {
         checkState(isOpen(), SdkInfo.Literals.TICKET_HANDLER_SENDER_CLOSED);
         checkNotNull(ticket, SdkInfo.Literals.TICKET_HANDLER_TICKET_NULL);
 
-        Stopwatch stopwatch = Stopwatch.createStarted();
-        String ticketId = ticket.getTicketId();
-        Semaphore semaphore = new Semaphore(0);
-        if(isTicketPrematch(ticket)){
-            ticketSendEntries2.put(ticketId, new TicketSendEntry(ticket, null, semaphore));
-        }
-        else{
-            ticketSendEntries1.put(ticketId, new TicketSendEntry(ticket, null, semaphore));
-        }
-        publishAsync(ticket, routingKey);
-
-        boolean acquire = false;
-        try {
-            acquire = semaphore.tryAcquire(isTicketPrematch(ticket) ? responseTimeout2 : responseTimeout1, TimeUnit.MILLISECONDS);
-        } catch (InterruptedException e) {
-            logger.warn("interrupted waiting for response, throwing timeout");
-            Thread.currentThread().interrupt();
-        }
-        if (!acquire) {
-            String error = String.format("Timeout reached. Missing response for ticket %s with correlationId=%s", ticket.getTicketId(), ticket.getCorrelationId());
-            throw new ResponseTimeoutException(error);
+        checkNotNull(ticketResponseListener, "no response listener set");
+
+        if (!tryPublishAsync(ticket, ticket.getCorrelationId(), routingKey)) {
+            return false;
         }
-        TicketResponse ticketResponse = isTicketPrematch(ticket) ? responseCache2.getIfPresent(ticketId) : responseCache1.getIfPresent(ticketId);
+
+        responseTimeoutHandler.onAsyncTicketSent(ticket);
+        return true;
+    }
+
+    @Override
+    public CompletionStage<Void> sendWhenReady(Ticket ticket) {
+        checkState(isOpen(), SdkInfo.Literals.TICKET_HANDLER_SENDER_CLOSED);
+        checkNotNull(ticket, SdkInfo.Literals.TICKET_HANDLER_TICKET_NULL);
+
+        checkNotNull(ticketResponseListener, "no response listener set");
+
+        return publishWhenReady(ticket, ticket.getCorrelationId(), routingKey)
+                .thenRun(() -> responseTimeoutHandler.onAsyncTicketSent(ticket));
+    }
+
+    @Override
+    public CompletableFuture<TicketResponse> sendAsync(Ticket ticket) {
+        checkState(isOpen(), SdkInfo.Literals.TICKET_HANDLER_SENDER_CLOSED);
+        checkNotNull(ticket, SdkInfo.Literals.TICKET_HANDLER_TICKET_NULL);
+
+        String ticketId = ticket.getTicketId();
+        CompletableFuture<TicketResponse> response = pendingResponses.register(ticketId, getResponseTimeout(ticket), getTimeoutMessage(ticket));
+        publishAsyncTracked(ticket, routingKey, routingKey).whenComplete((result, throwable) -> {
+            if (throwable != null) {
+                pendingResponses.fail(ticketId, response, throwable);
+            }
+        });
+        return response;
+    }
+
+    @Override
+    public TicketResponse sendBlocking(Ticket ticket) throws ResponseTimeoutException {
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        TicketResponse ticketResponse = PendingResponses.await(sendAsync(ticket), getResponseTimeout(ticket), getTimeoutMessage(ticket));
         stopwatch.stop();
-        logger.debug("Response for ticket:{} is received in {} ms.", ticketId, stopwatch.elapsed(TimeUnit.MILLISECONDS));
+        logger.debug("Response for ticket:{} is received in {} ms.", ticket.getTicketId(), stopwatch.elapsed(TimeUnit.MILLISECONDS));
 
         return ticketResponse;
     }
@@ -137,28 +141,13 @@ public class TicketHandlerImpl extends SenderBase<Ticket> implements TicketHandl
         responseTimeoutHandler.onAsyncTicketResponseReceived(ticketResponse.getCorrelationId());
 
         String ticketId = ticketResponse.getTicketId();
-        TicketSendEntry entry = ticketSendEntries1.getIfPresent(ticketId);
-        responseCache1.put(ticketId, ticketResponse);
-        if(entry == null)
-        {
-            entry = ticketSendEntries2.getIfPresent(ticketId);
-            responseCache2.put(ticketId, ticketResponse);
-        }
-        final TicketResponseListener listenerToRespond;
-        if (entry != null) {
-            TicketResponseListener tmpTicketResponseListener = entry.getResponseListener();
-            Semaphore semaphore = entry.getSemaphore();
-            if (semaphore != null) {
-                semaphore.release(1);
-            }
-            ticketSendEntries1.invalidate(ticketId);
-            ticketSendEntries2.invalidate(ticketId);
-            listenerToRespond = tmpTicketResponseListener;
-        } else {
-            listenerToRespond = this.ticketResponseListener;
+        if (pendingResponses.complete(ticketId, ticketResponse)) {
+            // the response of an awaited send is only returned through its future
+            return;
         }
+        final TicketResponseListener listenerToRespond = this.ticketResponseListener;
         if (listenerToRespond != null) {
-            executorService.submit(() -> {
+            ListenerDispatcher.dispatch(executorService, ticketId, () -> {
                 try {
                     listenerToRespond.responseReceived(ticketResponse);
                 } catch (Exception e) {
@@ -171,53 +160,23 @@ public class TicketHandlerImpl extends SenderBase<Ticket> implements TicketHandl
     @Override
     public void close() {
         super.close();
-        ticketSendEntries1.cleanUp();
-        if (ticketSendEntries1.size() > 0) {
-            logger.info("there are still ticket responses pending, will wait till completion or timeout");
-            while (ticketSendEntries1.size() > 0) {
-                try {
-                    ticketSendEntries1.cleanUp();
-                    Thread.sleep(100);
-                } catch (InterruptedException e) {
-                    logger.error("interrupted waiting to get/timeout all ticket responses");
-                    Thread.currentThread().interrupt();
-                }
-            }
-        }
-        ticketSendEntries2.cleanUp();
-        if (ticketSendEntries2.size() > 0) {
+        if (!pendingResponses.isEmpty()) {
             logger.info("there are still ticket responses pending, will wait till completion or timeout");
-            while (ticketSendEntries2.size() > 0) {
+            while (!pendingResponses.isEmpty()) {
                 try {
-                    ticketSendEntries2.cleanUp();
                     Thread.sleep(100);
                 } catch (InterruptedException e) {
                     logger.error("interrupted waiting to get/timeout all ticket responses");
                     Thread.currentThread().interrupt();
+                    return;
                 }
             }
         }
     }
 
-    private void internalSend(Ticket ticket, TicketResponseListener responseListener) {
-        checkState(isOpen(), SdkInfo.Literals.TICKET_HANDLER_SENDER_CLOSED);
-        checkNotNull(ticket, SdkInfo.Literals.TICKET_HANDLER_TICKET_NULL);
-
-        String ticketId = ticket.getTicketId();
-        if (responseListener != null) {
-            if(isTicketPrematch(ticket)){
-                ticketSendEntries2.put(ticketId, new TicketSendEntry(ticket, responseListener, null));
-            }
-            else{
-                ticketSendEntries1.put(ticketId, new TicketSendEntry(ticket, responseListener, null));
-            }
-        }
-        publishAsync(ticket, ticket.getCorrelationId(), routingKey);
-    }
-
     @Override
-    protected String getSerializedDto(Ticket message) {
-        return message.getJsonValue();
+    protected byte[] getSerializedDto(Ticket message) {
+        return message.getJsonBytes();
     }
 
     @Override
@@ -227,31 +186,12 @@ public class TicketHandlerImpl extends SenderBase<Ticket> implements TicketHandl
         responseTimeoutHandler.onAsyncPublishFailure(correlationId);
     }
 
-    private final class TicketSendEntry {
-
-        private final Ticket ticket;
-        private final TicketResponseListener responseListener;
-        private final Semaphore semaphore;
-
-        public TicketSendEntry(Ticket ticket,
-                               TicketResponseListener responseListener,
-                               Semaphore semaphore) {
-            this.ticket = ticket;
-            this.responseListener = responseListener;
-            this.semaphore = semaphore;
-        }
-
-        public Ticket getTicket() {
-            return ticket;
-        }
-
-        public Semaphore getSemaphore() {
-            return semaphore;
-        }
+    private int getResponseTimeout(Ticket ticket) {
+        return isTicketPrematch(ticket) ? responseTimeout2 : responseTimeout1;
+    }
 
-        public TicketResponseListener getResponseListener() {
-            return responseListener;
-        }
+    private static String getTimeoutMessage(Ticket ticket) {
+        return String.format("Timeout reached. Missing response for ticket %s with correlationId=%s", ticket.getTicketId(), ticket.getCorrelationId());
     }
 
     public static boolean isTicketPrematch(SdkTicket ticket) {
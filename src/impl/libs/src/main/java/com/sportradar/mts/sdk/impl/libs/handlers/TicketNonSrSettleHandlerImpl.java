@@ -5,8 +5,6 @@
 package com.sportradar.mts.sdk.impl.libs.handlers;
 
 import com.google.common.base.Preconditions;
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
 import com.sportradar.mts.sdk.api.TicketNonSrSettle;
 import com.sportradar.mts.sdk.api.TicketNonSrSettleResponse;
 import com.sportradar.mts.sdk.api.exceptions.ResponseTimeoutException;
@@ -15,12 +13,13 @@ import com.sportradar.mts.sdk.api.utils.JsonUtils;
 import com.sportradar.mts.sdk.api.utils.SdkInfo;
 import com.sportradar.mts.sdk.impl.libs.adapters.amqp.AmqpPublisher;
 import com.sportradar.mts.sdk.impl.libs.logging.SdkLogger;
+import com.sportradar.mts.sdk.impl.libs.threading.ListenerDispatcher;
+import com.sportradar.mts.sdk.ws.internal.utils.WheelTimer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Semaphore;
-import java.util.concurrent.TimeUnit;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
@@ -62,14 +61,9 @@ public class TicketNonSrSettleHandlerImpl extends SenderBase<TicketNonSrSettle>
     private final int responseTimeout;
 
     /**
-     * The caching used to store send messages that are used to check if the message is <code>sendBlocking</code>
+     * The responses awaited by <code>sendAsync</code> and <code>sendBlocking</code>
      */
-    private final Cache<String, TicketNonSrSettleSendEntry> ticketNonSrSettleSendEntryCache;
-
-    /**
-     * The caching used to store response messages so they can be utilized as the return for <code>sendBlocking</code>
-     */
-    private final Cache<String, TicketNonSrSettleResponse> ticketNonSrSettleResponseCache;
+    private final PendingResponses<TicketNonSrSettleResponse> pendingResponses;
 
     @SuppressWarnings("java:S107") // Methods should not have too many parameters
     public TicketNonSrSettleHandlerImpl(AmqpPublisher amqpPublisher,
@@ -77,6 +71,7 @@ public class TicketNonSrSettleHandlerImpl extends SenderBase<TicketNonSrSettle>
                                         String replyRoutingKey,
                                         ExecutorService executorService,
                                         ResponseTimeoutHandler<TicketNonSrSettle> timeoutHandler,
+                                        WheelTimer responseTimeoutTimer,
                                         int responseTimeout,
                                         double messagesPerSecond,
                                         SdkLogger sdkLogger) {
@@ -86,13 +81,7 @@ public class TicketNonSrSettleHandlerImpl extends SenderBase<TicketNonSrSettle>
         this.executorService = executorService;
         this.timeoutHandler = timeoutHandler;
         this.responseTimeout = responseTimeout;
-
-        ticketNonSrSettleSendEntryCache = CacheBuilder.newBuilder()
-                .expireAfterWrite(responseTimeout, TimeUnit.MILLISECONDS)
-                .build();
-        ticketNonSrSettleResponseCache = CacheBuilder.newBuilder()
-                .expireAfterWrite(1, TimeUnit.MINUTES)
-                .build();
+        this.pendingResponses = new PendingResponses<>(responseTimeoutTimer);
     }
 
     /**
@@ -111,6 +100,27 @@ public class TicketNonSrSettleHandlerImpl extends SenderBase<TicketNonSrSettle>
         timeoutHandler.onAsyncTicketSent(ticketData);
     }
 
+    /**
+     * Publishes a new {@link TicketNonSrSettle} message and returns a future completed with the response
+     *
+     * @param ticketNonSrSettle - the data from which the message will be built
+     * @return - a {@link CompletableFuture} completed with the response from the MTS
+     */
+    @Override
+    public CompletableFuture<TicketNonSrSettleResponse> sendAsync(TicketNonSrSettle ticketNonSrSettle) {
+        checkState(isOpen(), SdkInfo.Literals.TICKET_HANDLER_SENDER_CLOSED);
+        checkNotNull(ticketNonSrSettle, SdkInfo.Literals.TICKET_HANDLER_TICKET_NONSR_NULL);
+
+        String ticketId = ticketNonSrSettle.getTicketId();
+        CompletableFuture<TicketNonSrSettleResponse> response = pendingResponses.register(ticketId, responseTimeout, getTimeoutMessage(ticketNonSrSettle));
+        publishAsyncTracked(ticketNonSrSettle, routingKey, replyRoutingKey).whenComplete((result, throwable) -> {
+            if (throwable != null) {
+                pendingResponses.fail(ticketId, response, throwable);
+            }
+        });
+        return response;
+    }
+
     /**
      * Publishes a new {@link TicketNonSrSettle} message and waits for a response with the specified timeout
      *
@@ -120,36 +130,18 @@ public class TicketNonSrSettleHandlerImpl extends SenderBase<TicketNonSrSettle>
      */
     @Override
     public TicketNonSrSettleResponse sendBlocking(TicketNonSrSettle ticketNonSrSettle) throws ResponseTimeoutException {
-        Preconditions.checkState(isOpen(), SdkInfo.Literals.TICKET_HANDLER_SENDER_CLOSED);
-        Preconditions.checkNotNull(ticketNonSrSettle, SdkInfo.Literals.TICKET_HANDLER_TICKET_NONSR_NULL);
-
-        String ticketId = ticketNonSrSettle.getTicketId();
-        Semaphore semaphore = new Semaphore(0);
-        ticketNonSrSettleSendEntryCache.put(ticketId, new TicketNonSrSettleSendEntry(ticketNonSrSettle, semaphore));
-        publishAsync(ticketNonSrSettle, routingKey, replyRoutingKey);
-
-        boolean acquire = false;
-        try {
-            acquire = semaphore.tryAcquire(responseTimeout, TimeUnit.MILLISECONDS);
-        } catch (InterruptedException e) {
-            logger.warn("interrupted waiting for response, throwing timeout");
-            Thread.currentThread().interrupt();
-        }
-        if (!acquire) {
-            throw new ResponseTimeoutException("timeout reached");
-        }
-        return ticketNonSrSettleResponseCache.getIfPresent(ticketId);
+        return PendingResponses.await(sendAsync(ticketNonSrSettle), responseTimeout, getTimeoutMessage(ticketNonSrSettle));
     }
 
     /**
-     * Returns a {@link String} object that contains a serialized {@link TicketNonSrSettle} instance
+     * Returns the UTF-8 encoded JSON of a serialized {@link TicketNonSrSettle} instance
      *
      * @param message - a {@link TicketNonSrSettle} instance that will be serialized
-     * @return - a {@link String} object that contains a serialized {@link TicketNonSrSettle} instance
+     * @return - the UTF-8 encoded JSON of a serialized {@link TicketNonSrSettle} instance
      */
     @Override
-    protected String getSerializedDto(TicketNonSrSettle message) {
-        return message.getJsonValue();
+    protected byte[] getSerializedDto(TicketNonSrSettle message) {
+        return message.getJsonBytes();
     }
 
     /**
@@ -173,18 +165,11 @@ public class TicketNonSrSettleHandlerImpl extends SenderBase<TicketNonSrSettle>
         timeoutHandler.onAsyncTicketResponseReceived(ticketNonSrSettleResponse.getCorrelationId());
 
         String ticketId = ticketNonSrSettleResponse.getTicketId();
-        ticketNonSrSettleResponseCache.put(ticketId, ticketNonSrSettleResponse);
-        TicketNonSrSettleSendEntry entry = ticketNonSrSettleSendEntryCache.getIfPresent(ticketId);
-
-        if (entry != null) {
-            Semaphore semaphore = entry.getSemaphore();
-            if (semaphore != null) {
-                semaphore.release(1);
-            }
-            ticketNonSrSettleSendEntryCache.invalidate(ticketId);
-        } else {
-            executorService.submit(() -> ticketNonSrSettleResponseListener.responseReceived(ticketNonSrSettleResponse));
+        if (pendingResponses.complete(ticketId, ticketNonSrSettleResponse)) {
+            // the response of an awaited send is only returned through its future
+            return;
         }
+        ListenerDispatcher.dispatch(executorService, ticketId, () -> ticketNonSrSettleResponseListener.responseReceived(ticketNonSrSettleResponse));
     }
 
     @Override
@@ -202,21 +187,7 @@ public class TicketNonSrSettleHandlerImpl extends SenderBase<TicketNonSrSettle>
         publishAsync(ticketNonSrSettle, routingKey, replyRoutingKey);
     }
 
-    private static class TicketNonSrSettleSendEntry {
-        private final TicketNonSrSettle ticket;
-        private final Semaphore semaphore;
-
-        TicketNonSrSettleSendEntry(TicketNonSrSettle ticket, Semaphore semaphore) {
-            this.ticket = ticket;
-            this.semaphore = semaphore;
-        }
-
-        public TicketNonSrSettle getTicket() {
-            return ticket;
-        }
-
-        Semaphore getSemaphore() {
-            return semaphore;
-        }
+    private static String getTimeoutMessage(TicketNonSrSettle ticketNonSrSettle) {
+        return String.format("Timeout reached. Missing response for ticketNonSrSettle %s with correlationId=%s", ticketNonSrSettle.getTicketId(), ticketNonSrSettle.getCorrelationId());
     }
 }
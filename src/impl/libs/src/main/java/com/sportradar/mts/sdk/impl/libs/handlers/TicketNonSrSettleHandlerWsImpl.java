@@ -12,6 +12,7 @@ import com.sportradar.mts.sdk.api.utils.JsonUtils;
 import com.sportradar.mts.sdk.api.utils.SdkInfo;
 import com.sportradar.mts.sdk.api.utils.StringUtils;
 import com.sportradar.mts.sdk.impl.libs.logging.SdkLogger;
+import com.sportradar.mts.sdk.impl.libs.threading.ListenerDispatcher;
 import com.sportradar.mts.sdk.ws.exceptions.ProtocolTimeoutException;
 import com.sportradar.mts.sdk.ws.internal.protocol.ProtocolEngine;
 import org.slf4j.Logger;
@@ -19,7 +20,6 @@ import org.slf4j.LoggerFactory;
 
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.ScheduledExecutorService;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
@@ -40,7 +40,7 @@ public class TicketNonSrSettleHandlerWsImpl implements TicketNonSrSettleHandler
             String routingKey,
             SdkLogger sdkLogger,
             ProtocolEngine engine,
-            ScheduledExecutorService executorService) {
+            ExecutorService executorService) {
         this.routingKey = routingKey == null ? "ticket.nonsrsettle" : routingKey;
         this.sdkLogger = sdkLogger;
         this.engine = engine;
@@ -90,7 +90,14 @@ public class TicketNonSrSettleHandlerWsImpl implements TicketNonSrSettleHandler
         return sendAsync(ticket).join();
     }
 
-    private CompletableFuture<TicketNonSrSettleResponse> sendAsync(TicketNonSrSettle ticket) {
+    /**
+     * Sends the {@link TicketNonSrSettle} to the MTS and returns a future completed with the {@link TicketNonSrSettleResponse}
+     *
+     * @param ticket the message to send
+     * @return a {@link CompletableFuture} completed once the response is received
+     */
+    @Override
+    public CompletableFuture<TicketNonSrSettleResponse> sendAsync(TicketNonSrSettle ticket) {
         checkState(isOpen(), SdkInfo.Literals.TICKET_HANDLER_SENDER_CLOSED);
         checkNotNull(ticket, SdkInfo.Literals.TICKET_HANDLER_TICKET_NONSR_NULL);
 
@@ -128,7 +135,7 @@ public class TicketNonSrSettleHandlerWsImpl implements TicketNonSrSettleHandler
     public void setTicketNonSrSettleResponse(TicketNonSrSettleResponse ticketNonSrSettleResponse) {
         checkNotNull(ticketNonSrSettleResponse, "TicketNonSrSettleResponse cannot be null");
         sdkLogger.logReceivedMessage(JsonUtils.serializeAsString(ticketNonSrSettleResponse));
-        executorService.submit(() -> {
+        ListenerDispatcher.dispatch(executorService, ticketNonSrSettleResponse.getTicketId(), () -> {
             try {
             ticketNonSrSettleResponseListener.responseReceived(ticketNonSrSettleResponse);
             } catch (Exception e) {
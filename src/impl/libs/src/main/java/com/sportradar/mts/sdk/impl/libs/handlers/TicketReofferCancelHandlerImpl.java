@@ -10,6 +10,7 @@ import com.sportradar.mts.sdk.api.utils.SdkInfo;
 import com.sportradar.mts.sdk.impl.libs.adapters.amqp.AmqpPublisher;
 import com.sportradar.mts.sdk.impl.libs.logging.SdkLogger;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -35,13 +36,20 @@ public class TicketReofferCancelHandlerImpl extends SenderBase<TicketReofferCanc
         publishAsync(ticketReofferCancel, routingKey);
     }
 
+    @Override
+    public CompletableFuture<Void> sendAsync(TicketReofferCancel ticketReofferCancel) {
+        checkState(isOpen(), SdkInfo.Literals.TICKET_HANDLER_SENDER_CLOSED);
+        checkNotNull(ticketReofferCancel, SdkInfo.Literals.TICKET_HANDLER_TICKET_REOFFER_CANCEL_NULL);
+        return publishAsyncTracked(ticketReofferCancel, routingKey, routingKey);
+    }
+
     @Override
     public void setListener(TicketReofferCancelResponseListener responseListener) {
         setPublishListener(responseListener);
     }
 
     @Override
-    protected String getSerializedDto(TicketReofferCancel message) {
-        return message.getJsonValue();
+    protected byte[] getSerializedDto(TicketReofferCancel message) {
+        return message.getJsonBytes();
     }
 }
@@ -13,6 +13,8 @@ import com.sportradar.mts.sdk.ws.internal.protocol.ProtocolEngine;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.concurrent.CompletableFuture;
+
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
 
@@ -63,7 +65,14 @@ public class TicketReofferCancelHandlerWsImpl implements TicketReofferCancelHand
         sendAsync(ticketReofferCancel);
     }
 
-    private void sendAsync(TicketReofferCancel reofferCancel) {
+    /**
+     * Sends the {@link TicketReofferCancel} to the MTS, there is no response to the reoffer cancellation
+     *
+     * @param reofferCancel the reoffer cancellation to send
+     * @return a {@link CompletableFuture} completed once the reoffer cancellation was sent
+     */
+    @Override
+    public CompletableFuture<Void> sendAsync(TicketReofferCancel reofferCancel) {
         checkState(isOpen(), SdkInfo.Literals.TICKET_HANDLER_SENDER_CLOSED);
         checkNotNull(reofferCancel, SdkInfo.Literals.TICKET_HANDLER_TICKET_REOFFER_CANCEL_NULL);
 
@@ -78,7 +87,7 @@ public class TicketReofferCancelHandlerWsImpl implements TicketReofferCancelHand
         if (StringUtils.isNullOrEmpty(reofferCancel.getCorrelationId())) {
             logger.warn("Ticket {} is missing correlationId", reofferCancel.getTicketId());
         }
-        engine.executeNoResponse(routingKey, reofferCancel, reofferCancel.getBookmakerId(),
+        return engine.executeNoResponse(routingKey, reofferCancel, reofferCancel.getBookmakerId(),
                         () -> ticketReofferCancelResponseListener.publishSuccess(reofferCancel))
                 .whenComplete((response, throwable) -> {
                     if (throwable != null) {
@@ -76,10 +76,9 @@ public class AmqpTicketCancelResponseReceiverImpl implements AmqpMessageReceiver
                                  String correlationId,
                                  Map<String, Object> messageHeaders) {
 
-        String msgBody = new String(msg);
         if(logger.isDebugEnabled())
         {
-            logger.debug("received ticket response with correlation id: {}, msg: {}, headers: {}", correlationId, msgBody, messageHeaders);
+            logger.debug("received ticket response with correlation id: {}, msg: {}, headers: {}", correlationId, new String(msg, StandardCharsets.UTF_8), messageHeaders);
         }
         else {
             logger.info("received ticket response with correlation id: {}", correlationId);
@@ -88,15 +87,15 @@ public class AmqpTicketCancelResponseReceiverImpl implements AmqpMessageReceiver
         TicketCancelResponse ticketCancelResponse = null;
         try {
             TicketCancelResponseSchema ticketCancelResponseSchema = JsonUtils.deserialize(msg, TicketCancelResponseSchema.class);
-            ticketCancelResponse = MtsDtoMapper.map(ticketCancelResponseSchema, correlationId, messageHeaders, msgBody);
+            ticketCancelResponse = MtsDtoMapper.map(ticketCancelResponseSchema, correlationId, messageHeaders, msg);
             connectionStatus.ticketReceived(ticketCancelResponse.getTicketId());
         }
         catch (IOException e) {
-            logger.error("failed to deserialize ticket cancel response! msg: {}", msgBody, e);
+            logger.error("failed to deserialize ticket cancel response! msg: {}", new String(msg, StandardCharsets.UTF_8), e);
         }
         catch(Exception e)
         {
-            logger.error("failed to map ticket cancel response! msg: {}", msgBody, e);
+            logger.error("failed to map ticket cancel response! msg: {}", new String(msg, StandardCharsets.UTF_8), e);
         }
         if (ticketCancelResponse != null) {
             ticketCancelResponseReceiver.ticketCancelResponseReceived(ticketCancelResponse);
@@ -50,10 +50,9 @@ public class AmqpTicketCashoutResponseReceiverImpl implements AmqpMessageReceive
                                  String correlationId,
                                  Map<String, Object> messageHeaders) {
 
-        String msgBody = new String(msg);
         if(logger.isDebugEnabled())
         {
-            logger.debug("received ticket response with correlation id: {}, msg: {}, headers: {}", correlationId, msgBody, messageHeaders);
+            logger.debug("received ticket response with correlation id: {}, msg: {}, headers: {}", correlationId, new String(msg, StandardCharsets.UTF_8), messageHeaders);
         }
         else {
             logger.info("received ticket response with correlation id: {}", correlationId);
@@ -62,15 +61,15 @@ public class AmqpTicketCashoutResponseReceiverImpl implements AmqpMessageReceive
         TicketCashoutResponse ticketCashoutResponse = null;
         try {
             TicketCashoutResponseSchema ticketSchema = JsonUtils.deserialize(msg, TicketCashoutResponseSchema.class);
-            ticketCashoutResponse = MtsDtoMapper.map(ticketSchema, correlationId, messageHeaders, msgBody);
+            ticketCashoutResponse = MtsDtoMapper.map(ticketSchema, correlationId, messageHeaders, msg);
             connectionStatus.ticketReceived(ticketCashoutResponse.getTicketId());
         }
         catch (IOException e) {
-            logger.error("failed to deserialize ticket cashout response! msg: {}", msgBody, e);
+            logger.error("failed to deserialize ticket cashout response! msg: {}", new String(msg, StandardCharsets.UTF_8), e);
         }
         catch(Exception e)
         {
-            logger.error("failed to map ticket cashout response! msg: {}", msgBody, e);
+            logger.error("failed to map ticket cashout response! msg: {}", new String(msg, StandardCharsets.UTF_8), e);
         }
 
         if (ticketCashoutResponse != null) {
@@ -50,10 +50,9 @@ public class AmqpTicketNonSrSettleResponseReceiverImpl implements AmqpMessageRec
                                  String correlationId,
                                  Map<String, Object> messageHeaders) {
 
-        String msgBody = new String(msg);
         if(logger.isDebugEnabled())
         {
-            logger.debug("received ticket response with correlation id: {}, msg: {}, headers: {}", correlationId, msgBody, messageHeaders);
+            logger.debug("received ticket response with correlation id: {}, msg: {}, headers: {}", correlationId, new String(msg, StandardCharsets.UTF_8), messageHeaders);
         }
         else {
             logger.info("received ticket response with correlation id: {}", correlationId);
@@ -62,15 +61,15 @@ public class AmqpTicketNonSrSettleResponseReceiverImpl implements AmqpMessageRec
         TicketNonSrSettleResponse ticketNonSrSettleResponse = null;
         try {
             TicketNonSrSettleResponseSchema ticketSchema = JsonUtils.deserialize(msg, TicketNonSrSettleResponseSchema.class);
-            ticketNonSrSettleResponse = MtsDtoMapper.map(ticketSchema, correlationId, messageHeaders, msgBody);
+            ticketNonSrSettleResponse = MtsDtoMapper.map(ticketSchema, correlationId, messageHeaders, msg);
             connectionStatus.ticketReceived(ticketNonSrSettleResponse.getTicketId());
         }
         catch (IOException e) {
-            logger.error("failed to deserialize ticket non-sportaradar settle response! msg: {}", msgBody, e);
+            logger.error("failed to deserialize ticket non-sportaradar settle response! msg: {}", new String(msg, StandardCharsets.UTF_8), e);
         }
         catch(Exception e)
         {
-            logger.error("failed to map ticket non-sportaradar settle response! msg: {}", msgBody, e);
+            logger.error("failed to map ticket non-sportaradar settle response! msg: {}", new String(msg, StandardCharsets.UTF_8), e);
         }
 
         if (ticketNonSrSettleResponse != null) {
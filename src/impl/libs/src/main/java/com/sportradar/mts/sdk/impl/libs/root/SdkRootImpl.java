@@ -4,15 +4,17 @@
 
 package com.sportradar.mts.sdk.impl.libs.root;
 
+import com.sportradar.mts.sdk.api.caching.MarketDescriptionCache;
 import com.sportradar.mts.sdk.api.interfaces.*;
 import com.sportradar.mts.sdk.impl.libs.adapters.amqp.AmqpMessageReceiver;
 import com.sportradar.mts.sdk.impl.libs.adapters.amqp.ChannelFactoryProvider;
 import com.sportradar.mts.sdk.impl.libs.handlers.*;
 import com.sportradar.mts.sdk.impl.libs.logging.SdkLogger;
+import com.sportradar.mts.sdk.impl.libs.threading.ListenerDispatcherFactory;
+import com.sportradar.mts.sdk.ws.internal.utils.WheelTimer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
 import static com.google.common.base.Preconditions.checkState;
@@ -22,7 +24,8 @@ public class SdkRootImpl implements SdkRoot {
     private static final Logger logger = LoggerFactory.getLogger(SdkRootImpl.class);
     private final Object stateLock = new Object();
     private boolean opened;
-    private final ScheduledExecutorService executorService;
+    private final ListenerDispatcherFactory listenerDispatcherFactory;
+    private final WheelTimer responseTimeoutTimer;
     private final SdkLogger sdkLogger;
     private final ChannelFactoryProvider channelFactoryProvider;
     private final TicketHandler ticketHandler;
@@ -36,10 +39,12 @@ public class SdkRootImpl implements SdkRoot {
     private final AmqpMessageReceiver ticketCashoutAmqpMessageReceiver;
     private final TicketNonSrSettleHandler ticketNonSrSettleHandler;
     private final AmqpMessageReceiver ticketNonSrSettleAmpqMessageReceiver;
+    private final MarketDescriptionCache marketDescriptionCache;
 
     @SuppressWarnings("java:S107") // Methods should not have too many parameters
     public SdkRootImpl(SdkLogger sdkLogger,
-                       ScheduledExecutorService executorService,
+                       ListenerDispatcherFactory listenerDispatcherFactory,
+                       WheelTimer responseTimeoutTimer,
                        ChannelFactoryProvider channelFactoryProvider,
                        TicketHandler ticketHandler,
                        AmqpMessageReceiver ticketAmqpMessageReceiver,
@@ -51,9 +56,11 @@ public class SdkRootImpl implements SdkRoot {
                        TicketCashoutHandler ticketCashoutHandler,
                        AmqpMessageReceiver ticketCashoutAmqpMessageReceiver,
                        TicketNonSrSettleHandler ticketNonSrSettleHandler,
-                       AmqpMessageReceiver ticketNonSrSettleAmpqMessageReceiver) {
+                       AmqpMessageReceiver ticketNonSrSettleAmpqMessageReceiver,
+                       MarketDescriptionCache marketDescriptionCache) {
+        this.listenerDispatcherFactory = listenerDispatcherFactory;
+        this.responseTimeoutTimer = responseTimeoutTimer;
         this.sdkLogger = sdkLogger;
-        this.executorService = executorService;
         this.channelFactoryProvider = channelFactoryProvider;
         this.ticketHandler = ticketHandler;
         this.ticketAmqpMessageReceiver = ticketAmqpMessageReceiver;
@@ -66,6 +73,7 @@ public class SdkRootImpl implements SdkRoot {
         this.ticketCashoutAmqpMessageReceiver = ticketCashoutAmqpMessageReceiver;
         this.ticketNonSrSettleHandler = ticketNonSrSettleHandler;
         this.ticketNonSrSettleAmpqMessageReceiver = ticketNonSrSettleAmpqMessageReceiver;
+        this.marketDescriptionCache = marketDescriptionCache;
     }
 
     @Override
@@ -135,22 +143,22 @@ public class SdkRootImpl implements SdkRoot {
             } catch (Exception e) {
                 logger.error("failed to close ticket non-sr sender", e);
             }
+            try {
+                marketDescriptionCache.close();
+            } catch (Exception e) {
+                logger.error("failed to close market description cache", e);
+            }
             try {
                 channelFactoryProvider.unregisterInstance();
             } catch (Exception e) {
                 logger.error("failed to unregister instance from channel factory provider", e);
             }
-            executorService.shutdown();
-            boolean terminated = false;
+            shutdownListenerDispatchers();
             try {
-                terminated = executorService.awaitTermination(20, TimeUnit.SECONDS);
-            } catch (InterruptedException e) {
-                logger.info("interrupted while waiting for executor service to shutdown");
-                Thread.currentThread().interrupt();
-            }
-            if (!terminated) {
-                logger.error("failed to shutdown executor service in time, force stopping");
-                executorService.shutdownNow();
+                // the handlers wait for the pending responses to complete or time out, so the timer is closed last
+                responseTimeoutTimer.close();
+            } catch (Exception e) {
+                logger.error("failed to close response timeout timer", e);
             }
             try {
                 sdkLogger.close();
@@ -161,6 +169,21 @@ public class SdkRootImpl implements SdkRoot {
         }
     }
 
+    private void shutdownListenerDispatchers() {
+        listenerDispatcherFactory.shutdown();
+        boolean terminated = false;
+        try {
+            terminated = listenerDispatcherFactory.awaitTermination(20, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            logger.info("interrupted while waiting for listener dispatchers to shutdown");
+            Thread.currentThread().interrupt();
+        }
+        if (!terminated) {
+            logger.error("failed to shutdown listener dispatchers in time, force stopping");
+            listenerDispatcherFactory.shutdownNow();
+        }
+    }
+
     @Override
     public boolean isOpen() {
         return opened;
@@ -0,0 +1,177 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.impl.libs.threading;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Executor dispatching the callbacks of a single handler to its listener.
+ * <p>
+ * Tasks submitted with an ordering key are run one after another in submission order for the same key, tasks
+ * with different keys run concurrently. Tasks without a key are handed to the underlying threads directly.
+ */
+public class ListenerDispatcher extends AbstractExecutorService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ListenerDispatcher.class);
+
+    private final String name;
+    private final ExecutorService executor;
+    private final Lane[] lanes;
+
+    /**
+     * Constructs a new dispatcher
+     *
+     * @param name the name of the dispatcher, used for logging
+     * @param executor the {@link ExecutorService} running the dispatched tasks, owned by the dispatcher
+     * @param laneCount the number of independent ordered lanes, zero if ordering by key is disabled
+     */
+    public ListenerDispatcher(String name, ExecutorService executor, int laneCount) {
+        checkNotNull(name, "name cannot be null");
+        checkNotNull(executor, "executor cannot be null");
+        checkArgument(laneCount >= 0, "laneCount cannot be negative");
+
+        this.name = name;
+        this.executor = executor;
+        this.lanes = new Lane[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            this.lanes[i] = new Lane();
+        }
+    }
+
+    /**
+     * Dispatches the task, keeping it in order with the other tasks dispatched with the same key if the
+     * provided executor is a {@link ListenerDispatcher}
+     *
+     * @param executor the {@link ExecutorService} to dispatch to
+     * @param orderingKey the key (usually the ticket id) the task is ordered by, may be null
+     * @param task the task to be dispatched
+     */
+    public static void dispatch(ExecutorService executor, Object orderingKey, Runnable task) {
+        if (executor instanceof ListenerDispatcher) {
+            ((ListenerDispatcher) executor).execute(orderingKey, task);
+        } else {
+            executor.submit(task);
+        }
+    }
+
+    /**
+     * Executes the task after all tasks previously submitted with the same key completed
+     *
+     * @param orderingKey the key the task is ordered by, if null the task is not ordered
+     * @param task the task to be executed
+     */
+    public void execute(Object orderingKey, Runnable task) {
+        checkNotNull(task, "task cannot be null");
+
+        if (orderingKey == null || lanes.length == 0) {
+            execute(task);
+            return;
+        }
+        lanes[(orderingKey.hashCode() & Integer.MAX_VALUE) % lanes.length].execute(task);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        checkNotNull(task, "task cannot be null");
+
+        executor.execute(task);
+    }
+
+    @Override
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        for (Lane lane : lanes) {
+            lane.tasks.clear();
+        }
+        executor.shutdownNow();
+        return Collections.emptyList();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return executor.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return executor.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return executor.awaitTermination(timeout, unit);
+    }
+
+    @Override
+    public String toString() {
+        return "ListenerDispatcher{name='" + name + "', lanes=" + lanes.length + '}';
+    }
+
+    /**
+     * Runs its tasks one at a time on the dispatcher threads. A lane occupies a thread only while it has tasks
+     * and drains all of them before releasing it, so tasks accepted before shutdown are always run.
+     */
+    private final class Lane implements Executor, Runnable {
+
+        private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        @Override
+        public void execute(Runnable task) {
+            if (executor.isShutdown()) {
+                throw new RejectedExecutionException("dispatcher " + name + " is shut down");
+            }
+            tasks.add(task);
+            schedule();
+        }
+
+        @Override
+        public void run() {
+            do {
+                Runnable task;
+                while ((task = tasks.poll()) != null) {
+                    try {
+                        task.run();
+                    } catch (Exception e) {
+                        logger.error("dispatcher {} failed to run listener task", name, e);
+                    }
+                }
+                scheduled.set(false);
+                // a task may have been added after the queue was found empty, but before the flag was cleared
+            } while (!tasks.isEmpty() && scheduled.compareAndSet(false, true));
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    executor.execute(this);
+                } catch (RejectedExecutionException e) {
+                    scheduled.set(false);
+                    tasks.clear();
+                    throw e;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.impl.libs.threading;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Creates a separate {@link ListenerDispatcher} for every handler, so a slow listener only delays the callbacks
+ * of its own handler, and shuts all of them down together
+ */
+public class ListenerDispatcherFactory {
+
+    private static final Logger logger = LoggerFactory.getLogger(ListenerDispatcherFactory.class);
+
+    private final int threadCount;
+    private final boolean ticketOrderingEnabled;
+    private final boolean virtualThreads;
+    private final List<ListenerDispatcher> dispatchers = new CopyOnWriteArrayList<>();
+
+    /**
+     * Constructs a new factory
+     *
+     * @param threadCount the number of threads (or ordered lanes when virtual threads are used) of each dispatcher
+     * @param ticketOrderingEnabled value indicating whether tasks with the same ordering key are run in order
+     * @param virtualThreadsEnabled value indicating whether virtual threads should be used if the JDK supports them
+     */
+    public ListenerDispatcherFactory(int threadCount, boolean ticketOrderingEnabled, boolean virtualThreadsEnabled) {
+        checkArgument(threadCount > 0, "threadCount must be greater than zero");
+
+        this.threadCount = threadCount;
+        this.ticketOrderingEnabled = ticketOrderingEnabled;
+        this.virtualThreads = virtualThreadsEnabled && isVirtualThreadSupported();
+        if (virtualThreadsEnabled && !this.virtualThreads) {
+            logger.warn("virtual threads are not supported by the running JDK, listener callbacks will be dispatched on platform threads");
+        }
+    }
+
+    /**
+     * Creates a new dispatcher for the handler with the provided name
+     *
+     * @param name the name of the handler, used to name the dispatcher threads
+     * @return a new {@link ListenerDispatcher}
+     */
+    public ListenerDispatcher create(String name) {
+        checkNotNull(name, "name cannot be null");
+
+        ExecutorService executor = virtualThreads
+                ? newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(threadCount, new DispatcherThreadFactory(name));
+        // a single thread already runs everything in submission order
+        int laneCount = ticketOrderingEnabled && (virtualThreads || threadCount > 1) ? threadCount : 0;
+        ListenerDispatcher dispatcher = new ListenerDispatcher(name, executor, laneCount);
+        dispatchers.add(dispatcher);
+        return dispatcher;
+    }
+
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * Initiates an orderly shutdown of all created dispatchers
+     */
+    public void shutdown() {
+        dispatchers.forEach(ListenerDispatcher::shutdown);
+    }
+
+    /**
+     * Attempts to stop all created dispatchers, pending callbacks are dropped
+     */
+    public void shutdownNow() {
+        dispatchers.forEach(ListenerDispatcher::shutdownNow);
+    }
+
+    /**
+     * Blocks until all created dispatchers terminated after a shutdown or the timeout elapsed
+     *
+     * @return <code>true</code> if all dispatchers terminated, otherwise <code>false</code>
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (ListenerDispatcher dispatcher : dispatchers) {
+            long remaining = deadline - System.nanoTime();
+            if (!dispatcher.awaitTermination(Math.max(0L, remaining), TimeUnit.NANOSECONDS)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isVirtualThreadSupported() {
+        try {
+            Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        // looked up reflectively, the SDK is compiled for a JDK without virtual threads
+        try {
+            Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) method.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("failed to create virtual thread executor", e);
+        }
+    }
+
+    private static final class DispatcherThreadFactory implements ThreadFactory {
+
+        private final String name;
+        private final AtomicInteger counter = new AtomicInteger();
+
+        private DispatcherThreadFactory(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            return new Thread(runnable, "mts-sdk-listener-" + name + "-" + counter.incrementAndGet());
+        }
+    }
+}
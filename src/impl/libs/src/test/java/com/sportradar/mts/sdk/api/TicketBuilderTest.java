@@ -5,12 +5,14 @@
 package com.sportradar.mts.sdk.api;
 
 import com.sportradar.mts.sdk.api.enums.*;
+import com.sportradar.mts.sdk.api.utils.JsonUtils;
 import com.sportradar.mts.sdk.api.utils.StaticRandom;
 import com.sportradar.mts.sdk.impl.libs.TimeLimitedTestBase;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Date;
 
 public class TicketBuilderTest extends TimeLimitedTestBase {
@@ -323,4 +325,17 @@ public class TicketBuilderTest extends TimeLimitedTestBase {
 
         Assert.assertNotNull(ticket);
     }
+
+    @Test
+    public void TicketJsonIsSerializedOnceTest()
+    {
+        Ticket ticket = ticketBuilderHelper.getTicket(null, 0, 0, 0);
+
+        byte[] jsonBytes = ticket.getJsonBytes();
+
+        Assert.assertSame(jsonBytes, ticket.getJsonBytes());
+        Assert.assertSame(ticket.getJsonValue(), ticket.getJsonValue());
+        Assert.assertEquals(ticket.getJsonValue(), new String(jsonBytes, StandardCharsets.UTF_8));
+        Assert.assertFalse(JsonUtils.serializeAsString(ticket).contains("jsonBytes"));
+    }
 }
@@ -14,6 +14,10 @@ import org.junit.Test;
 
 import java.io.IOException;
 import java.nio.file.Paths;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 @SuppressWarnings("SpellCheckingInspection")
 public class TicketMapperTest  extends TimeLimitedTestBase {
@@ -75,6 +79,68 @@ public class TicketMapperTest  extends TimeLimitedTestBase {
         Assert.assertTrue(MtsTicketHelper.validateUserId("B0034827552620261"));
     }
 
+    @Test
+    public void ValidateIdOutsideAlphabetTest()
+    {
+        Assert.assertFalse(MtsTicketHelper.validateTicketId(""));
+        Assert.assertFalse(MtsTicketHelper.validateTicketId("ticket 1"));
+        Assert.assertFalse(MtsTicketHelper.validateTicketId("ticket#1"));
+        Assert.assertFalse(MtsTicketHelper.validateTicketId("tick\u00e9t"));
+        Assert.assertFalse(MtsTicketHelper.validateTicketId("ticket\n"));
+        Assert.assertFalse(MtsTicketHelper.validateTicketId(new String(new char[129]).replace('\0', 'a')));
+        Assert.assertTrue(MtsTicketHelper.validateTicketId(new String(new char[128]).replace('\0', 'a')));
+        Assert.assertTrue(MtsTicketHelper.validateUserId("user#1"));
+        Assert.assertFalse(MtsTicketHelper.validateUserId("user\u0663"));
+        Assert.assertTrue(MtsTicketHelper.validateId("sel:1", true, false, 1, 5));
+        Assert.assertFalse(MtsTicketHelper.validateId("sel:1", true, true, 1, 5));
+        Assert.assertFalse(MtsTicketHelper.validateId("selection", true, false, 1, 5));
+    }
+
+    @Test
+    public void GenerateTicketCorrelationIdTest() throws InterruptedException
+    {
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++)
+        {
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 1000; j++)
+                {
+                    ids.add(MtsTicketHelper.generateTicketCorrelationId());
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads)
+        {
+            thread.join();
+        }
+
+        Assert.assertEquals(4000, ids.size());
+        for (String id : ids)
+        {
+            Assert.assertTrue(id.startsWith("j"));
+            Assert.assertEquals(4, UUID.fromString(id.substring(1)).version());
+        }
+    }
+
+    @Test
+    public void CustomCorrelationIdGeneratorTest()
+    {
+        AtomicLong counter = new AtomicLong();
+        MtsTicketHelper.setCorrelationIdGenerator(() -> "node1-" + counter.incrementAndGet());
+        try
+        {
+            Assert.assertEquals("jnode1-1", MtsTicketHelper.generateTicketCorrelationId());
+            Assert.assertEquals("jnode1-2", ticketBuilderHelper.getTicket(null, 0, 0, 0).getCorrelationId());
+        }
+        finally
+        {
+            MtsTicketHelper.setCorrelationIdGenerator(null);
+        }
+        Assert.assertEquals(37, MtsTicketHelper.generateTicketCorrelationId().length());
+    }
+
     @Test
     public void ParseTicketWithNormalTicketIdTest()
     {
@@ -4,13 +4,18 @@
 
 package com.sportradar.mts.sdk.api;
 
+import com.sportradar.mts.sdk.api.impl.TicketImpl;
 import com.sportradar.mts.sdk.api.utils.JsonUtils;
 import com.sportradar.mts.sdk.impl.libs.TimeLimitedTestBase;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 
 import static org.hamcrest.CoreMatchers.is;
 
@@ -68,4 +73,25 @@ public class TicketSerializerTest extends TimeLimitedTestBase {
         String serializedAgain = JsonUtils.serializeAsString(deserializedTicket);
         Assert.assertThat(serializedAgain, is(serialized));
     }
+
+    @Test
+    public void JavaSerializeTicketTest() throws IOException, ClassNotFoundException {
+        Ticket ticket = ticketBuilderHelper.getTicket(null, 0, 3, 3);
+        String json = ticket.getJsonValue();
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(ticket);
+        }
+        Ticket deserializedTicket;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            deserializedTicket = (Ticket) in.readObject();
+        }
+
+        Assert.assertThat(deserializedTicket.getTicketId(), is(ticket.getTicketId()));
+        Assert.assertThat(deserializedTicket.getSelections(), is(ticket.getSelections()));
+        Assert.assertThat(((TicketImpl) deserializedTicket).getTicketSelections().getMtsSelections(),
+                is(((TicketImpl) ticket).getTicketSelections().getMtsSelections()));
+        Assert.assertThat(deserializedTicket.getJsonValue(), is(json));
+    }
 }
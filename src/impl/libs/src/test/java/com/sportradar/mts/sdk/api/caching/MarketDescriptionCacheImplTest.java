@@ -0,0 +1,230 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.api.caching;
+
+import com.sportradar.mts.api.rest.sportsapi.datamodel.DescMarket;
+import com.sportradar.mts.api.rest.sportsapi.datamodel.MarketDescriptions;
+import com.sportradar.mts.sdk.api.rest.DataProvider;
+import com.sportradar.mts.sdk.impl.libs.TimeLimitedTestBase;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.BooleanSupplier;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class MarketDescriptionCacheImplTest extends TimeLimitedTestBase {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private DataProvider<MarketDescriptions> dataProvider;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        dataProvider = mock(DataProvider.class);
+    }
+
+    private MarketDescriptionCacheImpl createCache(Duration refreshInterval, Duration retryInterval) {
+        return new MarketDescriptionCacheImpl(dataProvider, Collections.singletonList(Locale.ENGLISH), "token", refreshInterval, retryInterval);
+    }
+
+    private static MarketDescriptions marketDescriptions(int marketId, String name) {
+        DescMarket market = new DescMarket();
+        market.setId(marketId);
+        market.setName(name);
+        MarketDescriptions descriptions = new MarketDescriptions();
+        descriptions.getMarket().add(market);
+        return descriptions;
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+        while (!condition.getAsBoolean()) {
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    public void getMarketDescriptionFetchesOnceTest() {
+        when(dataProvider.getData(Locale.ENGLISH)).thenReturn(marketDescriptions(1, "1x2"));
+        MarketDescriptionCacheImpl cache = createCache(Duration.ofHours(1), Duration.ofSeconds(30));
+
+        assertThat(cache.getMarketDescription(1).getName(Locale.ENGLISH), is("1x2"));
+        assertThat(cache.getMarketDescription(1).getName(Locale.ENGLISH), is("1x2"));
+
+        verify(dataProvider, times(1)).getData(Locale.ENGLISH);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void getMarketDescriptionWithoutAccessTokenTest() {
+        MarketDescriptionCacheImpl cache = new MarketDescriptionCacheImpl(dataProvider, Collections.singletonList(Locale.ENGLISH), null, Duration.ofHours(1), Duration.ofSeconds(30));
+
+        cache.getMarketDescription(1);
+    }
+
+    @Test
+    public void initialFetchFailurePausesFetchingTest() {
+        when(dataProvider.getData(Locale.ENGLISH)).thenThrow(new IllegalStateException("unavailable"));
+        MarketDescriptionCacheImpl cache = createCache(Duration.ofHours(1), Duration.ofHours(1));
+
+        try {
+            cache.getMarketDescription(1);
+            fail("the failed fetch should be reported");
+        } catch (IllegalStateException ex) {
+            assertThat(ex.getMessage(), is("An error occurred while fetching market descriptions data"));
+        }
+        try {
+            cache.getMarketDescription(1);
+            fail("the market should not be found");
+        } catch (IllegalArgumentException ex) {
+            assertThat(ex.getMessage(), is("The requested market id was not found"));
+        }
+
+        verify(dataProvider, times(1)).getData(Locale.ENGLISH);
+    }
+
+    @Test
+    public void refreshFailureServesPreviousDescriptionsTest() throws InterruptedException {
+        CountDownLatch retrying = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(dataProvider.getData(Locale.ENGLISH))
+                .thenReturn(marketDescriptions(1, "1x2"))
+                .thenThrow(new IllegalStateException("unavailable"))
+                .thenAnswer(invocation -> {
+                    retrying.countDown();
+                    release.await();
+                    return marketDescriptions(1, "Match winner");
+                });
+        MarketDescriptionCacheImpl cache = createCache(Duration.ofMillis(50), Duration.ofMillis(50));
+
+        assertThat(cache.getMarketDescription(1).getName(Locale.ENGLISH), is("1x2"));
+
+        // the refresh has failed and its retry is pending
+        retrying.await();
+        assertThat(cache.getMarketDescription(1).getName(Locale.ENGLISH), is("1x2"));
+        release.countDown();
+
+        waitFor(() -> "Match winner".equals(cache.getMarketDescription(1).getName(Locale.ENGLISH)));
+        verify(dataProvider, times(3)).getData(Locale.ENGLISH);
+        cache.close();
+    }
+
+    @Test
+    public void refreshFailureDropsDescriptionsOlderThanMaxStalenessTest() throws InterruptedException {
+        when(dataProvider.getData(Locale.ENGLISH))
+                .thenReturn(marketDescriptions(1, "1x2"))
+                .thenThrow(new IllegalStateException("unavailable"));
+        MarketDescriptionCacheImpl cache = new MarketDescriptionCacheImpl(dataProvider, Collections.singletonList(Locale.ENGLISH), "token", Duration.ofMillis(50), Duration.ofMillis(50), null, Duration.ofMillis(200));
+
+        assertThat(cache.getMarketDescription(1).getName(Locale.ENGLISH), is("1x2"));
+
+        waitFor(() -> {
+            try {
+                cache.getMarketDescription(1);
+                return false;
+            } catch (IllegalArgumentException ex) {
+                return true;
+            }
+        });
+        cache.close();
+    }
+
+    @Test
+    public void closeStopsRefreshingTest() throws InterruptedException {
+        when(dataProvider.getData(Locale.ENGLISH)).thenReturn(marketDescriptions(1, "1x2"));
+        MarketDescriptionCacheImpl cache = createCache(Duration.ofMillis(50), Duration.ofSeconds(30));
+
+        assertThat(cache.getMarketDescription(1).getName(Locale.ENGLISH), is("1x2"));
+        waitFor(() -> mockingDetails(dataProvider).getInvocations().size() >= 2);
+        cache.close();
+        int fetches = mockingDetails(dataProvider).getInvocations().size();
+        Thread.sleep(200);
+
+        assertThat(mockingDetails(dataProvider).getInvocations().size(), is(fetches));
+        assertThat(cache.getMarketDescription(1).getName(Locale.ENGLISH), is("1x2"));
+    }
+
+    @Test
+    public void refreshReplacesRemovedMarketsTest() throws InterruptedException {
+        when(dataProvider.getData(Locale.ENGLISH))
+                .thenReturn(marketDescriptions(1, "1x2"))
+                .thenReturn(marketDescriptions(2, "Handicap"));
+        MarketDescriptionCacheImpl cache = createCache(Duration.ofMillis(50), Duration.ofSeconds(30));
+
+        assertThat(cache.getMarketDescription(1).getName(Locale.ENGLISH), is("1x2"));
+
+        waitFor(() -> {
+            try {
+                return "Handicap".equals(cache.getMarketDescription(2).getName(Locale.ENGLISH));
+            } catch (IllegalArgumentException ex) {
+                return false;
+            }
+        });
+        try {
+            cache.getMarketDescription(1);
+            fail("the market should not be found");
+        } catch (IllegalArgumentException ex) {
+            assertThat(ex.getMessage(), is("The requested market id was not found"));
+        }
+    }
+
+    @Test
+    public void fetchedDescriptionsAreSavedAndServedAfterRestartTest() throws InterruptedException, IOException {
+        Path path = folder.getRoot().toPath().resolve("markets.bin");
+        when(dataProvider.getData(Locale.ENGLISH)).thenReturn(marketDescriptions(1, "1x2"));
+        MarketDescriptionCacheImpl cache = new MarketDescriptionCacheImpl(dataProvider, Collections.singletonList(Locale.ENGLISH), "token", Duration.ofHours(1), Duration.ofSeconds(30), path);
+
+        assertThat(cache.getMarketDescription(1).getName(Locale.ENGLISH), is("1x2"));
+        waitFor(() -> Files.exists(path));
+
+        DataProvider<MarketDescriptions> restartedDataProvider = mockDataProvider();
+        MarketDescriptionCacheImpl restarted = new MarketDescriptionCacheImpl(restartedDataProvider, Collections.singletonList(Locale.ENGLISH), "token", Duration.ofHours(1), Duration.ofSeconds(30), path);
+
+        assertThat(restarted.getMarketDescription(1).getName(Locale.ENGLISH), is("1x2"));
+        verify(restartedDataProvider, never()).getData(Locale.ENGLISH);
+    }
+
+    @Test
+    public void staleSnapshotIsRevalidatedTest() throws InterruptedException, IOException {
+        Path path = folder.getRoot().toPath().resolve("markets.bin");
+        when(dataProvider.getData(Locale.ENGLISH)).thenReturn(marketDescriptions(1, "1x2"));
+        MarketDescriptionCacheImpl cache = new MarketDescriptionCacheImpl(dataProvider, Collections.singletonList(Locale.ENGLISH), "token", Duration.ofHours(1), Duration.ofSeconds(30), path);
+        cache.getMarketDescription(1);
+        waitFor(() -> Files.exists(path));
+        Files.setLastModifiedTime(path, FileTime.from(Instant.now().minus(Duration.ofHours(2))));
+
+        DataProvider<MarketDescriptions> restartedDataProvider = mockDataProvider();
+        when(restartedDataProvider.getData(Locale.ENGLISH)).thenReturn(marketDescriptions(1, "Match winner"));
+        MarketDescriptionCacheImpl restarted = new MarketDescriptionCacheImpl(restartedDataProvider, Collections.singletonList(Locale.ENGLISH), "token", Duration.ofHours(1), Duration.ofSeconds(30), path);
+
+        assertThat(restarted.getMarketDescription(1).getName(Locale.ENGLISH), is("1x2"));
+        waitFor(() -> "Match winner".equals(restarted.getMarketDescription(1).getName(Locale.ENGLISH)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static DataProvider<MarketDescriptions> mockDataProvider() {
+        return mock(DataProvider.class);
+    }
+}
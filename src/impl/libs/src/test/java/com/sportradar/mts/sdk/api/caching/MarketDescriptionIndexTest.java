@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.api.caching;
+
+import com.sportradar.mts.api.rest.sportsapi.datamodel.DescMarket;
+import com.sportradar.mts.api.rest.sportsapi.datamodel.Mappings;
+import com.sportradar.mts.sdk.api.rest.URN;
+import com.sportradar.mts.sdk.api.rest.dto.MarketDescriptionDTO;
+import com.sportradar.mts.sdk.impl.libs.TimeLimitedTestBase;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class MarketDescriptionIndexTest extends TimeLimitedTestBase {
+
+    private static MarketDescriptionCI marketDescription(int marketId, Mappings.Mapping... mappings) {
+        DescMarket market = new DescMarket();
+        market.setId(marketId);
+        market.setName("market " + marketId);
+        if (mappings.length > 0) {
+            market.setMappings(new Mappings());
+            for (Mappings.Mapping mapping : mappings) {
+                market.getMappings().getMapping().add(mapping);
+            }
+        }
+        return new MarketDescriptionCI(new MarketDescriptionDTO(market), Locale.ENGLISH);
+    }
+
+    private static Mappings.Mapping mapping(int productId, String sportId, String marketId) {
+        Mappings.Mapping mapping = new Mappings.Mapping();
+        mapping.setProductId(productId);
+        mapping.setSportId(sportId);
+        mapping.setMarketId(marketId);
+        return mapping;
+    }
+
+    @Test
+    public void emptyIndexTest() {
+        assertThat(MarketDescriptionIndex.empty().size(), is(0));
+        assertThat(MarketDescriptionIndex.empty().get(1), is(nullValue()));
+        assertThat(MarketDescriptionIndex.of(new HashMap<>()).get(1), is(nullValue()));
+    }
+
+    @Test
+    public void getReturnsIndexedDescriptionsTest() {
+        Random random = new Random(42);
+        Map<Integer, MarketDescriptionCI> descriptions = new HashMap<>();
+        while (descriptions.size() < 1000) {
+            int marketId = 1 + random.nextInt(100000);
+            descriptions.put(marketId, marketDescription(marketId));
+        }
+
+        MarketDescriptionIndex index = MarketDescriptionIndex.of(descriptions);
+
+        assertThat(index.size(), is(1000));
+        for (int marketId = 1; marketId <= 100000; marketId++) {
+            MarketDescriptionCI expected = descriptions.get(marketId);
+            if (expected == null) {
+                assertThat(index.get(marketId), is(nullValue()));
+            } else {
+                assertThat(index.get(marketId), is(sameInstance(expected)));
+            }
+        }
+    }
+
+    @Test
+    public void getMappingOfProducerAndSportTest() {
+        MarketDescriptionCI description = marketDescription(1,
+                mapping(1, "sr:sport:1", "10"),
+                mapping(3, "all", "11"),
+                mapping(1, "sr:sport:2", "12"),
+                mapping(1, "sr:sport:1", "13"));
+
+        assertThat(description.getMapping(1, 1).getMarketTypeId(), is(10));
+        assertThat(description.getMapping(1, 2).getMarketTypeId(), is(12));
+        assertThat(description.getMapping(3, 1), is(nullValue()));
+        assertThat(description.getMapping(2, 1), is(nullValue()));
+        assertThat(description.getMapping(1, 0), is(nullValue()));
+        assertThat(marketDescription(2).getMapping(1, 1), is(nullValue()));
+    }
+
+    @Test
+    public void mappingsShareSportIdsTest() {
+        MarketDescriptionCI first = marketDescription(1, mapping(1, "sr:sport:1", "10"));
+        MarketDescriptionCI second = marketDescription(2, mapping(1, "sr:sport:1", "20"));
+
+        URN sportId = first.getMapping(1, 1).getSportId();
+        assertThat(second.getMapping(1, 1).getSportId(), is(sameInstance(sportId)));
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.api.caching;
+
+import com.sportradar.mts.api.rest.sportsapi.datamodel.Attributes;
+import com.sportradar.mts.api.rest.sportsapi.datamodel.DescMarket;
+import com.sportradar.mts.api.rest.sportsapi.datamodel.DescOutcomes;
+import com.sportradar.mts.api.rest.sportsapi.datamodel.DescSpecifiers;
+import com.sportradar.mts.api.rest.sportsapi.datamodel.Mappings;
+import com.sportradar.mts.sdk.api.rest.dto.MarketDescriptionDTO;
+import com.sportradar.mts.sdk.impl.libs.TimeLimitedTestBase;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class MarketDescriptionSnapshotTest extends TimeLimitedTestBase {
+
+    private static final List<Locale> LOCALES = Arrays.asList(Locale.ENGLISH, Locale.GERMAN);
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static DescMarket market(int marketId, String name) {
+        DescMarket market = new DescMarket();
+        market.setId(marketId);
+        market.setName(name);
+        market.setVariant("sr:correct_score:max:6");
+
+        DescOutcomes.Outcome outcome = new DescOutcomes.Outcome();
+        outcome.setId("1");
+        outcome.setName(name + " outcome");
+        market.setOutcomes(new DescOutcomes());
+        market.getOutcomes().getOutcome().add(outcome);
+
+        Mappings.Mapping mapping = new Mappings.Mapping();
+        mapping.setProductId(1);
+        mapping.setSportId("sr:sport:1");
+        mapping.setMarketId("10:20");
+        mapping.setSovTemplate("{total}");
+        Mappings.Mapping.MappingOutcome mappingOutcome = new Mappings.Mapping.MappingOutcome();
+        mappingOutcome.setOutcomeId("1");
+        mappingOutcome.setProductOutcomeId("2");
+        mappingOutcome.setProductOutcomeName("home");
+        mapping.getMappingOutcome().add(mappingOutcome);
+        Mappings.Mapping allSports = new Mappings.Mapping();
+        allSports.setProductId(3);
+        allSports.setSportId("all");
+        allSports.setMarketId("11");
+        market.setMappings(new Mappings());
+        market.getMappings().getMapping().add(mapping);
+        market.getMappings().getMapping().add(allSports);
+
+        DescSpecifiers.Specifier specifier = new DescSpecifiers.Specifier();
+        specifier.setName("total");
+        specifier.setType("decimal");
+        market.setSpecifiers(new DescSpecifiers());
+        market.getSpecifiers().getSpecifier().add(specifier);
+
+        Attributes.Attribute attribute = new Attributes.Attribute();
+        attribute.setName("is_flex_score");
+        attribute.setDescription("flex score");
+        market.setAttributes(new Attributes());
+        market.getAttributes().getAttribute().add(attribute);
+        return market;
+    }
+
+    private static MarketDescriptionIndex index() {
+        MarketDescriptionCI first = new MarketDescriptionCI(new MarketDescriptionDTO(market(1, "1x2")), Locale.ENGLISH);
+        first.merge(new MarketDescriptionDTO(market(1, "1x2 de")), Locale.GERMAN);
+        DescMarket plain = new DescMarket();
+        plain.setId(2);
+        plain.setName("Handicap");
+        MarketDescriptionCI second = new MarketDescriptionCI(new MarketDescriptionDTO(plain), Locale.ENGLISH);
+
+        Map<Integer, MarketDescriptionCI> descriptions = new HashMap<>();
+        descriptions.put(1, first);
+        descriptions.put(2, second);
+        return MarketDescriptionIndex.of(descriptions);
+    }
+
+    @Test
+    public void writeAndReadTest() throws IOException {
+        Path path = folder.getRoot().toPath().resolve("snapshot").resolve("markets.bin");
+
+        MarketDescriptionSnapshot.write(path, LOCALES, index());
+        MarketDescriptionIndex restored = MarketDescriptionSnapshot.read(path, LOCALES);
+
+        assertThat(restored.size(), is(2));
+        MarketDescriptionCI first = restored.get(1);
+        assertThat(first.getName(Locale.ENGLISH), is("1x2"));
+        assertThat(first.getName(Locale.GERMAN), is("1x2 de"));
+        assertThat(first.getDescription(Locale.ENGLISH), is(nullValue()));
+        assertThat(first.getVariant(), is("sr:correct_score:max:6"));
+        assertThat(first.getCachedLocales(), is(LOCALES));
+        assertThat(first.getOutcomes().get(0).getId(), is("1"));
+        assertThat(first.getOutcomes().get(0).getName(Locale.GERMAN), is("1x2 de outcome"));
+        assertThat(first.getSpecifiers().get(0).getName(), is("total"));
+        assertThat(first.getSpecifiers().get(0).getType(), is("decimal"));
+        assertThat(first.getAttributes().get(0).getName(), is("is_flex_score"));
+        assertThat(first.getAttributes().get(0).getDescription(), is("flex score"));
+        assertThat(first.getMappings().size(), is(2));
+        MarketMappingCI mapping = first.getMapping(1, 1);
+        assertThat(mapping.getMarketTypeId(), is(10));
+        assertThat(mapping.getMarketSubTypeId(), is(20));
+        assertThat(mapping.getSovTemplate(), is("{total}"));
+        assertThat(mapping.getOutcomeMappings().get(0).getProducerOutcomeName(), is("home"));
+        assertThat(first.getMappings().get(1).getSportId(), is(nullValue()));
+        assertThat(first.getMappings().get(1).getMarketSubTypeId(), is(nullValue()));
+
+        MarketDescriptionCI second = restored.get(2);
+        assertThat(second.getName(Locale.ENGLISH), is("Handicap"));
+        assertThat(second.getName(Locale.GERMAN), is(nullValue()));
+        assertThat(second.getMappings(), is(nullValue()));
+        assertThat(second.getOutcomes(), is(nullValue()));
+    }
+
+    @Test
+    public void writeOverReadSnapshotTest() throws IOException {
+        Path path = folder.getRoot().toPath().resolve("markets.bin");
+        MarketDescriptionSnapshot.write(path, LOCALES, index());
+        assertThat(MarketDescriptionSnapshot.read(path, LOCALES).size(), is(2));
+
+        MarketDescriptionSnapshot.write(path, LOCALES, MarketDescriptionIndex.of(Collections.singletonMap(1, index().get(1))));
+
+        assertThat(MarketDescriptionSnapshot.read(path, LOCALES).size(), is(1));
+        Files.delete(path);
+    }
+
+    @Test
+    public void readMissingFileTest() throws IOException {
+        assertThat(MarketDescriptionSnapshot.read(folder.getRoot().toPath().resolve("missing.bin"), LOCALES), is(nullValue()));
+    }
+
+    @Test
+    public void readOtherLocalesTest() throws IOException {
+        Path path = folder.getRoot().toPath().resolve("markets.bin");
+
+        MarketDescriptionSnapshot.write(path, LOCALES, index());
+
+        assertThat(MarketDescriptionSnapshot.read(path, Collections.singletonList(Locale.ENGLISH)), is(nullValue()));
+    }
+
+    @Test(expected = IOException.class)
+    public void readCorruptedFileTest() throws IOException {
+        Path path = folder.getRoot().toPath().resolve("markets.bin");
+        MarketDescriptionSnapshot.write(path, LOCALES, index());
+        byte[] bytes = Files.readAllBytes(path);
+        bytes[bytes.length - 1] ^= 1;
+        Files.write(path, bytes);
+
+        MarketDescriptionSnapshot.read(path, LOCALES);
+    }
+
+    @Test(expected = IOException.class)
+    public void readTruncatedFileTest() throws IOException {
+        Path path = folder.getRoot().toPath().resolve("markets.bin");
+        MarketDescriptionSnapshot.write(path, LOCALES, index());
+        byte[] bytes = Files.readAllBytes(path);
+        Files.write(path, Arrays.copyOf(bytes, bytes.length / 2));
+
+        MarketDescriptionSnapshot.read(path, LOCALES);
+    }
+}
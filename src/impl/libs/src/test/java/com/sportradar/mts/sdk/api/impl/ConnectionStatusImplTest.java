@@ -0,0 +1,118 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.api.impl;
+
+import com.sportradar.mts.sdk.api.interfaces.ConnectionMetrics;
+import com.sportradar.mts.sdk.impl.libs.TimeLimitedTestBase;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+
+public class ConnectionStatusImplTest extends TimeLimitedTestBase {
+
+    private ConnectionStatusImpl connectionStatus;
+
+    @Before
+    public void setUp() {
+        connectionStatus = new ConnectionStatusImpl();
+    }
+
+    @Test
+    public void metricsWithoutTrafficTest() {
+        ConnectionMetrics metrics = connectionStatus.getMetrics();
+
+        assertThat(metrics.isConnected(), is(false));
+        assertThat(metrics.getSentTicketCount(), is(0L));
+        assertThat(metrics.getReceivedTicketCount(), is(0L));
+        assertThat(metrics.getInFlightTicketCount(), is(0L));
+        assertThat(metrics.getRetriedTicketCount(), is(0L));
+        assertThat(metrics.getTimedOutTicketCount(), is(0L));
+        assertThat(metrics.getSendRate(), is(0.0));
+        assertThat(metrics.getLastSendTime(), is(nullValue()));
+        assertThat(metrics.getLastReceivedTime(), is(nullValue()));
+        assertThat(metrics.getLastSentTicketIds().isEmpty(), is(true));
+    }
+
+    @Test
+    public void metricsCountTicketsTest() {
+        connectionStatus.connect("test");
+        connectionStatus.ticketSend("ticket-1");
+        connectionStatus.ticketSend("ticket-2");
+        connectionStatus.ticketSend("ticket-3");
+        connectionStatus.ticketReceived("ticket-1");
+
+        ConnectionMetrics metrics = connectionStatus.getMetrics();
+
+        assertThat(metrics.isConnected(), is(true));
+        assertThat(metrics.getSentTicketCount(), is(3L));
+        assertThat(metrics.getReceivedTicketCount(), is(1L));
+        assertThat(metrics.getInFlightTicketCount(), is(2L));
+        assertThat(metrics.getSendRate(), greaterThan(0.0));
+        assertThat(metrics.getReceiveRate(), greaterThan(0.0));
+        assertThat(metrics.getLastSendTime(), is(notNullValue()));
+        assertThat(metrics.getLastReceivedTime(), is(notNullValue()));
+        assertThat(metrics.getLastSentTicketIds(), is(Arrays.asList("ticket-3", "ticket-2", "ticket-1")));
+        assertThat(metrics.getLastReceivedTicketIds(), is(Arrays.asList("ticket-1")));
+        assertThat(connectionStatus.getLastSendTicketId(), is("ticket-3"));
+        assertThat(connectionStatus.getLastReceivedTicketId(), is("ticket-1"));
+    }
+
+    @Test
+    public void metricsCountRetriesTest() {
+        connectionStatus.ticketRetried();
+        connectionStatus.ticketRetried();
+        connectionStatus.ticketTimedOut();
+
+        ConnectionMetrics metrics = connectionStatus.getMetrics();
+
+        assertThat(metrics.getRetriedTicketCount(), is(2L));
+        assertThat(metrics.getTimedOutTicketCount(), is(1L));
+    }
+
+    @Test
+    public void lastTicketIdsAreBoundedTest() {
+        for (int i = 0; i < 25; i++) {
+            connectionStatus.ticketSend("ticket-" + i);
+        }
+
+        ConnectionMetrics metrics = connectionStatus.getMetrics();
+
+        assertThat(metrics.getSentTicketCount(), is(25L));
+        assertThat(metrics.getLastSentTicketIds().size(), is(10));
+        assertThat(metrics.getLastSentTicketIds().get(0), is("ticket-24"));
+        assertThat(metrics.getLastSentTicketIds().get(9), is("ticket-15"));
+    }
+
+    @Test
+    public void concurrentTicketsAreCountedTest() throws InterruptedException {
+        Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    connectionStatus.ticketSend("ticket-" + j);
+                    connectionStatus.ticketReceived("ticket-" + j);
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        ConnectionMetrics metrics = connectionStatus.getMetrics();
+
+        assertThat(metrics.getSentTicketCount(), is(4000L));
+        assertThat(metrics.getReceivedTicketCount(), is(4000L));
+        assertThat(metrics.getInFlightTicketCount(), is(0L));
+        assertThat(metrics.getLastSentTicketIds().size(), is(10));
+    }
+}
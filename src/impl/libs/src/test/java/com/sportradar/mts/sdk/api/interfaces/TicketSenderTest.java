@@ -0,0 +1,48 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.api.interfaces;
+
+import com.sportradar.mts.sdk.api.Ticket;
+import com.sportradar.mts.sdk.api.TicketResponse;
+import com.sportradar.mts.sdk.api.exceptions.ResponseTimeoutException;
+import com.sportradar.mts.sdk.impl.libs.TimeLimitedTestBase;
+import org.junit.Test;
+
+import java.util.concurrent.ExecutionException;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class TicketSenderTest extends TimeLimitedTestBase {
+
+    @Test
+    public void defaultSendAsyncCompletesWithResponseTest() throws Exception {
+        TicketSender sender = mock(TicketSender.class, CALLS_REAL_METHODS);
+        Ticket ticket = mock(Ticket.class);
+        TicketResponse response = mock(TicketResponse.class);
+        when(sender.sendBlocking(ticket)).thenReturn(response);
+
+        assertThat(sender.sendAsync(ticket).get(), is(response));
+    }
+
+    @Test
+    public void defaultSendAsyncFailsOnResponseTimeoutTest() throws Exception {
+        TicketSender sender = mock(TicketSender.class, CALLS_REAL_METHODS);
+        Ticket ticket = mock(Ticket.class);
+        when(sender.sendBlocking(ticket)).thenThrow(new ResponseTimeoutException("timeout"));
+
+        try {
+            sender.sendAsync(ticket).get();
+            fail("the response timeout should be reported");
+        } catch (ExecutionException ex) {
+            assertThat(ex.getCause(), instanceOf(ResponseTimeoutException.class));
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.api.rest;
+
+import com.google.common.io.ByteStreams;
+import com.sportradar.mts.sdk.impl.libs.TimeLimitedTestBase;
+import org.apache.http.HttpStatus;
+import org.apache.http.HttpVersion;
+import org.apache.http.client.ResponseHandler;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.InputStreamEntity;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.message.BasicHttpResponse;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class DataProviderTest extends TimeLimitedTestBase {
+
+    private CloseableHttpClient httpClient;
+    private HttpDataFetcher httpDataFetcher;
+
+    @Before
+    public void setUp() {
+        httpClient = mock(CloseableHttpClient.class);
+        httpDataFetcher = new NonLogHttpDataFetcher(null, httpClient);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void respondWith(int statusCode, InputStream content) throws IOException {
+        when(httpClient.execute(any(HttpUriRequest.class), any(ResponseHandler.class))).thenAnswer(invocation -> {
+            BasicHttpResponse response = new BasicHttpResponse(HttpVersion.HTTP_1_1, statusCode, "status");
+            response.setEntity(new InputStreamEntity(content));
+            try {
+                return ((ResponseHandler<?>) invocation.getArgument(1)).handleResponse(response);
+            } finally {
+                content.close();
+            }
+        });
+    }
+
+    private static InputStream content(String value) {
+        return new ByteArrayInputStream(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void getDataDeserializesResponseContentTest() throws IOException {
+        respondWith(HttpStatus.SC_OK, content("{\"name\":\"Münster\"}"));
+        DataProvider<Map> dataProvider = new DataProvider<>("http://localhost/%s/data.json", httpDataFetcher, new DeserializerJsonApi(), Map.class);
+
+        Map<String, Object> data = dataProvider.getData();
+
+        assertThat(data.get("name"), is("Münster"));
+    }
+
+    @Test
+    public void getDataOfNonOkResponseTest() throws IOException {
+        respondWith(HttpStatus.SC_NOT_FOUND, content("{\"name\":\"value\"}"));
+        DataProvider<Map> dataProvider = new DataProvider<>("http://localhost/%s/data.json", httpDataFetcher, new DeserializerJsonApi(), Map.class);
+
+        assertThat(dataProvider.getData(), is(nullValue()));
+    }
+
+    @Test
+    public void getDataOfEmptyResponseTest() throws IOException {
+        respondWith(HttpStatus.SC_OK, content(""));
+        DataProvider<Map> dataProvider = new DataProvider<>("http://localhost/%s/data.json", httpDataFetcher, new DeserializerJsonApi(), Map.class);
+
+        assertThat(dataProvider.getData(), is(nullValue()));
+    }
+
+    @Test
+    public void postDataReturnsStreamReadableAfterResponseTest() throws IOException {
+        respondWith(HttpStatus.SC_OK, content("a;b;c"));
+        DataProvider<InputStream> dataProvider = new DataProvider<>("http://localhost/%s/export.csv", httpDataFetcher, new DeserializerStream(), InputStream.class);
+
+        InputStream data = dataProvider.postData(new ByteArrayEntity(new byte[0]));
+
+        assertThat(new String(ByteStreams.toByteArray(data), StandardCharsets.UTF_8), is("a;b;c"));
+    }
+
+    @Test
+    public void getReturnsResponseContentTest() throws IOException {
+        respondWith(HttpStatus.SC_OK, content("<response/>"));
+
+        assertThat(httpDataFetcher.get("http://localhost/whoami.xml"), is("<response/>"));
+    }
+
+    @Test
+    public void getOfNonOkResponseTest() throws IOException {
+        respondWith(HttpStatus.SC_INTERNAL_SERVER_ERROR, content("<error/>"));
+
+        assertThat(httpDataFetcher.get("http://localhost/markets.xml"), is(""));
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.api.rest;
+
+import com.sportradar.mts.sdk.impl.libs.TimeLimitedTestBase;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class URNTest extends TimeLimitedTestBase {
+
+    @Test
+    public void parseSportIdTest() {
+        assertThat(URN.parseSportId("sr:sport:1"), is(1L));
+        assertThat(URN.parseSportId("sr:sport:1234"), is(1234L));
+        assertThat(URN.parseSportId("sr:sport:1234"), is(URN.parse("sr:sport:1234").getId()));
+    }
+
+    @Test
+    public void parseSportIdOfOtherValuesTest() {
+        assertThat(URN.parseSportId(null), is(0L));
+        assertThat(URN.parseSportId(""), is(0L));
+        assertThat(URN.parseSportId("sr:sport:"), is(0L));
+        assertThat(URN.parseSportId("sr:sport:1a"), is(0L));
+        assertThat(URN.parseSportId("sr:match:1"), is(0L));
+        assertThat(URN.parseSportId("xx:sport:1"), is(0L));
+        assertThat(URN.parseSportId("sr:sport:-1"), is(0L));
+        assertThat(URN.parseSportId("sr:sport:12345678901234567890"), is(0L));
+    }
+}
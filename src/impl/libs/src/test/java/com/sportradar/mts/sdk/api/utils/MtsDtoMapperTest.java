@@ -74,6 +74,46 @@ public class MtsDtoMapperTest extends TimeLimitedTestBase {
                 .build();
     }
 
+    @Test
+    public void mapTicketWithSharedSelectionsTest()
+    {
+        Selection sel1 = builderFactory.createSelectionBuilder().setEventId("11162703").setId("uof:1/sr:sport:1/400/1724?total=4.5").setOdds(18000).build();
+        Selection sel2 = builderFactory.createSelectionBuilder().setEventId("11162704").setId("uof:1/sr:sport:1/400/1724?total=4.5").setOdds(19000).build();
+        Selection sel3 = builderFactory.createSelectionBuilder().setEventId("11162705").setId("uof:1/sr:sport:1/400/1724?total=4.5").setOdds(20000).build();
+        Selection sel1Banker = builderFactory.createSelectionBuilder().setEventId("11162703").setId("uof:1/sr:sport:1/400/1724?total=4.5").setOdds(18000).setBanker(true).build();
+
+        Ticket ticket = builderFactory.createTicketBuilder()
+                .setTicketId("ticket-" + StaticRandom.I1000P)
+                .setOddsChange(OddsChangeType.ANY)
+                .setTestSource(false)
+                .setSender(getSender())
+                .addBet(builderFactory.createBetBuilder().setBetId("bet-id-1").setStake(92343, StakeType.TOTAL).addSelectedSystem(2)
+                        .addSelection(sel1).addSelection(sel2).build())
+                .addBet(builderFactory.createBetBuilder().setBetId("bet-id-2").setStake(92343, StakeType.TOTAL).addSelectedSystem(2)
+                        .addSelection(sel3).addSelection(sel2).build())
+                .addBet(builderFactory.createBetBuilder().setBetId("bet-id-3").setStake(92343, StakeType.TOTAL).addSelectedSystem(2)
+                        .addSelection(sel1Banker).addSelection(sel3).build())
+                .build();
+
+        Assert.assertEquals(4, ticket.getSelections().size());
+
+        TicketSchema dto = MtsDtoMapper.map(ticket);
+
+        List<com.sportradar.mts.sdk.api.impl.mtsdto.ticket.Selection> selections = dto.getTicket().getSelections();
+        Assert.assertEquals(3, selections.size());
+        Assert.assertEquals("11162703", selections.get(0).getEventId());
+        Assert.assertEquals("11162704", selections.get(1).getEventId());
+        Assert.assertEquals("11162705", selections.get(2).getEventId());
+
+        List<SelectionRef> refs = dto.getTicket().getBets().get(1).getSelectionRefs();
+        Assert.assertEquals(2, refs.get(0).getSelectionIndex().intValue());
+        Assert.assertEquals(1, refs.get(1).getSelectionIndex().intValue());
+        refs = dto.getTicket().getBets().get(2).getSelectionRefs();
+        Assert.assertEquals(0, refs.get(0).getSelectionIndex().intValue());
+        Assert.assertTrue(refs.get(0).getBanker());
+        Assert.assertEquals(2, refs.get(1).getSelectionIndex().intValue());
+    }
+
     @Test
     public void buildReOfferForTicketWithSelectionRefWithDifferentOddsSelectionsWithLastMatchEndTimeTest()
     {
@@ -0,0 +1,76 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.api.utils;
+
+import com.sportradar.mts.sdk.api.TicketCancelResponse;
+import com.sportradar.mts.sdk.api.enums.TicketCancelAcceptance;
+import com.sportradar.mts.sdk.api.ws.Response;
+import com.sportradar.mts.sdk.impl.libs.TimeLimitedTestBase;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests for the deserialization of the response envelopes
+ */
+public class ResponseDeserializerTest extends TimeLimitedTestBase {
+
+    private static final String CONTENT = "{\"result\": {\"ticketId\": \"ticket-1\", \"status\": \"cancelled\", "
+            + "\"reason\": {\"code\": 1024, \"message\": \"Ticket cancelled\"}}, \"signature\": \"sig\", \"version\": \"2.4\"}";
+
+    @Test
+    public void deserialize_OperationBeforeContentTest() throws IOException {
+        String json = "{\"operation\": \"cancel\", \"correlationId\": \"corr-1\", \"additionalInfo\": {\"key\": \"value\"}, \"content\": " + CONTENT + "}";
+
+        Response<?> response = JsonUtils.deserialize(json, Response.class);
+
+        assertCancelResponse(response);
+        assertThat(response.getContent().getJsonValue(), is(CONTENT));
+    }
+
+    @Test
+    public void deserialize_ContentBeforeOperationTest() throws IOException {
+        String json = "{\"content\": " + CONTENT + ", \"additionalInfo\": {\"key\": \"value\"}, \"correlationId\": \"corr-1\", \"operation\": \"cancel\"}";
+
+        Response<?> response = JsonUtils.deserialize(json, Response.class);
+
+        assertCancelResponse(response);
+        assertThat(response.getContent().getJsonValue(), is(CONTENT));
+    }
+
+    @Test
+    public void deserialize_FromBytesTest() throws IOException {
+        String json = "{\"content\": " + CONTENT + ", \"correlationId\": \"corr-1\", \"additionalInfo\": {\"key\": \"value\"}, \"operation\": \"cancel\"}";
+
+        Response<?> response = JsonUtils.deserialize(json.getBytes(StandardCharsets.UTF_8), Response.class);
+
+        assertCancelResponse(response);
+        assertThat(JsonUtils.OBJECT_MAPPER.readTree(response.getContent().getJsonValue()), is(JsonUtils.OBJECT_MAPPER.readTree(CONTENT)));
+    }
+
+    @Test
+    public void deserialize_OnUnknownOperationTest() throws IOException {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("Unknown operation: ticket.unknown");
+
+        JsonUtils.deserialize("{\"operation\": \"ticket.unknown\", \"correlationId\": \"corr-1\", \"content\": " + CONTENT + "}", Response.class);
+    }
+
+    private static void assertCancelResponse(Response<?> response) {
+        assertThat(response.getOperation(), is("cancel"));
+        assertThat(response.getCorrelationId(), is("corr-1"));
+        assertThat(response.getAdditionalInfo().get("key"), is("value"));
+        assertThat(response.getContentClass() == TicketCancelResponse.class, is(true));
+        TicketCancelResponse content = (TicketCancelResponse) response.getContent();
+        assertThat(content.getTicketId(), is("ticket-1"));
+        assertThat(content.getStatus(), is(TicketCancelAcceptance.Cancelled));
+        assertThat(content.getCorrelationId(), is("corr-1"));
+        assertThat(content.getReason().getCode(), is(1024));
+    }
+}
@@ -4,11 +4,8 @@
 
 package com.sportradar.mts.sdk.impl.libs;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
 import com.sportradar.mts.api.rest.sportsapi.datamodel.MarketDescriptions;
 import com.sportradar.mts.sdk.api.builders.BuilderFactory;
-import com.sportradar.mts.sdk.api.caching.MarketDescriptionCI;
 import com.sportradar.mts.sdk.api.caching.MarketDescriptionCache;
 import com.sportradar.mts.sdk.api.caching.MarketDescriptionCacheImpl;
 import com.sportradar.mts.sdk.api.caching.MarketDescriptionProvider;
@@ -25,6 +22,7 @@ import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.client.LaxRedirectStrategy;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
@@ -118,8 +116,11 @@ public class SdkHelper {
         LogHttpDataFetcher logHttpDataFetcher = new LogHttpDataFetcher(config, closableHttpClient);
         DataProvider<MarketDescriptions> dataProvider = new DataProvider<>(uriFormat, logHttpDataFetcher, deserializer, MarketDescriptions.class);
 
-        Cache<String, MarketDescriptionCI> invariantMarketCache = CacheBuilder.newBuilder().build();
-        MarketDescriptionCache marketDescriptionCache = new MarketDescriptionCacheImpl(invariantMarketCache, dataProvider, locales, config.getAccessToken());
+        MarketDescriptionCache marketDescriptionCache = new MarketDescriptionCacheImpl(dataProvider,
+                                                                                       locales,
+                                                                                       config.getAccessToken(),
+                                                                                       Duration.ofMinutes(config.getMarketDescriptionsRefreshInterval()),
+                                                                                       Duration.ofSeconds(config.getMarketDescriptionsRetryInterval()));
 
         MarketDescriptionProvider marketDescriptionProvider = new MarketDescriptionProvider(marketDescriptionCache, locales);
 
@@ -54,7 +54,7 @@ public class AmqpPublisherImplTest extends TimeLimitedTestBase {
         RuntimeException error = new RuntimeException(errorMsg);
         thrown.expect(error.getClass());
         thrown.expectMessage(errorMsg);
-        when(sender.sendAsync(correlationId, msg, routingKey, messageHeaders)).thenThrow(error);
+        when(sender.sendAsyncOrdered(ticketId, correlationId, msg, routingKey, messageHeaders)).thenThrow(error);
 
         publisher.open();
         publisher.publishAsync(ticketId, msg, correlationId, routingKey, routingKey);
@@ -77,14 +77,40 @@ public class AmqpPublisherImplTest extends TimeLimitedTestBase {
         HashMap<String, Object> messageHeaders = new HashMap<>();
         messageHeaders.put("replyRoutingKey", routingKey);
 
-        when(sender.sendAsync(correlationId, msg, routingKey, messageHeaders)).thenReturn(result);
+        when(sender.sendAsyncOrdered(ticketId, correlationId, msg, routingKey, messageHeaders)).thenReturn(result);
 
         publisher.open();
         publisher.publishAsync(ticketId, msg, correlationId, routingKey, routingKey);
-        verify(sender, times(1)).sendAsync(correlationId, msg, routingKey, messageHeaders);
+        verify(sender, times(1)).sendAsyncOrdered(ticketId, correlationId, msg, routingKey, messageHeaders);
         verify(resender, times(1)).handleSendResult(result);
     }
 
+    @Test
+    public void publishAsyncCountsSentTicketTest() {
+        ConnectionStatusImpl connectionStatus = new ConnectionStatusImpl();
+        publisher = new AmqpPublisherImpl(sender, resender, connectionStatus);
+        when(sender.sendAsyncOrdered(anyString(), anyString(), any(byte[].class), anyString(), anyMap())).thenReturn(mock(AmqpSendResult.class));
+
+        publisher.open();
+        publisher.publishAsync(ticketId, msg, correlationId, routingKey, routingKey);
+
+        assertThat(connectionStatus.getMetrics().getSentTicketCount(), is(1L));
+        assertThat(connectionStatus.getLastSendTicketId(), is(ticketId));
+    }
+
+    @Test
+    public void publishAsyncWithoutResponseIsNotCountedTest() {
+        ConnectionStatusImpl connectionStatus = new ConnectionStatusImpl();
+        publisher = new AmqpPublisherImpl(sender, resender, connectionStatus, false);
+        when(sender.sendAsyncOrdered(anyString(), anyString(), any(byte[].class), anyString(), anyMap())).thenReturn(mock(AmqpSendResult.class));
+
+        publisher.open();
+        publisher.publishAsync(ticketId, msg, correlationId, routingKey, routingKey);
+
+        assertThat(connectionStatus.getMetrics().getSentTicketCount(), is(0L));
+        assertThat(connectionStatus.getMetrics().getInFlightTicketCount(), is(0L));
+    }
+
     @Test
     public void openTest() {
         publisher.open();
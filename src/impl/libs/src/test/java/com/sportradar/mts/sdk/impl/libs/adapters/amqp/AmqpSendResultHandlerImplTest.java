@@ -9,16 +9,20 @@ import com.sportradar.mts.sdk.impl.libs.LoggerTestAppender;
 import com.sportradar.mts.sdk.impl.libs.TimeLimitedTestBase;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 
 import java.util.HashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -47,10 +51,11 @@ public class AmqpSendResultHandlerImplTest extends TimeLimitedTestBase {
     }
 
     @Test
-    public void waitAndResendIfFailed_SuccessfullySendTest() throws InterruptedException {
+    public void waitAndResendIfFailed_SuccessfullySendTest() throws InterruptedException, ExecutionException {
         setAmqpSendResult();
         when(result.isRejected()).thenReturn(false);
         when(result.isDone()).thenReturn(true);
+        when(result.get()).thenReturn(true);
 
         setAmqpProducerSendAsync();
 
@@ -105,6 +110,8 @@ public class AmqpSendResultHandlerImplTest extends TimeLimitedTestBase {
 
         resender.open();
         acquireAndProcess();
+        // the result is handled on the completing thread, which keeps its interrupted status
+        assertTrue(Thread.interrupted());
 
         assertTrue(isAcquired());
     }
@@ -131,6 +138,76 @@ public class AmqpSendResultHandlerImplTest extends TimeLimitedTestBase {
         assertTrue(isAcquired());
     }
 
+    @Test
+    public void handleSendResult_NotifiesListenerOnCompletionTest() throws InterruptedException, ExecutionException {
+        AmqpPublishResultListener listener = mock(AmqpPublishResultListener.class);
+        ArgumentCaptor<Consumer<AmqpSendResult>> callback = ArgumentCaptor.forClass(Consumer.class);
+        setAmqpSendResult();
+        when(result.isRejected()).thenReturn(false);
+        when(result.isDone()).thenReturn(false);
+        when(result.get()).thenReturn(true);
+
+        resender.setPublishResultListener(listener);
+        resender.open();
+        resender.handleSendResult(result);
+
+        verify(result).whenDone(callback.capture());
+        verify(listener, never()).publishSuccess(correlationId);
+
+        when(result.isDone()).thenReturn(true);
+        callback.getValue().accept(result);
+
+        verify(listener).publishSuccess(correlationId);
+        verify(listener, never()).publishFailure(correlationId);
+    }
+
+    @Test
+    public void handleSendResult_OnRejectedNotifiesFailureTest() {
+        AmqpPublishResultListener listener = mock(AmqpPublishResultListener.class);
+        setAmqpSendResult();
+        when(result.isRejected()).thenReturn(true);
+        when(result.isDone()).thenReturn(true);
+
+        resender.setPublishResultListener(listener);
+        resender.open();
+        resender.handleSendResult(result);
+
+        verify(listener).publishFailure(correlationId);
+        verify(listener, never()).publishSuccess(correlationId);
+    }
+
+    @Test
+    public void handleSendResult_OnNackedNotifiesFailureTest() throws InterruptedException, ExecutionException {
+        AmqpPublishResultListener listener = mock(AmqpPublishResultListener.class);
+        setAmqpSendResult();
+        when(result.isRejected()).thenReturn(false);
+        when(result.isDone()).thenReturn(true);
+        when(result.get()).thenReturn(false);
+
+        resender.setPublishResultListener(listener);
+        resender.open();
+        resender.handleSendResult(result);
+
+        verify(listener).publishFailure(correlationId);
+        verify(listener, never()).publishSuccess(correlationId);
+    }
+
+    @Test
+    public void handleSendResult_OnExecutionExceptionNotifiesFailureTest() throws InterruptedException, ExecutionException {
+        AmqpPublishResultListener listener = mock(AmqpPublishResultListener.class);
+        setAmqpSendResult();
+        when(result.isRejected()).thenReturn(false);
+        when(result.isDone()).thenReturn(true);
+        when(result.get()).thenThrow(ExecutionException.class);
+
+        resender.setPublishResultListener(listener);
+        resender.open();
+        resender.handleSendResult(result);
+
+        verify(listener).publishFailure(correlationId);
+        verify(listener, never()).publishSuccess(correlationId);
+    }
+
     @Test
     public void openTest() {
         resender.open();
@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.impl.libs.adapters.amqp;
+
+import com.sportradar.mts.sdk.impl.libs.TimeLimitedTestBase;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class DeliveryAckTrackerTest extends TimeLimitedTestBase {
+
+    private DeliveryAckTracker tracker;
+
+    @Before
+    public void setUp() {
+        tracker = new DeliveryAckTracker(4);
+    }
+
+    @Test
+    public void advanceStopsAtDeliveryInProgressTest() {
+        for (long tag = 1L; tag <= 4L; tag++) {
+            tracker.delivered(tag);
+        }
+        tracker.ackable(1L);
+        tracker.ackable(3L);
+        tracker.ackable(4L);
+
+        assertThat(tracker.advance(), is(1L));
+        assertThat(tracker.getAckableCount(), is(2));
+
+        tracker.ackable(2L);
+        assertThat(tracker.advance(), is(4L));
+        assertThat(tracker.getAckableCount(), is(0));
+    }
+
+    @Test
+    public void advancePassesSettledDeliveriesTest() {
+        for (long tag = 1L; tag <= 3L; tag++) {
+            tracker.delivered(tag);
+        }
+        tracker.ackable(1L);
+        tracker.settled(2L);
+        tracker.settled(3L);
+
+        assertThat(tracker.advance(), is(1L));
+        assertThat(tracker.advance(), is(-1L));
+    }
+
+    @Test
+    public void retryingDeliveryBlocksCumulativeAckTest() {
+        for (long tag = 1L; tag <= 3L; tag++) {
+            tracker.delivered(tag);
+        }
+        tracker.retrying(1L);
+        tracker.ackable(2L);
+
+        assertThat(tracker.hasRetryingBefore(3L), is(true));
+        assertThat(tracker.hasRetryingBefore(1L), is(false));
+        assertThat(tracker.advance(), is(-1L));
+
+        tracker.settled(1L);
+        assertThat(tracker.advance(), is(2L));
+    }
+
+    @Test
+    public void growsWhenManyDeliveriesAreUnackedTest() {
+        for (long tag = 1L; tag <= 100L; tag++) {
+            tracker.delivered(tag);
+            if (tag > 1L) {
+                tracker.ackable(tag);
+            }
+        }
+        assertThat(tracker.advance(), is(-1L));
+
+        tracker.ackable(1L);
+        assertThat(tracker.advance(), is(100L));
+    }
+}
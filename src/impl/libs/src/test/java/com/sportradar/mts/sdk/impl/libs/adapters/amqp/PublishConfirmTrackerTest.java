@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.impl.libs.adapters.amqp;
+
+import com.sportradar.mts.sdk.impl.libs.TimeLimitedTestBase;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class PublishConfirmTrackerTest extends TimeLimitedTestBase {
+
+    private PublishConfirmTracker<String> tracker;
+
+    @Before
+    public void setUp() {
+        tracker = new PublishConfirmTracker<>(4);
+    }
+
+    @Test
+    public void removeSingleTagTest() {
+        tracker.put(1L, "m1");
+        tracker.put(2L, "m2");
+
+        assertThat(tracker.remove(2L), is("m2"));
+        assertThat(tracker.remove(2L), is(nullValue()));
+        assertThat(tracker.size(), is(1));
+        assertThat(tracker.pollFirst(), is("m1"));
+        assertThat(tracker.size(), is(0));
+    }
+
+    @Test
+    public void pollUpToSkipsAlreadyConfirmedTagsTest() {
+        for (long tag = 1L; tag <= 5L; tag++) {
+            tracker.put(tag, "m" + tag);
+        }
+        tracker.remove(2L);
+
+        assertThat(tracker.pollUpTo(3L), is("m1"));
+        assertThat(tracker.pollUpTo(3L), is("m3"));
+        assertThat(tracker.pollUpTo(3L), is(nullValue()));
+        assertThat(tracker.size(), is(2));
+    }
+
+    @Test
+    public void growsWhenInFlightExceedsCapacityTest() {
+        for (long tag = 1L; tag <= 100L; tag++) {
+            tracker.put(tag, "m" + tag);
+        }
+
+        assertThat(tracker.size(), is(100));
+        for (long tag = 1L; tag <= 100L; tag++) {
+            assertThat(tracker.pollUpTo(100L), is("m" + tag));
+        }
+        assertThat(tracker.pollFirst(), is(nullValue()));
+    }
+
+    @Test
+    public void wrapsAroundTheRingTest() {
+        for (long tag = 1L; tag <= 999L; tag++) {
+            tracker.put(tag, "m" + tag);
+            if (tag % 3 == 0) {
+                assertThat(tracker.pollUpTo(tag), is("m" + (tag - 2)));
+                assertThat(tracker.pollUpTo(tag), is("m" + (tag - 1)));
+                assertThat(tracker.remove(tag), is("m" + tag));
+            }
+        }
+
+        assertThat(tracker.size(), is(0));
+    }
+
+    @Test
+    public void nonIncreasingTagIsRejectedTest() {
+        tracker.put(5L, "m5");
+
+        thrown.expect(IllegalArgumentException.class);
+        tracker.put(5L, "again");
+    }
+}
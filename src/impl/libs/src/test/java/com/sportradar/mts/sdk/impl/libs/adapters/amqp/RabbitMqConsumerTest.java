@@ -0,0 +1,134 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.impl.libs.adapters.amqp;
+
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.Consumer;
+import com.rabbitmq.client.Envelope;
+import com.sportradar.mts.sdk.impl.libs.TimeLimitedTestBase;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class RabbitMqConsumerTest extends TimeLimitedTestBase {
+
+    private static final byte[] BODY = "{}".getBytes();
+
+    private Channel channel;
+    private AmqpMessageReceiver receiver;
+    private Consumer pushConsumer;
+
+    @Before
+    public void setUp() throws Exception {
+        channel = mock(Channel.class);
+        receiver = mock(AmqpMessageReceiver.class);
+        when(channel.isOpen()).thenReturn(true);
+
+        AmqpCluster mqCluster = AmqpCluster.from("testUsername", "testPassword", "testVHost", false, new NetworkAddress("testHost"), 10);
+        RabbitMqConsumer consumer = new RabbitMqConsumer(mock(ChannelFactoryProvider.class),
+                                                         "routingKey",
+                                                         "test",
+                                                         mqCluster,
+                                                         "testExchange",
+                                                         ExchangeType.TOPIC,
+                                                         "testQueue",
+                                                         2,
+                                                         4,
+                                                         1,
+                                                         false,
+                                                         false);
+        consumer.setMessageReceivedHandler(receiver);
+        consumer.setAutoMessageAcknowledgmentEnabled(false);
+
+        // the consumer is not opened, so doWork only subscribes and returns
+        consumer.doWork(channel, 1);
+
+        ArgumentCaptor<Consumer> captor = ArgumentCaptor.forClass(Consumer.class);
+        verify(channel).basicConsume(eq("testQueue"), eq(false), anyString(), eq(false), eq(false), isNull(), captor.capture());
+        pushConsumer = captor.getValue();
+    }
+
+    @Test
+    public void consumedDeliveriesAreAckedCumulativelyTest() throws IOException {
+        when(receiver.consume(any(), any(), any(), any())).thenReturn(MessageStatus.CONSUMED_SUCCESSFULLY);
+
+        deliver(1L);
+        deliver(2L);
+
+        verify(channel, times(1)).basicAck(2L, true);
+        verify(channel, never()).basicAck(eq(1L), anyBoolean());
+    }
+
+    @Test
+    public void deliveriesAfterFailedOneAreAckedSingleTest() throws IOException {
+        when(receiver.consume(any(), any(), eq("c1"), any())).thenReturn(MessageStatus.RETRY_LIMITED);
+        when(receiver.consume(any(), any(), eq("c2"), any())).thenReturn(MessageStatus.CONSUMED_SUCCESSFULLY);
+
+        deliver(1L);
+        deliver(2L);
+
+        verify(channel, times(1)).basicAck(2L, false);
+        verify(channel, never()).basicAck(anyLong(), eq(true));
+        verify(channel, never()).basicAck(eq(1L), anyBoolean());
+    }
+
+    @Test
+    public void cumulativeAckDoesNotCoverDeliveryWaitingForRetryTest() throws IOException {
+        when(receiver.consume(any(), any(), eq("c1"), any())).thenReturn(MessageStatus.CONSUMED_SUCCESSFULLY);
+        when(receiver.consume(any(), any(), eq("c2"), any())).thenReturn(MessageStatus.RETRY_FOREVER);
+        when(receiver.consume(any(), any(), eq("c3"), any())).thenReturn(MessageStatus.CONSUMED_SUCCESSFULLY);
+
+        deliver(1L);
+        deliver(2L);
+        deliver(3L);
+
+        verify(channel, times(1)).basicAck(3L, false);
+        verify(channel, never()).basicAck(anyLong(), eq(true));
+        verify(channel, never()).basicAck(eq(2L), anyBoolean());
+    }
+
+    @Test
+    public void consumingDeliveryDoesNotBlockSignallingTest() throws Exception {
+        CountDownLatch consuming = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(receiver.consume(any(), any(), any(), any())).thenAnswer(invocation -> {
+            consuming.countDown();
+            release.await();
+            return MessageStatus.CONSUMED_SUCCESSFULLY;
+        });
+
+        CompletableFuture<Void> delivery = CompletableFuture.runAsync(() -> {
+            try {
+                deliver(1L);
+            } catch (IOException exc) {
+                throw new IllegalStateException(exc);
+            }
+        });
+        consuming.await();
+        try {
+            CompletableFuture.runAsync(() -> pushConsumer.handleShutdownSignal("tag", null)).get(5, TimeUnit.SECONDS);
+        } finally {
+            release.countDown();
+        }
+        delivery.get(5, TimeUnit.SECONDS);
+    }
+
+    private void deliver(long tag) throws IOException {
+        pushConsumer.handleDelivery("tag", new Envelope(tag, false, "testExchange", "routingKey"), properties("c" + tag), BODY);
+    }
+
+    private static AMQP.BasicProperties properties(String correlationId) {
+        return new AMQP.BasicProperties.Builder().correlationId(correlationId).build();
+    }
+}
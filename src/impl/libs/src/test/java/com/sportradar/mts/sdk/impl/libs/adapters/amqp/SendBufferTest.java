@@ -0,0 +1,146 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.impl.libs.adapters.amqp;
+
+import com.sportradar.mts.sdk.impl.libs.TimeLimitedTestBase;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class SendBufferTest extends TimeLimitedTestBase {
+
+    private SendBuffer<String> buffer;
+
+    @Before
+    public void setUp() {
+        buffer = new SendBuffer<>(3, Runnable::run);
+    }
+
+    @Test
+    public void capacityIsRoundedUpToPowerOfTwoTest() {
+        assertThat(buffer.capacity(), is(4));
+    }
+
+    @Test
+    public void offerRejectsWhenFullTest() {
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.offer("m" + i), is(true));
+        }
+
+        assertThat(buffer.offer("m4"), is(false));
+        assertThat(buffer.size(), is(4));
+    }
+
+    @Test
+    public void pollKeepsInsertionOrderTest() {
+        for (int i = 0; i < 10; i++) {
+            buffer.offer("m" + i);
+            assertThat(buffer.poll(), is("m" + i));
+        }
+
+        assertThat(buffer.poll(), is(nullValue()));
+        assertThat(buffer.isEmpty(), is(true));
+    }
+
+    @Test
+    public void drainToRespectsMaxElementsTest() {
+        for (int i = 0; i < 4; i++) {
+            buffer.offer("m" + i);
+        }
+        List<String> batch = new ArrayList<>();
+
+        assertThat(buffer.drainTo(batch, 3), is(3));
+        assertThat(batch.get(2), is("m2"));
+        assertThat(buffer.size(), is(1));
+    }
+
+    @Test
+    public void blockingOfferTimesOutWhenFullTest() throws InterruptedException {
+        for (int i = 0; i < 4; i++) {
+            buffer.offer("m" + i);
+        }
+
+        assertThat(buffer.offer("m4", 10, TimeUnit.MILLISECONDS), is(false));
+    }
+
+    @Test
+    public void blockingOfferSucceedsOnceConsumerPollsTest() throws InterruptedException {
+        for (int i = 0; i < 4; i++) {
+            buffer.offer("m" + i);
+        }
+        CountDownLatch offered = new CountDownLatch(1);
+        AtomicBoolean accepted = new AtomicBoolean();
+        Thread producer = new Thread(() -> {
+            try {
+                accepted.set(buffer.offer("m4", 5, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            offered.countDown();
+        });
+        producer.start();
+
+        Thread.sleep(50);
+        assertThat(buffer.poll(), is("m0"));
+
+        assertThat(offered.await(5, TimeUnit.SECONDS), is(true));
+        assertThat(accepted.get(), is(true));
+        assertThat(buffer.size(), is(4));
+    }
+
+    @Test
+    public void offerWhenReadyCompletesOnceCapacityIsAvailableTest() {
+        for (int i = 0; i < 4; i++) {
+            buffer.offer("m" + i);
+        }
+
+        CompletableFuture<Void> pending = buffer.offerWhenReady("m4").toCompletableFuture();
+        assertThat(pending.isDone(), is(false));
+        assertThat(buffer.offer("m5"), is(false));
+
+        assertThat(buffer.poll(), is("m0"));
+        assertThat(pending.isDone(), is(true));
+        for (int i = 1; i <= 4; i++) {
+            assertThat(buffer.poll(), is("m" + i));
+        }
+    }
+
+    @Test
+    public void failPendingOffersCompletesExceptionallyTest() {
+        for (int i = 0; i < 4; i++) {
+            buffer.offer("m" + i);
+        }
+        CompletableFuture<Void> pending = buffer.offerWhenReady("m4").toCompletableFuture();
+
+        buffer.failPendingOffers(new IllegalStateException("closed"));
+
+        assertThat(pending.isCompletedExceptionally(), is(true));
+    }
+
+    @Test
+    public void pollWithTimeoutIsWokenByProducerTest() throws InterruptedException {
+        Thread producer = new Thread(() -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            buffer.offer("late");
+        });
+        producer.start();
+
+        assertThat(buffer.poll(5, TimeUnit.SECONDS), is("late"));
+    }
+}
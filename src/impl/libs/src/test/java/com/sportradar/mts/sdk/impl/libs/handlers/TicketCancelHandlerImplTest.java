@@ -16,11 +16,13 @@ import com.sportradar.mts.sdk.impl.libs.TimeLimitedTestBase;
 import com.sportradar.mts.sdk.impl.libs.adapters.amqp.AmqpPublisher;
 import com.sportradar.mts.sdk.impl.libs.logging.SdkLogger;
 import com.sportradar.mts.sdk.impl.libs.receivers.TicketCancelResponseWrapper;
+import com.sportradar.mts.sdk.ws.internal.utils.WheelTimer;
 import org.junit.Before;
 import org.junit.Test;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.CoreMatchers.*;
 import static org.junit.Assert.assertThat;
@@ -43,10 +45,12 @@ public class TicketCancelHandlerImplTest extends TimeLimitedTestBase {
     private String replyRoutingKey;
     private BuilderFactory builderFactory;
     private ResponseTimeoutHandler responseTimeoutHandler;
+    private WheelTimer timer;
 
     @Before
     public void setUp() {
         executor = mock(ExecutorService.class);
+        timer = new WheelTimer("test-response-timeout", 1, TimeUnit.MILLISECONDS, 512);
         publisher = mock(AmqpPublisher.class);
         sdkLogger = mock(SdkLogger.class);
         listener = mock(TicketCancelResponseListener.class);
@@ -55,7 +59,7 @@ public class TicketCancelHandlerImplTest extends TimeLimitedTestBase {
 
         routingKey = "cancel";
         replyRoutingKey = "nodeXY.cancel.confirm";
-        handler = new TicketCancelHandlerImpl(publisher, routingKey, replyRoutingKey, executor, responseTimeoutHandler, 40, 50, sdkLogger);
+        handler = new TicketCancelHandlerImpl(publisher, routingKey, replyRoutingKey, executor, responseTimeoutHandler, timer, 40, 50, sdkLogger);
         ticketCancel = getTicketCancel();
     }
 
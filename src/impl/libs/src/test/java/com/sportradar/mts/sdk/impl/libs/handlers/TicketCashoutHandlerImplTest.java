@@ -14,11 +14,12 @@ import com.sportradar.mts.sdk.impl.libs.SdkHelper;
 import com.sportradar.mts.sdk.impl.libs.TimeLimitedTestBase;
 import com.sportradar.mts.sdk.impl.libs.adapters.amqp.AmqpPublisher;
 import com.sportradar.mts.sdk.impl.libs.logging.SdkLogger;
+import com.sportradar.mts.sdk.ws.internal.utils.WheelTimer;
 import org.junit.Before;
 import org.junit.Test;
 
-import java.nio.charset.StandardCharsets;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.CoreMatchers.*;
 import static org.junit.Assert.assertThat;
@@ -35,10 +36,12 @@ public class TicketCashoutHandlerImplTest extends TimeLimitedTestBase {
     private TicketCashout ticketCashout;
     private BuilderFactory builderFactory;
     private ResponseTimeoutHandler responseTimeoutHandler;
+    private WheelTimer timer;
 
     @Before
     public void setUp() {
         ExecutorService executor = mock(ExecutorService.class);
+        timer = new WheelTimer("test-response-timeout", 1, TimeUnit.MILLISECONDS, 512);
         publisher = mock(AmqpPublisher.class);
         SdkLogger sdkLogger = mock(SdkLogger.class);
         listener = mock(TicketCashoutResponseListener.class);
@@ -46,7 +49,7 @@ public class TicketCashoutHandlerImplTest extends TimeLimitedTestBase {
         builderFactory = new SdkHelper().getBuilderFactory();
 
         routingKey = "ticket.cashout";
-        handler = new TicketCashoutHandlerImpl(publisher, routingKey, routingKey, executor, responseTimeoutHandler, 40, 50, sdkLogger);
+        handler = new TicketCashoutHandlerImpl(publisher, routingKey, routingKey, executor, responseTimeoutHandler, timer, 40, 50, sdkLogger);
         ticketCashout = getTicketCashout("ticket-" + StaticRandom.S1000, 1111, 60);
     }
 
@@ -100,7 +103,7 @@ public class TicketCashoutHandlerImplTest extends TimeLimitedTestBase {
 
         handler.setListener(listener);
 
-        String serializedDto = handler.getSerializedDto(ticketCashout);
+        byte[] serializedDto = handler.getSerializedDto(ticketCashout);
         String correlationId = ticketCashout.getCorrelationId();
 
         when(publisher.isOpen()).thenReturn(true);
@@ -108,7 +111,7 @@ public class TicketCashoutHandlerImplTest extends TimeLimitedTestBase {
             handler.ticketCashoutResponseReceived(null);
             return null;
         }).when(publisher).publishAsync(ticketCashout.getTicketId(),
-                                        serializedDto.getBytes(StandardCharsets.UTF_8),
+                                        serializedDto,
                                         correlationId,
                                         routingKey,
                                         routingKey);
@@ -5,6 +5,7 @@
 package com.sportradar.mts.sdk.impl.libs.handlers;
 
 import com.sportradar.mts.sdk.api.Ticket;
+import com.sportradar.mts.sdk.api.TicketResponse;
 import com.sportradar.mts.sdk.api.builders.BuilderFactory;
 import com.sportradar.mts.sdk.api.enums.OddsChangeType;
 import com.sportradar.mts.sdk.api.enums.SenderChannel;
@@ -18,20 +19,28 @@ import com.sportradar.mts.sdk.api.utils.SdkInfo;
 import com.sportradar.mts.sdk.impl.libs.LoggerTestAppender;
 import com.sportradar.mts.sdk.impl.libs.SdkHelper;
 import com.sportradar.mts.sdk.impl.libs.TimeLimitedTestBase;
+import com.sportradar.mts.sdk.impl.libs.adapters.amqp.AmqpPublishResultListener;
 import com.sportradar.mts.sdk.impl.libs.adapters.amqp.AmqpPublisher;
 import com.sportradar.mts.sdk.impl.libs.logging.SdkLogger;
 import com.sportradar.mts.sdk.impl.libs.receivers.TicketResponseWrapper;
+import com.sportradar.mts.sdk.ws.internal.utils.WheelTimer;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import static org.hamcrest.CoreMatchers.*;
 import static org.junit.Assert.assertThat;
@@ -53,18 +62,20 @@ public class TicketHandlerImplTest extends TimeLimitedTestBase {
     private static int count;
     private BuilderFactory builderFactory;
     private ResponseTimeoutHandler<Ticket> responseTimeoutHandler;
+    private WheelTimer timer;
 
     @Before
     public void setUp() {
         publisher = mock(AmqpPublisher.class);
         executor = mock(ScheduledExecutorService.class);
+        timer = new WheelTimer("test-response-timeout", 1, TimeUnit.MILLISECONDS, 512);
         sdkLogger = mock(SdkLogger.class);
         listener = mock(TicketResponseListener.class);
         responseTimeoutHandler = mock(ResponseTimeoutHandler.class);
         builderFactory = new SdkHelper().getBuilderFactory();
 
         routingKey = "ticket";
-        handler = new TicketHandlerImpl(publisher, routingKey, executor, responseTimeoutHandler, 50, 150, 40, sdkLogger);
+        handler = new TicketHandlerImpl(publisher, routingKey, executor, responseTimeoutHandler, timer, 50, 150, 40, sdkLogger);
         handler.setListener(listener);
         ticket = getTicket();
         count = 0;
@@ -112,6 +123,93 @@ public class TicketHandlerImplTest extends TimeLimitedTestBase {
         handler.sendBlocking(ticket);
     }
 
+    @Test
+    public void sendAsync_OnResponseReceivedTest() throws Exception {
+        TicketResponseWrapper response = new TicketResponseWrapper();
+        response.setTicketId(ticket.getTicketId());
+        when(executor.submit(Mockito.any(Runnable.class))).then(invocation -> {
+            ((Runnable) invocation.getArguments()[0]).run();
+            return null;
+        });
+
+        handler.open();
+        CompletableFuture<TicketResponse> future = handler.sendAsync(ticket);
+        handler.ticketResponseReceived(response);
+
+        assertThat(future.get(1, TimeUnit.SECONDS), is((TicketResponse) response));
+        verify(listener, never()).responseReceived(response);
+    }
+
+    @Test
+    public void sendAsync_CompletesWithoutDispatcherTest() throws Exception {
+        // the dispatcher never runs the submitted tasks, like a single dispatcher thread blocked in a listener
+        TicketResponseWrapper response = new TicketResponseWrapper();
+        response.setTicketId(ticket.getTicketId());
+
+        handler.open();
+        CompletableFuture<TicketResponse> future = handler.sendAsync(ticket);
+        handler.ticketResponseReceived(response);
+
+        assertThat(future.isDone(), is(true));
+        assertThat(future.get(), is((TicketResponse) response));
+    }
+
+    @Test
+    public void sendAsync_OnPublishFailureFailsWithoutDispatcherTest() throws InterruptedException {
+        ArgumentCaptor<AmqpPublishResultListener> publishListener = ArgumentCaptor.forClass(AmqpPublishResultListener.class);
+        verify(publisher).setListener(publishListener.capture());
+
+        handler.open();
+        CompletableFuture<TicketResponse> future = handler.sendAsync(ticket);
+        publishListener.getValue().publishFailure(ticket.getCorrelationId());
+
+        assertThat(future.isCompletedExceptionally(), is(true));
+    }
+
+    @Test
+    public void sendAsync_OnResponseTimeoutTest() throws InterruptedException {
+        when(executor.submit(Mockito.any(Runnable.class))).then(invocation -> {
+            ((Runnable) invocation.getArguments()[0]).run();
+            return null;
+        });
+
+        handler.open();
+        CompletableFuture<TicketResponse> future = handler.sendAsync(ticket);
+
+        try {
+            future.get(1, TimeUnit.SECONDS);
+            Assert.fail("the future should time out");
+        } catch (ExecutionException | TimeoutException e) {
+            assertThat(e.getCause(), instanceOf(ResponseTimeoutException.class));
+        }
+    }
+
+    @Test
+    public void sendWhenReady_OnPublishFailureReleasesTicketTest() throws InterruptedException, TimeoutException {
+        ArgumentCaptor<AmqpPublishResultListener> publishListener = ArgumentCaptor.forClass(AmqpPublishResultListener.class);
+        verify(publisher).setListener(publishListener.capture());
+        when(executor.submit(Mockito.any(Runnable.class))).then(invocation -> {
+            ((Runnable) invocation.getArguments()[0]).run();
+            return null;
+        });
+        CompletableFuture<Void> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new IllegalStateException("connector is closed"));
+        when(publisher.publishWhenReady(anyString(), Mockito.any(byte[].class), anyString(), anyString(), anyString())).thenReturn(failed);
+
+        handler.open();
+        CompletionStage<Void> result = handler.sendWhenReady(ticket);
+
+        try {
+            result.toCompletableFuture().get(1, TimeUnit.SECONDS);
+            Assert.fail("the publishing should fail");
+        } catch (ExecutionException e) {
+            assertThat(e.getCause(), instanceOf(IllegalStateException.class));
+        }
+        publishListener.getValue().publishSuccess(ticket.getCorrelationId());
+        verify(listener, never()).publishSuccess(ticket);
+        verify(responseTimeoutHandler, never()).onAsyncTicketSent(ticket);
+    }
+
     //TODO: @Test
     public void sendBlocking_RateLimiterTest() {
         TicketResponseWrapper response = new TicketResponseWrapper();
@@ -119,7 +217,7 @@ public class TicketHandlerImplTest extends TimeLimitedTestBase {
         byte[] msg = JsonUtils.serialize(ticket);
         String correlationId = getFormattedCorrelationId(ticket);
 
-        handler = new TicketHandlerImpl(publisher, routingKey, executor, responseTimeoutHandler, 50, 150, 5, sdkLogger);
+        handler = new TicketHandlerImpl(publisher, routingKey, executor, responseTimeoutHandler, timer, 50, 150, 5, sdkLogger);
         handler.setListener(listener);
 
         Map<Integer, Long> invocationTimestampsActual = new HashMap<>();
@@ -204,7 +302,7 @@ public class TicketHandlerImplTest extends TimeLimitedTestBase {
     @Test
     public void send_OnListenerNullTest() {
 
-        handler = new TicketHandlerImpl(publisher, routingKey, executor, responseTimeoutHandler, 50, 150, 40, sdkLogger);
+        handler = new TicketHandlerImpl(publisher, routingKey, executor, responseTimeoutHandler, timer, 50, 150, 40, sdkLogger);
         TicketResponseWrapper response = new TicketResponseWrapper();
         response.setTicketId(ticket.getTicketId());
 
@@ -300,7 +398,7 @@ public class TicketHandlerImplTest extends TimeLimitedTestBase {
             }
         });
 
-        handler = new TicketHandlerImpl(publisher, routingKey, executor, responseTimeoutHandler, 300, 350, 40, sdkLogger);
+        handler = new TicketHandlerImpl(publisher, routingKey, executor, responseTimeoutHandler, timer, 300, 350, 40, sdkLogger);
         handler.setListener(listener);
         handler.open();
         new Thread(() -> {
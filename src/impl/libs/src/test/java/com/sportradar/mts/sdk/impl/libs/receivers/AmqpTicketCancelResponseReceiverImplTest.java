@@ -4,20 +4,26 @@
 
 package com.sportradar.mts.sdk.impl.libs.receivers;
 
+import com.sportradar.mts.sdk.api.TicketCancelResponse;
 import com.sportradar.mts.sdk.api.impl.ConnectionStatusImpl;
 import com.sportradar.mts.sdk.api.utils.StringUtils;
 import com.sportradar.mts.sdk.impl.libs.LoggerTestAppender;
 import com.sportradar.mts.sdk.impl.libs.TimeLimitedTestBase;
 import com.sportradar.mts.sdk.impl.libs.adapters.amqp.AmqpConsumer;
 import com.sportradar.mts.sdk.impl.libs.adapters.amqp.AmqpMessageReceiver;
+import com.sportradar.mts.sdk.impl.libs.adapters.amqp.MessageStatus;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.*;
 
@@ -136,6 +142,23 @@ public class AmqpTicketCancelResponseReceiverImplTest extends TimeLimitedTestBas
 //        assertTrue(MessageStatus.CONSUMED_SUCCESSFULLY.equals(messageStatus));
 //    }
 
+    @Test
+    public void consume_KeepsReceivedPayloadTest() {
+        String json = "{\"result\": {\"ticketId\": \"ticket-1\", \"status\": \"cancelled\", "
+                + "\"reason\": {\"code\": 1024, \"message\": \"Ticket cancelled \u00e9\"}}, \"signature\": \"sig\", \"version\": \"2.4\"}";
+        msg = json.getBytes(StandardCharsets.UTF_8);
+        ArgumentCaptor<TicketCancelResponse> captor = ArgumentCaptor.forClass(TicketCancelResponse.class);
+
+        msgReceiver.open();
+        MessageStatus messageStatus = msgReceiver.consume(msg, routingKey, correlationId, messageHeaders);
+
+        assertEquals(MessageStatus.CONSUMED_SUCCESSFULLY, messageStatus);
+        verify(responseReceiver, times(1)).ticketCancelResponseReceived(captor.capture());
+        assertSame(msg, captor.getValue().getJsonBytes());
+        assertEquals(json, captor.getValue().getJsonValue());
+        assertEquals("Ticket cancelled \u00e9", captor.getValue().getReason().getMessage());
+    }
+
     @Test
     public void afterLimitReachedTest() {
         msgReceiver.open();
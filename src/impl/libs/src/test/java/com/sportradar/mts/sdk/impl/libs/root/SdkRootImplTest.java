@@ -4,6 +4,7 @@
 
 package com.sportradar.mts.sdk.impl.libs.root;
 
+import com.sportradar.mts.sdk.api.caching.MarketDescriptionCache;
 import com.sportradar.mts.sdk.api.interfaces.*;
 import com.sportradar.mts.sdk.impl.libs.LoggerTestAppender;
 import com.sportradar.mts.sdk.impl.libs.TimeLimitedTestBase;
@@ -11,11 +12,12 @@ import com.sportradar.mts.sdk.impl.libs.adapters.amqp.AmqpMessageReceiver;
 import com.sportradar.mts.sdk.impl.libs.adapters.amqp.ChannelFactoryProvider;
 import com.sportradar.mts.sdk.impl.libs.handlers.*;
 import com.sportradar.mts.sdk.impl.libs.logging.SdkLogger;
+import com.sportradar.mts.sdk.impl.libs.threading.ListenerDispatcherFactory;
+import com.sportradar.mts.sdk.ws.internal.utils.WheelTimer;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.InOrder;
 
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
 import static org.junit.Assert.*;
@@ -28,7 +30,8 @@ import static org.mockito.Mockito.*;
 public class SdkRootImplTest extends TimeLimitedTestBase {
 
     private SdkLogger sdkLogger;
-    private ScheduledExecutorService executorService;
+    private ListenerDispatcherFactory listenerDispatcherFactory;
+    private WheelTimer responseTimeoutTimer;
     private ChannelFactoryProvider channelFactoryProvider;
     private TicketHandler ticketHandler;
     private AmqpMessageReceiver ticketAmqpMessageReceiver;
@@ -43,11 +46,13 @@ public class SdkRootImplTest extends TimeLimitedTestBase {
     private AmqpMessageReceiver ticketCashoutAmqpMessageReceiver;
     private TicketNonSrSettleHandler ticketNonSrSettleHandler;
     private AmqpMessageReceiver ticketNonSrSettleAmpqMessageReceiver;
+    private MarketDescriptionCache marketDescriptionCache;
 
     @Before
     public void setUp() {
         sdkLogger = mock(SdkLogger.class);
-        executorService = mock(ScheduledExecutorService.class);
+        listenerDispatcherFactory = mock(ListenerDispatcherFactory.class);
+        responseTimeoutTimer = mock(WheelTimer.class);
         channelFactoryProvider = mock(ChannelFactoryProvider.class);
         ticketHandler = mock(TicketHandler.class);
         ticketAmqpMessageReceiver = mock(AmqpMessageReceiver.class);
@@ -60,10 +65,12 @@ public class SdkRootImplTest extends TimeLimitedTestBase {
         ticketCashoutAmqpMessageReceiver = mock(AmqpMessageReceiver.class);
         ticketNonSrSettleHandler = mock(TicketNonSrSettleHandler.class);
         ticketNonSrSettleAmpqMessageReceiver = mock(AmqpMessageReceiver.class);
+        marketDescriptionCache = mock(MarketDescriptionCache.class);
 
         sdkRoot = new SdkRootImpl(
                 sdkLogger,
-                executorService,
+                listenerDispatcherFactory,
+                responseTimeoutTimer,
                 channelFactoryProvider,
                 ticketHandler,
                 ticketAmqpMessageReceiver,
@@ -75,7 +82,8 @@ public class SdkRootImplTest extends TimeLimitedTestBase {
                 ticketCashoutHandler,
                 ticketCashoutAmqpMessageReceiver,
                 ticketNonSrSettleHandler,
-                ticketNonSrSettleAmpqMessageReceiver);
+                ticketNonSrSettleAmpqMessageReceiver,
+                marketDescriptionCache);
 
         appender = new LoggerTestAppender(SdkRootImpl.class);
     }
@@ -109,7 +117,7 @@ public class SdkRootImplTest extends TimeLimitedTestBase {
     }
 
     @Test
-    public void close_OnExecutorServiceAwaitTerminationFalseTest() throws InterruptedException {
+    public void close_OnListenerDispatchersAwaitTerminationFalseTest() throws InterruptedException {
         InOrder inOrder = inOrder(
                 ticketHandler,
                 ticketCancelSender,
@@ -117,11 +125,13 @@ public class SdkRootImplTest extends TimeLimitedTestBase {
                 ticketCancelAckHandler,
                 ticketAmqpMessageReceiver,
                 ticketCancelAmqpMessageReceiver,
+                marketDescriptionCache,
                 channelFactoryProvider,
-                executorService,
+                listenerDispatcherFactory,
+                responseTimeoutTimer,
                 sdkLogger);
 
-        when(executorService.awaitTermination(anyLong(), any(TimeUnit.class))).thenReturn(false);
+        when(listenerDispatcherFactory.awaitTermination(anyLong(), any(TimeUnit.class))).thenReturn(false);
 
         sdkRoot.close();
 
@@ -131,10 +141,12 @@ public class SdkRootImplTest extends TimeLimitedTestBase {
         inOrder.verify(ticketCancelAckHandler, times(1)).close();
         inOrder.verify(ticketAmqpMessageReceiver, times(1)).close();
         inOrder.verify(ticketCancelAmqpMessageReceiver, times(1)).close();
+        inOrder.verify(marketDescriptionCache, times(1)).close();
         inOrder.verify(channelFactoryProvider, times(1)).unregisterInstance();
-        inOrder.verify(executorService, times(1)).shutdown();
-        inOrder.verify(executorService, times(1)).awaitTermination(anyLong(), any(TimeUnit.class));
-        inOrder.verify(executorService, times(1)).shutdownNow();
+        inOrder.verify(listenerDispatcherFactory, times(1)).shutdown();
+        inOrder.verify(listenerDispatcherFactory, times(1)).awaitTermination(anyLong(), any(TimeUnit.class));
+        inOrder.verify(listenerDispatcherFactory, times(1)).shutdownNow();
+        inOrder.verify(responseTimeoutTimer, times(1)).close();
         inOrder.verify(sdkLogger, times(1)).close();
         verifyNoMoreInteractions(
                 ticketHandler,
@@ -143,16 +155,18 @@ public class SdkRootImplTest extends TimeLimitedTestBase {
                 ticketCancelAckHandler,
                 ticketAmqpMessageReceiver,
                 ticketCancelAmqpMessageReceiver,
+                marketDescriptionCache,
                 channelFactoryProvider,
-                executorService,
+                listenerDispatcherFactory,
+                responseTimeoutTimer,
                 sdkLogger);
         assertFalse(sdkRoot.isOpen());
         assertTrue(appender.searchLoggingEventByFormattedMessage(
-                "failed to shutdown executor service in time, force stopping"));
+                "failed to shutdown listener dispatchers in time, force stopping"));
     }
 
     @Test
-    public void openClose_OnExecutorServiceAwaitTerminationFalseTest() throws InterruptedException {
+    public void openClose_OnListenerDispatchersAwaitTerminationFalseTest() throws InterruptedException {
         InOrder inOrder = inOrder(
                 ticketHandler,
                 ticketCancelSender,
@@ -161,7 +175,7 @@ public class SdkRootImplTest extends TimeLimitedTestBase {
                 ticketAmqpMessageReceiver,
                 ticketCancelAmqpMessageReceiver,
                 channelFactoryProvider,
-                executorService,
+                listenerDispatcherFactory,
                 sdkLogger);
 
         sdkRoot.open();
@@ -170,7 +184,7 @@ public class SdkRootImplTest extends TimeLimitedTestBase {
         inOrder.verify(channelFactoryProvider, times(1)).registerInstance();
         assertTrue(sdkRoot.isOpen());
 
-        when(executorService.awaitTermination(anyLong(), any(TimeUnit.class))).thenReturn(false);
+        when(listenerDispatcherFactory.awaitTermination(anyLong(), any(TimeUnit.class))).thenReturn(false);
 
         sdkRoot.close();
 
@@ -181,9 +195,9 @@ public class SdkRootImplTest extends TimeLimitedTestBase {
         inOrder.verify(ticketAmqpMessageReceiver, times(1)).close();
         inOrder.verify(ticketCancelAmqpMessageReceiver, times(1)).close();
         inOrder.verify(channelFactoryProvider, times(1)).unregisterInstance();
-        inOrder.verify(executorService, times(1)).shutdown();
-        inOrder.verify(executorService, times(1)).awaitTermination(anyLong(), any(TimeUnit.class));
-        inOrder.verify(executorService, times(1)).shutdownNow();
+        inOrder.verify(listenerDispatcherFactory, times(1)).shutdown();
+        inOrder.verify(listenerDispatcherFactory, times(1)).awaitTermination(anyLong(), any(TimeUnit.class));
+        inOrder.verify(listenerDispatcherFactory, times(1)).shutdownNow();
         inOrder.verify(sdkLogger, times(1)).close();
         verifyNoMoreInteractions(
                 ticketHandler,
@@ -193,11 +207,11 @@ public class SdkRootImplTest extends TimeLimitedTestBase {
                 ticketAmqpMessageReceiver,
                 ticketCancelAmqpMessageReceiver,
                 channelFactoryProvider,
-                executorService,
+                listenerDispatcherFactory,
                 sdkLogger);
         assertFalse(sdkRoot.isOpen());
         assertTrue(appender.searchLoggingEventByFormattedMessage(
-                "failed to shutdown executor service in time, force stopping"));
+                "failed to shutdown listener dispatchers in time, force stopping"));
     }
 
     @Test
@@ -306,6 +320,42 @@ public class SdkRootImplTest extends TimeLimitedTestBase {
         appender.searchLoggingEventByFormattedMessage("failed to close message receiver");
     }
 
+    @Test
+    public void openClose_OnMarketDescriptionCacheCloseExThrownTest() {
+        doAnswer(invocation -> {
+            throw new IllegalStateException("thrown on market description cache close");
+        })
+                .when(marketDescriptionCache).close();
+
+        sdkRoot.open();
+
+        assertTrue(sdkRoot.isOpen());
+
+        sdkRoot.close();
+
+        assertFalse(sdkRoot.isOpen());
+        verify(marketDescriptionCache, times(1)).close();
+        verify(channelFactoryProvider, times(1)).unregisterInstance();
+        appender.searchLoggingEventByFormattedMessage("failed to close market description cache");
+    }
+
+    @Test
+    public void openClose_OnResponseTimeoutTimerCloseExThrownTest() {
+        doThrow(new IllegalStateException("thrown on response timeout timer close"))
+                .when(responseTimeoutTimer).close();
+
+        sdkRoot.open();
+
+        assertTrue(sdkRoot.isOpen());
+
+        sdkRoot.close();
+
+        assertFalse(sdkRoot.isOpen());
+        verify(responseTimeoutTimer, times(1)).close();
+        verify(sdkLogger, times(1)).close();
+        appender.searchLoggingEventByFormattedMessage("failed to close response timeout timer");
+    }
+
     @Test
     public void openClose_OnChannelFactoryProviderUnregisterInstanceExThrownTest() {
         doAnswer(invocation -> {
@@ -326,11 +376,11 @@ public class SdkRootImplTest extends TimeLimitedTestBase {
     }
 
     @Test
-    public void openClose_OnExecutorServiceAwaitTerminationInterruptedExThrownTest() throws InterruptedException {
+    public void openClose_OnListenerDispatchersAwaitTerminationInterruptedExThrownTest() throws InterruptedException {
         doAnswer(invocation -> {
-            throw new InterruptedException("thrown on executor service await termination");
+            throw new InterruptedException("thrown on listener dispatchers await termination");
         })
-                .when(executorService).awaitTermination(anyLong(), any(TimeUnit.class));
+                .when(listenerDispatcherFactory).awaitTermination(anyLong(), any(TimeUnit.class));
 
         sdkRoot.open();
 
@@ -339,11 +389,11 @@ public class SdkRootImplTest extends TimeLimitedTestBase {
         sdkRoot.close();
 
         assertFalse(sdkRoot.isOpen());
-        verify(executorService, times(1)).shutdown();
-        verify(executorService, times(1)).awaitTermination(anyLong(), any(TimeUnit.class));
-        verify(executorService, times(1)).shutdownNow();
-        appender.searchLoggingEventByFormattedMessage("interrupted while waiting for executor service to shutdown");
-        appender.searchLoggingEventByFormattedMessage("failed to shutdown executor service in time, force stopping");
+        verify(listenerDispatcherFactory, times(1)).shutdown();
+        verify(listenerDispatcherFactory, times(1)).awaitTermination(anyLong(), any(TimeUnit.class));
+        verify(listenerDispatcherFactory, times(1)).shutdownNow();
+        appender.searchLoggingEventByFormattedMessage("interrupted while waiting for listener dispatchers to shutdown");
+        appender.searchLoggingEventByFormattedMessage("failed to shutdown listener dispatchers in time, force stopping");
     }
 
     @Test
@@ -375,10 +425,10 @@ public class SdkRootImplTest extends TimeLimitedTestBase {
                 ticketAmqpMessageReceiver,
                 ticketCancelAmqpMessageReceiver,
                 channelFactoryProvider,
-                executorService,
+                listenerDispatcherFactory,
                 sdkLogger);
 
-        when(executorService.awaitTermination(anyLong(), any(TimeUnit.class))).thenReturn(true);
+        when(listenerDispatcherFactory.awaitTermination(anyLong(), any(TimeUnit.class))).thenReturn(true);
 
         sdkRoot.close();
 
@@ -389,8 +439,8 @@ public class SdkRootImplTest extends TimeLimitedTestBase {
         inOrder.verify(ticketAmqpMessageReceiver, times(1)).close();
         inOrder.verify(ticketCancelAmqpMessageReceiver, times(1)).close();
         inOrder.verify(channelFactoryProvider, times(1)).unregisterInstance();
-        inOrder.verify(executorService, times(1)).shutdown();
-        inOrder.verify(executorService, times(1)).awaitTermination(anyLong(), any(TimeUnit.class));
+        inOrder.verify(listenerDispatcherFactory, times(1)).shutdown();
+        inOrder.verify(listenerDispatcherFactory, times(1)).awaitTermination(anyLong(), any(TimeUnit.class));
         inOrder.verify(sdkLogger, times(1)).close();
         verifyNoMoreInteractions(
                 ticketHandler,
@@ -400,11 +450,11 @@ public class SdkRootImplTest extends TimeLimitedTestBase {
                 ticketAmqpMessageReceiver,
                 ticketCancelAmqpMessageReceiver,
                 channelFactoryProvider,
-                executorService,
+                listenerDispatcherFactory,
                 sdkLogger);
         assertFalse(sdkRoot.isOpen());
         assertFalse(appender.searchLoggingEventByFormattedMessage(
-                "failed to shutdown executor service in time, force stopping"));
+                "failed to shutdown listener dispatchers in time, force stopping"));
     }
 
     @Test
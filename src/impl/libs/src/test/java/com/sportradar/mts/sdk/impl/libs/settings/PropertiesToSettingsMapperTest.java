@@ -4,6 +4,7 @@
 
 package com.sportradar.mts.sdk.impl.libs.settings;
 
+import com.sportradar.mts.sdk.api.enums.SendBufferOverflowPolicy;
 import com.sportradar.mts.sdk.api.enums.SenderChannel;
 import com.sportradar.mts.sdk.api.interfaces.SdkConfiguration;
 import com.sportradar.mts.sdk.api.settings.PropertiesToSettingsMapper;
@@ -13,9 +14,12 @@ import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.time.Duration;
 import java.util.Properties;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 /**
  * @author andrej.resnik on 20/06/16 at 14:29
@@ -179,6 +183,55 @@ public class PropertiesToSettingsMapperTest extends TimeLimitedTestBase {
         Assert.assertEquals(SenderChannel.INTERNET, config.getSenderChannel());
     }
 
+    @Test
+    public void getSettings_TicketProducerDefaultsTest() {
+        retrieveMtsSdkSettings();
+        assertEquals(1, config.getTicketProducerChannels());
+        assertEquals(64, config.getTicketProducerBufferSize());
+    }
+
+    @Test
+    public void getSettings_TicketProducerCorrectTest() {
+        properties.setProperty(SettingsKeys.TICKET_PRODUCER_CHANNELS, "4");
+        properties.setProperty(SettingsKeys.TICKET_PRODUCER_BUFFER_SIZE, "1024");
+        retrieveMtsSdkSettings();
+        assertEquals(4, config.getTicketProducerChannels());
+        assertEquals(1024, config.getTicketProducerBufferSize());
+    }
+
+    @Test
+    public void getSettings_TicketProducerOverflowPolicyTest() {
+        assertEquals(SendBufferOverflowPolicy.REJECT, PropertiesToSettingsMapper.getSettings(properties).getTicketProducerOverflowPolicy());
+
+        properties.setProperty(SettingsKeys.TICKET_PRODUCER_OVERFLOW_POLICY, "BLOCK");
+        properties.setProperty(SettingsKeys.TICKET_PRODUCER_BLOCK_TIMEOUT, "PT0.5S");
+        retrieveMtsSdkSettings();
+        assertEquals(SendBufferOverflowPolicy.BLOCK, config.getTicketProducerOverflowPolicy());
+        assertEquals(Duration.ofMillis(500), config.getTicketProducerBlockTimeout());
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void getSettings_TicketProducerChannelsZeroTest() {
+        properties.setProperty(SettingsKeys.TICKET_PRODUCER_CHANNELS, "0");
+        retrieveMtsSdkSettings();
+    }
+
+    @Test
+    public void getSettings_ListenerDispatcherTest() {
+        retrieveMtsSdkSettings();
+        assertEquals(1, config.getListenerDispatcherThreads());
+        assertTrue(config.isListenerTicketOrderingEnabled());
+        assertFalse(config.isListenerVirtualThreadsEnabled());
+
+        properties.setProperty(SettingsKeys.LISTENER_DISPATCHER_THREADS, "8");
+        properties.setProperty(SettingsKeys.LISTENER_TICKET_ORDERING_ENABLED, "false");
+        properties.setProperty(SettingsKeys.LISTENER_VIRTUAL_THREADS_ENABLED, "true");
+        retrieveMtsSdkSettings();
+        assertEquals(8, config.getListenerDispatcherThreads());
+        assertFalse(config.isListenerTicketOrderingEnabled());
+        assertTrue(config.isListenerVirtualThreadsEnabled());
+    }
+
     private void setPropertiesToValidTestValues() {
         properties = new Properties();
         properties.setProperty(SettingsKeys.NODE_ID, nodeId);
@@ -0,0 +1,125 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.impl.libs.threading;
+
+import com.sportradar.mts.sdk.impl.libs.TimeLimitedTestBase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public class ListenerDispatcherTest extends TimeLimitedTestBase {
+
+    private ListenerDispatcherFactory factory;
+
+    @Before
+    public void setUp() {
+        factory = new ListenerDispatcherFactory(4, true, false);
+    }
+
+    @After
+    public void tearDown() throws InterruptedException {
+        factory.shutdownNow();
+        factory.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void tasksWithSameKeyRunInOrderTest() throws InterruptedException {
+        ListenerDispatcher dispatcher = factory.create("test");
+        List<Integer> executed = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(1000);
+
+        for (int i = 0; i < 1000; i++) {
+            final int value = i;
+            dispatcher.execute("ticket", () -> {
+                executed.add(value);
+                done.countDown();
+            });
+        }
+
+        assertThat(done.await(5, TimeUnit.SECONDS), is(true));
+        for (int i = 0; i < 1000; i++) {
+            assertThat(executed.get(i), is(i));
+        }
+    }
+
+    @Test
+    public void slowListenerDoesNotBlockOtherHandlerTest() throws InterruptedException {
+        ListenerDispatcher slow = factory.create("slow");
+        ListenerDispatcher fast = factory.create("fast");
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch executed = new CountDownLatch(1);
+
+        for (int i = 0; i < 8; i++) {
+            slow.execute("ticket" + i, () -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        fast.execute("ticket", executed::countDown);
+
+        assertThat(executed.await(5, TimeUnit.SECONDS), is(true));
+        release.countDown();
+    }
+
+    @Test
+    public void failingTaskDoesNotStopLaneTest() throws InterruptedException {
+        ListenerDispatcher dispatcher = factory.create("test");
+        CountDownLatch executed = new CountDownLatch(1);
+
+        dispatcher.execute("ticket", () -> {
+            throw new IllegalStateException("listener failure");
+        });
+        dispatcher.execute("ticket", executed::countDown);
+
+        assertThat(executed.await(5, TimeUnit.SECONDS), is(true));
+    }
+
+    @Test
+    public void shutdownRunsAcceptedTasksTest() throws InterruptedException {
+        ListenerDispatcher dispatcher = factory.create("test");
+        CountDownLatch executed = new CountDownLatch(100);
+
+        for (int i = 0; i < 100; i++) {
+            dispatcher.execute("ticket" + (i % 3), executed::countDown);
+        }
+        factory.shutdown();
+
+        assertThat(factory.awaitTermination(5, TimeUnit.SECONDS), is(true));
+        assertThat(executed.getCount(), is(0L));
+    }
+
+    @Test(expected = RejectedExecutionException.class)
+    public void executeAfterShutdownIsRejectedTest() {
+        ListenerDispatcher dispatcher = factory.create("test");
+        factory.shutdown();
+
+        dispatcher.execute("ticket", () -> { });
+    }
+
+    @Test
+    public void dispatchFallsBackToSubmitTest() {
+        ExecutorService executor = mock(ExecutorService.class);
+        Runnable task = () -> { };
+
+        ListenerDispatcher.dispatch(executor, "ticket", task);
+
+        verify(executor).submit(task);
+    }
+}
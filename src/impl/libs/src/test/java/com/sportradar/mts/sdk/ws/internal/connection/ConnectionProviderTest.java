@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.ws.internal.connection;
+
+import com.sportradar.mts.sdk.impl.libs.TimeLimitedTestBase;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ConnectionProviderTest extends TimeLimitedTestBase {
+
+    private static WebSocketConnection connection(boolean available, int pendingCount) {
+        WebSocketConnection connection = mock(WebSocketConnection.class);
+        when(connection.isAvailable()).thenReturn(available);
+        when(connection.getPendingCount()).thenReturn(pendingCount);
+        return connection;
+    }
+
+    @Test
+    public void selectSingleConnectionTest() {
+        WebSocketConnection connection = connection(false, 10);
+
+        assertThat(ConnectionProvider.select(new WebSocketConnection[]{connection}), sameInstance(connection));
+    }
+
+    @Test
+    public void selectLessLoadedConnectionTest() {
+        WebSocketConnection busy = connection(true, 10);
+        WebSocketConnection idle = connection(true, 1);
+        WebSocketConnection[] connections = {busy, idle};
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(ConnectionProvider.select(connections), sameInstance(idle));
+        }
+    }
+
+    @Test
+    public void selectSkipsUnavailableConnectionsTest() {
+        WebSocketConnection refreshing = connection(false, 0);
+        WebSocketConnection closed = connection(false, 0);
+        WebSocketConnection available = connection(true, 50);
+        WebSocketConnection[] connections = {refreshing, closed, available};
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(ConnectionProvider.select(connections), sameInstance(available));
+        }
+    }
+
+    @Test
+    public void selectLeastLoadedWhenNoneAvailableTest() {
+        WebSocketConnection busy = connection(false, 10);
+        WebSocketConnection idle = connection(false, 2);
+        WebSocketConnection busier = connection(false, 20);
+        WebSocketConnection[] connections = {busy, idle, busier};
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(ConnectionProvider.select(connections), sameInstance(idle));
+        }
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.ws.internal.connection;
+
+import com.sportradar.mts.sdk.api.interfaces.SdkConfiguration;
+import com.sportradar.mts.sdk.impl.libs.TimeLimitedTestBase;
+import com.sportradar.mts.sdk.ws.exceptions.AuthTokenFailureException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class TokenProviderTest extends TimeLimitedTestBase {
+
+    private SdkConfiguration config;
+    private TestTokenProvider tokenProvider;
+
+    @Before
+    public void setUp() {
+        config = mock(SdkConfiguration.class);
+        when(config.getAuthRequestTimeout()).thenReturn(Duration.ofSeconds(1));
+        when(config.getAuthRetryDelay()).thenReturn(Duration.ofMillis(10));
+        when(config.getAuthTokenRefreshPercentage()).thenReturn(10);
+    }
+
+    @After
+    public void tearDown() {
+        if (tokenProvider != null) {
+            tokenProvider.close();
+        }
+    }
+
+    private static AuthResponse authResponse(String token, int expiresIn) {
+        AuthResponse response = new AuthResponse();
+        response.setAccessToken(token);
+        response.setExpiresIn(expiresIn);
+        return response;
+    }
+
+    @Test
+    public void tokenIsFetchedOnceWhileValidTest() {
+        tokenProvider = new TestTokenProvider(config, 3600);
+
+        assertThat(tokenProvider.getToken(), is("token-1"));
+        assertThat(tokenProvider.getToken(), is("token-1"));
+        assertThat(tokenProvider.fetchCount.get(), is(1));
+    }
+
+    @Test
+    public void concurrentRequestsAreCoalescedTest() throws Exception {
+        tokenProvider = new TestTokenProvider(config, 3600);
+        tokenProvider.release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<?>[] futures = new Future<?>[4];
+            for (int i = 0; i < futures.length; i++) {
+                futures[i] = executor.submit(tokenProvider::getToken);
+            }
+            Thread.sleep(50);
+            tokenProvider.release.countDown();
+            for (Future<?> future : futures) {
+                assertThat(future.get(5, TimeUnit.SECONDS), is("token-1"));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(tokenProvider.fetchCount.get(), is(1));
+    }
+
+    @Test
+    public void tokenIsRefreshedAheadOfExpiryTest() throws InterruptedException {
+        tokenProvider = new TestTokenProvider(config, 3);
+
+        assertThat(tokenProvider.getToken(), is("token-1"));
+        while (tokenProvider.fetchCount.get() < 2) {
+            Thread.sleep(10);
+        }
+        while (!"token-2".equals(tokenProvider.getToken())) {
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    public void authErrorIsReportedTest() {
+        tokenProvider = new TestTokenProvider(config, 3600) {
+            @Override
+            AuthResponse fetchAuthResponse() {
+                fetchCount.incrementAndGet();
+                AuthResponse response = new AuthResponse();
+                response.setError("invalid_client");
+                return response;
+            }
+        };
+
+        try {
+            tokenProvider.getToken();
+            fail("the auth error should be reported");
+        } catch (AuthTokenFailureException ex) {
+            assertThat(ex.getMessage(), is("Auth error: invalid_client"));
+        }
+        assertThat(tokenProvider.fetchCount.get(), is(10));
+    }
+
+    @Test
+    public void closeFailsWaitingRequestTest() throws Exception {
+        CountDownLatch fetching = new CountDownLatch(1);
+        CountDownLatch unblock = new CountDownLatch(1);
+        tokenProvider = new TestTokenProvider(config, 3600) {
+            @Override
+            AuthResponse fetchAuthResponse() {
+                fetching.countDown();
+                // the fetch does not react to the interruption, the waiting request must not depend on it
+                boolean interrupted = false;
+                while (unblock.getCount() > 0) {
+                    try {
+                        unblock.await();
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                    }
+                }
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+                return authResponse("token-" + fetchCount.incrementAndGet(), 3600);
+            }
+        };
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> token = executor.submit(tokenProvider::getToken);
+            fetching.await();
+
+            tokenProvider.close();
+
+            try {
+                token.get(5, TimeUnit.SECONDS);
+                fail("the waiting request should fail once the provider is closed");
+            } catch (ExecutionException ex) {
+                assertThat(ex.getCause() instanceof AuthTokenFailureException, is(true));
+            }
+        } finally {
+            unblock.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    private static class TestTokenProvider extends TokenProvider {
+
+        final AtomicInteger fetchCount = new AtomicInteger();
+        private final int expiresIn;
+        volatile CountDownLatch release;
+
+        TestTokenProvider(SdkConfiguration config, int expiresIn) {
+            super(config);
+            this.expiresIn = expiresIn;
+        }
+
+        @Override
+        AuthResponse fetchAuthResponse() {
+            CountDownLatch latch = release;
+            if (latch != null) {
+                try {
+                    latch.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return authResponse("token-" + fetchCount.incrementAndGet(), expiresIn);
+        }
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.ws.internal.connection;
+
+import com.sportradar.mts.sdk.api.interfaces.SdkConfiguration;
+import com.sportradar.mts.sdk.impl.libs.TimeLimitedTestBase;
+import com.sportradar.mts.sdk.ws.exceptions.ProtocolMessageTooBigException;
+import com.sportradar.mts.sdk.ws.exceptions.ProtocolReceiveBufferFullException;
+import com.sportradar.mts.sdk.ws.exceptions.SdkException;
+import com.sportradar.mts.sdk.ws.internal.connection.msg.SendWsInputMessage;
+import com.sportradar.mts.sdk.ws.internal.connection.msg.WsOutputRing;
+import com.sportradar.mts.sdk.ws.internal.connection.msg.base.WsInputMessage;
+import org.java_websocket.WebSocket;
+import org.java_websocket.drafts.Draft_6455;
+import org.java_websocket.extensions.permessage_deflate.PerMessageDeflateExtension;
+import org.java_websocket.handshake.ClientHandshake;
+import org.java_websocket.server.WebSocketServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class WebSocketConnectionTest extends TimeLimitedTestBase {
+
+    private TestServer server;
+    private WebSocketConnection connection;
+    private WsOutputRing receiveRing;
+    private final BlockingQueue<Object> received = new LinkedBlockingQueue<>();
+    private final BlockingQueue<Exception> unhandled = new LinkedBlockingQueue<>();
+
+    @Before
+    public void setUp() throws InterruptedException {
+        server = new TestServer();
+        server.start();
+        server.started.await(5, TimeUnit.SECONDS);
+        receiveRing = new WsOutputRing(16);
+    }
+
+    @After
+    public void tearDown() throws InterruptedException {
+        if (connection != null) {
+            connection.close();
+        }
+        server.stop(1000);
+    }
+
+    private void connect(boolean compressionEnabled) {
+        SdkConfiguration config = mock(SdkConfiguration.class);
+        when(config.getWsServer()).thenReturn(URI.create("ws://localhost:" + server.getPort()));
+        when(config.getWsReconnectTimeout()).thenReturn(Duration.ofSeconds(5));
+        when(config.getWsFetchMessageTimeout()).thenReturn(Duration.ofMillis(10));
+        when(config.getWsConsumerGraceTimeout()).thenReturn(Duration.ofSeconds(1));
+        when(config.getWsRefreshConnectionTimeout()).thenReturn(Duration.ofHours(1));
+        when(config.isWsCompressionEnabled()).thenReturn(compressionEnabled);
+        when(config.getWsCompressionThreshold()).thenReturn(1024);
+        TokenProvider tokenProvider = mock(TokenProvider.class);
+        when(tokenProvider.getToken()).thenReturn("token");
+        connection = new WebSocketConnection(config, tokenProvider, receiveRing, unhandled::add);
+        connection.connect();
+    }
+
+    private static String ticket(int size) {
+        StringBuilder json = new StringBuilder("[");
+        while (json.length() < size) {
+            json.append("{\"id\":\"sr:match:1\",\"odds\":12000,\"selectionId\":\"uof:1/sr:sport:1/1/1\"},");
+        }
+        json.setCharAt(json.length() - 1, ']');
+        return json.toString();
+    }
+
+    private Object nextOutput() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (received.isEmpty() && System.nanoTime() < deadline) {
+            if (!receiveRing.poll(new Recorder())) {
+                receiveRing.await(10, TimeUnit.MILLISECONDS);
+            }
+        }
+        return received.poll();
+    }
+
+    private SendWsInputMessage send(String content) {
+        SendWsInputMessage msg = new SendWsInputMessage("correlation-1", ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8)));
+        connection.send(msg);
+        return msg;
+    }
+
+    @Test
+    public void largeMessageIsFragmentedTest() throws InterruptedException {
+        connect(false);
+        String content = ticket(100_000);
+
+        send(content);
+
+        assertThat(nextOutput(), is("sent:correlation-1"));
+        assertThat(server.messages.poll(5, TimeUnit.SECONDS), is(content));
+    }
+
+    @Test
+    public void tooLargeMessageIsRejectedWithoutCompressionTest() throws InterruptedException {
+        connect(false);
+
+        send(ticket(200_000));
+
+        assertThat(nextOutput(), is("correlation-1:" + ProtocolMessageTooBigException.class.getSimpleName()));
+    }
+
+    @Test
+    public void compressedMessageIsDeliveredTest() throws InterruptedException {
+        connect(true);
+        String small = ticket(100);
+        String large = ticket(200_000);
+
+        send(small);
+        send(large);
+
+        assertThat(nextOutput(), is("sent:correlation-1"));
+        assertThat(nextOutput(), is("sent:correlation-1"));
+        assertThat(server.messages.poll(5, TimeUnit.SECONDS), is(small));
+        assertThat(server.messages.poll(5, TimeUnit.SECONDS), is(large));
+    }
+
+    @Test
+    public void eventIsFailedWhenReceiveRingStaysFullTest() throws InterruptedException {
+        receiveRing = new WsOutputRing(2, 20, TimeUnit.MILLISECONDS);
+        receiveRing.publishReceived("{}");
+        receiveRing.publishReceived("{}");
+        connect(false);
+
+        send(ticket(100));
+
+        assertThat(unhandled.poll(5, TimeUnit.SECONDS) instanceof ProtocolReceiveBufferFullException, is(true));
+    }
+
+    @Test
+    public void closeReturnsWhileReceiveRingIsFullTest() throws InterruptedException {
+        receiveRing = new WsOutputRing(2, 1, TimeUnit.HOURS);
+        receiveRing.publishReceived("{}");
+        receiveRing.publishReceived("{}");
+        connect(false);
+        send(ticket(100));
+        assertThat(server.messages.poll(5, TimeUnit.SECONDS) != null, is(true));
+
+        Thread closer = new Thread(connection::close);
+        closer.start();
+        closer.join(5000);
+        connection = null;
+
+        assertThat(closer.isAlive(), is(false));
+    }
+
+    private static class TestServer extends WebSocketServer {
+
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final BlockingQueue<String> messages = new LinkedBlockingQueue<>();
+
+        TestServer() {
+            super(new InetSocketAddress("localhost", 0), Collections.singletonList(new Draft_6455(new PerMessageDeflateExtension())));
+        }
+
+        @Override
+        public void onOpen(WebSocket conn, ClientHandshake handshake) {
+        }
+
+        @Override
+        public void onClose(WebSocket conn, int code, String reason, boolean remote) {
+        }
+
+        @Override
+        public void onMessage(WebSocket conn, String message) {
+            messages.add(message);
+        }
+
+        @Override
+        public void onError(WebSocket conn, Exception ex) {
+        }
+
+        @Override
+        public void onStart() {
+            started.countDown();
+        }
+    }
+
+    private class Recorder implements WsOutputRing.Handler {
+
+        @Override
+        public void onReceived(String content) {
+            received.add("received:" + content);
+        }
+
+        @Override
+        public void onSent(WsInputMessage message) {
+            received.add("sent:" + message.getCorrelationId());
+        }
+
+        @Override
+        public void onNotProcessed(WsInputMessage message) {
+            received.add("notProcessed:" + message.getCorrelationId());
+        }
+
+        @Override
+        public void onException(WsInputMessage message, SdkException exception) {
+            received.add(message == null ? exception : message.getCorrelationId() + ":" + exception.getClass().getSimpleName());
+        }
+    }
+}
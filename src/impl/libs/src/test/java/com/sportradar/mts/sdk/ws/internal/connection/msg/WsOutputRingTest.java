@@ -0,0 +1,264 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.ws.internal.connection.msg;
+
+import com.sportradar.mts.sdk.impl.libs.TimeLimitedTestBase;
+import com.sportradar.mts.sdk.ws.exceptions.ProtocolReceiveBufferFullException;
+import com.sportradar.mts.sdk.ws.exceptions.SdkException;
+import com.sportradar.mts.sdk.ws.exceptions.WebSocketConnectionException;
+import com.sportradar.mts.sdk.ws.internal.connection.msg.base.WsInputMessage;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class WsOutputRingTest extends TimeLimitedTestBase {
+
+    private static WsInputMessage message(String correlationId) {
+        return new SendWsInputMessage(correlationId, ByteBuffer.allocate(0));
+    }
+
+    @Test
+    public void capacityIsRoundedUpToPowerOfTwoTest() {
+        assertThat(new WsOutputRing(1000).getCapacity(), is(1024));
+        assertThat(new WsOutputRing(1024).getCapacity(), is(1024));
+        assertThat(new WsOutputRing(1).getCapacity(), is(2));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void zeroCapacityIsRejectedTest() {
+        new WsOutputRing(0);
+    }
+
+    @Test
+    public void eventsAreDispatchedInOrderByTypeTest() {
+        WsOutputRing ring = new WsOutputRing(8);
+        Recorder recorder = new Recorder();
+        SdkException exception = new WebSocketConnectionException("closed");
+
+        ring.publishReceived("{}");
+        ring.publishSent(message("c-1"));
+        ring.publishNotProcessed(message("c-2"));
+        ring.publishException(message("c-3"), exception);
+        ring.publishException(null, exception);
+
+        while (ring.poll(recorder)) {
+            // drain
+        }
+
+        assertThat(recorder.events.toString(),
+                is("[received:{}, sent:c-1, notProcessed:c-2, exception:c-3:closed, exception:null:closed]"));
+        assertThat(ring.isEmpty(), is(true));
+    }
+
+    @Test
+    public void pollOnEmptyRingReturnsFalseTest() {
+        WsOutputRing ring = new WsOutputRing(4);
+
+        assertThat(ring.poll(new Recorder()), is(false));
+        assertThat(ring.isEmpty(), is(true));
+    }
+
+    @Test
+    public void slotsAreReusedAfterWrapTest() {
+        WsOutputRing ring = new WsOutputRing(2);
+        Recorder recorder = new Recorder();
+
+        for (int i = 0; i < 10; i++) {
+            ring.publishSent(message("c-" + i));
+            assertThat(ring.poll(recorder), is(true));
+        }
+
+        assertThat(recorder.events.size(), is(10));
+        assertThat(recorder.events.get(9), is("sent:c-9"));
+    }
+
+    @Test
+    public void producerWaitsWhileRingIsFullTest() throws InterruptedException {
+        WsOutputRing ring = new WsOutputRing(2, 10, TimeUnit.SECONDS);
+        ring.publishSent(message("c-1"));
+        ring.publishSent(message("c-2"));
+        AtomicBoolean published = new AtomicBoolean();
+        Thread producer = new Thread(() -> {
+            ring.publishSent(message("c-3"));
+            published.set(true);
+        });
+        producer.start();
+
+        Thread.sleep(50);
+        assertThat(published.get(), is(false));
+
+        Recorder recorder = new Recorder();
+        assertThat(ring.poll(recorder), is(true));
+        producer.join();
+
+        assertThat(published.get(), is(true));
+        while (ring.poll(recorder)) {
+            // drain
+        }
+        assertThat(recorder.events.toString(), is("[sent:c-1, sent:c-2, sent:c-3]"));
+    }
+
+    @Test
+    public void closeReleasesBlockedProducerTest() throws InterruptedException {
+        WsOutputRing ring = new WsOutputRing(1, 10, TimeUnit.SECONDS);
+        ring.publishSent(message("c-1"));
+        ring.publishSent(message("c-2"));
+        Thread producer = new Thread(() -> ring.publishSent(message("c-3")));
+        producer.start();
+
+        ring.close();
+        producer.join();
+
+        Recorder recorder = new Recorder();
+        while (ring.poll(recorder)) {
+            // drain
+        }
+        assertThat(recorder.events.toString(), is("[sent:c-1, sent:c-2]"));
+    }
+
+    @Test
+    public void publishFailsWhenRingStaysFullTest() {
+        WsOutputRing ring = new WsOutputRing(2, 20, TimeUnit.MILLISECONDS);
+        ring.publishSent(message("c-1"));
+        ring.publishSent(message("c-2"));
+
+        thrown.expect(ProtocolReceiveBufferFullException.class);
+        ring.publishSent(message("c-3"));
+    }
+
+    @Test
+    public void interruptReleasesBlockedProducerTest() throws InterruptedException {
+        WsOutputRing ring = new WsOutputRing(2, 1, TimeUnit.HOURS);
+        ring.publishSent(message("c-1"));
+        ring.publishSent(message("c-2"));
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        Thread producer = new Thread(() -> {
+            try {
+                ring.publishSent(message("c-3"));
+            } catch (Exception e) {
+                failure.set(e);
+            }
+        });
+        producer.start();
+
+        Thread.sleep(50);
+        producer.interrupt();
+        producer.join(5000);
+
+        assertThat(producer.isAlive(), is(false));
+        assertThat(failure.get() instanceof ProtocolReceiveBufferFullException, is(true));
+    }
+
+    @Test
+    public void awaitingConsumerIsWokenByPublishTest() throws InterruptedException {
+        WsOutputRing ring = new WsOutputRing(4);
+        CountDownLatch waiting = new CountDownLatch(1);
+        long[] waitedMillis = new long[1];
+        Thread consumer = new Thread(() -> {
+            long start = System.nanoTime();
+            waiting.countDown();
+            try {
+                ring.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException ignored) {
+            }
+            waitedMillis[0] = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        });
+        consumer.start();
+        waiting.await();
+        Thread.sleep(50);
+
+        ring.publishReceived("{}");
+        consumer.join();
+
+        assertThat(waitedMillis[0] < 5000, is(true));
+    }
+
+    @Test
+    public void concurrentProducersAndConsumersDeliverEveryEventOnceTest() throws InterruptedException {
+        WsOutputRing ring = new WsOutputRing(64, 10, TimeUnit.SECONDS);
+        int producers = 4;
+        int consumers = 3;
+        int perProducer = 20_000;
+        Set<String> delivered = ConcurrentHashMap.newKeySet();
+        AtomicBoolean duplicate = new AtomicBoolean();
+        CountDownLatch done = new CountDownLatch(producers * perProducer);
+        WsOutputRing.Handler handler = new Recorder() {
+            @Override
+            public void onReceived(String content) {
+                if (!delivered.add(content)) {
+                    duplicate.set(true);
+                }
+                done.countDown();
+            }
+        };
+
+        List<Thread> threads = new ArrayList<>();
+        for (int c = 0; c < consumers; c++) {
+            threads.add(new Thread(() -> {
+                while (done.getCount() > 0) {
+                    if (!ring.poll(handler)) {
+                        try {
+                            ring.await(1, TimeUnit.MILLISECONDS);
+                        } catch (InterruptedException e) {
+                            return;
+                        }
+                    }
+                }
+            }));
+        }
+        for (int p = 0; p < producers; p++) {
+            final int producer = p;
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    ring.publishReceived(producer + ":" + i);
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+
+        assertThat(done.await(20, TimeUnit.SECONDS), is(true));
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertThat(delivered.size(), is(producers * perProducer));
+        assertThat(duplicate.get(), is(false));
+    }
+
+    private static class Recorder implements WsOutputRing.Handler {
+
+        final List<String> events = new ArrayList<>();
+
+        @Override
+        public void onReceived(String content) {
+            events.add("received:" + content);
+        }
+
+        @Override
+        public void onSent(WsInputMessage message) {
+            events.add("sent:" + message.getCorrelationId());
+        }
+
+        @Override
+        public void onNotProcessed(WsInputMessage message) {
+            events.add("notProcessed:" + message.getCorrelationId());
+        }
+
+        @Override
+        public void onException(WsInputMessage message, SdkException exception) {
+            events.add("exception:" + (message == null ? null : message.getCorrelationId()) + ":" + exception.getMessage());
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.ws.internal.utils;
+
+import com.sportradar.mts.sdk.impl.libs.LoggerTestAppender;
+import com.sportradar.mts.sdk.impl.libs.TimeLimitedTestBase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+
+public class WheelTimerTest extends TimeLimitedTestBase {
+
+    private WheelTimer timer;
+
+    @Before
+    public void setUp() {
+        timer = new WheelTimer("test-timer", 1, TimeUnit.MILLISECONDS, 8);
+    }
+
+    @After
+    public void tearDown() {
+        timer.close();
+    }
+
+    @Test
+    public void timeoutExpiresAfterDelayTest() throws InterruptedException {
+        CountDownLatch expired = new CountDownLatch(1);
+        long start = System.nanoTime();
+
+        WheelTimer.Timeout timeout = timer.schedule(expired::countDown, 50, TimeUnit.MILLISECONDS);
+
+        assertThat(expired.await(5, TimeUnit.SECONDS), is(true));
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), greaterThanOrEqualTo(50L));
+        assertThat(timeout.isExpired(), is(true));
+        assertThat(timer.getPendingCount(), is(0));
+    }
+
+    @Test
+    public void cancelledTimeoutDoesNotExpireTest() throws InterruptedException {
+        AtomicBoolean cancelledRan = new AtomicBoolean();
+        CountDownLatch expired = new CountDownLatch(1);
+
+        WheelTimer.Timeout timeout = timer.schedule(() -> cancelledRan.set(true), 20, TimeUnit.MILLISECONDS);
+        timer.schedule(expired::countDown, 60, TimeUnit.MILLISECONDS);
+
+        assertThat(timeout.cancel(), is(true));
+        assertThat(timeout.cancel(), is(false));
+        assertThat(timer.getPendingCount(), is(1));
+        assertThat(expired.await(5, TimeUnit.SECONDS), is(true));
+        assertThat(cancelledRan.get(), is(false));
+        assertThat(timeout.isCancelled(), is(true));
+    }
+
+    @Test
+    public void timeoutsLongerThanWheelExpireInOrderTest() throws InterruptedException {
+        List<Integer> order = new CopyOnWriteArrayList<>();
+        CountDownLatch expired = new CountDownLatch(3);
+
+        timer.schedule(() -> { order.add(3); expired.countDown(); }, 40, TimeUnit.MILLISECONDS);
+        timer.schedule(() -> { order.add(1); expired.countDown(); }, 5, TimeUnit.MILLISECONDS);
+        timer.schedule(() -> { order.add(2); expired.countDown(); }, 20, TimeUnit.MILLISECONDS);
+
+        assertThat(expired.await(5, TimeUnit.SECONDS), is(true));
+        assertThat(order.toString(), is("[1, 2, 3]"));
+    }
+
+    @Test
+    public void failingTaskDoesNotStopTimerTest() throws InterruptedException {
+        LoggerTestAppender appender = new LoggerTestAppender(WheelTimer.class);
+        CountDownLatch expired = new CountDownLatch(1);
+
+        timer.schedule(() -> { throw new IllegalStateException("failed"); }, 5, TimeUnit.MILLISECONDS);
+        timer.schedule(expired::countDown, 20, TimeUnit.MILLISECONDS);
+
+        assertThat(expired.await(5, TimeUnit.SECONDS), is(true));
+        assertThat(appender.searchLoggingEventByFormattedMessage("timer test-timer failed to run the expired task"), is(true));
+    }
+
+    @Test
+    public void timerRestartsAfterIdleTest() throws InterruptedException {
+        CountDownLatch first = new CountDownLatch(1);
+        timer.schedule(first::countDown, 1, TimeUnit.MILLISECONDS);
+        assertThat(first.await(5, TimeUnit.SECONDS), is(true));
+
+        // let the worker stop
+        Thread.sleep(1500);
+
+        CountDownLatch second = new CountDownLatch(1);
+        timer.schedule(second::countDown, 10, TimeUnit.MILLISECONDS);
+        assertThat(second.await(5, TimeUnit.SECONDS), is(true));
+    }
+
+    @Test
+    public void closedTimerDoesNotExpireTimeoutsTest() throws InterruptedException {
+        AtomicBoolean ran = new AtomicBoolean();
+        timer.schedule(() -> ran.set(true), 20, TimeUnit.MILLISECONDS);
+
+        timer.close();
+        WheelTimer.Timeout timeout = timer.schedule(() -> ran.set(true), 1, TimeUnit.MILLISECONDS);
+        Thread.sleep(100);
+
+        assertThat(ran.get(), is(false));
+        assertThat(timeout.isCancelled(), is(true));
+    }
+}
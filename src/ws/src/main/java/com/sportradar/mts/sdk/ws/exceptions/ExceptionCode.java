@@ -14,4 +14,5 @@ public class ExceptionCode {
     public static final int ProtocolSendFailed = 7;
     public static final int ProtocolInvalidResponse = 8;
     public static final int ProtocolInvalidRequest = 9;
+    public static final int ProtocolReceiveBufferFull = 10;
 }
@@ -0,0 +1,15 @@
+package com.sportradar.mts.sdk.ws.exceptions;
+
+/**
+ * Represents an exception that is thrown when the received events can not be handed over to the protocol because
+ * its receive buffer stays full.
+ */
+public class ProtocolReceiveBufferFullException extends SdkException {
+
+    /**
+     * Initializes a new instance of the {@code ProtocolReceiveBufferFullException} class.
+     */
+    public ProtocolReceiveBufferFullException() {
+        super(ExceptionCode.ProtocolReceiveBufferFull, "Receive buffer is full.", null);
+    }
+}
@@ -3,12 +3,18 @@ package com.sportradar.mts.sdk.ws.internal.connection;
 import com.sportradar.mts.sdk.api.impl.ConnectionStatusImpl;
 import com.sportradar.mts.sdk.api.interfaces.ConnectionStatus;
 import com.sportradar.mts.sdk.api.interfaces.SdkConfiguration;
+import com.sportradar.mts.sdk.ws.internal.connection.msg.WsOutputRing;
 import com.sportradar.mts.sdk.ws.internal.connection.msg.base.WsInputMessage;
-import com.sportradar.mts.sdk.ws.internal.connection.msg.base.WsOutputMessage;
 import com.sportradar.mts.sdk.ws.internal.utils.ExcSuppress;
 
-import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
 
+/**
+ * Pool of the WebSocket connections, every connection sends the messages of its own queue. A message is routed to
+ * the less loaded of two randomly chosen connections (power of two choices), connections which are refreshing or
+ * closed are skipped as long as another connection is available.
+ */
 public class ConnectionProvider implements AutoCloseable {
 
     private final TokenProvider tokenProvider;
@@ -18,14 +24,14 @@ public class ConnectionProvider implements AutoCloseable {
     public ConnectionProvider(
             final SdkConfiguration config,
             final ConnectionStatus connectionStatus,
-            final BlockingQueue<WsInputMessage> sendQueue,
-            final BlockingQueue<WsOutputMessage> receiveQueue) {
+            final WsOutputRing receiveRing,
+            final Consumer<Exception> unhandledExceptionHandler) {
         this.tokenProvider = new TokenProvider(config);
         this.connectionStatus = (ConnectionStatusImpl) connectionStatus;
         final int numOfConns = config.getWsNumberOfConnections();
         final WebSocketConnection[] conns = new WebSocketConnection[numOfConns];
         for (int i = 0; i < numOfConns; i++) {
-            conns[i] = new WebSocketConnection(config, tokenProvider, sendQueue, receiveQueue);
+            conns[i] = new WebSocketConnection(config, tokenProvider, receiveRing, unhandledExceptionHandler);
         }
         this.connections = conns;
     }
@@ -38,6 +44,39 @@ public class ConnectionProvider implements AutoCloseable {
         connectionStatus.connect("Connection established.");
     }
 
+    public void send(final WsInputMessage msg) {
+        select(connections).send(msg);
+    }
+
+    static WebSocketConnection select(final WebSocketConnection[] connections) {
+        if (connections.length == 1) {
+            return connections[0];
+        }
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final int first = random.nextInt(connections.length);
+        final int second = (first + 1 + random.nextInt(connections.length - 1)) % connections.length;
+        final WebSocketConnection result = lessLoaded(connections[first], connections[second]);
+        if (result.isAvailable()) {
+            return result;
+        }
+        return leastLoaded(connections);
+    }
+
+    private static WebSocketConnection lessLoaded(final WebSocketConnection first, final WebSocketConnection second) {
+        if (first.isAvailable() != second.isAvailable()) {
+            return first.isAvailable() ? first : second;
+        }
+        return second.getPendingCount() < first.getPendingCount() ? second : first;
+    }
+
+    private static WebSocketConnection leastLoaded(final WebSocketConnection[] connections) {
+        WebSocketConnection result = connections[0];
+        for (int i = 1; i < connections.length; i++) {
+            result = lessLoaded(result, connections[i]);
+        }
+        return result;
+    }
+
     @Override
     public void close() {
         for (final WebSocketConnection connection : connections) {
@@ -8,24 +8,46 @@ import okhttp3.*;
 
 import java.io.UnsupportedEncodingException;
 import java.net.URLEncoder;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static com.sportradar.mts.sdk.ws.internal.utils.TimeUtils.nowUtcMillis;
 import static com.sportradar.mts.sdk.ws.internal.utils.TimeUtils.sleep;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 public class TokenProvider implements AutoCloseable {
 
+    private static final int MAX_FETCH_ATTEMPTS = 10;
+
     private final SdkConfiguration config;
     private final OkHttpClient okHttpClient;
+    private final ScheduledThreadPoolExecutor executor;
+    private final AtomicReference<CompletableFuture<AccessToken>> pendingRefresh;
+    private final Object scheduleLock = new Object();
 
-    private String accessToken;
-    private long accessTokenExpiry;
+    private volatile AccessToken accessToken;
+    private volatile boolean closed = false;
+    private ScheduledFuture<?> scheduledRefresh;
 
     public TokenProvider(final SdkConfiguration config) {
         this.config = config;
         this.okHttpClient = new OkHttpClient.Builder()
                 .callTimeout(config.getAuthRequestTimeout())
                 .build();
+        final ScheduledThreadPoolExecutor refreshExecutor = new ScheduledThreadPoolExecutor(1, r -> {
+            final Thread t = new Thread(r);
+            t.setDaemon(true);
+            t.setName("SdkTokenRefreshThread");
+            return t;
+        });
+        refreshExecutor.setRemoveOnCancelPolicy(true);
+        this.executor = refreshExecutor;
+        this.pendingRefresh = new AtomicReference<>(null);
     }
 
     private static String urlEncode(final String value) {
@@ -37,57 +59,127 @@ public class TokenProvider implements AutoCloseable {
     }
 
     public void connect() {
+        refreshAsync();
     }
 
     @Override
     public void close() {
+        synchronized (this.scheduleLock) {
+            this.closed = true;
+        }
+        this.executor.shutdownNow();
+        final CompletableFuture<AccessToken> pending = this.pendingRefresh.getAndSet(null);
+        if (pending != null) {
+            pending.completeExceptionally(new AuthTokenFailureException("Token provider is closed"));
+        }
     }
 
-    public synchronized String getToken() {
+    public String getToken() {
+        final AccessToken token = this.accessToken;
+        final long now = nowUtcMillis();
+        if (token != null && now < token.expiry) {
+            if (now >= token.refreshAt) {
+                refreshAsync();
+            }
+            return token.value;
+        }
         try {
-            Exception possibleExc = null;
-            String token = null;
-            for (int i = 0; i < 10 && token == null; i++) {
-                try {
-                    token = fetchToken();
-                } catch (final Exception e) {
-                    possibleExc = e;
-                }
+            return refreshAsync().get().value;
+        } catch (final ExecutionException exc) {
+            final Throwable cause = exc.getCause();
+            if (cause instanceof SdkException) {
+                throw (SdkException) cause;
             }
+            throw new AuthTokenFailureException(cause instanceof Exception ? (Exception) cause : exc);
+        } catch (final InterruptedException exc) {
+            Thread.currentThread().interrupt();
+            throw new AuthTokenFailureException(exc);
+        }
+    }
 
-            if (token == null) {
-                throw possibleExc instanceof SdkException
-                        ? (SdkException) possibleExc
-                        : new AuthTokenFailureException(possibleExc);
+    private CompletableFuture<AccessToken> refreshAsync() {
+        while (true) {
+            final CompletableFuture<AccessToken> pending = this.pendingRefresh.get();
+            if (pending != null) {
+                return pending;
             }
-            return token;
-        } catch (final SdkException exc) {
-            throw exc;
-        } catch (final Exception exc) {
-            throw new AuthTokenFailureException(exc);
+            final CompletableFuture<AccessToken> refresh = new CompletableFuture<>();
+            if (!this.pendingRefresh.compareAndSet(null, refresh)) {
+                continue;
+            }
+            try {
+                this.executor.execute(() -> refresh(refresh));
+            } catch (final RejectedExecutionException exc) {
+                this.pendingRefresh.compareAndSet(refresh, null);
+                refresh.completeExceptionally(new AuthTokenFailureException(exc));
+            }
+            return refresh;
         }
     }
 
-    private String fetchToken() {
-        final String oldToken = readToken();
-        if (isTokenOK(oldToken)) {
-            return oldToken;
+    private void refresh(final CompletableFuture<AccessToken> refresh) {
+        try {
+            final AccessToken token = fetchToken();
+            this.accessToken = token;
+            this.pendingRefresh.compareAndSet(refresh, null);
+            refresh.complete(token);
+            final long now = nowUtcMillis();
+            if (now < token.expiry) {
+                schedule(token.refreshAt - now);
+            }
+        } catch (final Exception exc) {
+            this.pendingRefresh.compareAndSet(refresh, null);
+            refresh.completeExceptionally(exc instanceof SdkException ? exc : new AuthTokenFailureException(exc));
+            final AccessToken current = this.accessToken;
+            if (current != null && nowUtcMillis() < current.expiry) {
+                schedule(config.getAuthRetryDelay().toMillis());
+            }
         }
-        final AuthResponse auth = fetchAuthResponse();
-        final String newToken = auth.getAccessToken();
-        if (isTokenOK(newToken)) {
-            storeToken(newToken, auth.getExpiresIn() != null ? auth.getExpiresIn() : 0);
-            return newToken;
+    }
+
+    private void schedule(final long delayMillis) {
+        synchronized (this.scheduleLock) {
+            if (this.closed) {
+                return;
+            }
+            final ScheduledFuture<?> previous = this.scheduledRefresh;
+            if (previous != null) {
+                previous.cancel(false);
+            }
+            try {
+                this.scheduledRefresh = this.executor.schedule(this::refreshAsync, Math.max(0L, delayMillis), MILLISECONDS);
+            } catch (final RejectedExecutionException ignored) {
+                this.scheduledRefresh = null;
+            }
         }
-        final String authErrMsg = getAuthErrMsg(auth);
-        if (authErrMsg != null) {
-            throw new AuthTokenFailureException(authErrMsg);
+    }
+
+    private AccessToken fetchToken() {
+        Exception possibleExc = null;
+        for (int i = 0; i < MAX_FETCH_ATTEMPTS && !this.closed; i++) {
+            if (i > 0) {
+                sleep(config.getAuthRetryDelay().toMillis());
+            }
+            try {
+                final AuthResponse auth = fetchAuthResponse();
+                final String newToken = auth.getAccessToken();
+                if (isTokenOK(newToken)) {
+                    return createToken(newToken, auth.getExpiresIn() != null ? auth.getExpiresIn() : 0);
+                }
+                final String authErrMsg = getAuthErrMsg(auth);
+                if (authErrMsg != null) {
+                    throw new AuthTokenFailureException(authErrMsg);
+                }
+            } catch (final Exception e) {
+                possibleExc = e;
+            }
         }
-        sleep(config.getAuthRetryDelay().toMillis());
-        return null;
+        throw possibleExc instanceof SdkException
+                ? (SdkException) possibleExc
+                : new AuthTokenFailureException(possibleExc);
     }
 
-    private AuthResponse fetchAuthResponse() {
+    AuthResponse fetchAuthResponse() {
         try {
             final RequestBody formBody = new FormBody.Builder()
                     .add("grant_type", "client_credentials")
@@ -107,19 +199,20 @@ public class TokenProvider implements AutoCloseable {
                 }
                 return Json.deserializeAuthResponse(response.body().string());
             }
+        } catch (final SdkException exc) {
+            throw exc;
         } catch (final Exception exc) {
             throw new AuthTokenFailureException(exc);
         }
     }
 
-    private String readToken() {
-        final String token = accessToken;
-        if (!isTokenOK(token)) {
-            return null;
-        }
-
+    private AccessToken createToken(final String token, final int expiresIn) {
         final long now = nowUtcMillis();
-        return now > accessTokenExpiry ? null : token;
+        if (expiresIn <= 1) {
+            return new AccessToken(token, now, now);
+        }
+        final long lifetime = TimeUnit.SECONDS.toMillis(expiresIn - 1);
+        return new AccessToken(token, now + lifetime, now + lifetime * config.getAuthTokenRefreshPercentage() / 100);
     }
 
     private boolean isTokenOK(final String token) {
@@ -142,13 +235,6 @@ public class TokenProvider implements AutoCloseable {
         return result.toString();
     }
 
-    private void storeToken(final String token, final int expiresIn) {
-        if (expiresIn > 1) {
-            accessTokenExpiry = nowUtcMillis() + TimeUnit.SECONDS.toMillis(expiresIn - 1);
-            accessToken = token;
-        }
-    }
-
     private boolean isNotNullOrEmpty(final String input) {
         return !isNullOrEmpty(input);
     }
@@ -156,4 +242,17 @@ public class TokenProvider implements AutoCloseable {
     private boolean isNullOrEmpty(final String input) {
         return input == null || input.trim().length() == 0;
     }
+
+    private static final class AccessToken {
+
+        private final String value;
+        private final long expiry;
+        private final long refreshAt;
+
+        private AccessToken(final String value, final long expiry, final long refreshAt) {
+            this.value = value;
+            this.expiry = expiry;
+            this.refreshAt = refreshAt;
+        }
+    }
 }
@@ -1,22 +1,29 @@
 package com.sportradar.mts.sdk.ws.internal.connection;
 
 import com.sportradar.mts.sdk.api.interfaces.SdkConfiguration;
+import com.sportradar.mts.sdk.ws.exceptions.ProtocolMessageTooBigException;
+import com.sportradar.mts.sdk.ws.exceptions.ProtocolReceiveBufferFullException;
 import com.sportradar.mts.sdk.ws.exceptions.SdkException;
 import com.sportradar.mts.sdk.ws.exceptions.WebSocketConnectionException;
 import com.sportradar.mts.sdk.ws.internal.connection.msg.*;
 import com.sportradar.mts.sdk.ws.internal.connection.msg.base.WsInputMessage;
-import com.sportradar.mts.sdk.ws.internal.connection.msg.base.WsOutputMessage;
 import org.java_websocket.client.WebSocketClient;
+import org.java_websocket.drafts.Draft;
+import org.java_websocket.drafts.Draft_6455;
 import org.java_websocket.enums.Opcode;
+import org.java_websocket.extensions.IExtension;
+import org.java_websocket.extensions.permessage_deflate.PerMessageDeflateExtension;
 import org.java_websocket.handshake.ServerHandshake;
 
 import java.net.URI;
 import java.nio.ByteBuffer;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 import static com.sportradar.mts.sdk.ws.internal.utils.Delayer.delay;
 import static com.sportradar.mts.sdk.ws.internal.utils.ExcSuppress.threadJoin;
@@ -24,11 +31,17 @@ import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 public class WebSocketConnection implements AutoCloseable {
 
+    private static final int MAX_CHUNK_SIZE = 32_000;
+    public static final int MAX_MSG_SIZE = 4 * MAX_CHUNK_SIZE;
+
     private final SdkConfiguration config;
     private final TokenProvider tokenProvider;
     private final BlockingQueue<WsInputMessage> sendQueue;
-    private final BlockingQueue<WsOutputMessage> receiveQueue;
+    private final WsOutputRing receiveRing;
     private final AtomicReference<WebSocket> webSocket;
+    private final AtomicInteger pendingCount;
+    private final AtomicInteger refreshCount;
+    private final Consumer<Exception> unhandledExceptionHandler;
 
     private volatile boolean connected = false;
 
@@ -37,13 +50,33 @@ public class WebSocketConnection implements AutoCloseable {
     public WebSocketConnection(
             final SdkConfiguration config,
             final TokenProvider tokenProvider,
-            final BlockingQueue<WsInputMessage> sendQueue,
-            final BlockingQueue<WsOutputMessage> receiveQueue) {
+            final WsOutputRing receiveRing,
+            final Consumer<Exception> unhandledExceptionHandler) {
         this.config = config;
         this.tokenProvider = tokenProvider;
-        this.sendQueue = sendQueue;
-        this.receiveQueue = receiveQueue;
+        this.sendQueue = new LinkedBlockingQueue<>();
+        this.receiveRing = receiveRing;
         this.webSocket = new AtomicReference<>(null);
+        this.pendingCount = new AtomicInteger(0);
+        this.refreshCount = new AtomicInteger(0);
+        this.unhandledExceptionHandler = unhandledExceptionHandler;
+    }
+
+    public void send(final WsInputMessage msg) {
+        this.pendingCount.incrementAndGet();
+        this.sendQueue.add(msg);
+    }
+
+    public int getPendingCount() {
+        return this.pendingCount.get();
+    }
+
+    public boolean isAvailable() {
+        if (!this.connected || this.refreshCount.get() > 0) {
+            return false;
+        }
+        final WebSocket ws = this.webSocket.get();
+        return ws != null && ws.isOpen();
     }
 
     public void connect() {
@@ -76,31 +109,52 @@ public class WebSocketConnection implements AutoCloseable {
                     continue;
                 }
                 if (msg instanceof SendWsInputMessage) {
-                    final List<ByteBuffer> msgs = ((SendWsInputMessage) msg).getContent();
+                    final ByteBuffer content = ((SendWsInputMessage) msg).getContent();
                     final WebSocket ws = this.webSocket.get();
+                    if (!ws.isDeflateNegotiated() && content.remaining() > MAX_MSG_SIZE) {
+                        publishException(msg, new ProtocolMessageTooBigException());
+                        continue;
+                    }
                     try {
-                        sendMsg(ws, msgs);
+                        sendMsg(ws, content);
                     } catch (final Exception e) {
-                        this.receiveQueue.add(new ExcWsOutputMessage(null, new WebSocketConnectionException(e)));
+                        publishException(null, new WebSocketConnectionException(e));
                         reconnectWebSocket(ws, false);
-                        sendMsg(this.webSocket.get(), msgs);
+                        sendMsg(this.webSocket.get(), content);
                     }
-                    this.receiveQueue.add(new SentWsOutputMessage(msg));
+                    this.receiveRing.publishSent(msg);
                 } else {
-                    this.receiveQueue.add(new NotProcessedWsOutputMessage(msg));
+                    this.receiveRing.publishNotProcessed(msg);
                 }
 
             } catch (final InterruptedException ignored) {
+            } catch (final ProtocolReceiveBufferFullException exception) {
+                this.unhandledExceptionHandler.accept(exception);
             } catch (final Exception exception) {
-                this.receiveQueue.add(new ExcWsOutputMessage(msg, new WebSocketConnectionException(exception)));
+                publishException(msg, new WebSocketConnectionException(exception));
+            } finally {
+                if (msg != null) {
+                    this.pendingCount.decrementAndGet();
+                }
             }
         }
     }
 
-    private void sendMsg(final WebSocket ws, final List<ByteBuffer> msgs) {
-        for (int i = 0; i < msgs.size(); i++) {
-            ws.sendFragmentedFrame(Opcode.TEXT, msgs.get(i), i == (msgs.size() - 1));
+    private void sendMsg(final WebSocket ws, final ByteBuffer content) {
+        if (ws.isDeflateNegotiated()) {
+            ws.sendFragmentedFrame(Opcode.TEXT, content.duplicate(), true);
+            return;
         }
+        final int limit = content.limit();
+        int offset = content.position();
+        do {
+            final int chunkSize = Math.min(limit - offset, MAX_CHUNK_SIZE);
+            final ByteBuffer chunk = content.duplicate();
+            chunk.position(offset);
+            chunk.limit(offset + chunkSize);
+            offset += chunkSize;
+            ws.sendFragmentedFrame(Opcode.TEXT, chunk.slice(), offset == limit);
+        } while (offset < limit);
     }
 
     private void reconnectWebSocket(final WebSocket ws, final boolean throwExc) {
@@ -108,8 +162,9 @@ public class WebSocketConnection implements AutoCloseable {
             return;
         }
         final WebSocket newWs;
+        this.refreshCount.incrementAndGet();
         try {
-            newWs = new WebSocket(this, config.getWsServer(), tokenProvider.getToken());
+            newWs = new WebSocket(this, config.getWsServer(), tokenProvider.getToken(), createDraft());
             if (!newWs.connectBlocking(config.getWsReconnectTimeout().toMillis(), MILLISECONDS)) {
                 throw new WebSocketConnectionException("Socket connect failed.");
             }
@@ -120,8 +175,10 @@ public class WebSocketConnection implements AutoCloseable {
             if (throwExc) {
                 throw sdkExc;
             }
-            this.receiveQueue.add(new ExcWsOutputMessage(null, sdkExc));
+            publishException(null, sdkExc);
             return;
+        } finally {
+            this.refreshCount.decrementAndGet();
         }
         if (this.webSocket.compareAndSet(ws, newWs)) {
             if (ws != null) {
@@ -133,21 +190,41 @@ public class WebSocketConnection implements AutoCloseable {
         }
     }
 
+    private Draft createDraft() {
+        if (!config.isWsCompressionEnabled()) {
+            return new Draft_6455();
+        }
+        return new Draft_6455(new DeflateExtension(config.getWsCompressionThreshold()));
+    }
+
     private void onOpen(final WebSocket ws, final ServerHandshake serverHandshake) {
     }
 
+    private void publishException(final WsInputMessage msg, final SdkException exception) {
+        try {
+            this.receiveRing.publishException(msg, exception);
+        } catch (final ProtocolReceiveBufferFullException exc) {
+            exc.addSuppressed(exception);
+            this.unhandledExceptionHandler.accept(exc);
+        }
+    }
+
     private void onMessage(final WebSocket ws, final String msg) {
-        this.receiveQueue.add(new ReceivedContentWsOutputMessage(msg));
+        try {
+            this.receiveRing.publishReceived(msg);
+        } catch (final ProtocolReceiveBufferFullException exc) {
+            this.unhandledExceptionHandler.accept(exc);
+        }
     }
 
     private void onClose(final WebSocket ws, final int code, final String msg, final boolean remote) {
-        this.receiveQueue.add(new ExcWsOutputMessage(null, new WebSocketConnectionException(
-                "Socket closed by " + (remote ? "server" : "client") + ", code: " + code + ", reason: " + msg + ".")));
+        publishException(null, new WebSocketConnectionException(
+                "Socket closed by " + (remote ? "server" : "client") + ", code: " + code + ", reason: " + msg + "."));
         reconnectWebSocket(ws, false);
     }
 
     private void onError(final WebSocket ws, final Exception exception) {
-        this.receiveQueue.add(new ExcWsOutputMessage(null, new WebSocketConnectionException(exception)));
+        publishException(null, new WebSocketConnectionException(exception));
         reconnectWebSocket(ws, false);
     }
 
@@ -155,11 +232,17 @@ public class WebSocketConnection implements AutoCloseable {
 
         private final WebSocketConnection connection;
 
-        public WebSocket(final WebSocketConnection connection, final URI serverUri, final String token) {
-            super(serverUri, headers(token));
+        public WebSocket(final WebSocketConnection connection, final URI serverUri, final String token, final Draft draft) {
+            super(serverUri, draft, headers(token));
             this.connection = connection;
         }
 
+        public boolean isDeflateNegotiated() {
+            final Draft draft = getConnection().getDraft();
+            return draft instanceof Draft_6455
+                    && ((Draft_6455) draft).getExtension() instanceof PerMessageDeflateExtension;
+        }
+
         private static Map<String, String> headers(final String token) {
             final Map<String, String> headers = new HashMap<>();
             headers.put("Authorization", "Bearer " + token);
@@ -186,4 +269,19 @@ public class WebSocketConnection implements AutoCloseable {
             this.connection.onError(this, exception);
         }
     }
+
+    static class DeflateExtension extends PerMessageDeflateExtension {
+
+        private final int threshold;
+
+        DeflateExtension(final int threshold) {
+            this.threshold = threshold;
+            setThreshold(threshold);
+        }
+
+        @Override
+        public IExtension copyInstance() {
+            return new DeflateExtension(this.threshold);
+        }
+    }
 }
@@ -0,0 +1,238 @@
+package com.sportradar.mts.sdk.ws.internal.connection.msg;
+
+import com.sportradar.mts.sdk.ws.exceptions.ProtocolReceiveBufferFullException;
+import com.sportradar.mts.sdk.ws.exceptions.SdkException;
+import com.sportradar.mts.sdk.ws.internal.connection.msg.base.WsInputMessage;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class WsOutputRing {
+
+    private static final int TYPE_RECEIVED = 1;
+    private static final int TYPE_SENT = 2;
+    private static final int TYPE_NOT_PROCESSED = 3;
+    private static final int TYPE_EXCEPTION = 4;
+
+    private static final int MAX_SPINS = 100;
+    private static final long PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final long DEFAULT_MAX_PUBLISH_WAIT_MILLIS = 100;
+
+    private final Slot[] slots;
+    private final int mask;
+    private final AtomicLong head;
+    private final AtomicLong tail;
+    private final AtomicInteger waitingCount;
+    private final ReentrantLock lock;
+    private final Condition notEmpty;
+    private final long maxPublishWaitNanos;
+
+    private volatile boolean closed = false;
+
+    public WsOutputRing(final int minCapacity) {
+        this(minCapacity, DEFAULT_MAX_PUBLISH_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    public WsOutputRing(final int minCapacity, final long maxPublishWait, final TimeUnit unit) {
+        if (minCapacity <= 0) {
+            throw new IllegalArgumentException("minCapacity must be greater than zero");
+        }
+        if (maxPublishWait < 0) {
+            throw new IllegalArgumentException("maxPublishWait must not be negative");
+        }
+        int capacity = Math.max(2, Integer.highestOneBit(minCapacity));
+        if (capacity < minCapacity) {
+            capacity <<= 1;
+        }
+        this.slots = new Slot[capacity];
+        for (int i = 0; i < capacity; i++) {
+            this.slots[i] = new Slot(i);
+        }
+        this.mask = capacity - 1;
+        this.head = new AtomicLong(0);
+        this.tail = new AtomicLong(0);
+        this.waitingCount = new AtomicInteger(0);
+        this.lock = new ReentrantLock();
+        this.notEmpty = this.lock.newCondition();
+        this.maxPublishWaitNanos = unit.toNanos(maxPublishWait);
+    }
+
+    public int getCapacity() {
+        return this.slots.length;
+    }
+
+    public void close() {
+        this.closed = true;
+        signal(true);
+    }
+
+    public void publishReceived(final String content) {
+        publish(TYPE_RECEIVED, null, content, null);
+    }
+
+    public void publishSent(final WsInputMessage message) {
+        publish(TYPE_SENT, message, null, null);
+    }
+
+    public void publishNotProcessed(final WsInputMessage message) {
+        publish(TYPE_NOT_PROCESSED, message, null, null);
+    }
+
+    public void publishException(final WsInputMessage message, final SdkException exception) {
+        publish(TYPE_EXCEPTION, message, null, exception);
+    }
+
+    private void publish(final int type, final WsInputMessage message, final String content, final SdkException exception) {
+        final long pos = claim();
+        if (pos < 0) {
+            return;
+        }
+        final Slot slot = this.slots[(int) (pos & this.mask)];
+        slot.type = type;
+        slot.message = message;
+        slot.content = content;
+        slot.exception = exception;
+        slot.sequence = pos + 1;
+        if (this.waitingCount.get() > 0) {
+            signal(false);
+        }
+    }
+
+    private long claim() {
+        int spins = 0;
+        long deadline = 0;
+        long pos = this.tail.get();
+        while (!this.closed) {
+            final Slot slot = this.slots[(int) (pos & this.mask)];
+            final long dif = slot.sequence - pos;
+            if (dif == 0) {
+                if (this.tail.compareAndSet(pos, pos + 1)) {
+                    return pos;
+                }
+            } else if (dif < 0) {
+                if (++spins < MAX_SPINS) {
+                    Thread.onSpinWait();
+                } else {
+                    final long now = System.nanoTime();
+                    if (deadline == 0) {
+                        deadline = now + this.maxPublishWaitNanos;
+                    }
+                    if (now - deadline >= 0 || Thread.currentThread().isInterrupted()) {
+                        throw new ProtocolReceiveBufferFullException();
+                    }
+                    LockSupport.parkNanos(this, Math.min(PARK_NANOS, deadline - now));
+                }
+            }
+            pos = this.tail.get();
+        }
+        return -1;
+    }
+
+    public boolean poll(final Handler handler) {
+        long pos = this.head.get();
+        while (true) {
+            final Slot slot = this.slots[(int) (pos & this.mask)];
+            final long dif = slot.sequence - (pos + 1);
+            if (dif == 0) {
+                if (this.head.compareAndSet(pos, pos + 1)) {
+                    final int type = slot.type;
+                    final WsInputMessage message = slot.message;
+                    final String content = slot.content;
+                    final SdkException exception = slot.exception;
+                    slot.message = null;
+                    slot.content = null;
+                    slot.exception = null;
+                    slot.sequence = pos + this.mask + 1;
+                    dispatch(handler, type, message, content, exception);
+                    return true;
+                }
+            } else if (dif < 0) {
+                return false;
+            }
+            pos = this.head.get();
+        }
+    }
+
+    private static void dispatch(
+            final Handler handler,
+            final int type,
+            final WsInputMessage message,
+            final String content,
+            final SdkException exception) {
+        switch (type) {
+            case TYPE_RECEIVED:
+                handler.onReceived(content);
+                break;
+            case TYPE_SENT:
+                handler.onSent(message);
+                break;
+            case TYPE_NOT_PROCESSED:
+                handler.onNotProcessed(message);
+                break;
+            case TYPE_EXCEPTION:
+                handler.onException(message, exception);
+                break;
+            default:
+                break;
+        }
+    }
+
+    public void await(final long timeout, final TimeUnit unit) throws InterruptedException {
+        this.lock.lock();
+        this.waitingCount.incrementAndGet();
+        try {
+            if (isEmpty() && !this.closed) {
+                this.notEmpty.awaitNanos(unit.toNanos(timeout));
+            }
+        } finally {
+            this.waitingCount.decrementAndGet();
+            this.lock.unlock();
+        }
+    }
+
+    public boolean isEmpty() {
+        final long pos = this.head.get();
+        return this.slots[(int) (pos & this.mask)].sequence - (pos + 1) < 0;
+    }
+
+    private void signal(final boolean all) {
+        this.lock.lock();
+        try {
+            if (all) {
+                this.notEmpty.signalAll();
+            } else {
+                this.notEmpty.signal();
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    public interface Handler {
+
+        void onReceived(String content);
+
+        void onSent(WsInputMessage message);
+
+        void onNotProcessed(WsInputMessage message);
+
+        void onException(WsInputMessage message, SdkException exception);
+    }
+
+    private static final class Slot {
+
+        private volatile long sequence;
+        private int type;
+        private WsInputMessage message;
+        private String content;
+        private SdkException exception;
+
+        private Slot(final long sequence) {
+            this.sequence = sequence;
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.sportradar.mts.sdk.api.SdkTicket;
 import com.sportradar.mts.sdk.ws.exceptions.SdkException;
 import com.sportradar.mts.sdk.ws.exceptions.SdkNotConnectedException;
 import com.sportradar.mts.sdk.ws.internal.connection.msg.SendWsInputMessage;
+import com.sportradar.mts.sdk.ws.internal.utils.WheelTimer;
 
 import java.util.concurrent.CompletableFuture;
 
@@ -15,6 +16,7 @@ public class Awaiter<T extends SdkTicket, R extends SdkTicket> implements Awaite
 
     private String correlationId;
     private SendWsInputMessage sendWsInputMessage;
+    private volatile WheelTimer.Timeout retryTimeout;
 
     public Awaiter(final Class<R> responseClass, Runnable resultListener) {
         this.responseClass = responseClass;
@@ -45,6 +47,11 @@ public class Awaiter<T extends SdkTicket, R extends SdkTicket> implements Awaite
         this.sendWsInputMessage = sendWsInputMessage;
     }
 
+    @Override
+    public void setRetryTimeout(final WheelTimer.Timeout retryTimeout) {
+        this.retryTimeout = retryTimeout;
+    }
+
     @Override
     public boolean checkResponseType(final SdkTicket response) {
         return this.responseClass.isAssignableFrom(response.getClass());
@@ -67,6 +74,10 @@ public class Awaiter<T extends SdkTicket, R extends SdkTicket> implements Awaite
 
     @Override
     public void release() {
+        final WheelTimer.Timeout timeout = this.retryTimeout;
+        if (timeout != null) {
+            timeout.cancel();
+        }
         if (this.future.isDone()) {
             return;
         }
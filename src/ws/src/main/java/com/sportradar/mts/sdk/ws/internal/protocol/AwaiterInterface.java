@@ -3,6 +3,7 @@ package com.sportradar.mts.sdk.ws.internal.protocol;
 import com.sportradar.mts.sdk.api.SdkTicket;
 import com.sportradar.mts.sdk.ws.exceptions.SdkException;
 import com.sportradar.mts.sdk.ws.internal.connection.msg.base.WsInputMessage;
+import com.sportradar.mts.sdk.ws.internal.utils.WheelTimer;
 
 import java.util.concurrent.CompletableFuture;
 
@@ -22,4 +23,6 @@ public interface AwaiterInterface<T> {
     CompletableFuture<T> getFuture();
 
     WsInputMessage getSendWsInputMessage();
+
+    void setRetryTimeout(WheelTimer.Timeout retryTimeout);
 }
@@ -4,6 +4,7 @@ import com.sportradar.mts.sdk.api.SdkTicket;
 import com.sportradar.mts.sdk.ws.exceptions.SdkException;
 import com.sportradar.mts.sdk.ws.exceptions.SdkNotConnectedException;
 import com.sportradar.mts.sdk.ws.internal.connection.msg.SendWsInputMessage;
+import com.sportradar.mts.sdk.ws.internal.utils.WheelTimer;
 
 import java.util.concurrent.CompletableFuture;
 
@@ -14,6 +15,7 @@ public class AwaiterNoResponse implements AwaiterInterface<Void> {
 
     private String correlationId;
     private SendWsInputMessage sendWsInputMessage;
+    private volatile WheelTimer.Timeout retryTimeout;
 
     public AwaiterNoResponse(Runnable resultListener) {
         this.resultListener = resultListener;
@@ -43,6 +45,11 @@ public class AwaiterNoResponse implements AwaiterInterface<Void> {
         this.sendWsInputMessage = sendWsInputMessage;
     }
 
+    @Override
+    public void setRetryTimeout(final WheelTimer.Timeout retryTimeout) {
+        this.retryTimeout = retryTimeout;
+    }
+
     @Override
     public void notifyPublishSuccess() {
         resultListener.run();
@@ -65,6 +72,10 @@ public class AwaiterNoResponse implements AwaiterInterface<Void> {
 
     @Override
     public void release() {
+        final WheelTimer.Timeout timeout = this.retryTimeout;
+        if (timeout != null) {
+            timeout.cancel();
+        }
         if (this.future.isDone()) {
             return;
         }
@@ -1,6 +1,7 @@
 package com.sportradar.mts.sdk.ws.internal.protocol;
 
 import com.sportradar.mts.sdk.api.SdkTicket;
+import com.sportradar.mts.sdk.api.impl.ConnectionStatusImpl;
 import com.sportradar.mts.sdk.api.interfaces.ConnectionStatus;
 import com.sportradar.mts.sdk.api.interfaces.SdkConfiguration;
 import com.sportradar.mts.sdk.api.utils.JsonUtils;
@@ -8,32 +9,35 @@ import com.sportradar.mts.sdk.api.ws.Request;
 import com.sportradar.mts.sdk.api.ws.Response;
 import com.sportradar.mts.sdk.ws.exceptions.*;
 import com.sportradar.mts.sdk.ws.internal.connection.ConnectionProvider;
+import com.sportradar.mts.sdk.ws.internal.connection.WebSocketConnection;
 import com.sportradar.mts.sdk.ws.internal.connection.msg.*;
 import com.sportradar.mts.sdk.ws.internal.connection.msg.base.WsInputMessage;
-import com.sportradar.mts.sdk.ws.internal.connection.msg.base.WsOutputMessage;
 import com.sportradar.mts.sdk.ws.internal.utils.ExcSuppress;
+import com.sportradar.mts.sdk.ws.internal.utils.WheelTimer;
 
 import java.nio.ByteBuffer;
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.List;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
-import static com.sportradar.mts.sdk.ws.internal.utils.Delayer.delay;
 import static com.sportradar.mts.sdk.ws.internal.utils.ExcSuppress.threadJoin;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 public class ProtocolEngine implements AutoCloseable {
 
-    private static final int MAX_CHUNK_SIZE = 32_000;
-    private static final int MAX_MSG_SIZE = 4 * MAX_CHUNK_SIZE;
+    private static final int MAX_DEFLATE_MSG_SIZE = 4 * WebSocketConnection.MAX_MSG_SIZE;
+    private static final int MIN_RECEIVE_RING_CAPACITY = 4096;
+    private static final int MAX_RECEIVE_RING_CAPACITY = 1 << 20;
+    private static final long RETRY_TICK_MILLIS = 10;
+    private static final int RETRY_TICKS_PER_WHEEL = 512;
 
     private final SdkConfiguration sdkConfiguration;
+    private final ConnectionStatusImpl connectionStatus;
     private final ConnectionProvider connectionProvider;
-    private final BlockingQueue<WsInputMessage> sendQueue;
-    private final BlockingQueue<WsOutputMessage> receiveQueue;
+    private final WheelTimer retryTimer;
+    private final WsOutputRing receiveRing;
+    private final WsOutputRing.Handler receiveHandler;
     private final ConcurrentMap<String, AwaiterInterface<?>> correlationIdAwaiter;
     private final AtomicInteger approxRequestCount;
     private final Consumer<Exception> unhandledExceptionHandler;
@@ -47,12 +51,15 @@ public class ProtocolEngine implements AutoCloseable {
             final ConnectionStatus connectionStatus,
             final Consumer<Exception> unhandledExceptionHandler) {
         this.sdkConfiguration = sdkConfiguration;
-        this.sendQueue = new LinkedBlockingQueue<>();
-        this.receiveQueue = new LinkedBlockingQueue<>();
+        this.connectionStatus = (ConnectionStatusImpl) connectionStatus;
+        this.retryTimer = new WheelTimer("SdkProtocolRetryTimer", RETRY_TICK_MILLIS, MILLISECONDS, RETRY_TICKS_PER_WHEEL);
+        this.receiveRing = new WsOutputRing(receiveRingCapacity(sdkConfiguration.getProtocolMaxSendBufferSize()));
+        this.receiveHandler = new ReceiveHandler();
         this.correlationIdAwaiter = new ConcurrentHashMap<>();
         this.approxRequestCount = new AtomicInteger(0);
-        this.connectionProvider = new ConnectionProvider(sdkConfiguration, connectionStatus, sendQueue, receiveQueue);
         this.unhandledExceptionHandler = unhandledExceptionHandler;
+        this.connectionProvider = new ConnectionProvider(
+                sdkConfiguration, connectionStatus, receiveRing, unhandledExceptionHandler);
     }
 
     public void connect() {
@@ -70,7 +77,9 @@ public class ProtocolEngine implements AutoCloseable {
     @Override
     public void close() {
         this.connected = false;
+        this.receiveRing.close();
         ExcSuppress.close(this.connectionProvider);
+        ExcSuppress.close(this.retryTimer);
         for (int i = 0; i < this.receiverThreads.length; i++) {
             final Thread thread = this.receiverThreads[i];
             this.receiverThreads[i] = null;
@@ -100,9 +109,10 @@ public class ProtocolEngine implements AutoCloseable {
             request.setOperatorId(bookmakerId);
             request.setCorrelationId(correlationId);
 
-            final List<ByteBuffer> frames = createFrames(request);
-            final SendWsInputMessage msg = new SendWsInputMessage(correlationId, frames);
+            final ByteBuffer payload = encode(request);
+            final SendWsInputMessage msg = new SendWsInputMessage(correlationId, payload);
             awaiter.setSendWsInputMessage(msg);
+            connectionStatus.ticketSend(content.getTicketId());
             enqueueSendMsg(awaiter, 0);
 
             return awaiter.getFuture();
@@ -135,8 +145,8 @@ public class ProtocolEngine implements AutoCloseable {
             request.setOperatorId(bookmakerId);
             request.setCorrelationId(correlationId);
 
-            final List<ByteBuffer> frames = createFrames(request);
-            final SendWsInputMessage msg = new SendWsInputMessage(correlationId, frames);
+            final ByteBuffer payload = encode(request);
+            final SendWsInputMessage msg = new SendWsInputMessage(correlationId, payload);
             awaiter.setSendWsInputMessage(msg);
             enqueueSendMsg(awaiter, 0);
 
@@ -155,6 +165,7 @@ public class ProtocolEngine implements AutoCloseable {
     private void enqueueSendMsg(
             final AwaiterInterface<?> awaiter, final int retryCount) {
         if (retryCount > sdkConfiguration.getProtocolRetryCount()) {
+            connectionStatus.ticketTimedOut();
             awaiter.completeWithException(new ProtocolTimeoutException());
             releaseAwaiter(awaiter.getCorrelationId());
             return;
@@ -164,29 +175,29 @@ public class ProtocolEngine implements AutoCloseable {
             return;
         }
 
-        sendQueue.add(awaiter.getSendWsInputMessage());
+        if (retryCount > 0) {
+            connectionStatus.ticketRetried();
+        }
+
+        connectionProvider.send(awaiter.getSendWsInputMessage());
 
         final int nextRetryCount = retryCount + 1;
-        delay(() -> enqueueSendMsg(awaiter, nextRetryCount),
-                sdkConfiguration.getProtocolReceiveResponseTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        awaiter.setRetryTimeout(retryTimer.schedule(() -> enqueueSendMsg(awaiter, nextRetryCount),
+                sdkConfiguration.getProtocolReceiveResponseTimeout().toMillis(), MILLISECONDS));
+        if (awaiter.getFuture().isDone()) {
+            awaiter.release();
+        }
     }
 
-    private List<ByteBuffer> createFrames(final Request request) {
-        final String json = JsonUtils.serializeAsString(request);
-        final byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
-        if (bytes.length > MAX_MSG_SIZE) {
+    private ByteBuffer encode(final Request request) {
+        final byte[] bytes = JsonUtils.serializeDto(request);
+        final int maxMsgSize = sdkConfiguration.isWsCompressionEnabled()
+                ? MAX_DEFLATE_MSG_SIZE
+                : WebSocketConnection.MAX_MSG_SIZE;
+        if (bytes.length > maxMsgSize) {
             throw new ProtocolMessageTooBigException();
         }
-
-        final List<ByteBuffer> result = new ArrayList<>();
-        int offset = 0;
-        while (offset < bytes.length) {
-            final int chunkSize = Math.min(bytes.length - offset, MAX_CHUNK_SIZE);
-            final ByteBuffer buffer = ByteBuffer.wrap(bytes, offset, chunkSize);
-            result.add(buffer);
-            offset += chunkSize;
-        }
-        return result;
+        return ByteBuffer.wrap(bytes);
     }
 
     private <T extends SdkTicket, R extends SdkTicket> Awaiter<T, R> createAwaiter(
@@ -235,15 +246,18 @@ public class ProtocolEngine implements AutoCloseable {
         awaiter.release();
     }
 
+    private static int receiveRingCapacity(final int maxSendBufferSize) {
+        final long capacity = 4L * maxSendBufferSize;
+        return (int) Math.max(MIN_RECEIVE_RING_CAPACITY, Math.min(MAX_RECEIVE_RING_CAPACITY, capacity));
+    }
+
     private void receiveLoop() {
+        final long dequeueTimeout = sdkConfiguration.getProtocolDequeueTimeout().toMillis();
         while (this.connected) {
             try {
-                final WsOutputMessage msg = this.receiveQueue.poll(
-                        sdkConfiguration.getProtocolDequeueTimeout().toMillis(), MILLISECONDS);
-                if (msg == null) {
-                    continue;
+                if (!this.receiveRing.poll(this.receiveHandler)) {
+                    this.receiveRing.await(dequeueTimeout, MILLISECONDS);
                 }
-                handleWsOutputMsg(msg);
             } catch (final InterruptedException ignored) {
             } catch (final Exception exception) {
                 handleException(exception);
@@ -251,19 +265,7 @@ public class ProtocolEngine implements AutoCloseable {
         }
     }
 
-    private void handleWsOutputMsg(final WsOutputMessage msg) {
-        if (msg instanceof ReceivedContentWsOutputMessage) {
-            handleReceivedContentWsOutputMessage((ReceivedContentWsOutputMessage)msg);
-        } else if (msg instanceof ExcWsOutputMessage) {
-            handleExcWsOutputMessage((ExcWsOutputMessage)msg);
-        } else if (msg instanceof NotProcessedWsOutputMessage) {
-            handleNotProcessedWsOutputMessage((NotProcessedWsOutputMessage)msg);
-        } else if (msg instanceof SentWsOutputMessage) {
-            handleSentWsOutputMessage((SentWsOutputMessage)msg);
-        }
-    }
-
-    private void handleSentWsOutputMessage(SentWsOutputMessage msg) {
+    private void handleSent(final WsInputMessage msg) {
         if (msg.getCorrelationId() == null) {
             handleException(new ProtocolInvalidResponseException("Missing CorrelationId in sent message: " + msg));
             return;
@@ -272,18 +274,18 @@ public class ProtocolEngine implements AutoCloseable {
         awaiter.notifyPublishSuccess();
     }
 
-    private void handleReceivedContentWsOutputMessage(final ReceivedContentWsOutputMessage msg) {
+    private void handleReceivedContent(final String content) {
         try {
-            Response<?> response = JsonUtils.deserialize(msg.getContent(), Response.class);
+            Response<?> response = JsonUtils.deserialize(content, Response.class);
             if (response.getCorrelationId() == null) {
-                handleException(new ProtocolInvalidResponseException("Missing CorrelationId: " + msg.getContent()));
+                handleException(new ProtocolInvalidResponseException("Missing CorrelationId: " + content));
                 return;
             }
 
             if (responseReceived(response.getCorrelationId(), response)) return;
 
             final ProtocolInvalidResponseException invalidResponseException =
-                    new ProtocolInvalidResponseException("Unknown message: " + msg.getContent());
+                    new ProtocolInvalidResponseException("Unknown message: " + content);
 
             if (responseReceived(response.getCorrelationId(), invalidResponseException)) return;
 
@@ -293,11 +295,11 @@ public class ProtocolEngine implements AutoCloseable {
         }
     }
 
-    private void handleNotProcessedWsOutputMessage(final NotProcessedWsOutputMessage msg) {
+    private void handleNotProcessed(final WsInputMessage msg) {
         try {
             final ProtocolInvalidResponseException invalidRequestException =
                     new ProtocolInvalidResponseException("Invalid request");
-            if (responseReceived(msg.getCorrelationId(), invalidRequestException)) return;
+            if (responseReceived(msg == null ? null : msg.getCorrelationId(), invalidRequestException)) return;
 
             handleException(invalidRequestException);
         } catch (final Exception e) {
@@ -305,9 +307,9 @@ public class ProtocolEngine implements AutoCloseable {
         }
     }
 
-    private void handleExcWsOutputMessage(final ExcWsOutputMessage msg) {
+    private void handleExc(final WsInputMessage msg, final SdkException exception) {
         try {
-            if (!responseReceived(msg.getCorrelationId(), msg.getException())) handleException(msg.getException());
+            if (!responseReceived(msg == null ? null : msg.getCorrelationId(), exception)) handleException(exception);
         } catch (final Exception e) {
             handleException(e);
         }
@@ -321,6 +323,7 @@ public class ProtocolEngine implements AutoCloseable {
         if (response.getContent() != null
                 && awaiter != null
                 && awaiter.checkResponseType(response.getContent())) {
+            connectionStatus.ticketReceived(response.getContent().getTicketId());
             awaiter.completeSuccess(response.getContent());
             releaseAwaiter(correlationId);
             return true;
@@ -348,4 +351,27 @@ public class ProtocolEngine implements AutoCloseable {
     private void checkConnected() {
         if (!connected) throw new SdkNotConnectedException();
     }
+
+    private final class ReceiveHandler implements WsOutputRing.Handler {
+
+        @Override
+        public void onReceived(final String content) {
+            handleReceivedContent(content);
+        }
+
+        @Override
+        public void onSent(final WsInputMessage message) {
+            handleSent(message);
+        }
+
+        @Override
+        public void onNotProcessed(final WsInputMessage message) {
+            handleNotProcessed(message);
+        }
+
+        @Override
+        public void onException(final WsInputMessage message, final SdkException exception) {
+            handleExc(message, exception);
+        }
+    }
 }
@@ -0,0 +1,268 @@
+package com.sportradar.mts.sdk.ws.internal.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.sportradar.mts.sdk.ws.internal.utils.ExcSuppress.threadJoin;
+
+public class WheelTimer implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(WheelTimer.class);
+    private static final long IDLE_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final String name;
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final Queue<Timeout> scheduledTimeouts;
+    private final Queue<Timeout> cancelledTimeouts;
+    private final AtomicInteger pendingCount;
+    private final AtomicBoolean workerRunning;
+    private final AtomicLong workerCounter;
+    private final long startTime;
+
+    private volatile boolean closed = false;
+    private volatile Thread workerThread;
+
+    private long tick;
+
+    public WheelTimer(final String name, final long tickDuration, final TimeUnit unit, final int ticksPerWheel) {
+        if (name == null || unit == null) {
+            throw new IllegalArgumentException("name and unit must not be null");
+        }
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("tickDuration must be greater than zero");
+        }
+        if (ticksPerWheel <= 0) {
+            throw new IllegalArgumentException("ticksPerWheel must be greater than zero");
+        }
+        int size = Integer.highestOneBit(ticksPerWheel);
+        if (size < ticksPerWheel) {
+            size <<= 1;
+        }
+        this.name = name;
+        this.tickNanos = unit.toNanos(tickDuration);
+        this.wheel = new Bucket[size];
+        for (int i = 0; i < size; i++) {
+            this.wheel[i] = new Bucket();
+        }
+        this.mask = size - 1;
+        this.scheduledTimeouts = new ConcurrentLinkedQueue<>();
+        this.cancelledTimeouts = new ConcurrentLinkedQueue<>();
+        this.pendingCount = new AtomicInteger(0);
+        this.workerRunning = new AtomicBoolean(false);
+        this.workerCounter = new AtomicLong(0);
+        this.startTime = System.nanoTime();
+    }
+
+    @Override
+    public void close() {
+        this.closed = true;
+        final Thread thread = this.workerThread;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            threadJoin(thread);
+        }
+    }
+
+    public Timeout schedule(final Runnable task, final long delay, final TimeUnit unit) {
+        if (task == null || unit == null) {
+            throw new IllegalArgumentException("task and unit must not be null");
+        }
+        final long deadline = System.nanoTime() + unit.toNanos(Math.max(0L, delay)) - this.startTime;
+        final Timeout timeout = new Timeout(this, task, deadline);
+        if (this.closed) {
+            timeout.state.set(Timeout.ST_CANCELLED);
+            return timeout;
+        }
+        this.pendingCount.incrementAndGet();
+        this.scheduledTimeouts.add(timeout);
+        if (this.workerRunning.compareAndSet(false, true)) {
+            startWorker();
+        } else {
+            LockSupport.unpark(this.workerThread);
+        }
+        return timeout;
+    }
+
+    public int getPendingCount() {
+        return this.pendingCount.get();
+    }
+
+    private void startWorker() {
+        final Thread thread = new Thread(this::runWorker, this.name + "-" + this.workerCounter.incrementAndGet());
+        thread.setDaemon(true);
+        this.workerThread = thread;
+        thread.start();
+    }
+
+    private void runWorker() {
+        this.tick = (System.nanoTime() - this.startTime) / this.tickNanos;
+        while (!this.closed) {
+            if (this.pendingCount.get() == 0) {
+                removeCancelledTimeouts();
+                LockSupport.parkNanos(this, IDLE_NANOS);
+                if (this.pendingCount.get() == 0) {
+                    removeCancelledTimeouts();
+                    this.workerRunning.set(false);
+                    if (this.pendingCount.get() == 0 || !this.workerRunning.compareAndSet(false, true)) {
+                        return;
+                    }
+                }
+                this.tick = (System.nanoTime() - this.startTime) / this.tickNanos;
+            }
+            waitForNextTick();
+            removeCancelledTimeouts();
+            transferScheduledTimeouts();
+            this.wheel[(int) (this.tick & this.mask)].expireTimeouts();
+            this.tick++;
+        }
+    }
+
+    private void waitForNextTick() {
+        final long deadline = this.tickNanos * (this.tick + 1);
+        long sleepNanos;
+        while (!this.closed && (sleepNanos = deadline - (System.nanoTime() - this.startTime)) > 0) {
+            LockSupport.parkNanos(this, sleepNanos);
+        }
+    }
+
+    private void transferScheduledTimeouts() {
+        Timeout timeout;
+        while ((timeout = this.scheduledTimeouts.poll()) != null) {
+            if (timeout.state.get() != Timeout.ST_INIT) {
+                continue;
+            }
+            final long calculated = timeout.deadline / this.tickNanos;
+            timeout.remainingRounds = (calculated - this.tick) / this.wheel.length;
+            final long ticks = Math.max(calculated, this.tick);
+            this.wheel[(int) (ticks & this.mask)].add(timeout);
+        }
+    }
+
+    private void removeCancelledTimeouts() {
+        Timeout timeout;
+        while ((timeout = this.cancelledTimeouts.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    public static final class Timeout {
+
+        private static final int ST_INIT = 0;
+        private static final int ST_CANCELLED = 1;
+        private static final int ST_EXPIRED = 2;
+
+        private final WheelTimer timer;
+        private final Runnable task;
+        private final long deadline;
+        private final AtomicInteger state;
+
+        private long remainingRounds;
+        private Timeout next;
+        private Timeout prev;
+        private Bucket bucket;
+
+        private Timeout(final WheelTimer timer, final Runnable task, final long deadline) {
+            this.timer = timer;
+            this.task = task;
+            this.deadline = deadline;
+            this.state = new AtomicInteger(ST_INIT);
+        }
+
+        public boolean cancel() {
+            if (!this.state.compareAndSet(ST_INIT, ST_CANCELLED)) {
+                return false;
+            }
+            this.timer.pendingCount.decrementAndGet();
+            this.timer.cancelledTimeouts.add(this);
+            return true;
+        }
+
+        public boolean isCancelled() {
+            return this.state.get() == ST_CANCELLED;
+        }
+
+        public boolean isExpired() {
+            return this.state.get() == ST_EXPIRED;
+        }
+
+        private void expire() {
+            if (!this.state.compareAndSet(ST_INIT, ST_EXPIRED)) {
+                return;
+            }
+            this.timer.pendingCount.decrementAndGet();
+            try {
+                this.task.run();
+            } catch (final Exception exc) {
+                logger.error("timer {} failed to run the expired task", this.timer.name, exc);
+            }
+        }
+    }
+
+    private static final class Bucket {
+
+        private Timeout head;
+        private Timeout tail;
+
+        private void add(final Timeout timeout) {
+            timeout.bucket = this;
+            if (this.head == null) {
+                this.head = timeout;
+                this.tail = timeout;
+            } else {
+                this.tail.next = timeout;
+                timeout.prev = this.tail;
+                this.tail = timeout;
+            }
+        }
+
+        private void expireTimeouts() {
+            Timeout timeout = this.head;
+            while (timeout != null) {
+                final Timeout next = timeout.next;
+                if (timeout.remainingRounds <= 0) {
+                    remove(timeout);
+                    timeout.expire();
+                } else if (timeout.isCancelled()) {
+                    remove(timeout);
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+
+        private void remove(final Timeout timeout) {
+            if (timeout.bucket != this) {
+                return;
+            }
+            final Timeout next = timeout.next;
+            if (timeout.prev != null) {
+                timeout.prev.next = next;
+            }
+            if (next != null) {
+                next.prev = timeout.prev;
+            }
+            if (timeout == this.head) {
+                this.head = next;
+            }
+            if (timeout == this.tail) {
+                this.tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+    }
+}